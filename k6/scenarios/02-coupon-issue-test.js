@@ -15,6 +15,7 @@
  * - BASE_URL: API 서버 URL (기본: http://localhost:8080)
  * - VUS: 동시 사용자 수 (기본: 1000)
  * - COUPON_ID: 테스트할 쿠폰 ID (기본: 1)
+ * - QUEUE_MODE: true면 대기열에 입장해 입장권을 받은 뒤 발급 요청 (서버의 coupon.waiting-room.enabled=true 필요)
  */
 
 import http from 'k6/http';
@@ -29,6 +30,11 @@ const couponSoldOutCounter = new Counter('coupon_sold_out_count');
 const couponDuplicateCounter = new Counter('coupon_duplicate_count');
 const couponDuration = new Trend('coupon_issue_duration');
 const couponSuccessRate = new Rate('coupon_success_rate');
+const queueWaitDuration = new Trend('coupon_queue_wait_duration');
+
+const QUEUE_MODE = __ENV.QUEUE_MODE === 'true';
+const QUEUE_POLL_INTERVAL_SECONDS = 0.2;
+const QUEUE_MAX_WAIT_MS = 60000;
 
 // 테스트 설정
 export const options = {
@@ -65,12 +71,49 @@ function classifyError(response) {
     return 'other_error';
 }
 
+// 대기열에 입장해 입장권을 받을 때까지 순번을 조회 (ADMITTED / SOLD_OUT / 시간 초과)
+function waitForAdmission(couponId, userId) {
+    const queueUrl = `${BASE_URL}/api/coupons/${couponId}/queue?userId=${userId}`;
+    const startTime = new Date().getTime();
+
+    let response = http.post(queueUrl, null, { headers: DEFAULT_HEADERS, tags: { name: 'coupon_queue_enter' } });
+    while (response.status === 200) {
+        const status = response.json('status');
+        if (status === 'ADMITTED' || status === 'SOLD_OUT') {
+            queueWaitDuration.add(new Date().getTime() - startTime);
+            return status;
+        }
+        if (new Date().getTime() - startTime > QUEUE_MAX_WAIT_MS) {
+            break;
+        }
+        sleep(QUEUE_POLL_INTERVAL_SECONDS);
+        response = http.get(queueUrl, { headers: DEFAULT_HEADERS, tags: { name: 'coupon_queue_status' } });
+    }
+    queueWaitDuration.add(new Date().getTime() - startTime);
+    return 'TIMEOUT';
+}
+
 // 메인 테스트 함수
 export default function() {
     // 각 VU에게 고유한 사용자 ID 부여
     const userId = __VU + (__ITER * 1000);
     const couponId = parseInt(__ENV.COUPON_ID) || TEST_COUPON_ID;
 
+    if (QUEUE_MODE) {
+        const admission = waitForAdmission(couponId, userId);
+        if (admission === 'SOLD_OUT') {
+            // 대기열에서 바로 거절되어 발급 API까지 오지 않음
+            couponSoldOutCounter.add(1);
+            couponSuccessRate.add(0);
+            return;
+        }
+        if (admission !== 'ADMITTED') {
+            couponFailCounter.add(1);
+            couponSuccessRate.add(0);
+            return;
+        }
+    }
+
     const startTime = new Date().getTime();
 
     // 쿠폰 발급 요청
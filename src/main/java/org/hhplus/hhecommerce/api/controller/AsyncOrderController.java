@@ -0,0 +1,32 @@
+package org.hhplus.hhecommerce.api.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.hhplus.hhecommerce.api.dto.order.AcceptOrderResponse;
+import org.hhplus.hhecommerce.api.dto.order.CreateOrderRequest;
+import org.hhplus.hhecommerce.application.order.AcceptOrderUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Order", description = "주문 관리 API")
+@RestController
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.publisher.type", havingValue = "kafka", matchIfMissing = false)
+public class AsyncOrderController {
+
+    private final AcceptOrderUseCase acceptOrderUseCase;
+
+    @Operation(summary = "비동기 주문 접수", description = "주문을 큐에 적재하고 요청 ID를 반환합니다. 결과는 주문 요청 상태 조회 API로 확인합니다.")
+    @PostMapping("/async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public AcceptOrderResponse acceptOrder(
+        @Parameter(description = "사용자 ID") @RequestParam(defaultValue = "1") Long userId,
+        @RequestBody CreateOrderRequest request
+    ) {
+        return acceptOrderUseCase.execute(userId, request);
+    }
+}
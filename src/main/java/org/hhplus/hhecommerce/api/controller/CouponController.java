@@ -5,11 +5,16 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.hhplus.hhecommerce.api.dto.coupon.*;
+import org.hhplus.hhecommerce.application.coupon.EnterCouponQueueUseCase;
+import org.hhplus.hhecommerce.application.coupon.EvaluateCheckoutCouponsUseCase;
 import org.hhplus.hhecommerce.application.coupon.GetAvailableCouponsUseCase;
 import org.hhplus.hhecommerce.application.coupon.GetAvailableUserCouponsUseCase;
+import org.hhplus.hhecommerce.application.coupon.GetCouponIssueResultUseCase;
+import org.hhplus.hhecommerce.application.coupon.GetCouponQueueStatusUseCase;
 import org.hhplus.hhecommerce.application.coupon.GetUserCouponsUseCase;
 import org.hhplus.hhecommerce.application.coupon.IssueCouponUseCase;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 @Tag(name = "Coupon", description = "쿠폰 관리 API")
 @RestController
@@ -21,6 +26,10 @@ public class CouponController {
     private final IssueCouponUseCase issueCouponUseCase;
     private final GetUserCouponsUseCase getUserCouponsUseCase;
     private final GetAvailableUserCouponsUseCase getAvailableUserCouponsUseCase;
+    private final GetCouponIssueResultUseCase getCouponIssueResultUseCase;
+    private final EvaluateCheckoutCouponsUseCase evaluateCheckoutCouponsUseCase;
+    private final EnterCouponQueueUseCase enterCouponQueueUseCase;
+    private final GetCouponQueueStatusUseCase getCouponQueueStatusUseCase;
 
     @Operation(summary = "발급 가능한 쿠폰 목록 조회")
     @GetMapping
@@ -40,6 +49,25 @@ public class CouponController {
         return issueCouponUseCase.execute(userId, couponId);
     }
 
+    @Operation(summary = "쿠폰 발급 대기열 입장",
+               description = "대기실 모드에서는 대기열에 들어가 순번을 받고, 입장(ADMITTED) 상태가 된 뒤에 발급을 요청할 수 있습니다.")
+    @PostMapping("/{couponId}/queue")
+    public CouponQueueResponse enterQueue(
+        @Parameter(description = "사용자 ID") @RequestParam(defaultValue = "1") Long userId,
+        @Parameter(description = "쿠폰 ID") @PathVariable Long couponId
+    ) {
+        return enterCouponQueueUseCase.execute(userId, couponId);
+    }
+
+    @Operation(summary = "쿠폰 발급 대기열 순번 조회")
+    @GetMapping("/{couponId}/queue")
+    public CouponQueueResponse getQueueStatus(
+        @Parameter(description = "사용자 ID") @RequestParam(defaultValue = "1") Long userId,
+        @Parameter(description = "쿠폰 ID") @PathVariable Long couponId
+    ) {
+        return getCouponQueueStatusUseCase.execute(userId, couponId);
+    }
+
     @Operation(summary = "보유 쿠폰 조회")
     @GetMapping("/users/coupons")
     public UserCouponListResponse getUserCoupons(
@@ -56,4 +84,24 @@ public class CouponController {
     ) {
         return getAvailableUserCouponsUseCase.execute(userId, orderAmount);
     }
+
+    @Operation(summary = "결제 시 쿠폰 추천",
+               description = "주문 금액에 적용할 수 있는 보유 쿠폰을 할인 금액이 큰 순서로 돌려주고 최대 할인 쿠폰을 표시합니다.")
+    @GetMapping("/users/coupons/checkout")
+    public CheckoutCouponResponse evaluateCheckoutCoupons(
+        @Parameter(description = "사용자 ID") @RequestParam(defaultValue = "1") Long userId,
+        @Parameter(description = "주문 금액") @RequestParam Integer orderAmount
+    ) {
+        return evaluateCheckoutCouponsUseCase.execute(userId, orderAmount);
+    }
+
+    @Operation(summary = "비동기 쿠폰 발급 요청 결과 조회",
+               description = "waitSeconds를 주면 결과가 확정될 때까지 최대 그 시간만큼 응답을 보류합니다(롱폴링).")
+    @GetMapping("/requests/{requestId}")
+    public DeferredResult<CouponIssueRequestStatusResponse> getIssueRequestStatus(
+        @Parameter(description = "발급 요청 ID") @PathVariable String requestId,
+        @Parameter(description = "결과 대기 시간(초)", example = "10") @RequestParam(defaultValue = "0") long waitSeconds
+    ) {
+        return getCouponIssueResultUseCase.execute(requestId, waitSeconds);
+    }
 }
@@ -5,8 +5,11 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.hhplus.hhecommerce.api.dto.order.*;
+import org.hhplus.hhecommerce.application.common.IdempotencyScope;
+import org.hhplus.hhecommerce.application.common.IdempotentRequestExecutor;
 import org.hhplus.hhecommerce.application.order.CreateOrderUseCase;
 import org.hhplus.hhecommerce.application.order.GetOrderDetailUseCase;
+import org.hhplus.hhecommerce.application.order.GetOrderRequestStatusUseCase;
 import org.hhplus.hhecommerce.application.order.GetOrdersUseCase;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,22 +22,28 @@ public class OrderController {
     private final CreateOrderUseCase createOrderUseCase;
     private final GetOrdersUseCase getOrdersUseCase;
     private final GetOrderDetailUseCase getOrderDetailUseCase;
+    private final GetOrderRequestStatusUseCase getOrderRequestStatusUseCase;
+    private final IdempotentRequestExecutor idempotentRequestExecutor;
 
-    @Operation(summary = "주문 생성")
+    @Operation(summary = "주문 생성", description = "Idempotency-Key를 전달하면 같은 키의 재요청에는 처음 응답을 그대로 돌려줍니다.")
     @PostMapping
     public CreateOrderResponse createOrder(
         @Parameter(description = "사용자 ID") @RequestParam(defaultValue = "1") Long userId,
+        @Parameter(description = "멱등 키 (선택사항)") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @RequestBody CreateOrderRequest request
     ) {
-        return createOrderUseCase.execute(userId, request);
+        return idempotentRequestExecutor.execute(IdempotencyScope.ORDER_CREATE, userId, idempotencyKey,
+                request, CreateOrderResponse.class, () -> createOrderUseCase.execute(userId, request));
     }
 
-    @Operation(summary = "주문 목록 조회")
+    @Operation(summary = "주문 목록 조회", description = "최신 주문부터 커서 기반으로 조회합니다. 다음 페이지는 응답의 nextCursor를 전달합니다.")
     @GetMapping
     public OrderListResponse getOrders(
-        @Parameter(description = "사용자 ID") @RequestParam(defaultValue = "1") Long userId
+        @Parameter(description = "사용자 ID") @RequestParam(defaultValue = "1") Long userId,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+        @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") int size
     ) {
-        return getOrdersUseCase.execute(userId);
+        return getOrdersUseCase.execute(userId, cursor, size);
     }
 
     @Operation(summary = "주문 상세 조회")
@@ -44,4 +53,12 @@ public class OrderController {
     ) {
         return getOrderDetailUseCase.execute(orderId);
     }
+
+    @Operation(summary = "비동기 주문 요청 상태 조회")
+    @GetMapping("/requests/{requestId}")
+    public OrderRequestStatusResponse getOrderRequestStatus(
+        @Parameter(description = "주문 요청 ID") @PathVariable String requestId
+    ) {
+        return getOrderRequestStatusUseCase.execute(requestId);
+    }
 }
@@ -5,6 +5,8 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.hhplus.hhecommerce.api.dto.point.*;
+import org.hhplus.hhecommerce.application.common.IdempotencyScope;
+import org.hhplus.hhecommerce.application.common.IdempotentRequestExecutor;
 import org.hhplus.hhecommerce.application.point.ChargePointUseCase;
 import org.hhplus.hhecommerce.application.point.DeductPointUseCase;
 import org.hhplus.hhecommerce.application.point.GetPointUseCase;
@@ -19,6 +21,7 @@ public class PointController {
     private final GetPointUseCase getPointUseCase;
     private final ChargePointUseCase chargePointUseCase;
     private final DeductPointUseCase deductPointUseCase;
+    private final IdempotentRequestExecutor idempotentRequestExecutor;
 
     @Operation(summary = "포인트 조회")
     @GetMapping
@@ -28,13 +31,15 @@ public class PointController {
         return getPointUseCase.execute(userId);
     }
 
-    @Operation(summary = "포인트 충전")
+    @Operation(summary = "포인트 충전", description = "Idempotency-Key를 전달하면 같은 키의 재요청은 다시 충전하지 않습니다.")
     @PostMapping("/charge")
     public ChargeResponse chargePoint(
         @Parameter(description = "사용자 ID") @RequestParam(defaultValue = "1") Long userId,
+        @Parameter(description = "멱등 키 (선택사항)") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @RequestBody ChargeRequest request
     ) {
-        return chargePointUseCase.execute(userId, request);
+        return idempotentRequestExecutor.execute(IdempotencyScope.POINT_CHARGE, userId, idempotencyKey,
+                request, ChargeResponse.class, () -> chargePointUseCase.execute(userId, request));
     }
 
     @Operation(summary = "포인트 차감")
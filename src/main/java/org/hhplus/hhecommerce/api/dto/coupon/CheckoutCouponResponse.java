@@ -0,0 +1,56 @@
+package org.hhplus.hhecommerce.api.dto.coupon;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "결제 시 쿠폰 추천 응답")
+public record CheckoutCouponResponse(
+        @Schema(description = "할인 금액이 큰 순서로 정렬한 적용 가능 쿠폰 목록")
+        List<CheckoutCouponInfo> coupons,
+
+        @Schema(description = "총 쿠폰 수", example = "2")
+        Integer totalCount,
+
+        @Schema(description = "주문 금액 (원)", example = "500000")
+        Integer orderAmount,
+
+        @Schema(description = "할인 금액이 가장 큰 사용자 쿠폰 ID (적용 가능한 쿠폰이 없으면 null)", example = "1")
+        Long bestUserCouponId
+) {
+
+    @Schema(description = "적용 가능 쿠폰 정보")
+    public record CheckoutCouponInfo(
+            @Schema(description = "사용자 쿠폰 ID", example = "1")
+            Long userCouponId,
+
+            @Schema(description = "쿠폰 ID", example = "1")
+            Long couponId,
+
+            @Schema(description = "쿠폰명", example = "신규가입 10% 할인")
+            String couponName,
+
+            @Schema(description = "할인 타입", example = "RATE")
+            String discountType,
+
+            @Schema(description = "할인 값", example = "10")
+            Integer discountValue,
+
+            @Schema(description = "최소 주문 금액 (원)", example = "100000")
+            Integer minOrderAmount,
+
+            @Schema(description = "만료 일시", example = "2025-12-31T23:59:59")
+            LocalDateTime expiredAt,
+
+            @Schema(description = "예상 할인 금액 (원)", example = "50000")
+            Integer expectedDiscount,
+
+            @Schema(description = "최종 결제 금액 (원)", example = "450000")
+            Integer finalAmount,
+
+            @Schema(description = "최대 할인 쿠폰 여부", example = "true")
+            boolean best
+    ) {
+    }
+}
@@ -0,0 +1,22 @@
+package org.hhplus.hhecommerce.api.dto.coupon;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "비동기 쿠폰 발급 요청 상태 응답")
+public record CouponIssueRequestStatusResponse(
+        @Schema(description = "발급 요청 ID", example = "6f1c2a9e-3b7d-4f5e-9a0b-1c2d3e4f5a6b")
+        String requestId,
+
+        @Schema(description = "요청 상태 (PROCESSING, SUCCESS, FAILED, ALREADY_ISSUED, OUT_OF_STOCK, COUPON_NOT_FOUND)", example = "SUCCESS")
+        String status,
+
+        @Schema(description = "쿠폰 ID", example = "1")
+        Long couponId,
+
+        @Schema(description = "사용자 ID", example = "1")
+        Long userId,
+
+        @Schema(description = "응답 메시지", example = "쿠폰 발급이 완료되었습니다.")
+        String message
+) {
+}
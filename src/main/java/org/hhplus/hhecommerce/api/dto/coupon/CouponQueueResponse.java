@@ -0,0 +1,24 @@
+package org.hhplus.hhecommerce.api.dto.coupon;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.hhplus.hhecommerce.domain.coupon.CouponQueueTicket;
+
+@Schema(description = "쿠폰 발급 대기열 상태 응답")
+public record CouponQueueResponse(
+        @Schema(description = "쿠폰 ID", example = "1")
+        Long couponId,
+
+        @Schema(description = "사용자 ID", example = "1")
+        Long userId,
+
+        @Schema(description = "대기 상태 (WAITING, ADMITTED, SOLD_OUT, NOT_IN_QUEUE)", example = "WAITING")
+        String status,
+
+        @Schema(description = "대기 순번 (대기 중이 아니면 0)", example = "42")
+        Long position
+) {
+
+    public static CouponQueueResponse of(Long couponId, Long userId, CouponQueueTicket ticket) {
+        return new CouponQueueResponse(couponId, userId, ticket.status().name(), ticket.position());
+    }
+}
@@ -0,0 +1,16 @@
+package org.hhplus.hhecommerce.api.dto.order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "비동기 주문 접수 응답")
+public record AcceptOrderResponse(
+        @Schema(description = "주문 요청 ID", example = "6f1c2a9e-3b7d-4f5e-9a0b-1c2d3e4f5a6b")
+        String requestId,
+
+        @Schema(description = "요청 상태", example = "ACCEPTED")
+        String status,
+
+        @Schema(description = "응답 메시지", example = "주문이 접수되었습니다")
+        String message
+) {
+}
@@ -10,14 +10,14 @@ public record OrderListResponse(
         @Schema(description = "주문 목록")
         List<OrderSummary> orders,
 
-        @Schema(description = "현재 페이지", example = "0")
-        Integer page,
-
-        @Schema(description = "페이지 크기", example = "10")
+        @Schema(description = "페이지 크기", example = "20")
         Integer size,
 
-        @Schema(description = "전체 주문 수", example = "5")
-        Integer total
+        @Schema(description = "이번 페이지의 주문 수", example = "5")
+        Integer count,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0xMC0yOFQxMDowMHwxMjM")
+        String nextCursor
 ) {
 
     @Schema(description = "주문 요약 정보")
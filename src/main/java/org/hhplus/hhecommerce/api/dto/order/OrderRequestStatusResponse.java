@@ -0,0 +1,22 @@
+package org.hhplus.hhecommerce.api.dto.order;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "비동기 주문 요청 상태 응답")
+public record OrderRequestStatusResponse(
+        @Schema(description = "주문 요청 ID", example = "6f1c2a9e-3b7d-4f5e-9a0b-1c2d3e4f5a6b")
+        String requestId,
+
+        @Schema(description = "요청 상태 (ACCEPTED, PROCESSING, SUCCESS, FAILED)", example = "SUCCESS")
+        String status,
+
+        @Schema(description = "생성된 주문 ID (성공 시)", example = "1")
+        Long orderId,
+
+        @Schema(description = "실패 코드 (실패 시)", example = "INSUFFICIENT_STOCK")
+        String errorCode,
+
+        @Schema(description = "응답 메시지", example = "주문이 완료되었습니다")
+        String message
+) {
+}
@@ -16,4 +16,12 @@ public class CustomException extends RuntimeException {
         super(customMessage);
         this.errorCode = errorCode;
     }
+
+    /**
+     * 스택 트레이스를 채우지 않는 예외를 만듭니다. 빈번하게 발생하는 예상된 거절(재고 소진 등)에 사용합니다.
+     */
+    protected CustomException(ErrorCode errorCode, boolean writableStackTrace) {
+        super(errorCode.getMessage(), null, false, writableStackTrace);
+        this.errorCode = errorCode;
+    }
 }
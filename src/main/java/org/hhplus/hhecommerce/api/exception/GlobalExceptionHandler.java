@@ -22,7 +22,10 @@ public class GlobalExceptionHandler {
             "ORDER_CONFLICT",           // 동시 주문 처리 충돌
             "ORDER_IN_PROGRESS",        // 이미 진행 중인 주문
             "LOCK_ACQUISITION_FAILED",  // 분산락 획득 실패
-            "POINT_UPDATE_FAILED"       // 포인트 업데이트 실패 (낙관적 락)
+            "POINT_UPDATE_FAILED",      // 포인트 업데이트 실패 (낙관적 락)
+            "STOCK_RESERVATION_FAILED", // Redis 재고 예약 실패
+            "ORDER_REQUEST_FAILED",     // 비동기 주문 요청 발행 실패
+            "IDEMPOTENT_REQUEST_IN_PROGRESS" // 같은 Idempotency-Key 요청 처리 중
     );
 
     private static final String DEFAULT_RETRY_AFTER_SECONDS = "2";
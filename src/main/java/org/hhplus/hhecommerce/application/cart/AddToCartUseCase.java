@@ -22,7 +22,7 @@ public class AddToCartUseCase {
     private final ProductRepository productRepository;
 
     public CartItemResponse execute(Long userId, AddCartRequest request) {
-        ProductOption option = productOptionRepository.findById(request.getProductOptionId())
+        ProductOption option = productOptionRepository.findByIdWithStock(request.getProductOptionId())
                 .orElseThrow(()-> new ProductException(ProductErrorCode.PRODUCT_OPTION_NOT_FOUND));
 
         Product product = productRepository.findById(option.getProductId())
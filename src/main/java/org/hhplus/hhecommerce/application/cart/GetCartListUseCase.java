@@ -6,14 +6,14 @@ import org.hhplus.hhecommerce.domain.cart.Cart;
 import org.hhplus.hhecommerce.domain.cart.CartRepository;
 import org.hhplus.hhecommerce.domain.product.Product;
 import org.hhplus.hhecommerce.domain.product.ProductOption;
-import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
-import org.hhplus.hhecommerce.domain.product.ProductRepository;
 import org.hhplus.hhecommerce.domain.product.exception.ProductErrorCode;
 import org.hhplus.hhecommerce.domain.product.exception.ProductException;
+import org.hhplus.hhecommerce.infrastructure.persistence.EntityBatchLoader;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,20 +21,28 @@ import java.util.stream.Collectors;
 public class GetCartListUseCase {
 
     private final CartRepository cartRepository;
-    private final ProductOptionRepository productOptionRepository;
-    private final ProductRepository productRepository;
+    private final EntityBatchLoader entityBatchLoader;
 
     public CartListResponse execute(Long userId, int page, int size) {
         List<Cart> carts = cartRepository.findByUserId(userId, PageRequest.of(page, size));
         int totalCount = cartRepository.countByUserId(userId);
 
+        Map<Long, ProductOption> optionMap = entityBatchLoader.loadProductOptions(
+                carts.stream().map(Cart::getProductOptionId).toList());
+        Map<Long, Product> productMap = entityBatchLoader.loadProducts(
+                optionMap.values().stream().map(ProductOption::getProductId).toList());
+
         List<CartListResponse.CartItem> items = carts.stream()
                 .map(cart -> {
-                    ProductOption option = productOptionRepository.findById(cart.getProductOptionId())
-                            .orElseThrow(()-> new ProductException(ProductErrorCode.PRODUCT_OPTION_NOT_FOUND));
+                    ProductOption option = optionMap.get(cart.getProductOptionId());
+                    if (option == null) {
+                        throw new ProductException(ProductErrorCode.PRODUCT_OPTION_NOT_FOUND);
+                    }
 
-                    Product product = productRepository.findById(option.getProductId())
-                            .orElseThrow(() -> new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND));
+                    Product product = productMap.get(option.getProductId());
+                    if (product == null) {
+                        throw new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND);
+                    }
 
                     return new CartListResponse.CartItem(
                             cart.getId(),
@@ -27,7 +27,7 @@ public class UpdateCartUseCase {
         Cart cart = cartRepository.findById(cartId)
                 .orElseThrow(() -> new CartException(CartErrorCode.CART_ITEM_NOT_FOUND));
 
-        ProductOption option = productOptionRepository.findById(cart.getProductOptionId())
+        ProductOption option = productOptionRepository.findByIdWithStock(cart.getProductOptionId())
                 .orElseThrow(()-> new ProductException(ProductErrorCode.PRODUCT_OPTION_NOT_FOUND));
 
         Product product = productRepository.findById(option.getProductId())
@@ -0,0 +1,19 @@
+package org.hhplus.hhecommerce.application.common;
+
+/**
+ * Idempotency-Key를 적용하는 요청 종류. 같은 키라도 종류가 다르면 별개로 취급합니다.
+ */
+public enum IdempotencyScope {
+    ORDER_CREATE("order"),
+    POINT_CHARGE("point-charge");
+
+    private final String key;
+
+    IdempotencyScope(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
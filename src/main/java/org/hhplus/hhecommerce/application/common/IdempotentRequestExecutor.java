@@ -0,0 +1,175 @@
+package org.hhplus.hhecommerce.application.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.common.IdempotencyRecord;
+import org.hhplus.hhecommerce.domain.common.exception.IdempotencyErrorCode;
+import org.hhplus.hhecommerce.domain.common.exception.IdempotencyException;
+import org.hhplus.hhecommerce.infrastructure.cache.IdempotencyStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더가 붙은 요청을 한 번만 실행합니다.
+ *
+ * <ul>
+ *   <li>처음 도착한 요청이 Redis에 처리 중 항목을 선점하고 실제 로직을 실행한 뒤 응답을 저장합니다.</li>
+ *   <li>처리 중에 같은 키로 들어온 요청은 다시 실행하지 않고 응답이 저장될 때까지 기다립니다.</li>
+ *   <li>완료된 뒤 들어온 요청은 MySQL이나 분산락을 거치지 않고 Redis에 저장된 응답으로 답합니다.</li>
+ * </ul>
+ *
+ * <p>실행이 실패하면 처리 중 항목을 지워 같은 키로 재시도할 수 있게 합니다.</p>
+ */
+@Slf4j
+@Component
+public class IdempotentRequestExecutor {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration inFlightTtl;
+    private final Duration responseTtl;
+    private final long waitTimeoutMs;
+    private final long pollIntervalMs;
+
+    public IdempotentRequestExecutor(IdempotencyStore idempotencyStore,
+                                     ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${idempotency.in-flight-ttl-ms:60000}") long inFlightTtlMs,
+                                     @Value("${idempotency.response-ttl-hours:24}") long responseTtlHours,
+                                     @Value("${idempotency.wait-timeout-ms:10000}") long waitTimeoutMs,
+                                     @Value("${idempotency.poll-interval-ms:50}") long pollIntervalMs) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.inFlightTtl = Duration.ofMillis(inFlightTtlMs);
+        this.responseTtl = Duration.ofHours(responseTtlHours);
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    /**
+     * @param idempotencyKey 클라이언트가 보낸 Idempotency-Key (없으면 그대로 실행)
+     * @param request        같은 키로 다른 요청이 오는지 판별하기 위한 요청 본문
+     */
+    public <T> T execute(IdempotencyScope scope, Long userId, String idempotencyKey,
+                         Object request, Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IdempotencyException(IdempotencyErrorCode.INVALID_IDEMPOTENCY_KEY);
+        }
+
+        String key = scope.getKey() + ":" + userId + ":" + idempotencyKey;
+        String requestHash = hash(request);
+        long deadline = System.currentTimeMillis() + waitTimeoutMs;
+
+        while (true) {
+            boolean owner;
+            try {
+                owner = idempotencyStore.begin(key, requestHash, inFlightTtl);
+            } catch (DataAccessException e) {
+                // Redis 장애 시에는 멱등 처리 없이 기존과 같이 실행
+                log.warn("멱등 키 선점 실패 - 멱등 처리 없이 실행합니다. key: {}, error: {}", key, e.getMessage());
+                record(scope, "bypassed");
+                return action.get();
+            }
+
+            if (owner) {
+                record(scope, "executed");
+                return executeAndStore(key, requestHash, responseType, action);
+            }
+
+            Optional<IdempotencyRecord> existing = idempotencyStore.find(key);
+            if (existing.isEmpty()) {
+                // 선행 요청이 실패해 항목이 지워진 경우 - 다시 선점을 시도
+                continue;
+            }
+
+            IdempotencyRecord idempotencyRecord = existing.get();
+            if (!requestHash.equals(idempotencyRecord.requestHash())) {
+                throw new IdempotencyException(IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+
+            if (idempotencyRecord.completed()) {
+                log.info("멱등 요청 재응답 - key: {}", key);
+                record(scope, "replayed");
+                return deserialize(idempotencyRecord.response(), responseType);
+            }
+
+            if (System.currentTimeMillis() >= deadline) {
+                record(scope, "timeout");
+                throw new IdempotencyException(IdempotencyErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+            }
+            sleep();
+        }
+    }
+
+    private <T> T executeAndStore(String key, String requestHash, Class<T> responseType, Supplier<T> action) {
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            try {
+                idempotencyStore.release(key);
+            } catch (RuntimeException releaseFailure) {
+                // 원래 예외를 가리지 않도록 해제 실패는 덧붙이기만 함 (항목은 처리 중 TTL이 지나면 사라짐)
+                e.addSuppressed(releaseFailure);
+            }
+            throw e;
+        }
+
+        try {
+            if (!idempotencyStore.complete(key, requestHash, objectMapper.writeValueAsString(response), responseTtl)) {
+                log.warn("멱등 응답 저장 생략 - 처리 중 항목이 만료되었거나 다른 요청이 선점함. key: {}", key);
+            }
+        } catch (JsonProcessingException | DataAccessException e) {
+            // 이미 처리는 끝났으므로 응답 저장 실패가 요청 실패가 되어서는 안 됨
+            log.error("멱등 응답 저장 실패 - key: {}, type: {}", key, responseType.getSimpleName(), e);
+        }
+        return response;
+    }
+
+    private <T> T deserialize(String response, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(response, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 멱등 응답을 읽을 수 없습니다: " + responseType.getSimpleName(), e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("요청 해시 계산 실패", e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(pollIntervalMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyException(IdempotencyErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private void record(IdempotencyScope scope, String result) {
+        meterRegistry.counter("idempotency.requests", "scope", scope.getKey(), "result", result).increment();
+    }
+}
@@ -0,0 +1,84 @@
+package org.hhplus.hhecommerce.application.coupon;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueQuota;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueQuotaRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.exception.CouponErrorCode;
+import org.hhplus.hhecommerce.domain.coupon.exception.CouponException;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponCatalog;
+import org.hhplus.hhecommerce.infrastructure.inventory.StockStripeAllocator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 핫 쿠폰의 발급 파티션 모드를 켜고 끕니다.
+ *
+ * <p>파티션 모드 쿠폰의 발급 요청은 coupon-issue-request 토픽의 여러 파티션으로 흩어지고,
+ * 각 파티션의 컨슈머는 자기 쿼터에서 수량을 확보합니다. 읽은 파티션이 없는 HTTP 발급 경로는 사용자별로 정해진
+ * 쿼터에서 확보하고, 쿠폰 행의 발급 수량은 전환 시점 값으로 멈춰 있습니다.
+ * 전환 중에는 쿠폰 행과 기존 쿼터를 모두 잠가 남은 수량이 그대로 유지되게 합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConfigureCouponPartitioningUseCase {
+
+    private final CouponRepository couponRepository;
+    private final CouponIssueQuotaRepository quotaRepository;
+    private final CouponCatalog couponCatalog;
+
+    @Transactional
+    public void enable(Long couponId, int partitionCount) {
+        if (partitionCount < 2) {
+            throw new CouponException(CouponErrorCode.INVALID_ISSUE_PARTITION_COUNT);
+        }
+
+        Coupon coupon = couponRepository.findByIdWithLock(couponId)
+                .orElseThrow(() -> new CouponException(CouponErrorCode.COUPON_NOT_FOUND));
+
+        int remaining = collapseQuotas(coupon);
+
+        List<Integer> quantities = StockStripeAllocator.split(remaining, partitionCount);
+        for (int partitionNo = 0; partitionNo < partitionCount; partitionNo++) {
+            quotaRepository.save(new CouponIssueQuota(couponId, partitionNo, quantities.get(partitionNo)));
+        }
+        coupon.enableIssuePartitioning(partitionCount, remaining);
+        couponCatalog.invalidateAfterCommit(couponId);
+
+        log.info("쿠폰 발급 파티션 모드 활성화 - couponId: {}, partitionCount: {}, remaining: {}",
+                couponId, partitionCount, remaining);
+    }
+
+    @Transactional
+    public void disable(Long couponId) {
+        Coupon coupon = couponRepository.findByIdWithLock(couponId)
+                .orElseThrow(() -> new CouponException(CouponErrorCode.COUPON_NOT_FOUND));
+
+        if (!coupon.isIssuePartitioned()) {
+            return;
+        }
+
+        int remaining = collapseQuotas(coupon);
+        coupon.disableIssuePartitioning(remaining);
+        couponCatalog.invalidateAfterCommit(couponId);
+
+        log.info("쿠폰 발급 파티션 모드 비활성화 - couponId: {}, remaining: {}", couponId, remaining);
+    }
+
+    private int collapseQuotas(Coupon coupon) {
+        if (!coupon.isIssuePartitioned()) {
+            return coupon.getTotalQuantity() - coupon.getIssuedQuantity();
+        }
+
+        int remaining = quotaRepository.findAllByCouponIdWithLock(coupon.getId()).stream()
+                .mapToInt(CouponIssueQuota::getQuantity)
+                .sum();
+        quotaRepository.deleteByCouponId(coupon.getId());
+        return remaining;
+    }
+}
@@ -0,0 +1,98 @@
+package org.hhplus.hhecommerce.application.coupon;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueReservation;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.exception.CouponErrorCode;
+import org.hhplus.hhecommerce.domain.coupon.exception.CouponException;
+import org.hhplus.hhecommerce.infrastructure.cache.UserCouponWalletCache;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponIssueQuotaAllocator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Write-behind로 모인 쿠폰 발급 건을 하나의 트랜잭션으로 user_coupon에 저장합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponIssueFlushService {
+
+    private final UserCouponRepository userCouponRepository;
+    private final CouponRepository couponRepository;
+    private final CouponIssueQuotaAllocator couponIssueQuotaAllocator;
+    private final UserCouponWalletCache userCouponWalletCache;
+
+    /**
+     * 발급 수량이 총 수량을 넘게 되는 쿠폰이 있으면 {@link CouponErrorCode#COUPON_OUT_OF_STOCK}으로 전체를 되돌립니다.
+     *
+     * @return 이미 저장된 사용자라 건너뛴 예약
+     */
+    @Transactional
+    public List<CouponIssueReservation> persist(List<CouponIssueReservation> reservations) {
+        boolean[] inserted = userCouponRepository.insertAllSkippingDuplicates(reservations);
+
+        Map<Long, Integer> issuedCountByCouponId = new HashMap<>();
+        List<Long> issuedUserIds = new ArrayList<>();
+        List<CouponIssueReservation> skipped = new ArrayList<>();
+        for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i]) {
+                issuedCountByCouponId.merge(reservations.get(i).couponId(), 1, Integer::sum);
+                issuedUserIds.add(reservations.get(i).userId());
+            } else {
+                skipped.add(reservations.get(i));
+            }
+        }
+
+        // 재전송된 예약은 이미 발급 수량에 반영되어 있으므로 새로 삽입된 행만 센다
+        List<Long> rejectedCouponIds = increaseIssuedQuantities(issuedCountByCouponId);
+        if (!rejectedCouponIds.isEmpty()) {
+            log.error("쿠폰 발급 수량이 총 수량을 넘어 저장하지 않음 - couponIds: {}", rejectedCouponIds);
+            throw new CouponException(CouponErrorCode.COUPON_OUT_OF_STOCK);
+        }
+        userCouponWalletCache.evictAfterCommit(issuedUserIds);
+
+        if (!skipped.isEmpty()) {
+            log.info("이미 저장된 쿠폰 발급 건 건너뜀 - 요청: {}, 저장: {}", reservations.size(), issuedUserIds.size());
+        }
+        return skipped;
+    }
+
+    /**
+     * 파티션 모드 쿠폰은 쿠폰 행 대신 쿼터에서 확보합니다. 섞여 있으면 쿠폰 id 순으로 하나씩 처리해
+     * 다른 발급 경로와 같은 순서로 쿠폰 행/쿼터 행을 잠급니다.
+     *
+     * @return 수량이 모자라 확보하지 못한 쿠폰 id
+     */
+    private List<Long> increaseIssuedQuantities(Map<Long, Integer> issuedCountByCouponId) {
+        if (issuedCountByCouponId.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> partitionedCouponIds = new HashSet<>(
+                couponRepository.findIssuePartitionedIdsIn(issuedCountByCouponId.keySet()));
+        if (partitionedCouponIds.isEmpty()) {
+            return userCouponRepository.increaseIssuedQuantities(issuedCountByCouponId);
+        }
+
+        List<Long> rejectedCouponIds = new ArrayList<>();
+        new TreeMap<>(issuedCountByCouponId).forEach((couponId, count) -> {
+            boolean increased = partitionedCouponIds.contains(couponId)
+                    ? couponIssueQuotaAllocator.reserveFromAllPartitions(couponId, count) == count
+                    : userCouponRepository.increaseIssuedQuantities(Map.of(couponId, count)).isEmpty();
+            if (!increased) {
+                rejectedCouponIds.add(couponId);
+            }
+        });
+        return rejectedCouponIds;
+    }
+}
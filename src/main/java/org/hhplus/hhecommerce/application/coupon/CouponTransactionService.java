@@ -11,7 +11,10 @@ import org.hhplus.hhecommerce.domain.coupon.UserCoupon;
 import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
 import org.hhplus.hhecommerce.domain.coupon.exception.CouponErrorCode;
 import org.hhplus.hhecommerce.domain.coupon.exception.CouponException;
+import org.hhplus.hhecommerce.infrastructure.cache.UserCouponWalletCache;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponIssueQuotaAllocator;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -24,9 +27,11 @@ public class CouponTransactionService {
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
     private final CouponIssueManager couponIssueManager;
+    private final CouponIssueQuotaAllocator couponIssueQuotaAllocator;
     private final DomainEventPublisher eventPublisher;
+    private final UserCouponWalletCache userCouponWalletCache;
 
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public CouponSaveResult saveUserCoupon(Long userId, Long couponId) {
         if (userCouponRepository.existsByUserIdAndCouponId(userId, couponId)) {
             log.warn("DB에서 중복 발급 감지 - userId: {}, couponId: {}", userId, couponId);
@@ -37,7 +42,10 @@ public class CouponTransactionService {
                 .orElseThrow(() -> new CouponException(CouponErrorCode.COUPON_NOT_FOUND));
 
         if (couponIssueManager.shouldUpdateCouponStock()) {
-            int updated = couponRepository.increaseIssuedQuantity(couponId);
+            // 파티션 모드 쿠폰은 쿠폰 행 대신 쿼터에서 확보
+            int updated = coupon.isIssuePartitioned()
+                    ? couponIssueQuotaAllocator.reserveForUser(couponId, coupon.getIssuePartitionCount(), userId)
+                    : couponRepository.increaseIssuedQuantity(couponId);
             if (updated == 0) {
                 log.warn("쿠폰 재고 업데이트 실패 - couponId: {}", couponId);
                 throw new CouponException(CouponErrorCode.COUPON_OUT_OF_STOCK);
@@ -46,6 +54,7 @@ public class CouponTransactionService {
 
         UserCoupon userCoupon = new UserCoupon(userId, couponId, LocalDateTime.now().plusDays(30));
         userCouponRepository.save(userCoupon);
+        userCouponWalletCache.evictAfterCommit(userId);
 
         eventPublisher.publish(new CouponIssuedEvent(couponId, userId));
 
@@ -54,5 +63,18 @@ public class CouponTransactionService {
         return new CouponSaveResult(userCoupon, coupon);
     }
 
+    /**
+     * 발급 전략이 이미 저장한 사용자 쿠폰을 읽습니다 ({@link CouponIssueManager#persistsUserCoupon()}).
+     */
+    @Transactional(readOnly = true)
+    public CouponSaveResult findIssuedUserCoupon(Long userId, Long couponId) {
+        UserCoupon userCoupon = userCouponRepository.findByUserIdAndCouponId(userId, couponId)
+                .orElseThrow(() -> new CouponException(CouponErrorCode.COUPON_ISSUE_FAILED));
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(() -> new CouponException(CouponErrorCode.COUPON_NOT_FOUND));
+
+        return new CouponSaveResult(userCoupon, coupon);
+    }
+
     public record CouponSaveResult(UserCoupon userCoupon, Coupon coupon) {}
 }
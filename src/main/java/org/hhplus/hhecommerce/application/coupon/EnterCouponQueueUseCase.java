@@ -0,0 +1,28 @@
+package org.hhplus.hhecommerce.application.coupon;
+
+import org.hhplus.hhecommerce.api.dto.coupon.CouponQueueResponse;
+import org.hhplus.hhecommerce.domain.coupon.CouponQueueStatus;
+import org.hhplus.hhecommerce.domain.coupon.CouponQueueTicket;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponWaitingRoom;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+/**
+ * 쿠폰 발급 대기열에 입장합니다. 대기실 모드가 꺼져 있으면 바로 발급할 수 있으므로 입장 상태로 응답합니다.
+ */
+@Service
+public class EnterCouponQueueUseCase {
+
+    private final CouponWaitingRoom couponWaitingRoom;
+
+    public EnterCouponQueueUseCase(ObjectProvider<CouponWaitingRoom> couponWaitingRoomProvider) {
+        this.couponWaitingRoom = couponWaitingRoomProvider.getIfAvailable();
+    }
+
+    public CouponQueueResponse execute(Long userId, Long couponId) {
+        CouponQueueTicket ticket = couponWaitingRoom != null
+                ? couponWaitingRoom.enter(couponId, userId)
+                : CouponQueueTicket.of(CouponQueueStatus.ADMITTED);
+        return CouponQueueResponse.of(couponId, userId, ticket);
+    }
+}
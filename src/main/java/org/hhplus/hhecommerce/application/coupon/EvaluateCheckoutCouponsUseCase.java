@@ -0,0 +1,66 @@
+package org.hhplus.hhecommerce.application.coupon;
+
+import lombok.RequiredArgsConstructor;
+import org.hhplus.hhecommerce.api.dto.coupon.CheckoutCouponResponse;
+import org.hhplus.hhecommerce.domain.coupon.UserCoupon;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponWallet;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponCatalog;
+import org.hhplus.hhecommerce.infrastructure.cache.UserCouponWalletCache;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 결제 화면에서 장바구니 금액에 적용할 수 있는 쿠폰을 할인 금액 순으로 추천합니다.
+ *
+ * <p>사용자 쿠폰 지갑은 Redis에 캐시되어 있어 장바구니가 바뀔 때마다 Redis 한 번만 읽고 나머지는 메모리에서 계산합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class EvaluateCheckoutCouponsUseCase {
+
+    private final UserCouponRepository userCouponRepository;
+    private final CouponCatalog couponCatalog;
+    private final UserCouponWalletCache userCouponWalletCache;
+
+    public CheckoutCouponResponse execute(Long userId, int orderAmount) {
+        LocalDateTime now = LocalDateTime.now();
+        UserCouponWallet wallet = userCouponWalletCache.find(userId)
+                .orElseGet(() -> loadWallet(userId, now));
+
+        List<UserCouponWallet.Candidate> ranked = wallet.rank(orderAmount, now);
+        List<CheckoutCouponResponse.CheckoutCouponInfo> coupons = new ArrayList<>(ranked.size());
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            UserCouponWallet.Candidate candidate = ranked.get(rank);
+            int i = candidate.index();
+            coupons.add(new CheckoutCouponResponse.CheckoutCouponInfo(
+                    wallet.userCouponIds()[i],
+                    wallet.couponIds()[i],
+                    wallet.couponNames()[i],
+                    wallet.discountTypes()[i].name(),
+                    wallet.discountValues()[i],
+                    wallet.minOrderAmounts()[i],
+                    wallet.expiredAts()[i],
+                    candidate.discountAmount(),
+                    orderAmount - candidate.discountAmount(),
+                    rank == 0
+            ));
+        }
+
+        Long bestUserCouponId = coupons.isEmpty() ? null : coupons.get(0).userCouponId();
+        return new CheckoutCouponResponse(coupons, coupons.size(), orderAmount, bestUserCouponId);
+    }
+
+    private UserCouponWallet loadWallet(Long userId, LocalDateTime now) {
+        // DB를 읽는 사이 발급/사용이 커밋되어 지갑이 지워지면 읽은 지갑을 기록하지 않도록 세대를 먼저 읽음
+        long generation = userCouponWalletCache.generation(userId);
+        List<UserCoupon> userCoupons = userCouponRepository.findAvailableByUserId(userId, now);
+        UserCouponWallet wallet = UserCouponWallet.of(userCoupons, couponCatalog.findAll(
+                userCoupons.stream().map(UserCoupon::getCouponId).distinct().toList()));
+        userCouponWalletCache.save(userId, wallet, generation);
+        return wallet;
+    }
+}
@@ -1,42 +1,77 @@
 package org.hhplus.hhecommerce.application.coupon;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.hhplus.hhecommerce.api.dto.coupon.CouponListResponse;
-import org.hhplus.hhecommerce.domain.coupon.Coupon;
-import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
-import org.springframework.data.domain.PageRequest;
+import org.hhplus.hhecommerce.infrastructure.cache.AvailableCouponListCache;
+import org.hhplus.hhecommerce.infrastructure.coupon.RedisCouponIssueManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
+/**
+ * 발급 가능한 쿠폰 목록을 캐시된 전체 목록에서 잘라 돌려줍니다.
+ *
+ * <p>Redis 발급 전략이면 해당 페이지 쿠폰들의 재고 키를 MGET 한 번으로 읽어 잔여 수량을 덮어씁니다.
+ * 재고 키가 없거나 Redis 조회에 실패하면 캐시에 담긴 DB 기준 값을 그대로 보여줍니다.</p>
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class GetAvailableCouponsUseCase {
 
-    private final CouponRepository couponRepository;
+    private final AvailableCouponListCache availableCouponListCache;
+    private final RedisCouponIssueManager redisCouponIssueManager;
+
+    public GetAvailableCouponsUseCase(AvailableCouponListCache availableCouponListCache,
+                                      ObjectProvider<RedisCouponIssueManager> redisCouponIssueManagerProvider) {
+        this.availableCouponListCache = availableCouponListCache;
+        this.redisCouponIssueManager = redisCouponIssueManagerProvider.getIfAvailable();
+    }
 
     public CouponListResponse execute(int page, int size) {
-        LocalDateTime now = LocalDateTime.now();
-
-        List<Coupon> availableCoupons = couponRepository.findAvailableCoupons(now, PageRequest.of(page, size));
-        int totalCount = couponRepository.countAvailableCoupons(now);
-
-        List<CouponListResponse.CouponInfo> couponInfos = availableCoupons.stream()
-                .map(coupon -> new CouponListResponse.CouponInfo(
-                        coupon.getId(),
-                        coupon.getName(),
-                        coupon.getDiscountType().name(),
-                        coupon.getDiscountValue(),
-                        coupon.getMaxDiscountAmount(),
-                        coupon.getMinOrderAmount(),
-                        coupon.getTotalQuantity() - coupon.getIssuedQuantity(),
-                        coupon.getStartAt(),
-                        coupon.getEndAt()
-                ))
-                .collect(Collectors.toList());
-
-        return new CouponListResponse(couponInfos, totalCount);
+        CouponListResponse all = availableCouponListCache.findAll();
+        List<CouponListResponse.CouponInfo> coupons = all.coupons();
+
+        int from = (int) Math.min((long) page * size, coupons.size());
+        int to = (int) Math.min((long) from + size, coupons.size());
+        List<CouponListResponse.CouponInfo> pageCoupons = coupons.subList(from, to);
+
+        return new CouponListResponse(overlayRemainingStock(pageCoupons), all.totalCount());
+    }
+
+    private List<CouponListResponse.CouponInfo> overlayRemainingStock(List<CouponListResponse.CouponInfo> coupons) {
+        if (redisCouponIssueManager == null || coupons.isEmpty()) {
+            return List.copyOf(coupons);
+        }
+
+        Map<Long, Integer> remainingStocks;
+        try {
+            remainingStocks = redisCouponIssueManager.getRemainingStocks(
+                    coupons.stream().map(CouponListResponse.CouponInfo::id).toList());
+        } catch (Exception e) {
+            log.warn("쿠폰 잔여 수량 조회 실패, 캐시된 수량으로 응답 - error: {}", e.getMessage());
+            return List.copyOf(coupons);
+        }
+
+        return coupons.stream()
+                .map(coupon -> {
+                    Integer remaining = remainingStocks.get(coupon.id());
+                    if (remaining == null) {
+                        return coupon;
+                    }
+                    return new CouponListResponse.CouponInfo(
+                            coupon.id(),
+                            coupon.name(),
+                            coupon.discountType(),
+                            coupon.discountValue(),
+                            coupon.maxDiscountAmount(),
+                            coupon.minOrderAmount(),
+                            remaining,
+                            coupon.startAt(),
+                            coupon.endAt()
+                    );
+                })
+                .toList();
     }
 }
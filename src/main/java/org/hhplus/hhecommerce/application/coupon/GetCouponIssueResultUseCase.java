@@ -0,0 +1,88 @@
+package org.hhplus.hhecommerce.application.coupon;
+
+import org.hhplus.hhecommerce.api.dto.coupon.CouponIssueRequestStatusResponse;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueRequestResult;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResultRepository;
+import org.hhplus.hhecommerce.domain.coupon.exception.CouponErrorCode;
+import org.hhplus.hhecommerce.domain.coupon.exception.CouponException;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponIssueResultCache;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponIssueResultNotifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 쿠폰 발급 요청의 결과를 조회합니다.
+ *
+ * <p>결과는 Redis 캐시에서 읽고, 캐시가 만료되었거나 유실된 경우에만 DB를 조회합니다.
+ * 대기 시간을 주면 결과가 확정될 때까지(최대 {@code coupon.issue.result.max-wait-seconds}) 응답을 보류하고,
+ * 결과 발행 메시지를 받는 즉시 응답하므로 클라이언트가 짧은 간격으로 반복 조회할 필요가 없습니다.</p>
+ */
+@Service
+public class GetCouponIssueResultUseCase {
+
+    private final CouponIssueResultCache couponIssueResultCache;
+    private final CouponIssueResultRepository couponIssueResultRepository;
+    private final CouponIssueResultNotifier couponIssueResultNotifier;
+    private final long maxWaitSeconds;
+
+    public GetCouponIssueResultUseCase(CouponIssueResultCache couponIssueResultCache,
+                                       CouponIssueResultRepository couponIssueResultRepository,
+                                       CouponIssueResultNotifier couponIssueResultNotifier,
+                                       @Value("${coupon.issue.result.max-wait-seconds:10}") long maxWaitSeconds) {
+        this.couponIssueResultCache = couponIssueResultCache;
+        this.couponIssueResultRepository = couponIssueResultRepository;
+        this.couponIssueResultNotifier = couponIssueResultNotifier;
+        this.maxWaitSeconds = maxWaitSeconds;
+    }
+
+    public DeferredResult<CouponIssueRequestStatusResponse> execute(String requestId, long waitSeconds) {
+        CouponIssueRequestResult current = find(requestId)
+                .orElseThrow(() -> new CouponException(CouponErrorCode.COUPON_ISSUE_REQUEST_NOT_FOUND));
+
+        long wait = Math.min(Math.max(waitSeconds, 0), maxWaitSeconds);
+        if (wait == 0 || current.isCompleted()) {
+            DeferredResult<CouponIssueRequestStatusResponse> deferred = new DeferredResult<>();
+            deferred.setResult(toResponse(current));
+            return deferred;
+        }
+
+        DeferredResult<CouponIssueRequestStatusResponse> deferred = new DeferredResult<>(TimeUnit.SECONDS.toMillis(wait));
+        Runnable listener = () -> couponIssueResultCache.find(requestId)
+                .filter(CouponIssueRequestResult::isCompleted)
+                .ifPresent(result -> deferred.setResult(toResponse(result)));
+
+        couponIssueResultNotifier.register(requestId, listener);
+        deferred.onCompletion(() -> couponIssueResultNotifier.unregister(requestId, listener));
+        deferred.onTimeout(() -> deferred.setResult(toResponse(current)));
+
+        // 조회와 등록 사이에 결과가 발행됐을 수 있으므로 등록 후 한 번 더 확인
+        listener.run();
+        return deferred;
+    }
+
+    private Optional<CouponIssueRequestResult> find(String requestId) {
+        Optional<CouponIssueRequestResult> cached = couponIssueResultCache.find(requestId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<CouponIssueRequestResult> stored = couponIssueResultRepository.findByRequestId(requestId)
+                .map(CouponIssueRequestResult::from);
+        stored.ifPresent(couponIssueResultCache::refill);
+        return stored;
+    }
+
+    private CouponIssueRequestStatusResponse toResponse(CouponIssueRequestResult result) {
+        return new CouponIssueRequestStatusResponse(
+                result.requestId(),
+                result.status().name(),
+                result.couponId(),
+                result.userId(),
+                result.message()
+        );
+    }
+}
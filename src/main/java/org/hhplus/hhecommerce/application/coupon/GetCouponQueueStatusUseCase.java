@@ -0,0 +1,25 @@
+package org.hhplus.hhecommerce.application.coupon;
+
+import org.hhplus.hhecommerce.api.dto.coupon.CouponQueueResponse;
+import org.hhplus.hhecommerce.domain.coupon.CouponQueueStatus;
+import org.hhplus.hhecommerce.domain.coupon.CouponQueueTicket;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponWaitingRoom;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GetCouponQueueStatusUseCase {
+
+    private final CouponWaitingRoom couponWaitingRoom;
+
+    public GetCouponQueueStatusUseCase(ObjectProvider<CouponWaitingRoom> couponWaitingRoomProvider) {
+        this.couponWaitingRoom = couponWaitingRoomProvider.getIfAvailable();
+    }
+
+    public CouponQueueResponse execute(Long userId, Long couponId) {
+        CouponQueueTicket ticket = couponWaitingRoom != null
+                ? couponWaitingRoom.status(couponId, userId)
+                : CouponQueueTicket.of(CouponQueueStatus.ADMITTED);
+        return CouponQueueResponse.of(couponId, userId, ticket);
+    }
+}
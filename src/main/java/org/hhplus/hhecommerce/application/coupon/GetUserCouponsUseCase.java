@@ -2,41 +2,47 @@ package org.hhplus.hhecommerce.application.coupon;
 
 import lombok.RequiredArgsConstructor;
 import org.hhplus.hhecommerce.api.dto.coupon.UserCouponListResponse;
-import org.hhplus.hhecommerce.domain.coupon.Coupon;
-import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponDefinition;
 import org.hhplus.hhecommerce.domain.coupon.CouponStatus;
 import org.hhplus.hhecommerce.domain.coupon.UserCoupon;
 import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
 import org.hhplus.hhecommerce.domain.coupon.exception.CouponErrorCode;
 import org.hhplus.hhecommerce.domain.coupon.exception.CouponException;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponCatalog;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GetUserCouponsUseCase {
 
-    private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
+    private final CouponCatalog couponCatalog;
 
     public UserCouponListResponse execute(Long userId) {
         List<UserCoupon> userCoupons = userCouponRepository.findByUserId(userId);
 
+        Map<Long, CouponDefinition> couponMap = couponCatalog.findAll(
+                userCoupons.stream().map(UserCoupon::getCouponId).distinct().toList());
+
         List<UserCouponListResponse.UserCouponInfo> couponInfos = userCoupons.stream()
                 .map(uc -> {
-                    Coupon coupon = couponRepository.findById(uc.getCouponId())
-                            .orElseThrow(() -> new CouponException(CouponErrorCode.COUPON_NOT_FOUND));
+                    CouponDefinition coupon = couponMap.get(uc.getCouponId());
+                    if (coupon == null) {
+                        throw new CouponException(CouponErrorCode.COUPON_NOT_FOUND);
+                    }
 
                     return new UserCouponListResponse.UserCouponInfo(
                             uc.getId(),
                             uc.getUserId(),
-                            coupon.getId(),
-                            coupon.getName(),
-                            coupon.getDiscountType().name(),
-                            coupon.getDiscountValue(),
-                            coupon.getMinOrderAmount(),
+                            coupon.id(),
+                            coupon.name(),
+                            coupon.discountType().name(),
+                            coupon.discountValue(),
+                            coupon.minOrderAmount(),
                             uc.getStatus() == CouponStatus.USED,
                             uc.getCreatedAt()
                     );
@@ -1,55 +1,103 @@
 package org.hhplus.hhecommerce.application.coupon;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hhplus.hhecommerce.api.dto.coupon.IssueCouponResponse;
 import org.hhplus.hhecommerce.domain.coupon.Coupon;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueManager;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueReservation;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueResult;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
 import org.hhplus.hhecommerce.domain.coupon.FailedCouponRollback;
 import org.hhplus.hhecommerce.domain.coupon.FailedCouponRollbackRepository;
 import org.hhplus.hhecommerce.domain.coupon.UserCoupon;
 import org.hhplus.hhecommerce.domain.coupon.exception.CouponErrorCode;
 import org.hhplus.hhecommerce.domain.coupon.exception.CouponException;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponIssueStream;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponWaitingRoom;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class IssueCouponUseCase {
 
+    private static final long USER_COUPON_VALID_DAYS = 30;
+
     private final CouponIssueManager couponIssueManager;
     private final CouponTransactionService couponTransactionService;
     private final FailedCouponRollbackRepository failedCouponRollbackRepository;
+    private final CouponRepository couponRepository;
+    private final CouponIssueStream couponIssueStream;
+    private final CouponWaitingRoom couponWaitingRoom;
+
+    /** write-behind 응답에 쓰는 쿠폰 메타데이터 (이름, 할인 정보는 발급 중에 바뀌지 않음) */
+    private final Map<Long, Coupon> couponMetadata = new ConcurrentHashMap<>();
+
+    public IssueCouponUseCase(CouponIssueManager couponIssueManager,
+                              CouponTransactionService couponTransactionService,
+                              FailedCouponRollbackRepository failedCouponRollbackRepository,
+                              CouponRepository couponRepository,
+                              ObjectProvider<CouponIssueStream> couponIssueStreamProvider,
+                              ObjectProvider<CouponWaitingRoom> couponWaitingRoomProvider) {
+        this.couponIssueManager = couponIssueManager;
+        this.couponTransactionService = couponTransactionService;
+        this.failedCouponRollbackRepository = failedCouponRollbackRepository;
+        this.couponRepository = couponRepository;
+        this.couponIssueStream = couponIssueStreamProvider.getIfAvailable();
+        this.couponWaitingRoom = couponWaitingRoomProvider.getIfAvailable();
+    }
 
     public IssueCouponResponse execute(Long userId, Long couponId) {
+        if (couponWaitingRoom == null) {
+            return issue(userId, couponId);
+        }
+
+        // 대기실 모드에서는 입장권을 받은 사용자만 발급을 시도
+        if (!couponWaitingRoom.hasToken(couponId, userId)) {
+            throw CouponException.withoutStackTrace(CouponErrorCode.COUPON_QUEUE_TOKEN_REQUIRED);
+        }
+        IssueCouponResponse response;
+        try {
+            response = issue(userId, couponId);
+        } catch (CouponException e) {
+            // 락 대기 초과나 일시적 발급 실패는 다시 시도할 수 있으므로 입장권을 남겨 둠 (만료되면 자리에서 빠짐)
+            if (!isRetryable(e)) {
+                couponWaitingRoom.releaseToken(couponId, userId);
+            }
+            throw e;
+        }
+        couponWaitingRoom.releaseToken(couponId, userId);
+        return response;
+    }
+
+    private boolean isRetryable(CouponException e) {
+        return e.getErrorCode() == CouponErrorCode.COUPON_ISSUE_TIMEOUT
+                || e.getErrorCode() == CouponErrorCode.COUPON_ISSUE_FAILED;
+    }
+
+    private IssueCouponResponse issue(Long userId, Long couponId) {
         CouponIssueResult result = couponIssueManager.tryIssue(couponId, userId);
 
         if (!result.isSuccess()) {
             throw mapToException(result);
         }
 
-        try {
-            CouponTransactionService.CouponSaveResult saveResult =
-                    couponTransactionService.saveUserCoupon(userId, couponId);
+        if (couponIssueManager.persistsUserCoupon()) {
+            // 발급과 사용자 쿠폰 저장이 이미 함께 커밋됨 - 저장된 행을 읽어 응답만 만들고, 실패해도 되돌리지 않음
+            return toResponse(userId, couponTransactionService.findIssuedUserCoupon(userId, couponId), result);
+        }
 
-            UserCoupon userCoupon = saveResult.userCoupon();
-            Coupon coupon = saveResult.coupon();
+        if (couponIssueStream != null) {
+            return issueWriteBehind(userId, couponId, result);
+        }
 
-            return new IssueCouponResponse(
-                    userCoupon.getId(),
-                    userId,
-                    coupon.getId(),
-                    coupon.getName(),
-                    coupon.getDiscountType().name(),
-                    coupon.getDiscountValue(),
-                    coupon.getMinOrderAmount(),
-                    false,
-                    userCoupon.getCreatedAt(),
-                    userCoupon.getExpiredAt(),
-                    result.getMessage()
-            );
+        try {
+            return toResponse(userId, couponTransactionService.saveUserCoupon(userId, couponId), result);
         } catch (CouponException e) {
             log.warn("쿠폰 발급 비즈니스 실패, Redis 롤백 수행 - userId: {}, couponId: {}, reason: {}",
                     userId, couponId, e.getMessage());
@@ -62,6 +110,71 @@ public class IssueCouponUseCase {
         }
     }
 
+    private IssueCouponResponse toResponse(Long userId, CouponTransactionService.CouponSaveResult saveResult,
+                                           CouponIssueResult result) {
+        UserCoupon userCoupon = saveResult.userCoupon();
+        Coupon coupon = saveResult.coupon();
+
+        return new IssueCouponResponse(
+                userCoupon.getId(),
+                userId,
+                coupon.getId(),
+                coupon.getName(),
+                coupon.getDiscountType().name(),
+                coupon.getDiscountValue(),
+                coupon.getMinOrderAmount(),
+                false,
+                userCoupon.getCreatedAt(),
+                userCoupon.getExpiredAt(),
+                result.getMessage()
+        );
+    }
+
+    /**
+     * 예약을 Redis Stream에 기록하고 바로 응답합니다. user_coupon 저장은
+     * {@link org.hhplus.hhecommerce.infrastructure.scheduler.CouponIssueWriteBehindFlusher}가 배치로 처리하므로
+     * 응답의 사용자 쿠폰 ID는 비어 있습니다.
+     */
+    private IssueCouponResponse issueWriteBehind(Long userId, Long couponId, CouponIssueResult result) {
+        Coupon coupon;
+        try {
+            coupon = couponMetadata.computeIfAbsent(couponId, id -> couponRepository.findById(id)
+                    .orElseThrow(() -> new CouponException(CouponErrorCode.COUPON_NOT_FOUND)));
+        } catch (CouponException e) {
+            rollbackRedis(couponId, userId, e);
+            throw e;
+        }
+
+        LocalDateTime issuedAt = LocalDateTime.now();
+        CouponIssueReservation reservation = new CouponIssueReservation(
+                couponId, userId, issuedAt, issuedAt.plusDays(USER_COUPON_VALID_DAYS));
+
+        try {
+            couponIssueStream.append(reservation);
+        } catch (Exception e) {
+            log.error("쿠폰 발급 스트림 기록 실패, Redis 롤백 수행 - userId: {}, couponId: {}", userId, couponId, e);
+            rollbackRedis(couponId, userId, e);
+            throw new CouponException(CouponErrorCode.COUPON_ISSUE_FAILED);
+        }
+
+        // 스트림에 기록된 순간 발급이 확정되므로 노드 로컬 상태(임대 발급 등)도 바로 확정
+        couponIssueManager.confirm(couponId, userId);
+
+        return new IssueCouponResponse(
+                null,
+                userId,
+                coupon.getId(),
+                coupon.getName(),
+                coupon.getDiscountType().name(),
+                coupon.getDiscountValue(),
+                coupon.getMinOrderAmount(),
+                false,
+                reservation.issuedAt(),
+                reservation.expiredAt(),
+                result.getMessage()
+        );
+    }
+
     private void rollbackRedis(Long couponId, Long userId, Exception originalException) {
         try {
             couponIssueManager.rollback(couponId, userId);
@@ -94,7 +207,8 @@ public class IssueCouponUseCase {
     private CouponException mapToException(CouponIssueResult result) {
         return switch (result) {
             case ALREADY_ISSUED -> new CouponException(CouponErrorCode.COUPON_ALREADY_ISSUED);
-            case OUT_OF_STOCK -> new CouponException(CouponErrorCode.COUPON_OUT_OF_STOCK);
+            // 소진 이후 몰리는 거절 요청마다 스택 트레이스를 만들지 않음
+            case OUT_OF_STOCK -> CouponException.withoutStackTrace(CouponErrorCode.COUPON_OUT_OF_STOCK);
             case COUPON_NOT_FOUND -> new CouponException(CouponErrorCode.COUPON_NOT_FOUND);
             case NOT_AVAILABLE -> new CouponException(CouponErrorCode.COUPON_NOT_AVAILABLE);
             case LOCK_ACQUISITION_FAILED, PENDING_IN_PROGRESS -> new CouponException(CouponErrorCode.COUPON_ISSUE_TIMEOUT);
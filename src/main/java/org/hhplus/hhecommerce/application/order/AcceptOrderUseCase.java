@@ -0,0 +1,60 @@
+package org.hhplus.hhecommerce.application.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.api.dto.order.AcceptOrderResponse;
+import org.hhplus.hhecommerce.api.dto.order.CreateOrderRequest;
+import org.hhplus.hhecommerce.domain.cart.CartRepository;
+import org.hhplus.hhecommerce.domain.order.AsyncOrderRequest;
+import org.hhplus.hhecommerce.domain.order.OrderRequestStatus;
+import org.hhplus.hhecommerce.domain.order.exception.OrderErrorCode;
+import org.hhplus.hhecommerce.domain.order.exception.OrderException;
+import org.hhplus.hhecommerce.domain.user.UserRepository;
+import org.hhplus.hhecommerce.infrastructure.cache.OrderRequestStatusCache;
+import org.hhplus.hhecommerce.infrastructure.kafka.OrderRequestKafkaProducer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * 주문 요청을 Kafka에 적재하고 즉시 요청 ID를 반환합니다.
+ *
+ * <p>요청 스레드에서는 사용자/장바구니 존재 여부만 가볍게 검증하고,
+ * 재고 차감과 결제는 {@code OrderRequestConsumer}가 처리합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.publisher.type", havingValue = "kafka", matchIfMissing = false)
+public class AcceptOrderUseCase {
+
+    private final UserRepository userRepository;
+    private final CartRepository cartRepository;
+    private final OrderRequestKafkaProducer orderRequestKafkaProducer;
+    private final OrderRequestStatusCache orderRequestStatusCache;
+
+    public AcceptOrderResponse execute(Long userId, CreateOrderRequest request) {
+        if (!userRepository.existsById(userId)) {
+            throw new OrderException(OrderErrorCode.USER_NOT_FOUND);
+        }
+        if (cartRepository.countByUserId(userId) == 0) {
+            throw new OrderException(OrderErrorCode.EMPTY_CART);
+        }
+
+        String requestId = UUID.randomUUID().toString();
+        AsyncOrderRequest orderRequest = AsyncOrderRequest.of(requestId, userId, request.getUserCouponId());
+
+        // 컨슈머가 먼저 끝나도 결과를 덮어쓰지 않도록 발행 전에 접수 상태를 기록한다
+        orderRequestStatusCache.accepted(requestId, userId);
+        try {
+            orderRequestKafkaProducer.requestOrder(orderRequest);
+        } catch (OrderException e) {
+            orderRequestStatusCache.failed(requestId, e.getErrorCode().getCode(), e.getMessage());
+            throw e;
+        }
+
+        log.info("주문 요청 접수 - userId: {}, requestId: {}", userId, requestId);
+        return new AcceptOrderResponse(requestId, OrderRequestStatus.ACCEPTED.name(), "주문이 접수되었습니다");
+    }
+}
@@ -19,6 +19,7 @@ import org.hhplus.hhecommerce.domain.product.exception.ProductErrorCode;
 import org.hhplus.hhecommerce.domain.product.exception.ProductException;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -35,12 +36,14 @@ public class CreateOrderUseCase {
     private final OrderTransactionService orderTransactionService;
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
+    private final OrderGroupCommitExecutor groupCommitExecutor;
     private final Timer lockWaitTimer;
     private final Timer lockHoldTimer;
     private final Counter lockAcquiredCounter;
     private final Counter lockFailedCounter;
 
-    private static final String LOCK_KEY_PREFIX = "order:user:";
+    // 비동기 주문 컨슈머도 같은 사용자 락을 잡음 (OrderRequestConsumer)
+    public static final String LOCK_KEY_PREFIX = "order:user:";
     private static final long WAIT_TIME = 10L;
     private static final long LEASE_TIME = 30L;
 
@@ -48,11 +51,13 @@ public class CreateOrderUseCase {
                                OrderTransactionService orderTransactionService,
                                OrderRepository orderRepository,
                                ProductRepository productRepository,
-                               MeterRegistry meterRegistry) {
+                               MeterRegistry meterRegistry,
+                               ObjectProvider<OrderGroupCommitExecutor> groupCommitExecutorProvider) {
         this.redissonClient = redissonClient;
         this.orderTransactionService = orderTransactionService;
         this.orderRepository = orderRepository;
         this.productRepository = productRepository;
+        this.groupCommitExecutor = groupCommitExecutorProvider.getIfAvailable();
 
         this.lockWaitTimer = Timer.builder("order.lock.wait.time")
                 .description("주문 락 획득 대기 시간")
@@ -109,7 +114,9 @@ public class CreateOrderUseCase {
                     throw new OrderException(OrderErrorCode.ORDER_IN_PROGRESS);
                 }
 
-                OrderProcessResult processResult = orderTransactionService.executeOrderLogic(userId, request);
+                OrderProcessResult processResult = groupCommitExecutor != null
+                        ? groupCommitExecutor.execute(userId, request)
+                        : orderTransactionService.executeOrderLogic(userId, request);
 
                 return buildOrderResponse(userId, processResult);
             } finally {
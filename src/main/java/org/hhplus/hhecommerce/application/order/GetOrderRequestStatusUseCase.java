@@ -0,0 +1,29 @@
+package org.hhplus.hhecommerce.application.order;
+
+import lombok.RequiredArgsConstructor;
+import org.hhplus.hhecommerce.api.dto.order.OrderRequestStatusResponse;
+import org.hhplus.hhecommerce.domain.order.OrderRequestResult;
+import org.hhplus.hhecommerce.domain.order.exception.OrderErrorCode;
+import org.hhplus.hhecommerce.domain.order.exception.OrderException;
+import org.hhplus.hhecommerce.infrastructure.cache.OrderRequestStatusCache;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class GetOrderRequestStatusUseCase {
+
+    private final OrderRequestStatusCache orderRequestStatusCache;
+
+    public OrderRequestStatusResponse execute(String requestId) {
+        OrderRequestResult result = orderRequestStatusCache.find(requestId)
+                .orElseThrow(() -> new OrderException(OrderErrorCode.ORDER_REQUEST_NOT_FOUND));
+
+        return new OrderRequestStatusResponse(
+                result.requestId(),
+                result.status().name(),
+                result.orderId(),
+                result.errorCode(),
+                result.message()
+        );
+    }
+}
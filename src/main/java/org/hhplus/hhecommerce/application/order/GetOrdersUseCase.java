@@ -2,32 +2,72 @@ package org.hhplus.hhecommerce.application.order;
 
 import lombok.RequiredArgsConstructor;
 import org.hhplus.hhecommerce.api.dto.order.OrderListResponse;
-import org.hhplus.hhecommerce.domain.order.Order;
 import org.hhplus.hhecommerce.domain.order.OrderRepository;
+import org.hhplus.hhecommerce.domain.order.OrderSummaryProjection;
+import org.hhplus.hhecommerce.domain.order.OrderViewRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class GetOrdersUseCase {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final Comparator<OrderSummaryProjection> NEWEST_FIRST =
+            Comparator.comparing(OrderSummaryProjection::getOrderedAt)
+                    .thenComparing(OrderSummaryProjection::getOrderId)
+                    .reversed();
+
+    private final OrderViewRepository orderViewRepository;
     private final OrderRepository orderRepository;
 
-    public OrderListResponse execute(Long userId) {
-        List<Order> orders = orderRepository.findByUserId(userId);
+    /**
+     * (orderedAt DESC, orderId DESC) 순서로 주문 목록을 키셋 페이지네이션합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    public OrderListResponse execute(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        OrderCursor after = cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+
+        // 릴레이가 아직 반영하지 않았거나 반영에 실패한 주문을 먼저 조회한다.
+        // 두 조회 사이에 반영된 주문은 양쪽에 모두 나오므로 아래에서 중복 제거한다.
+        List<OrderSummaryProjection> unprojected = after == null
+                ? orderRepository.findUnprojectedSummaries(userId, pageSize + 1)
+                : orderRepository.findUnprojectedSummariesAfter(userId,
+                        after.orderedAt(), after.orderId(), pageSize + 1);
+        List<OrderSummaryProjection> projected = after == null
+                ? orderViewRepository.findLatestSummaries(userId, pageSize + 1)
+                : orderViewRepository.findSummariesAfter(userId, after.orderedAt(), after.orderId(), pageSize + 1);
+
+        Map<Long, OrderSummaryProjection> merged = new LinkedHashMap<>();
+        Stream.concat(projected.stream(), unprojected.stream())
+                .filter(summary -> after == null || after.precedes(summary))
+                .sorted(NEWEST_FIRST)
+                .forEach(summary -> merged.putIfAbsent(summary.getOrderId(), summary));
+
+        List<OrderSummaryProjection> page = merged.values().stream()
+                .limit(pageSize)
+                .toList();
+        boolean hasNext = merged.size() > pageSize;
+        String nextCursor = hasNext ? OrderCursor.from(page.get(page.size() - 1)).encode() : null;
 
-        List<OrderListResponse.OrderSummary> orderInfos = orders.stream()
-                .map(order -> new OrderListResponse.OrderSummary(
-                        order.getId(),
-                        order.getStatus().name(),
-                        order.getFinalAmount(),
-                        order.getOrderItems().size(),
-                        order.getOrderedAt()
+        List<OrderListResponse.OrderSummary> orderInfos = page.stream()
+                .map(summary -> new OrderListResponse.OrderSummary(
+                        summary.getOrderId(),
+                        summary.getStatus().name(),
+                        summary.getFinalAmount(),
+                        summary.getItemCount().intValue(),
+                        summary.getOrderedAt()
                 ))
-                .collect(Collectors.toList());
+                .toList();
 
-        return new OrderListResponse(orderInfos, 0, orderInfos.size(), orderInfos.size());
+        return new OrderListResponse(orderInfos, pageSize, orderInfos.size(), nextCursor);
     }
 }
@@ -0,0 +1,45 @@
+package org.hhplus.hhecommerce.application.order;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 하나가 끝난 뒤 실행할 확정/취소 작업을 모읍니다.
+ *
+ * <p>그룹 커밋은 여러 주문이 한 트랜잭션을 공유하므로 트랜잭션 동기화에 맡기면 savepoint로 되돌린 주문의
+ * 재고 예약까지 배치 커밋 때 확정됩니다. 그래서 주문별로 작업을 따로 모아 두고, 실행기가 그 주문의 결과에 맞춰
+ * {@link #committed()} 또는 {@link #rolledBack()}을 직접 호출합니다.</p>
+ */
+@Slf4j
+public class OrderCompletionActions {
+
+    private final List<Runnable> onCommit = new ArrayList<>();
+    private final List<Runnable> onRollback = new ArrayList<>();
+
+    public void add(Runnable commitAction, Runnable rollbackAction) {
+        onCommit.add(commitAction);
+        onRollback.add(rollbackAction);
+    }
+
+    public void committed() {
+        runAll(onCommit);
+    }
+
+    public void rolledBack() {
+        runAll(onRollback);
+    }
+
+    private void runAll(List<Runnable> actions) {
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.error("주문 완료 후 작업 실패", e);
+            }
+        }
+        onCommit.clear();
+        onRollback.clear();
+    }
+}
@@ -0,0 +1,47 @@
+package org.hhplus.hhecommerce.application.order;
+
+import org.hhplus.hhecommerce.domain.order.OrderSummaryProjection;
+import org.hhplus.hhecommerce.domain.order.exception.OrderErrorCode;
+import org.hhplus.hhecommerce.domain.order.exception.OrderException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 주문 목록 키셋 페이지네이션 커서.
+ * 마지막으로 응답한 주문의 (orderedAt, orderId)를 URL-safe Base64 토큰으로 인코딩합니다.
+ */
+public record OrderCursor(LocalDateTime orderedAt, Long orderId) {
+
+    private static final String DELIMITER = "|";
+
+    public static OrderCursor from(OrderSummaryProjection summary) {
+        return new OrderCursor(summary.getOrderedAt(), summary.getOrderId());
+    }
+
+    public static OrderCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.lastIndexOf(DELIMITER);
+            return new OrderCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1)));
+        } catch (RuntimeException e) {
+            throw new OrderException(OrderErrorCode.INVALID_ORDER_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = orderedAt + DELIMITER + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 주문이 커서보다 뒤(더 오래된 쪽)에 있는지 여부. 정렬 기준은 orderedAt DESC, orderId DESC 입니다.
+     */
+    public boolean precedes(OrderSummaryProjection summary) {
+        int compared = summary.getOrderedAt().compareTo(orderedAt);
+        return compared < 0 || (compared == 0 && summary.getOrderId() < orderId);
+    }
+}
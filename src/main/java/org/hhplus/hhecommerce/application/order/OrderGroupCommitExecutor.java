@@ -0,0 +1,329 @@
+package org.hhplus.hhecommerce.application.order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.api.dto.order.CreateOrderRequest;
+import org.hhplus.hhecommerce.domain.cart.Cart;
+import org.hhplus.hhecommerce.domain.cart.CartRepository;
+import org.hhplus.hhecommerce.domain.order.exception.OrderErrorCode;
+import org.hhplus.hhecommerce.domain.order.exception.OrderException;
+import org.hhplus.hhecommerce.infrastructure.config.OrderGroupCommitProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 짧은 윈도우 동안 들어온 주문을 모아 하나의 트랜잭션으로 커밋하는 그룹 커밋 실행기.
+ *
+ * <p>주문마다 savepoint를 잡고 {@link OrderTransactionService#processOrder}를 실행하므로
+ * 한 주문이 실패해도 해당 savepoint까지만 롤백되고 같은 배치의 다른 주문은 함께 커밋됩니다.
+ * 배치 트랜잭션 자체가 커밋에 실패하면 성공했던 주문들을 개별 트랜잭션으로 다시 실행합니다.</p>
+ *
+ * <p>배치는 장바구니의 가장 작은 상품 옵션 ID, 그다음 사용자 ID 순으로 정렬해 실행해 워커 간 잠금 순서 역전을 줄입니다.
+ * 순서가 완전하지는 않아 교착은 생길 수 있고, 그때는 배치를 포기하고 주문별 개별 트랜잭션으로 다시 실행합니다.
+ * 재고 예약 확정/취소는 주문별 {@link OrderCompletionActions}로 모아 두었다가 배치 커밋이 끝난 뒤, 또는 그 주문을
+ * savepoint로 되돌린 즉시 실행하므로 다른 컴포넌트가 등록한 트랜잭션 동기화는 건드리지 않습니다.</p>
+ *
+ * <p>호출 스레드는 자신의 주문이 커밋(또는 실패)될 때까지 대기하고, 결과나 예외를 그대로 돌려받습니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.group-commit.enabled", havingValue = "true")
+public class OrderGroupCommitExecutor {
+
+    private final OrderTransactionService orderTransactionService;
+    private final CartRepository cartRepository;
+    private final OrderGroupCommitProperties properties;
+    private final TransactionTemplate batchTransactionTemplate;
+    private final BlockingQueue<PendingOrder> queue;
+    private final ExecutorService workers;
+
+    private final Counter commitCounter;
+    private final Counter batchFallbackCounter;
+    private final Counter orderSuccessCounter;
+    private final Counter orderFailureCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer windowWaitTimer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile boolean running = true;
+
+    public OrderGroupCommitExecutor(OrderTransactionService orderTransactionService,
+                                    CartRepository cartRepository,
+                                    OrderGroupCommitProperties properties,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry) {
+        this.orderTransactionService = orderTransactionService;
+        this.cartRepository = cartRepository;
+        this.properties = properties;
+        this.batchTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.workers = Executors.newFixedThreadPool(properties.getWorkerCount(), runnable -> {
+            Thread thread = new Thread(runnable, "order-group-commit-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.commitCounter = Counter.builder("order.group_commit.commits")
+                .description("그룹 커밋 트랜잭션 커밋 횟수")
+                .register(meterRegistry);
+
+        this.batchFallbackCounter = Counter.builder("order.group_commit.fallbacks")
+                .description("배치 커밋 실패로 개별 트랜잭션으로 재실행한 횟수")
+                .register(meterRegistry);
+
+        this.orderSuccessCounter = Counter.builder("order.group_commit.orders")
+                .description("그룹 커밋으로 처리된 주문 수")
+                .tag("result", "success")
+                .register(meterRegistry);
+
+        this.orderFailureCounter = Counter.builder("order.group_commit.orders")
+                .description("그룹 커밋으로 처리된 주문 수")
+                .tag("result", "failure")
+                .register(meterRegistry);
+
+        this.batchSizeSummary = DistributionSummary.builder("order.group_commit.batch.size")
+                .description("커밋당 주문 수")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        this.windowWaitTimer = Timer.builder("order.group_commit.window.wait")
+                .description("주문이 큐에 들어온 뒤 배치 실행이 시작되기까지의 대기 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        for (int i = 0; i < properties.getWorkerCount(); i++) {
+            workers.submit(this::runWorker);
+        }
+        log.info("주문 그룹 커밋 활성화 - windowMs: {}, maxBatchSize: {}, workers: {}",
+                properties.getWindowMs(), properties.getMaxBatchSize(), properties.getWorkerCount());
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        workers.shutdownNow();
+
+        List<PendingOrder> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.future().completeExceptionally(
+                new OrderException(OrderErrorCode.ORDER_FAILED)));
+    }
+
+    public OrderProcessResult execute(Long userId, CreateOrderRequest request) {
+        PendingOrder pending = new PendingOrder(userId, request, System.nanoTime(), new CompletableFuture<>());
+
+        if (!queue.offer(pending)) {
+            // 큐가 가득 차면 배치를 기다리지 않고 기존 방식대로 단건 트랜잭션으로 처리
+            log.warn("그룹 커밋 큐 포화 - 단건 트랜잭션으로 처리. userId: {}", userId);
+            return orderTransactionService.executeOrderLogic(userId, request);
+        }
+
+        try {
+            return pending.future().get(properties.getResultTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new OrderException(OrderErrorCode.ORDER_FAILED);
+        } catch (TimeoutException e) {
+            log.error("그룹 커밋 결과 대기 타임아웃 - userId: {}", userId);
+            throw new OrderException(OrderErrorCode.ORDER_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderException(OrderErrorCode.ORDER_FAILED);
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                List<PendingOrder> batch = collectBatch();
+                commitBatch(sortByLockKey(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("그룹 커밋 워커 오류", e);
+            }
+        }
+    }
+
+    private List<PendingOrder> collectBatch() throws InterruptedException {
+        List<PendingOrder> batch = new ArrayList<>();
+        batch.add(queue.take());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getWindowMs());
+        while (batch.size() < properties.getMaxBatchSize()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            PendingOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * 주문이 잠글 행 순서에 가깝게 배치를 정렬합니다. 재고 행은 장바구니의 가장 작은 상품 옵션 ID로, 포인트 등 사용자 행은
+     * 사용자 ID로 대표합니다. 주문의 나머지 옵션, 포인트, 장바구니 행은 이 순서와 다르게 잠길 수 있고 배치 트랜잭션은
+     * 커밋까지 모든 잠금을 쥐고 있으므로, 동시에 도는 배치끼리 교착이 생길 수 있습니다. 이 정렬은 그 빈도를 줄일 뿐이고,
+     * 교착으로 트랜잭션이 통째로 롤백되면 {@link #commitBatch}가 주문별 개별 트랜잭션으로 다시 실행합니다.
+     */
+    private List<PendingOrder> sortByLockKey(List<PendingOrder> batch) {
+        if (batch.size() < 2) {
+            return batch;
+        }
+
+        List<Long> userIds = batch.stream().map(PendingOrder::userId).distinct().toList();
+        Map<Long, Long> firstOptionIdByUser = cartRepository.findByUserIdIn(userIds).stream()
+                .collect(Collectors.toMap(Cart::getUserId, Cart::getProductOptionId, Math::min));
+
+        return batch.stream()
+                .sorted(Comparator.<PendingOrder>comparingLong(
+                                pending -> firstOptionIdByUser.getOrDefault(pending.userId(), Long.MAX_VALUE))
+                        .thenComparing(PendingOrder::userId))
+                .toList();
+    }
+
+    private void commitBatch(List<PendingOrder> batch) {
+        long batchStartTime = System.nanoTime();
+        batch.forEach(pending -> windowWaitTimer.record(batchStartTime - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+        batchSizeSummary.record(batch.size());
+
+        List<CompletedOrder> succeeded = new ArrayList<>();
+        List<PendingOrder> retries = new ArrayList<>();
+        try {
+            batchTransactionTemplate.executeWithoutResult(status -> {
+                for (PendingOrder pending : batch) {
+                    CompletedOrder completed = runInSavepoint(status, pending, retries);
+                    if (completed != null) {
+                        succeeded.add(completed);
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("그룹 커밋 실패 - 배치 크기: {}, 개별 트랜잭션으로 재실행합니다. error: {}", batch.size(), e.getMessage());
+            batchFallbackCounter.increment();
+            succeeded.forEach(completed -> completed.completionActions().rolledBack());
+            batch.stream()
+                    .filter(pending -> !pending.future().isDone())
+                    .forEach(this::runIndividually);
+            return;
+        }
+
+        commitCounter.increment();
+        for (CompletedOrder completed : succeeded) {
+            completed.completionActions().committed();
+            orderSuccessCounter.increment();
+            completed.pending().future().complete(completed.result());
+        }
+        retries.forEach(this::runIndividually);
+    }
+
+    /**
+     * savepoint 안에서 주문 하나를 실행합니다. 실패하면 이 주문의 예약을 먼저 취소하고 savepoint로 롤백한 뒤
+     * 호출자에게 예외를 전달하고 null을 반환합니다.
+     * 교착이나 잠금 대기 타임아웃으로 MySQL이 트랜잭션 전체를 롤백하면 savepoint도 사라져 롤백할 수 없으므로,
+     * 원래 예외를 던져 배치 전체를 개별 실행으로 넘깁니다.
+     * 재시도할 수 있는 충돌이면 예외 대신 retries에 담아 배치가 커밋된 뒤 재시도가 붙은 개별 트랜잭션으로 다시 실행합니다
+     * (savepoint 롤백은 이미 잡은 행 잠금을 풀지 않으므로 배치 안에서는 다시 시도하지 않음).
+     */
+    private CompletedOrder runInSavepoint(TransactionStatus status, PendingOrder pending, List<PendingOrder> retries) {
+        Object savepoint = status.createSavepoint();
+        OrderCompletionActions completionActions = new OrderCompletionActions();
+
+        try {
+            OrderProcessResult result = orderTransactionService.processOrder(
+                    pending.userId(), pending.request(), completionActions);
+            // 이후 주문이 실패해 영속성 컨텍스트를 비워도 이 주문의 변경은 남도록 먼저 반영
+            entityManager.flush();
+            status.releaseSavepoint(savepoint);
+            return new CompletedOrder(pending, result, completionActions);
+        } catch (RuntimeException e) {
+            // savepoint 롤백이 실패해도 이 주문의 재고 예약은 남기지 않음 (개별 재실행이 다시 예약함)
+            completionActions.rolledBack();
+            try {
+                status.rollbackToSavepoint(savepoint);
+            } catch (RuntimeException rollbackFailure) {
+                e.addSuppressed(rollbackFailure);
+                throw e;
+            }
+            entityManager.clear();
+
+            if (status.isRollbackOnly()) {
+                // JPA가 트랜잭션 전체를 rollback-only로 표시한 경우 배치를 포기하고 개별 실행으로 전환
+                throw e;
+            }
+
+            if (e instanceof OptimisticLockException) {
+                retries.add(pending);
+                return null;
+            }
+
+            orderFailureCounter.increment();
+            pending.future().completeExceptionally(e);
+            return null;
+        }
+    }
+
+    private void runIndividually(PendingOrder pending) {
+        try {
+            OrderProcessResult result = orderTransactionService.executeOrderLogic(pending.userId(), pending.request());
+            orderSuccessCounter.increment();
+            pending.future().complete(result);
+        } catch (RuntimeException e) {
+            orderFailureCounter.increment();
+            pending.future().completeExceptionally(e);
+        }
+    }
+
+    private record PendingOrder(
+            Long userId,
+            CreateOrderRequest request,
+            long enqueuedAt,
+            CompletableFuture<OrderProcessResult> future
+    ) {}
+
+    private record CompletedOrder(
+            PendingOrder pending,
+            OrderProcessResult result,
+            OrderCompletionActions completionActions
+    ) {}
+}
@@ -6,8 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.hhplus.hhecommerce.api.dto.order.CreateOrderRequest;
 import org.hhplus.hhecommerce.domain.cart.Cart;
 import org.hhplus.hhecommerce.domain.cart.CartRepository;
-import org.hhplus.hhecommerce.domain.coupon.Coupon;
-import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponDefinition;
 import org.hhplus.hhecommerce.domain.coupon.CouponStatus;
 import org.hhplus.hhecommerce.domain.coupon.UserCoupon;
 import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
@@ -25,14 +24,20 @@ import org.hhplus.hhecommerce.domain.order.exception.OrderException;
 import org.hhplus.hhecommerce.domain.point.PointRepository;
 import org.hhplus.hhecommerce.domain.point.exception.PointErrorCode;
 import org.hhplus.hhecommerce.domain.point.exception.PointException;
+import org.hhplus.hhecommerce.domain.product.InventoryReservationManager;
 import org.hhplus.hhecommerce.domain.product.ProductOption;
 import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
+import org.hhplus.hhecommerce.domain.product.StockReservationResult;
 import org.hhplus.hhecommerce.domain.product.exception.ProductErrorCode;
 import org.hhplus.hhecommerce.domain.product.exception.ProductException;
 import org.hhplus.hhecommerce.domain.user.User;
 import org.hhplus.hhecommerce.domain.user.UserRepository;
 import org.hhplus.hhecommerce.domain.common.OutboxEvent;
 import org.hhplus.hhecommerce.domain.common.OutboxEventRepository;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponCatalog;
+import org.hhplus.hhecommerce.infrastructure.cache.UserCouponWalletCache;
+import org.hhplus.hhecommerce.infrastructure.monitoring.OrderPhase;
+import org.hhplus.hhecommerce.infrastructure.monitoring.OrderPhaseMetrics;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.retry.annotation.Backoff;
@@ -40,12 +45,15 @@ import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -60,9 +68,12 @@ public class OrderTransactionService {
     private final UserCouponRepository userCouponRepository;
     private final ProductOptionRepository productOptionRepository;
     private final ProductRepository productRepository;
-    private final CouponRepository couponRepository;
+    private final CouponCatalog couponCatalog;
+    private final UserCouponWalletCache userCouponWalletCache;
     private final OutboxEventRepository outboxEventRepository;
     private final ObjectMapper objectMapper;
+    private final InventoryReservationManager inventoryReservationManager;
+    private final OrderPhaseMetrics orderPhaseMetrics;
 
     @Retryable(
         retryFor = OptimisticLockException.class,
@@ -71,27 +82,68 @@ public class OrderTransactionService {
     )
     @Transactional
     public OrderProcessResult executeOrderLogic(Long userId, CreateOrderRequest request) {
+        return processOrder(userId, request, null, null);
+    }
+
+    /**
+     * 비동기 주문 요청을 처리합니다. requestId를 주문과 같은 트랜잭션에 저장하므로(uk_order_request_id)
+     * 재전달된 요청은 주문을 다시 만들 수 없고, 소비자는 저장된 requestId로 이미 처리되었는지 확인합니다.
+     */
+    @Retryable(
+        retryFor = OptimisticLockException.class,
+        maxAttempts = 3,
+        backoff = @Backoff(delay = 100, maxDelay = 500, multiplier = 2)
+    )
+    @Transactional
+    public OrderProcessResult executeOrderLogic(Long userId, CreateOrderRequest request, String requestId) {
+        return processOrder(userId, request, requestId, null);
+    }
+
+    /**
+     * 호출자가 이미 연 트랜잭션 안에서 주문 로직을 실행합니다.
+     *
+     * <p>트랜잭션 어드바이스가 없으므로 예외가 발생해도 바깥 트랜잭션이 rollback-only로 바뀌지 않습니다.
+     * 그룹 커밋처럼 주문마다 savepoint를 잡고 직접 롤백하는 경우에만 사용해야 합니다.
+     * 재고 예약 확정/취소는 트랜잭션 동기화 대신 completionActions에 담기므로, 호출자가 이 주문의 결과에 맞춰 실행해야 합니다.</p>
+     */
+    public OrderProcessResult processOrder(Long userId, CreateOrderRequest request, OrderCompletionActions completionActions) {
+        return processOrder(userId, request, null, completionActions);
+    }
+
+    private OrderProcessResult processOrder(Long userId, CreateOrderRequest request, String requestId,
+                                            OrderCompletionActions completionActions) {
         log.debug("주문 로직 실행 시작 - userId: {}", userId);
 
-        User user = validateAndGetUser(userId);
-        List<Cart> carts = getValidCarts(userId);
+        OrderPhaseMetrics.Recording phases = orderPhaseMetrics.start();
+        boolean success = false;
+        try {
+            User user = phases.time(OrderPhase.VALIDATE_USER, () -> validateAndGetUser(userId));
+            List<Cart> carts = phases.time(OrderPhase.LOAD_CART, () -> getValidCarts(userId));
+            phases.cartSize(carts.size());
 
-        StockDeductionResult stockResult = deductStockAndBuildOrderItems(carts);
+            StockDeductionResult stockResult = phases.time(OrderPhase.DEDUCT_STOCK,
+                    () -> deductStockAndBuildOrderItems(carts, completionActions));
 
-        int discountAmount = applyCouponIfPresent(request.getUserCouponId(), stockResult.totalAmount());
+            int discountAmount = phases.time(OrderPhase.APPLY_COUPON,
+                    () -> applyCouponIfPresent(request.getUserCouponId(), stockResult.totalAmount()));
 
-        Order order = createAndSaveOrder(userId, stockResult.orderItems(), discountAmount);
+            Order order = phases.time(OrderPhase.SAVE_ORDER,
+                    () -> createAndSaveOrder(userId, stockResult.orderItems(), discountAmount, requestId));
 
-        deductUserPoint(userId, order.getFinalAmount());
+            phases.run(OrderPhase.DEDUCT_POINT, () -> deductUserPoint(userId, order.getFinalAmount()));
 
-        clearCart(userId);
+            phases.run(OrderPhase.CLEAR_CART, () -> clearCart(userId));
 
-        publishEvents(order, user, stockResult);
+            phases.run(OrderPhase.WRITE_OUTBOX, () -> publishEvents(order, user, stockResult));
 
-        log.info("주문 생성 성공. orderId={}, userId={}, finalAmount={}",
-            order.getId(), userId, order.getFinalAmount());
+            log.info("주문 생성 성공. orderId={}, userId={}, finalAmount={}",
+                order.getId(), userId, order.getFinalAmount());
 
-        return new OrderProcessResult(order, stockResult.orderItems(), stockResult.productOptionMap());
+            success = true;
+            return new OrderProcessResult(order, stockResult.orderItems(), stockResult.productOptionMap());
+        } finally {
+            phases.finish(userId, success);
+        }
     }
 
     @Recover
@@ -100,6 +152,13 @@ public class OrderTransactionService {
         throw new OrderException(OrderErrorCode.ORDER_CONFLICT);
     }
 
+    @Recover
+    public OrderProcessResult recoverFromOptimisticLock(OptimisticLockException e, Long userId, CreateOrderRequest request,
+                                                        String requestId) {
+        log.error("낙관적 락 재시도 실패 - userId: {}, requestId: {}, 최대 재시도 횟수 초과", userId, requestId, e);
+        throw new OrderException(OrderErrorCode.ORDER_CONFLICT);
+    }
+
 
     private User validateAndGetUser(Long userId) {
         return userRepository.findById(userId)
@@ -114,21 +173,28 @@ public class OrderTransactionService {
         return carts;
     }
 
-    private StockDeductionResult deductStockAndBuildOrderItems(List<Cart> carts) {
+    private StockDeductionResult deductStockAndBuildOrderItems(List<Cart> carts, OrderCompletionActions completionActions) {
+        Map<Long, Integer> quantityByOptionId = new HashMap<>();
+        for (Cart cart : carts) {
+            quantityByOptionId.merge(cart.getProductOptionId(), cart.getQuantity(), Integer::sum);
+        }
+
+        Map<Long, ProductOption> productOptionMap = productOptionRepository.findAllById(quantityByOptionId.keySet())
+                .stream()
+                .collect(Collectors.toMap(ProductOption::getId, option -> option));
+
+        if (productOptionMap.size() != quantityByOptionId.size()) {
+            throw new ProductException(ProductErrorCode.PRODUCT_OPTION_NOT_FOUND);
+        }
+
+        // 전체 라인을 한 번에 예약하고, 한 라인이라도 부족하면 주문 전체를 실패시킨다
+        reserveStock(quantityByOptionId, completionActions);
+
         List<OrderItem> orderItems = new ArrayList<>();
-        Map<Long, ProductOption> productOptionMap = new HashMap<>();
         int totalAmount = 0;
 
         for (Cart cart : carts) {
-            ProductOption option = productOptionRepository.findById(cart.getProductOptionId())
-                    .orElseThrow(() -> new ProductException(ProductErrorCode.PRODUCT_OPTION_NOT_FOUND));
-
-            productOptionMap.put(option.getId(), option);
-
-            int updatedRows = productOptionRepository.decreaseStock(option.getId(), cart.getQuantity());
-            if (updatedRows == 0) {
-                throw new ProductException(ProductErrorCode.INSUFFICIENT_STOCK);
-            }
+            ProductOption option = productOptionMap.get(cart.getProductOptionId());
 
             int unitPrice = option.getPrice();
             OrderItem orderItem = new OrderItem(option.getId(), cart.getQuantity(), unitPrice);
@@ -145,6 +211,42 @@ public class OrderTransactionService {
         return new StockDeductionResult(orderItems, productOptionMap, productMap, totalAmount);
     }
 
+    private void reserveStock(Map<Long, Integer> quantityByOptionId, OrderCompletionActions completionActions) {
+        String reservationId = UUID.randomUUID().toString();
+        StockReservationResult result = inventoryReservationManager.reserve(reservationId, quantityByOptionId);
+
+        switch (result) {
+            case SUCCESS -> registerReservationCompletion(reservationId, completionActions);
+            case INSUFFICIENT_STOCK -> throw new ProductException(ProductErrorCode.INSUFFICIENT_STOCK);
+            case OPTION_NOT_FOUND -> throw new ProductException(ProductErrorCode.PRODUCT_OPTION_NOT_FOUND);
+            case RESERVE_FAILED -> throw new ProductException(ProductErrorCode.STOCK_RESERVATION_FAILED);
+        }
+    }
+
+    private void registerReservationCompletion(String reservationId, OrderCompletionActions completionActions) {
+        if (completionActions != null) {
+            completionActions.add(() -> inventoryReservationManager.confirm(reservationId),
+                    () -> inventoryReservationManager.rollback(reservationId));
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            inventoryReservationManager.confirm(reservationId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    inventoryReservationManager.confirm(reservationId);
+                } else {
+                    inventoryReservationManager.rollback(reservationId);
+                }
+            }
+        });
+    }
+
     private int applyCouponIfPresent(Long userCouponId, int totalAmount) {
         if (userCouponId == null) {
             return 0;
@@ -157,10 +259,10 @@ public class OrderTransactionService {
             throw new CouponException(CouponErrorCode.COUPON_UNAVAILABLE);
         }
 
-        Coupon coupon = couponRepository.findById(userCoupon.getCouponId())
+        CouponDefinition coupon = couponCatalog.find(userCoupon.getCouponId())
                 .orElseThrow(() -> new CouponException(CouponErrorCode.COUPON_NOT_FOUND));
 
-        if (totalAmount < coupon.getMinOrderAmount()) {
+        if (totalAmount < coupon.minOrderAmount()) {
             throw new CouponException(CouponErrorCode.MIN_ORDER_AMOUNT_NOT_MET);
         }
 
@@ -170,12 +272,13 @@ public class OrderTransactionService {
         if (updatedRows == 0) {
             throw new CouponException(CouponErrorCode.COUPON_ALREADY_USED);
         }
+        userCouponWalletCache.evictAfterCommit(userCoupon.getUserId());
 
         return discountAmount;
     }
 
-    private Order createAndSaveOrder(Long userId, List<OrderItem> orderItems, int discountAmount) {
-        Order order = Order.create(userId, orderItems, discountAmount);
+    private Order createAndSaveOrder(Long userId, List<OrderItem> orderItems, int discountAmount, String requestId) {
+        Order order = Order.create(userId, orderItems, discountAmount, requestId);
         return orderRepository.save(order);
     }
 
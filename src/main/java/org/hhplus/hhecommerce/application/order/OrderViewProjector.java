@@ -0,0 +1,165 @@
+package org.hhplus.hhecommerce.application.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.order.Order;
+import org.hhplus.hhecommerce.domain.order.OrderItem;
+import org.hhplus.hhecommerce.domain.order.OrderStatus;
+import org.hhplus.hhecommerce.domain.order.OrderView;
+import org.hhplus.hhecommerce.domain.order.OrderViewItem;
+import org.hhplus.hhecommerce.domain.order.OrderViewRepository;
+import org.hhplus.hhecommerce.domain.order.PaymentCompletedEvent;
+import org.hhplus.hhecommerce.domain.product.Product;
+import org.hhplus.hhecommerce.domain.product.ProductOption;
+import org.hhplus.hhecommerce.domain.product.exception.ProductErrorCode;
+import org.hhplus.hhecommerce.domain.product.exception.ProductException;
+import org.hhplus.hhecommerce.infrastructure.persistence.EntityBatchLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 조회 모델(order_view)을 작성합니다.
+ *
+ * <p>주문당 한 번만 작성하며 이미 존재하면 건너뛰므로, Outbox 재시도나 백필과 겹쳐도 안전합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderViewProjector {
+
+    private static final String UNKNOWN_PRODUCT_NAME = "알 수 없는 상품";
+
+    private final OrderViewRepository orderViewRepository;
+    private final EntityBatchLoader entityBatchLoader;
+
+    /**
+     * 결제 완료 이벤트로 조회 모델을 작성합니다.
+     * 이벤트는 주문 생성 트랜잭션에서 발행되므로 주문 상태는 생성 직후 상태(PENDING)로 기록합니다.
+     */
+    @Transactional
+    public void project(PaymentCompletedEvent event) {
+        if (orderViewRepository.existsById(event.orderId())) {
+            log.debug("이미 작성된 주문 조회 모델 - orderId: {}", event.orderId());
+            return;
+        }
+
+        List<OrderViewItem> items = event.orderItems().stream()
+                .map(item -> new OrderViewItem(
+                        item.productName(),
+                        item.optionName(),
+                        item.unitPrice(),
+                        item.quantity(),
+                        item.subTotal()))
+                .toList();
+
+        orderViewRepository.save(OrderView.of(
+                event.orderId(),
+                event.userId(),
+                OrderStatus.PENDING,
+                event.totalAmount(),
+                event.discountAmount(),
+                event.finalAmount(),
+                items,
+                event.orderedAt()));
+
+        log.debug("주문 조회 모델 작성 - orderId: {}, items: {}", event.orderId(), items.size());
+    }
+
+    /**
+     * 주문 엔티티로부터 조회 모델을 일괄 작성합니다. 이미 작성된 주문은 건너뜁니다.
+     *
+     * @return 새로 작성한 조회 모델 수
+     */
+    @Transactional
+    public int projectOrders(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> existingOrderIds = new HashSet<>(orderViewRepository.findExistingOrderIds(
+                orders.stream().map(Order::getId).toList()));
+
+        List<Order> targets = orders.stream()
+                .filter(order -> !existingOrderIds.contains(order.getId()))
+                .toList();
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        List<OrderView> views = toViews(targets);
+        orderViewRepository.saveAll(views);
+        return views.size();
+    }
+
+    /**
+     * 저장하지 않고 주문 엔티티를 조회 모델로 변환합니다. 옵션과 상품은 배치 로더로 타입별 한 번씩 불러옵니다.
+     * 옵션이나 상품이 삭제된 주문은 결제 완료 이벤트와 같이 "알 수 없는 상품"으로 기록합니다.
+     */
+    public List<OrderView> toViews(List<Order> orders) {
+        Set<Long> optionIds = orders.stream()
+                .flatMap(order -> order.getOrderItems().stream())
+                .map(OrderItem::getProductOptionId)
+                .collect(Collectors.toSet());
+
+        Map<Long, ProductOption> optionMap = entityBatchLoader.loadProductOptions(optionIds);
+        Map<Long, Product> productMap = entityBatchLoader.loadProducts(
+                optionMap.values().stream().map(ProductOption::getProductId).collect(Collectors.toSet()));
+
+        return orders.stream()
+                .map(order -> toView(order, optionMap, productMap, false))
+                .toList();
+    }
+
+    /**
+     * 주문 상세 조회용으로 주문 하나를 조회 모델로 변환합니다.
+     * 기존 상세 조회와 같이 옵션이나 상품이 없으면 {@link ProductException}을 던집니다.
+     */
+    public OrderView toView(Order order) {
+        Map<Long, ProductOption> optionMap = entityBatchLoader.loadProductOptions(
+                order.getOrderItems().stream().map(OrderItem::getProductOptionId).collect(Collectors.toSet()));
+        Map<Long, Product> productMap = entityBatchLoader.loadProducts(
+                optionMap.values().stream().map(ProductOption::getProductId).collect(Collectors.toSet()));
+
+        return toView(order, optionMap, productMap, true);
+    }
+
+    private OrderView toView(Order order,
+                             Map<Long, ProductOption> optionMap,
+                             Map<Long, Product> productMap,
+                             boolean failOnMissing) {
+        List<OrderViewItem> items = order.getOrderItems().stream()
+                .map(item -> {
+                    ProductOption option = optionMap.get(item.getProductOptionId());
+                    if (option == null && failOnMissing) {
+                        throw new ProductException(ProductErrorCode.PRODUCT_OPTION_NOT_FOUND);
+                    }
+                    Product product = option != null ? productMap.get(option.getProductId()) : null;
+                    if (product == null && failOnMissing) {
+                        throw new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND);
+                    }
+                    return new OrderViewItem(
+                            product != null ? product.getName() : UNKNOWN_PRODUCT_NAME,
+                            option != null ? option.getOptionName() : "",
+                            item.getUnitPrice(),
+                            item.getQuantity(),
+                            item.getSubTotal());
+                })
+                .toList();
+
+        return OrderView.of(
+                order.getId(),
+                order.getUserId(),
+                order.getStatus(),
+                order.getTotalAmount(),
+                order.getDiscountAmount(),
+                order.getFinalAmount(),
+                items,
+                order.getOrderedAt());
+    }
+}
@@ -0,0 +1,78 @@
+package org.hhplus.hhecommerce.application.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.product.ProductOption;
+import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
+import org.hhplus.hhecommerce.domain.product.ProductOptionStockStripe;
+import org.hhplus.hhecommerce.domain.product.ProductOptionStockStripeRepository;
+import org.hhplus.hhecommerce.domain.product.exception.ProductErrorCode;
+import org.hhplus.hhecommerce.domain.product.exception.ProductException;
+import org.hhplus.hhecommerce.infrastructure.inventory.StockStripeAllocator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 핫 옵션의 재고 스트라이프 모드를 켜고 끕니다.
+ *
+ * <p>전환 중에는 옵션 행과 기존 스트라이프를 모두 잠가 주문 차감과 겹치지 않게 하고,
+ * 전환 전후의 총 재고가 같도록 현재 재고를 그대로 나누거나 합칩니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ConfigureStockStripingUseCase {
+
+    private final ProductOptionRepository productOptionRepository;
+    private final ProductOptionStockStripeRepository stripeRepository;
+
+    @Transactional
+    public void enable(Long optionId, int stripeCount) {
+        if (stripeCount < 2) {
+            throw new ProductException(ProductErrorCode.INVALID_STOCK_STRIPE_COUNT);
+        }
+
+        ProductOption option = productOptionRepository.findByIdWithLock(optionId)
+                .orElseThrow(() -> new ProductException(ProductErrorCode.PRODUCT_OPTION_NOT_FOUND));
+
+        int totalStock = collapseStripes(option);
+
+        List<Integer> stocks = StockStripeAllocator.split(totalStock, stripeCount);
+        for (int stripeNo = 0; stripeNo < stripeCount; stripeNo++) {
+            stripeRepository.save(new ProductOptionStockStripe(optionId, stripeNo, stocks.get(stripeNo)));
+        }
+        option.enableStockStriping(stripeCount);
+
+        log.info("재고 스트라이프 모드 활성화 - optionId: {}, stripeCount: {}, totalStock: {}",
+                optionId, stripeCount, totalStock);
+    }
+
+    @Transactional
+    public void disable(Long optionId) {
+        ProductOption option = productOptionRepository.findByIdWithLock(optionId)
+                .orElseThrow(() -> new ProductException(ProductErrorCode.PRODUCT_OPTION_NOT_FOUND));
+
+        if (!option.isStockStriped()) {
+            return;
+        }
+
+        int totalStock = collapseStripes(option);
+        option.disableStockStriping(totalStock);
+
+        log.info("재고 스트라이프 모드 비활성화 - optionId: {}, totalStock: {}", optionId, totalStock);
+    }
+
+    private int collapseStripes(ProductOption option) {
+        if (!option.isStockStriped()) {
+            return option.getStock();
+        }
+
+        int totalStock = stripeRepository.findAllByProductOptionIdWithLock(option.getId()).stream()
+                .mapToInt(ProductOptionStockStripe::getStock)
+                .sum();
+        stripeRepository.deleteByProductOptionId(option.getId());
+        return totalStock;
+    }
+}
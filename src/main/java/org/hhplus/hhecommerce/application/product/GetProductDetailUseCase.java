@@ -27,6 +27,7 @@ public class GetProductDetailUseCase {
                 .orElseThrow(() -> new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND));
 
         List<ProductOption> options = productOptionRepository.findByProductId(productId);
+        productOptionRepository.loadStripedStocks(options);
 
         List<ProductDetailResponse.ProductOptionInfo> optionInfos = options.stream()
                 .map(option -> new ProductDetailResponse.ProductOptionInfo(
@@ -28,6 +28,7 @@ public class GetProductsUseCase {
         List<ProductListResponse.ProductSummary> productSummaries = products.stream()
                 .map(product -> {
                     List<ProductOption> options = productOptionRepository.findByProductId(product.getId());
+                    productOptionRepository.loadStripedStocks(options);
                     int totalStock = options.stream()
                             .mapToInt(ProductOption::getStock)
                             .sum();
@@ -0,0 +1,14 @@
+package org.hhplus.hhecommerce.domain.common;
+
+/**
+ * Idempotency-Key로 저장된 요청의 처리 상태.
+ *
+ * @param requestHash 최초 요청 본문의 해시 (같은 키로 다른 요청이 오는지 판별)
+ * @param response    완료된 경우 직렬화된 응답, 처리 중이면 null
+ */
+public record IdempotencyRecord(
+        boolean completed,
+        String requestHash,
+        String response
+) {
+}
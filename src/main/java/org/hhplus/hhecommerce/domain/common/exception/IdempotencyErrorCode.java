@@ -0,0 +1,33 @@
+package org.hhplus.hhecommerce.domain.common.exception;
+
+import org.hhplus.hhecommerce.api.exception.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+public enum IdempotencyErrorCode implements ErrorCode {
+    INVALID_IDEMPOTENCY_KEY("Idempotency-Key 형식이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    IDEMPOTENCY_KEY_REUSED("같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다.", HttpStatus.UNPROCESSABLE_ENTITY),
+    IDEMPOTENT_REQUEST_IN_PROGRESS("같은 Idempotency-Key의 요청이 아직 처리 중입니다.", HttpStatus.CONFLICT);
+
+    private final String message;
+    private final HttpStatus httpStatus;
+
+    IdempotencyErrorCode(String message, HttpStatus httpStatus) {
+        this.message = message;
+        this.httpStatus = httpStatus;
+    }
+
+    @Override
+    public String getCode() {
+        return this.name();
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public HttpStatus getHttpStatus() {
+        return httpStatus;
+    }
+}
@@ -0,0 +1,10 @@
+package org.hhplus.hhecommerce.domain.common.exception;
+
+import org.hhplus.hhecommerce.api.exception.CustomException;
+import org.hhplus.hhecommerce.api.exception.ErrorCode;
+
+public class IdempotencyException extends CustomException {
+    public IdempotencyException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
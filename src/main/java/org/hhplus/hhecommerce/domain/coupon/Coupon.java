@@ -41,6 +41,14 @@ public class Coupon extends BaseTimeEntity {
     @Column(name = "issued_quantity", nullable = false)
     private int issuedQuantity;
 
+    // 0이면 쿠폰 행에서 발급 수량 관리, 1 이상이면 남은 수량이 coupon_issue_quota에 파티션별로 나뉘어 있음
+    @Column(name = "issue_partition_count", nullable = false)
+    private int issuePartitionCount;
+
+    // 파티션 모드일 때 모든 쿼터의 남은 수량 합. 조회할 때마다 서브쿼리를 돌지 않도록 필요한 곳에서만 채움
+    @Transient
+    private Integer partitionedRemaining;
+
     @Column(name = "start_at", nullable = false)
     private LocalDateTime startAt;
 
@@ -63,10 +71,48 @@ public class Coupon extends BaseTimeEntity {
         this.endAt = endAt;
     }
 
+    /**
+     * 파티션 모드인 쿠폰은 전체 수량에서 모든 쿼터의 남은 수량 합을 뺀 값을 반환합니다.
+     * 이때는 {@link #applyPartitionedRemaining(int)}로 쿼터 합계를 먼저 채워야 합니다.
+     */
+    public int getIssuedQuantity() {
+        if (!isIssuePartitioned()) {
+            return issuedQuantity;
+        }
+        if (partitionedRemaining == null) {
+            throw new IllegalStateException("파티션 모드 쿠폰의 쿼터 합계가 로드되지 않았습니다 - couponId: " + id);
+        }
+        return totalQuantity - partitionedRemaining;
+    }
+
+    public void applyPartitionedRemaining(int remaining) {
+        this.partitionedRemaining = remaining;
+    }
+
+    public boolean isIssuePartitioned() {
+        return issuePartitionCount > 0;
+    }
+
+    public void enableIssuePartitioning(int partitionCount, int remaining) {
+        this.issuePartitionCount = partitionCount;
+        this.issuedQuantity = totalQuantity - remaining;
+        this.partitionedRemaining = remaining;
+        updateTimestamp();
+    }
+
+    public void disableIssuePartitioning(int remaining) {
+        this.issuePartitionCount = 0;
+        this.issuedQuantity = totalQuantity - remaining;
+        updateTimestamp();
+    }
+
     public boolean canIssue() {
+        return isInIssuePeriod() && getIssuedQuantity() < totalQuantity;
+    }
+
+    public boolean isInIssuePeriod() {
         LocalDateTime now = LocalDateTime.now();
-        return now.isAfter(startAt) && now.isBefore(endAt)
-               && issuedQuantity < totalQuantity;
+        return now.isAfter(startAt) && now.isBefore(endAt);
     }
 
     public void issue() {
@@ -78,14 +124,7 @@ public class Coupon extends BaseTimeEntity {
     }
 
     public int calculateDiscount(int orderAmount) {
-        if (discountType == CouponType.RATE) {
-            int discount = orderAmount * discountValue / 100;
-            if (maxDiscountAmount != null && discount > maxDiscountAmount) {
-                return maxDiscountAmount;
-            }
-            return discount;
-        }
-        return discountValue;
+        return CouponDefinition.calculateDiscount(discountType, discountValue, maxDiscountAmount, orderAmount);
     }
 
     public void setId(Long id) {
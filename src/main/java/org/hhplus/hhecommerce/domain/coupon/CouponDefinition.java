@@ -0,0 +1,64 @@
+package org.hhplus.hhecommerce.domain.coupon;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰의 변하지 않는 정의(할인 규칙, 기간, 총 수량).
+ *
+ * <p>발급 수량처럼 계속 바뀌는 값은 담지 않으므로 노드 로컬 카탈로그에 오래 보관해도 안전합니다.
+ * 남은 수량은 Redis 재고 키나 DB에서 읽습니다. 발급 파티션 모드도 운영 중에 바뀌고 재고를 어디서 차감할지 정하므로
+ * 담지 않습니다. 발급 시점에 DB에서 읽습니다.</p>
+ */
+public record CouponDefinition(
+        Long id,
+        String name,
+        CouponType discountType,
+        int discountValue,
+        Integer maxDiscountAmount,
+        int minOrderAmount,
+        int totalQuantity,
+        LocalDateTime startAt,
+        LocalDateTime endAt,
+        LocalDateTime updatedAt
+) {
+
+    static final int NO_MAX_DISCOUNT = -1;
+
+    public static CouponDefinition from(Coupon coupon) {
+        return new CouponDefinition(
+                coupon.getId(),
+                coupon.getName(),
+                coupon.getDiscountType(),
+                coupon.getDiscountValue(),
+                coupon.getMaxDiscountAmount(),
+                coupon.getMinOrderAmount(),
+                coupon.getTotalQuantity(),
+                coupon.getStartAt(),
+                coupon.getEndAt(),
+                coupon.getUpdatedAt()
+        );
+    }
+
+    public int calculateDiscount(int orderAmount) {
+        return calculateDiscount(discountType, discountValue, maxDiscountAmount, orderAmount);
+    }
+
+    static int calculateDiscount(CouponType discountType, int discountValue, Integer maxDiscountAmount, int orderAmount) {
+        return calculateDiscount(discountType, discountValue,
+                maxDiscountAmount != null ? maxDiscountAmount : NO_MAX_DISCOUNT, orderAmount);
+    }
+
+    /**
+     * 최대 할인 금액을 원시 값으로 받는 할인 계산. {@link #NO_MAX_DISCOUNT}이면 상한이 없습니다.
+     */
+    static int calculateDiscount(CouponType discountType, int discountValue, int maxDiscountAmount, int orderAmount) {
+        if (discountType == CouponType.RATE) {
+            int discount = orderAmount * discountValue / 100;
+            if (maxDiscountAmount != NO_MAX_DISCOUNT && discount > maxDiscountAmount) {
+                return maxDiscountAmount;
+            }
+            return discount;
+        }
+        return discountValue;
+    }
+}
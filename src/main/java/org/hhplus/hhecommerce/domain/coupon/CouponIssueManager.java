@@ -11,4 +11,11 @@ public interface CouponIssueManager {
     void rollback(Long couponId, Long userId);
 
     boolean shouldUpdateCouponStock();
+
+    /**
+     * tryIssue가 성공하면 사용자 쿠폰까지 이미 저장되어 있는지 여부. true면 호출자는 따로 저장하지 않습니다.
+     */
+    default boolean persistsUserCoupon() {
+        return false;
+    }
 }
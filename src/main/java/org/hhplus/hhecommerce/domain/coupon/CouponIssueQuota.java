@@ -0,0 +1,40 @@
+package org.hhplus.hhecommerce.domain.coupon;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hhplus.hhecommerce.domain.common.BaseTimeEntity;
+
+/**
+ * 핫 쿠폰의 남은 발급 수량을 coupon-issue-request 토픽 파티션별로 나눠 담는 쿼터.
+ * 각 파티션의 컨슈머는 자기 쿼터 행만 갱신하므로 쿠폰 행 하나에 몰리던 락 경합이 파티션 수만큼 분산됩니다.
+ */
+@Getter
+@Entity
+@Table(name = "coupon_issue_quota", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_coupon_partition", columnNames = {"coupon_id", "partition_no"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CouponIssueQuota extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "coupon_id", nullable = false)
+    private Long couponId;
+
+    @Column(name = "partition_no", nullable = false)
+    private int partitionNo;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    public CouponIssueQuota(Long couponId, int partitionNo, int quantity) {
+        super();
+        this.couponId = couponId;
+        this.partitionNo = partitionNo;
+        this.quantity = quantity;
+    }
+}
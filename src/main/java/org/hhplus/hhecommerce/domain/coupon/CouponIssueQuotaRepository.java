@@ -0,0 +1,47 @@
+package org.hhplus.hhecommerce.domain.coupon;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CouponIssueQuotaRepository extends JpaRepository<CouponIssueQuota, Long> {
+
+    List<CouponIssueQuota> findByCouponIdOrderByPartitionNo(Long couponId);
+
+    /**
+     * 쿠폰의 모든 쿼터를 파티션 번호 순으로 잠급니다.
+     * 쿼터 간 재분배(리밸런싱) 시에만 사용합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT q FROM CouponIssueQuota q WHERE q.couponId = :couponId ORDER BY q.partitionNo")
+    List<CouponIssueQuota> findAllByCouponIdWithLock(@Param("couponId") Long couponId);
+
+    @Modifying
+    @Query("UPDATE CouponIssueQuota q SET q.quantity = q.quantity - :quantity " +
+           "WHERE q.couponId = :couponId AND q.partitionNo = :partitionNo AND q.quantity >= :quantity")
+    int decreaseQuantity(@Param("couponId") Long couponId,
+                         @Param("partitionNo") int partitionNo,
+                         @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE CouponIssueQuota q SET q.quantity = q.quantity + :quantity " +
+           "WHERE q.couponId = :couponId AND q.partitionNo = :partitionNo")
+    int increaseQuantity(@Param("couponId") Long couponId,
+                         @Param("partitionNo") int partitionNo,
+                         @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE CouponIssueQuota q SET q.quantity = :quantity WHERE q.id = :id")
+    int updateQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("DELETE FROM CouponIssueQuota q WHERE q.couponId = :couponId")
+    int deleteByCouponId(@Param("couponId") Long couponId);
+}
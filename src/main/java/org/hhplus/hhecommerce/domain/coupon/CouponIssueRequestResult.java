@@ -0,0 +1,23 @@
+package org.hhplus.hhecommerce.domain.coupon;
+
+public record CouponIssueRequestResult(
+        String requestId,
+        Long couponId,
+        Long userId,
+        CouponIssueStatus status,
+        String message
+) {
+    public static CouponIssueRequestResult from(CouponIssueResultRecord record) {
+        return new CouponIssueRequestResult(
+                record.getRequestId(),
+                record.getCouponId(),
+                record.getUserId(),
+                record.getStatus(),
+                record.getMessage()
+        );
+    }
+
+    public boolean isCompleted() {
+        return status != CouponIssueStatus.PROCESSING;
+    }
+}
@@ -0,0 +1,14 @@
+package org.hhplus.hhecommerce.domain.coupon;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis 예약이 끝나고 DB 저장을 기다리는 쿠폰 발급 건.
+ */
+public record CouponIssueReservation(
+        Long couponId,
+        Long userId,
+        LocalDateTime issuedAt,
+        LocalDateTime expiredAt
+) {
+}
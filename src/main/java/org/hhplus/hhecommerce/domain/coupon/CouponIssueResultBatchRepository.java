@@ -0,0 +1,11 @@
+package org.hhplus.hhecommerce.domain.coupon;
+
+import java.util.List;
+
+public interface CouponIssueResultBatchRepository {
+
+    /**
+     * 발급 결과를 한 번의 배치로 저장합니다. 이미 같은 requestId가 저장되어 있으면 무시합니다.
+     */
+    void insertIgnoreAll(List<CouponIssueResultRecord> records);
+}
@@ -1,8 +1,10 @@
 package org.hhplus.hhecommerce.domain.coupon;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface CouponIssueResultRepository {
+public interface CouponIssueResultRepository extends CouponIssueResultBatchRepository {
 
     CouponIssueResultRecord save(CouponIssueResultRecord record);
 
@@ -11,4 +13,6 @@ public interface CouponIssueResultRepository {
     boolean existsByRequestId(String requestId);
 
     boolean existsByCouponIdAndUserIdAndStatus(Long couponId, Long userId, CouponIssueStatus status);
+
+    List<String> findRequestIdsIn(Collection<String> requestIds);
 }
@@ -0,0 +1,8 @@
+package org.hhplus.hhecommerce.domain.coupon;
+
+public enum CouponQueueStatus {
+    WAITING,       // 대기열에서 입장 순서를 기다리는 중
+    ADMITTED,      // 발급 입장권을 받아 발급 요청 가능
+    SOLD_OUT,      // 남은 재고가 입장한 사용자 수 이하라 대기열에서 거절됨
+    NOT_IN_QUEUE   // 대기열에 없음 (입장권 만료 포함)
+}
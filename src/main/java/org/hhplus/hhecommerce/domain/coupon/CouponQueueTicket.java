@@ -0,0 +1,20 @@
+package org.hhplus.hhecommerce.domain.coupon;
+
+/**
+ * 쿠폰 발급 대기열에서의 사용자 상태.
+ *
+ * @param position 대기 순번 (1부터 시작). 대기 중이 아니면 0
+ */
+public record CouponQueueTicket(
+        CouponQueueStatus status,
+        long position
+) {
+
+    public static CouponQueueTicket waiting(long position) {
+        return new CouponQueueTicket(CouponQueueStatus.WAITING, position);
+    }
+
+    public static CouponQueueTicket of(CouponQueueStatus status) {
+        return new CouponQueueTicket(status, 0);
+    }
+}
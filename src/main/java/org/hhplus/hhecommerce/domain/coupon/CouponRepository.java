@@ -10,24 +10,83 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
 
-    @Query("SELECT c FROM Coupon c WHERE c.startAt <= :now AND c.endAt >= :now AND (c.totalQuantity - c.issuedQuantity) > 0")
+    // 파티션 모드 쿠폰의 issuedQuantity는 전환 시점 값으로 멈춰 있으므로 남은 수량은 쿼터에서 판단
+    @Query("SELECT c FROM Coupon c WHERE c.startAt <= :now AND c.endAt >= :now AND (" +
+           "(c.issuePartitionCount = 0 AND (c.totalQuantity - c.issuedQuantity) > 0) OR " +
+           "(c.issuePartitionCount > 0 AND EXISTS (SELECT 1 FROM CouponIssueQuota q WHERE q.couponId = c.id AND q.quantity > 0)))")
     List<Coupon> findAvailableCoupons(@Param("now") LocalDateTime now, Pageable pageable);
 
-    @Query("SELECT COUNT(c) FROM Coupon c WHERE c.startAt <= :now AND c.endAt >= :now AND (c.totalQuantity - c.issuedQuantity) > 0")
-    int countAvailableCoupons(@Param("now") LocalDateTime now);
+    @Query("SELECT c FROM Coupon c WHERE c.startAt > :from AND c.startAt <= :to ORDER BY c.startAt")
+    List<Coupon> findStartingBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT c FROM Coupon c WHERE c.updatedAt >= :since")
+    List<Coupon> findUpdatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT c FROM Coupon c WHERE c.issuePartitionCount > 0")
+    List<Coupon> findIssuePartitioned();
+
+    @Query("SELECT c.issuePartitionCount FROM Coupon c WHERE c.id = :couponId")
+    Optional<Integer> findIssuePartitionCount(@Param("couponId") Long couponId);
+
+    @Query("SELECT c.id FROM Coupon c WHERE c.id IN :couponIds AND c.issuePartitionCount > 0")
+    List<Long> findIssuePartitionedIdsIn(@Param("couponIds") Collection<Long> couponIds);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT c FROM Coupon c WHERE c.id = :couponId")
     Optional<Coupon> findByIdWithLock(@Param("couponId") Long couponId);
 
+    /**
+     * 파티션 모드 쿠폰은 쿼터에서 확보해야 하므로 갱신하지 않습니다 (영향 건수 0).
+     */
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Coupon c SET c.issuedQuantity = c.issuedQuantity + 1 " +
-           "WHERE c.id = :couponId AND c.issuedQuantity < c.totalQuantity")
+           "WHERE c.id = :couponId AND c.issuedQuantity < c.totalQuantity AND c.issuePartitionCount = 0")
     int increaseIssuedQuantity(@Param("couponId") Long couponId);
+
+    /**
+     * 남은 수량이 quantity 이상일 때만 한 번에 quantity만큼 발급 수량을 늘립니다. 음수를 넘기면 반납합니다.
+     * 파티션 모드 쿠폰은 갱신하지 않습니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Coupon c SET c.issuedQuantity = c.issuedQuantity + :quantity " +
+           "WHERE c.id = :couponId AND c.issuedQuantity + :quantity <= c.totalQuantity AND c.issuePartitionCount = 0")
+    int increaseIssuedQuantityBy(@Param("couponId") Long couponId, @Param("quantity") int quantity);
+
+    @Query("SELECT q.couponId, SUM(q.quantity) FROM CouponIssueQuota q " +
+           "WHERE q.couponId IN :couponIds GROUP BY q.couponId")
+    List<Object[]> sumPartitionedRemaining(@Param("couponIds") Collection<Long> couponIds);
+
+    /**
+     * 파티션 모드 쿠폰에만 쿼터의 남은 수량 합계를 채웁니다. 파티션 모드 쿠폰이 없으면 쿼리하지 않습니다.
+     */
+    default void loadPartitionedRemaining(Collection<Coupon> coupons) {
+        List<Long> partitionedCouponIds = coupons.stream()
+                .filter(Coupon::isIssuePartitioned)
+                .map(Coupon::getId)
+                .toList();
+        if (partitionedCouponIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> remainingByCouponId = sumPartitionedRemaining(partitionedCouponIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).intValue()));
+        coupons.stream()
+                .filter(Coupon::isIssuePartitioned)
+                .forEach(coupon -> coupon.applyPartitionedRemaining(remainingByCouponId.getOrDefault(coupon.getId(), 0)));
+    }
+
+    default Optional<Coupon> findByIdWithRemaining(Long id) {
+        Optional<Coupon> coupon = findById(id);
+        coupon.ifPresent(found -> loadPartitionedRemaining(List.of(found)));
+        return coupon;
+    }
 }
@@ -0,0 +1,24 @@
+package org.hhplus.hhecommerce.domain.coupon;
+
+import java.util.List;
+import java.util.Map;
+
+public interface UserCouponBatchRepository {
+
+    /**
+     * 예약된 발급 건을 JDBC 배치로 저장합니다.
+     *
+     * <p>이미 저장된 {@code (user_id, coupon_id)}는 먼저 조회해 건너뛰므로 같은 예약을 여러 번 저장해도 한 건만 남습니다.
+     * 그 밖의 오류(제약 위반, 연결 끊김 등)는 숨기지 않고 그대로 던집니다.</p>
+     *
+     * @return 예약과 같은 순서로, 실제로 삽입되었으면 true
+     */
+    boolean[] insertAllSkippingDuplicates(List<CouponIssueReservation> reservations);
+
+    /**
+     * 쿠폰별 발급 수량을 한 번에 증가시킵니다. 총 수량을 넘게 되는 쿠폰은 올리지 않습니다.
+     *
+     * @return 총 수량을 넘어 올리지 못한 쿠폰 ID
+     */
+    List<Long> increaseIssuedQuantities(Map<Long, Integer> issuedCountByCouponId);
+}
@@ -7,10 +7,12 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
+public interface UserCouponRepository extends JpaRepository<UserCoupon, Long>, UserCouponBatchRepository {
 
     List<UserCoupon> findByUserId(Long userId);
 
@@ -18,6 +20,17 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
 
     boolean existsByUserIdAndCouponId(Long userId, Long couponId);
 
+    Optional<UserCoupon> findByUserIdAndCouponId(Long userId, Long couponId);
+
+    @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.couponId = :couponId")
+    List<Long> findUserIdsByCouponId(@Param("couponId") Long couponId);
+
+    @Query("SELECT uc.couponId, uc.userId FROM UserCoupon uc WHERE uc.couponId IN :couponIds")
+    List<Object[]> findCouponIdAndUserIdsByCouponIdIn(@Param("couponIds") Collection<Long> couponIds);
+
+    @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.couponId = :couponId AND uc.userId IN :userIds")
+    List<Long> findIssuedUserIds(@Param("couponId") Long couponId, @Param("userIds") Collection<Long> userIds);
+
     @Query("SELECT uc FROM UserCoupon uc WHERE uc.userId = :userId AND uc.status = 'AVAILABLE' AND uc.expiredAt >= :now")
     List<UserCoupon> findAvailableByUserId(@Param("userId") Long userId, @Param("now") LocalDateTime now);
 
@@ -0,0 +1,86 @@
+package org.hhplus.hhecommerce.domain.coupon;
+
+import org.hhplus.hhecommerce.domain.coupon.exception.CouponErrorCode;
+import org.hhplus.hhecommerce.domain.coupon.exception.CouponException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자가 보유한 사용 가능 쿠폰을 결제 시점 평가용으로 펼쳐 둔 지갑.
+ *
+ * <p>같은 인덱스가 한 장의 사용자 쿠폰을 가리키는 병렬 배열로 보관하므로, 장바구니 금액이 바뀌어도
+ * 추가 조회 없이 배열을 한 번 훑어 할인 금액을 다시 계산할 수 있습니다.</p>
+ */
+public record UserCouponWallet(
+        long[] userCouponIds,
+        long[] couponIds,
+        String[] couponNames,
+        CouponType[] discountTypes,
+        int[] discountValues,
+        int[] maxDiscountAmounts,
+        int[] minOrderAmounts,
+        LocalDateTime[] expiredAts
+) {
+
+    private static final Comparator<Candidate> BEST_FIRST = Comparator
+            .comparingInt(Candidate::discountAmount).reversed()
+            .thenComparing(Candidate::expiredAt);
+
+    public static UserCouponWallet of(List<UserCoupon> userCoupons, Map<Long, CouponDefinition> definitions) {
+        int size = userCoupons.size();
+        UserCouponWallet wallet = new UserCouponWallet(
+                new long[size], new long[size], new String[size], new CouponType[size],
+                new int[size], new int[size], new int[size], new LocalDateTime[size]);
+
+        for (int i = 0; i < size; i++) {
+            UserCoupon userCoupon = userCoupons.get(i);
+            CouponDefinition coupon = definitions.get(userCoupon.getCouponId());
+            if (coupon == null) {
+                throw new CouponException(CouponErrorCode.COUPON_NOT_FOUND);
+            }
+
+            wallet.userCouponIds[i] = userCoupon.getId();
+            wallet.couponIds[i] = coupon.id();
+            wallet.couponNames[i] = coupon.name();
+            wallet.discountTypes[i] = coupon.discountType();
+            wallet.discountValues[i] = coupon.discountValue();
+            wallet.maxDiscountAmounts[i] = coupon.maxDiscountAmount() != null
+                    ? coupon.maxDiscountAmount() : CouponDefinition.NO_MAX_DISCOUNT;
+            wallet.minOrderAmounts[i] = coupon.minOrderAmount();
+            wallet.expiredAts[i] = userCoupon.getExpiredAt();
+        }
+        return wallet;
+    }
+
+    public int size() {
+        return userCouponIds.length;
+    }
+
+    /**
+     * 주문 금액에 적용할 수 있는 쿠폰을 할인 금액이 큰 순서로 돌려줍니다.
+     * 할인 금액이 같으면 먼저 만료되는 쿠폰을 앞에 둡니다.
+     */
+    public List<Candidate> rank(int orderAmount, LocalDateTime now) {
+        List<Candidate> candidates = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            if (orderAmount < minOrderAmounts[i] || !expiredAts[i].isAfter(now)) {
+                continue;
+            }
+            int discountAmount = CouponDefinition.calculateDiscount(
+                    discountTypes[i], discountValues[i], maxDiscountAmounts[i], orderAmount);
+            candidates.add(new Candidate(i, discountAmount, expiredAts[i]));
+        }
+        candidates.sort(BEST_FIRST);
+        return candidates;
+    }
+
+    /**
+     * @param index 지갑 배열의 인덱스
+     */
+    public record Candidate(int index, int discountAmount, LocalDateTime expiredAt) {
+    }
+}
@@ -14,7 +14,10 @@ public enum CouponErrorCode implements ErrorCode {
     COUPON_UNAVAILABLE("사용 불가능한 쿠폰입니다.", HttpStatus.BAD_REQUEST),
     MIN_ORDER_AMOUNT_NOT_MET("최소 주문 금액을 충족하지 않습니다.", HttpStatus.BAD_REQUEST),
     COUPON_ISSUE_TIMEOUT("쿠폰 발급 대기 시간이 초과되었습니다.", HttpStatus.REQUEST_TIMEOUT),
-    COUPON_ISSUE_FAILED("쿠폰 발급에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+    COUPON_ISSUE_REQUEST_NOT_FOUND("쿠폰 발급 요청을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    COUPON_ISSUE_FAILED("쿠폰 발급에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    COUPON_QUEUE_TOKEN_REQUIRED("대기열 입장권이 없거나 만료되었습니다. 대기열에 먼저 입장해 주세요.", HttpStatus.FORBIDDEN),
+    INVALID_ISSUE_PARTITION_COUNT("쿠폰 발급 파티션 수는 2 이상이어야 합니다.", HttpStatus.BAD_REQUEST);
 
     private final String message;
     private final HttpStatus httpStatus;
@@ -11,4 +11,12 @@ public class CouponException extends CustomException {
     public CouponException(ErrorCode errorCode, String customMessage) {
         super(errorCode, customMessage);
     }
+
+    private CouponException(ErrorCode errorCode, boolean writableStackTrace) {
+        super(errorCode, writableStackTrace);
+    }
+
+    public static CouponException withoutStackTrace(ErrorCode errorCode) {
+        return new CouponException(errorCode, false);
+    }
 }
@@ -0,0 +1,14 @@
+package org.hhplus.hhecommerce.domain.order;
+
+import java.time.LocalDateTime;
+
+public record AsyncOrderRequest(
+        String requestId,
+        Long userId,
+        Long userCouponId,
+        LocalDateTime requestedAt
+) {
+    public static AsyncOrderRequest of(String requestId, Long userId, Long userCouponId) {
+        return new AsyncOrderRequest(requestId, userId, userCouponId, LocalDateTime.now());
+    }
+}
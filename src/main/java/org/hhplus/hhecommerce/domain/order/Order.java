@@ -13,7 +13,7 @@ import java.util.*;
     @Index(name = "idx_status", columnList = "status"),
     @Index(name = "idx_created_at", columnList = "created_at"),
     @Index(name = "idx_created_at_status", columnList = "created_at,status")
-})
+}, uniqueConstraints = @UniqueConstraint(name = "uk_order_request_id", columnNames = "request_id"))
 public class Order extends BaseTimeEntity {
 
     @Id
@@ -42,10 +42,19 @@ public class Order extends BaseTimeEntity {
     @Column(name = "ordered_at", nullable = false)
     private LocalDateTime orderedAt;
 
+    // 비동기 주문 요청 ID. 재전달된 요청이 주문을 다시 만들지 않도록 유니크 (동기 주문은 null)
+    @Column(name = "request_id", length = 64)
+    private String requestId;
+
     protected Order() { super(); }
 
     public static Order create(Long userId, List<OrderItem> items, int discountAmount) {
+        return create(userId, items, discountAmount, null);
+    }
+
+    public static Order create(Long userId, List<OrderItem> items, int discountAmount, String requestId) {
         Order order = new Order();
+        order.requestId = requestId;
         order.userId = userId;
         order.status = OrderStatus.PENDING;
         order.orderedAt = LocalDateTime.now();
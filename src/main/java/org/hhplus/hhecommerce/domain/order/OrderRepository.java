@@ -6,7 +6,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -15,6 +17,57 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     boolean existsByUserIdAndStatus(Long userId, OrderStatus status);
 
+    /**
+     * 아직 order_view에 반영되지 않은 사용자의 최신 주문 요약을 limit건 조회합니다.
+     * 항목 수는 order_item을 주문별로 집계해 구하므로 OrderItem 엔티티를 불러오지 않습니다.
+     * Outbox 릴레이 주기만큼 늦게 반영되거나 반영에 실패한 주문을 목록 조회에서 보완하기 위해 사용합니다.
+     *
+     * <p>반영 여부는 NOT EXISTS로만 가립니다. 반영된 가장 큰 주문 ID로 범위를 자르면 반영이 실패해 재시도를 기다리는
+     * 주문이 그보다 새 주문이 반영되는 순간 목록에서 사라지기 때문입니다. 사용자 주문만 idx_user_id로 읽습니다.</p>
+     */
+    @Query("""
+        SELECT o.id AS orderId, o.status AS status, o.finalAmount AS finalAmount,
+               COUNT(i.id) AS itemCount, o.orderedAt AS orderedAt
+        FROM Order o
+        LEFT JOIN o.orderItems i
+        WHERE o.userId = :userId
+          AND NOT EXISTS (SELECT 1 FROM OrderView v WHERE v.orderId = o.id)
+        GROUP BY o.id, o.status, o.finalAmount, o.orderedAt
+        ORDER BY o.orderedAt DESC, o.id DESC
+        LIMIT :limit
+        """)
+    List<OrderSummaryProjection> findUnprojectedSummaries(@Param("userId") Long userId,
+                                                          @Param("limit") int limit);
+
+    /**
+     * 커서(orderedAt, orderId) 이후의 반영되지 않은 주문 요약을 limit건 조회합니다.
+     */
+    @Query("""
+        SELECT o.id AS orderId, o.status AS status, o.finalAmount AS finalAmount,
+               COUNT(i.id) AS itemCount, o.orderedAt AS orderedAt
+        FROM Order o
+        LEFT JOIN o.orderItems i
+        WHERE o.userId = :userId
+          AND (o.orderedAt < :orderedAt OR (o.orderedAt = :orderedAt AND o.id < :orderId))
+          AND NOT EXISTS (SELECT 1 FROM OrderView v WHERE v.orderId = o.id)
+        GROUP BY o.id, o.status, o.finalAmount, o.orderedAt
+        ORDER BY o.orderedAt DESC, o.id DESC
+        LIMIT :limit
+        """)
+    List<OrderSummaryProjection> findUnprojectedSummariesAfter(@Param("userId") Long userId,
+                                                               @Param("orderedAt") LocalDateTime orderedAt,
+                                                               @Param("orderId") Long orderId,
+                                                               @Param("limit") int limit);
+
+    @Query("SELECT o.id FROM Order o WHERE o.requestId = :requestId")
+    Optional<Long> findIdByRequestId(@Param("requestId") String requestId);
+
+    @Query("SELECT o.id FROM Order o WHERE o.id > :lastId ORDER BY o.id ASC LIMIT :limit")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
+
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id IN :ids")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query(value = """
         SELECT
             p.id as productId,
@@ -0,0 +1,11 @@
+package org.hhplus.hhecommerce.domain.order;
+
+public record OrderRequestResult(
+        String requestId,
+        Long userId,
+        OrderRequestStatus status,
+        Long orderId,
+        String errorCode,
+        String message
+) {
+}
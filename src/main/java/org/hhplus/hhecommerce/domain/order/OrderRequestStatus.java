@@ -0,0 +1,12 @@
+package org.hhplus.hhecommerce.domain.order;
+
+public enum OrderRequestStatus {
+    ACCEPTED,
+    PROCESSING,
+    SUCCESS,
+    FAILED;
+
+    public boolean isCompleted() {
+        return this == SUCCESS || this == FAILED;
+    }
+}
@@ -0,0 +1,11 @@
+package org.hhplus.hhecommerce.domain.order;
+
+import java.time.LocalDateTime;
+
+public interface OrderSummaryProjection {
+    Long getOrderId();
+    OrderStatus getStatus();
+    Integer getFinalAmount();
+    Long getItemCount();
+    LocalDateTime getOrderedAt();
+}
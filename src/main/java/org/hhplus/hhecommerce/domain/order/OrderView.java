@@ -0,0 +1,97 @@
+package org.hhplus.hhecommerce.domain.order;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 목록/상세 조회 전용 비정규화 모델.
+ *
+ * <p>주문당 한 번, Outbox의 결제 완료 이벤트로부터 작성되며 상품명·옵션명·항목 수·금액을 모두 담고 있어
+ * 조회는 order_view 한 테이블의 인덱스 조회로 끝납니다. 주문 ID를 그대로 PK로 사용합니다.</p>
+ */
+@Getter
+@Entity
+@Table(name = "order_view", indexes = {
+    @Index(name = "idx_order_view_user_ordered",
+            columnList = "user_id, ordered_at, order_id, status, final_amount, item_count")
+})
+public class OrderView implements Persistable<Long> {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status;
+
+    @Column(name = "total_amount", nullable = false)
+    private int totalAmount;
+
+    @Column(name = "discount_amount", nullable = false)
+    private int discountAmount;
+
+    @Column(name = "final_amount", nullable = false)
+    private int finalAmount;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private List<OrderViewItem> items;
+
+    @Column(name = "ordered_at", nullable = false)
+    private LocalDateTime orderedAt;
+
+    @Column(name = "projected_at", nullable = false)
+    private LocalDateTime projectedAt;
+
+    @Transient
+    private boolean isNew = true;
+
+    protected OrderView() {
+    }
+
+    public static OrderView of(Long orderId, Long userId, OrderStatus status,
+                               int totalAmount, int discountAmount, int finalAmount,
+                               List<OrderViewItem> items, LocalDateTime orderedAt) {
+        OrderView view = new OrderView();
+        view.orderId = orderId;
+        view.userId = userId;
+        view.status = status;
+        view.totalAmount = totalAmount;
+        view.discountAmount = discountAmount;
+        view.finalAmount = finalAmount;
+        view.items = List.copyOf(items);
+        view.itemCount = items.size();
+        view.orderedAt = orderedAt;
+        view.projectedAt = LocalDateTime.now();
+        return view;
+    }
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,14 @@
+package org.hhplus.hhecommerce.domain.order;
+
+/**
+ * 주문 조회 모델({@link OrderView})에 함께 저장되는 주문 항목.
+ * 주문 당시의 상품명/옵션명을 그대로 보관하므로 조회 시 상품 테이블을 읽지 않습니다.
+ */
+public record OrderViewItem(
+        String productName,
+        String optionName,
+        int unitPrice,
+        int quantity,
+        int subTotal
+) {
+}
@@ -0,0 +1,48 @@
+package org.hhplus.hhecommerce.domain.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OrderViewRepository extends JpaRepository<OrderView, Long> {
+
+    /**
+     * 사용자의 최신 주문부터 limit건을 조회합니다.
+     * 조회 컬럼이 모두 idx_order_view_user_ordered에 포함되어 있어 인덱스만으로 응답합니다.
+     */
+    @Query("""
+        SELECT v.orderId AS orderId, v.status AS status, v.finalAmount AS finalAmount,
+               v.itemCount AS itemCount, v.orderedAt AS orderedAt
+        FROM OrderView v
+        WHERE v.userId = :userId
+        ORDER BY v.orderedAt DESC, v.orderId DESC
+        LIMIT :limit
+        """)
+    List<OrderSummaryProjection> findLatestSummaries(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * 커서(orderedAt, orderId) 이후의 주문을 limit건 조회합니다.
+     */
+    @Query("""
+        SELECT v.orderId AS orderId, v.status AS status, v.finalAmount AS finalAmount,
+               v.itemCount AS itemCount, v.orderedAt AS orderedAt
+        FROM OrderView v
+        WHERE v.userId = :userId
+          AND (v.orderedAt < :orderedAt OR (v.orderedAt = :orderedAt AND v.orderId < :orderId))
+        ORDER BY v.orderedAt DESC, v.orderId DESC
+        LIMIT :limit
+        """)
+    List<OrderSummaryProjection> findSummariesAfter(@Param("userId") Long userId,
+                                                    @Param("orderedAt") LocalDateTime orderedAt,
+                                                    @Param("orderId") Long orderId,
+                                                    @Param("limit") int limit);
+
+    @Query("SELECT v.orderId FROM OrderView v WHERE v.orderId IN :orderIds")
+    List<Long> findExistingOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
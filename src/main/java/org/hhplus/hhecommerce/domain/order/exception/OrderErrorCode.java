@@ -5,6 +5,7 @@ import org.springframework.http.HttpStatus;
 
 public enum OrderErrorCode implements ErrorCode {
     ORDER_NOT_FOUND("주문을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    INVALID_ORDER_CURSOR("주문 목록 커서가 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
     USER_NOT_FOUND("사용자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     INVALID_ORDER_ITEM("주문 항목이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
     EMPTY_ORDER_ITEMS("주문 항목이 비어있습니다.", HttpStatus.BAD_REQUEST),
@@ -13,7 +14,9 @@ public enum OrderErrorCode implements ErrorCode {
     ORDER_CONFLICT("동시 주문 처리 중 충돌이 발생했습니다.", HttpStatus.CONFLICT),
     ORDER_FAILED("주문 처리에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     LOCK_ACQUISITION_FAILED("분산락 획득에 실패했습니다.", HttpStatus.TOO_MANY_REQUESTS),
-    LOCK_INTERRUPTED("분산락 처리 중 인터럽트가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+    LOCK_INTERRUPTED("분산락 처리 중 인터럽트가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    ORDER_REQUEST_NOT_FOUND("주문 요청을 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    ORDER_REQUEST_FAILED("주문 요청 접수에 실패했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String message;
     private final HttpStatus httpStatus;
@@ -0,0 +1,16 @@
+package org.hhplus.hhecommerce.domain.product;
+
+import java.util.Map;
+
+public interface InventoryReservationManager {
+
+    /**
+     * 주문의 모든 라인 재고를 원자적으로 예약합니다.
+     * 한 라인이라도 부족하면 어떤 라인도 차감되지 않습니다.
+     */
+    StockReservationResult reserve(String reservationId, Map<Long, Integer> quantityByOptionId);
+
+    void confirm(String reservationId);
+
+    void rollback(String reservationId);
+}
@@ -33,6 +33,14 @@ public class ProductOption extends BaseTimeEntity {
     @Column(nullable = false)
     private int stock;
 
+    // 0이면 단일 행 재고, 1 이상이면 재고가 product_option_stock_stripe에 나뉘어 있음
+    @Column(name = "stock_stripe_count", nullable = false)
+    private int stockStripeCount;
+
+    // 스트라이프 모드일 때만 ProductOptionRepository#loadStripedStocks로 채움 (모든 조회에 합계 서브쿼리를 붙이지 않음)
+    @Transient
+    private Integer stripedStock;
+
     @Version
     private Long version;
 
@@ -59,8 +67,42 @@ public class ProductOption extends BaseTimeEntity {
         this.stock = stock;
     }
 
+    /**
+     * 스트라이프 모드인 옵션은 모든 스트라이프 재고의 합을 반환합니다.
+     * 합계는 {@link ProductOptionRepository#loadStripedStocks}로 먼저 채워야 합니다.
+     */
+    public int getStock() {
+        if (!isStockStriped()) {
+            return stock;
+        }
+        if (stripedStock == null) {
+            throw new IllegalStateException("스트라이프 재고 합계가 로드되지 않았습니다 - optionId: " + id);
+        }
+        return stripedStock;
+    }
+
+    public void applyStripedStock(int stripedStock) {
+        this.stripedStock = stripedStock;
+    }
+
+    public boolean isStockStriped() {
+        return stockStripeCount > 0;
+    }
+
+    public void enableStockStriping(int stripeCount) {
+        this.stockStripeCount = stripeCount;
+        this.stock = 0;
+        updateTimestamp();
+    }
+
+    public void disableStockStriping(int totalStock) {
+        this.stockStripeCount = 0;
+        this.stock = totalStock;
+        updateTimestamp();
+    }
+
     public boolean hasStock(int quantity) {
-        return stock >= quantity;
+        return getStock() >= quantity;
     }
 
     public void reduceStock(int quantity) {
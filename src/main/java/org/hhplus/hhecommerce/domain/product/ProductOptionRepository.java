@@ -8,11 +8,14 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
-public interface ProductOptionRepository extends JpaRepository<ProductOption, Long> {
+public interface ProductOptionRepository extends JpaRepository<ProductOption, Long>, ProductOptionStockRepository {
     List<ProductOption> findByProductId(Long productId);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
@@ -22,4 +25,41 @@ public interface ProductOptionRepository extends JpaRepository<ProductOption, Lo
     @Modifying(clearAutomatically = true)
     @Query("UPDATE ProductOption p SET p.stock = p.stock - :quantity WHERE p.id = :id AND p.stock >= :quantity")
     int decreaseStock(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Query("SELECT p FROM ProductOption p WHERE p.id IN :ids AND p.stockStripeCount > 0")
+    List<ProductOption> findStockStripedByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 스트라이프 모드 옵션의 재고는 스트라이프 행이 원본이므로 덮어쓰지 않는다
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ProductOption p SET p.stock = :stock WHERE p.id = :id AND p.stockStripeCount = 0")
+    int syncStock(@Param("id") Long id, @Param("stock") int stock);
+
+    @Query("SELECT s.productOptionId, SUM(s.stock) FROM ProductOptionStockStripe s " +
+           "WHERE s.productOptionId IN :optionIds GROUP BY s.productOptionId")
+    List<Object[]> sumStripedStocks(@Param("optionIds") Collection<Long> optionIds);
+
+    /**
+     * 스트라이프 모드 옵션에만 스트라이프 재고 합계를 채웁니다. 단일 행 옵션만 있으면 쿼리하지 않습니다.
+     */
+    default void loadStripedStocks(Collection<ProductOption> options) {
+        List<Long> stripedOptionIds = options.stream()
+                .filter(ProductOption::isStockStriped)
+                .map(ProductOption::getId)
+                .toList();
+        if (stripedOptionIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> stockByOptionId = sumStripedStocks(stripedOptionIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).intValue()));
+        options.stream()
+                .filter(ProductOption::isStockStriped)
+                .forEach(option -> option.applyStripedStock(stockByOptionId.getOrDefault(option.getId(), 0)));
+    }
+
+    default Optional<ProductOption> findByIdWithStock(Long id) {
+        Optional<ProductOption> option = findById(id);
+        option.ifPresent(found -> loadStripedStocks(List.of(found)));
+        return option;
+    }
 }
@@ -0,0 +1,18 @@
+package org.hhplus.hhecommerce.domain.product;
+
+import java.util.Map;
+
+public interface ProductOptionStockRepository {
+
+    /**
+     * 여러 옵션의 재고를 하나의 조건부 UPDATE로 차감합니다.
+     *
+     * <p>옵션 ID 오름차순으로 행을 갱신하므로 같은 옵션을 포함한 동시 주문끼리
+     * 락 획득 순서가 항상 같아 데드락이 발생하지 않습니다.</p>
+     *
+     * @param quantityByOptionId 옵션 ID별 차감 수량
+     * @return 차감된 행 수. 요청한 옵션 수보다 작으면 일부 옵션의 재고가 부족한 것이므로
+     *         호출 측 트랜잭션을 롤백해야 합니다.
+     */
+    int decreaseStocks(Map<Long, Integer> quantityByOptionId);
+}
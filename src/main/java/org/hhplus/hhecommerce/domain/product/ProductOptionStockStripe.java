@@ -0,0 +1,40 @@
+package org.hhplus.hhecommerce.domain.product;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hhplus.hhecommerce.domain.common.BaseTimeEntity;
+
+/**
+ * 핫 옵션의 재고를 여러 행으로 나눠 담는 재고 스트라이프.
+ * 주문은 임의의 스트라이프 한 행만 잠그므로 단일 행 락 경합이 분산됩니다.
+ */
+@Getter
+@Entity
+@Table(name = "product_option_stock_stripe", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_option_stripe", columnNames = {"product_option_id", "stripe_no"})
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductOptionStockStripe extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_option_id", nullable = false)
+    private Long productOptionId;
+
+    @Column(name = "stripe_no", nullable = false)
+    private int stripeNo;
+
+    @Column(nullable = false)
+    private int stock;
+
+    public ProductOptionStockStripe(Long productOptionId, int stripeNo, int stock) {
+        super();
+        this.productOptionId = productOptionId;
+        this.stripeNo = stripeNo;
+        this.stock = stock;
+    }
+}
@@ -0,0 +1,47 @@
+package org.hhplus.hhecommerce.domain.product;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProductOptionStockStripeRepository extends JpaRepository<ProductOptionStockStripe, Long> {
+
+    List<ProductOptionStockStripe> findByProductOptionIdOrderByStripeNo(Long productOptionId);
+
+    /**
+     * 잠금 없이 quantity 이상 남은 스트라이프 번호를 읽습니다. 엔티티가 아닌 값만 읽으므로 영속성 컨텍스트의 이전 값에 영향받지 않습니다.
+     */
+    @Query("SELECT s.stripeNo FROM ProductOptionStockStripe s " +
+           "WHERE s.productOptionId = :optionId AND s.stock >= :quantity")
+    List<Integer> findStripeNosWithStock(@Param("optionId") Long optionId, @Param("quantity") int quantity);
+
+    /**
+     * 옵션의 모든 스트라이프를 스트라이프 번호 순으로 잠급니다.
+     * 스트라이프 간 재분배(리밸런싱) 시에만 사용합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductOptionStockStripe s WHERE s.productOptionId = :optionId ORDER BY s.stripeNo")
+    List<ProductOptionStockStripe> findAllByProductOptionIdWithLock(@Param("optionId") Long optionId);
+
+    @Modifying
+    @Query("UPDATE ProductOptionStockStripe s SET s.stock = s.stock - :quantity " +
+           "WHERE s.productOptionId = :optionId AND s.stripeNo = :stripeNo AND s.stock >= :quantity")
+    int decreaseStock(@Param("optionId") Long optionId,
+                      @Param("stripeNo") int stripeNo,
+                      @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE ProductOptionStockStripe s SET s.stock = :stock WHERE s.id = :id")
+    int updateStock(@Param("id") Long id, @Param("stock") int stock);
+
+    @Modifying
+    @Query("DELETE FROM ProductOptionStockStripe s WHERE s.productOptionId = :optionId")
+    int deleteByProductOptionId(@Param("optionId") Long optionId);
+}
@@ -0,0 +1,16 @@
+package org.hhplus.hhecommerce.domain.product;
+
+/**
+ * 재고 예약 결과를 나타내는 enum.
+ */
+public enum StockReservationResult {
+
+    SUCCESS,
+    INSUFFICIENT_STOCK,
+    OPTION_NOT_FOUND,
+    RESERVE_FAILED;
+
+    public boolean isSuccess() {
+        return this == SUCCESS;
+    }
+}
@@ -9,7 +9,9 @@ public enum ProductErrorCode implements ErrorCode {
     INSUFFICIENT_STOCK("재고가 부족합니다.", HttpStatus.BAD_REQUEST),
     INVALID_QUANTITY("수량은 0보다 커야 합니다.", HttpStatus.BAD_REQUEST),
     INVALID_DEDUCT_QUANTITY("차감 수량은 0보다 커야 합니다.", HttpStatus.BAD_REQUEST),
-    INVALID_RESTORE_QUANTITY("복원 수량은 0보다 커야 합니다.", HttpStatus.BAD_REQUEST);
+    INVALID_RESTORE_QUANTITY("복원 수량은 0보다 커야 합니다.", HttpStatus.BAD_REQUEST),
+    INVALID_STOCK_STRIPE_COUNT("재고 스트라이프 수는 2 이상이어야 합니다.", HttpStatus.BAD_REQUEST),
+    STOCK_RESERVATION_FAILED("재고 예약에 실패했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String message;
     private final HttpStatus httpStatus;
@@ -0,0 +1,54 @@
+package org.hhplus.hhecommerce.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.api.dto.coupon.CouponListResponse;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 발급 가능한 쿠폰 전체 목록을 {@code coupons:available} 캐시에 보관합니다.
+ *
+ * <p>페이지마다 캐시하지 않고 전체 목록 하나를 캐시해 모든 페이지가 같은 항목을 공유하며,
+ * 총 개수도 목록 크기로 정해지므로 COUNT 쿼리가 필요 없습니다.
+ * 잔여 수량은 적재 시점의 DB 값이므로 화면에 보여줄 때는 Redis 재고로 덮어씁니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailableCouponListCache {
+
+    private final CouponRepository couponRepository;
+
+    @Cacheable(value = "coupons:available", key = "'all'", sync = true)
+    public CouponListResponse findAll() {
+        List<Coupon> coupons = couponRepository.findAvailableCoupons(
+                LocalDateTime.now(), Pageable.unpaged(Sort.by("id")));
+        couponRepository.loadPartitionedRemaining(coupons);
+        log.debug("발급 가능 쿠폰 목록 캐시 적재 - 쿠폰 수: {}", coupons.size());
+
+        List<CouponListResponse.CouponInfo> couponInfos = coupons.stream()
+                .map(coupon -> new CouponListResponse.CouponInfo(
+                        coupon.getId(),
+                        coupon.getName(),
+                        coupon.getDiscountType().name(),
+                        coupon.getDiscountValue(),
+                        coupon.getMaxDiscountAmount(),
+                        coupon.getMinOrderAmount(),
+                        coupon.getTotalQuantity() - coupon.getIssuedQuantity(),
+                        coupon.getStartAt(),
+                        coupon.getEndAt()
+                ))
+                .collect(Collectors.toList());
+
+        return new CouponListResponse(couponInfos, couponInfos.size());
+    }
+}
@@ -0,0 +1,196 @@
+package org.hhplus.hhecommerce.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponDefinition;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 정의({@link CouponDefinition})를 노드 메모리에 보관하는 카탈로그.
+ *
+ * <p>조회는 불변 스냅샷 맵에서 읽으므로 쿼리가 없고, 스냅샷에 없는 쿠폰만 DB에서 읽어 추가합니다.
+ * 스냅샷은 {@code updated_at} 기준으로 바뀐 쿠폰만 주기적으로 다시 읽어 갱신하고,
+ * 쿠폰 정의를 바꾼 노드는 {@link #CHANNEL}로 쿠폰 ID를 발행해 다른 노드가 바로 해당 항목을 버리게 합니다.</p>
+ *
+ * <p>무효화마다 순번을 매기고, DB에서 읽기 시작한 뒤 무효화된 쿠폰은 읽은 값을 스냅샷에 넣지 않습니다.
+ * 무효화 직전에 시작한 조회가 옛 정의를 뒤늦게 다시 넣어 다음 갱신까지 남기는 일을 막기 위해서입니다.</p>
+ *
+ * <p>발급 수량은 스냅샷에 담지 않습니다. 남은 수량은 Redis 재고 키나 DB에서 읽어야 합니다.</p>
+ */
+@Slf4j
+@Component
+public class CouponCatalog implements MessageListener {
+
+    public static final String CHANNEL = "coupon:catalog:invalidate";
+
+    // 노드 간 시계 차이로 갱신을 놓치지 않도록 마지막 갱신 시각보다 조금 앞에서부터 다시 읽음
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(5);
+
+    private final CouponRepository couponRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private volatile Map<Long, CouponDefinition> snapshot = Map.of();
+    private volatile LocalDateTime watermark;
+
+    private final AtomicLong evictionSequence = new AtomicLong();
+    // 쿠폰별 마지막 무효화 순번. 진행 중인 조회가 언제 시작했는지 모르므로 지우지 않음 (쿠폰당 한 항목)
+    private final Map<Long, Long> evictedAt = new HashMap<>();
+
+    public CouponCatalog(CouponRepository couponRepository,
+                         RedisTemplate<String, String> redisTemplate,
+                         RedisMessageListenerContainer listenerContainer) {
+        this.couponRepository = couponRepository;
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public Optional<CouponDefinition> find(Long couponId) {
+        CouponDefinition definition = snapshot.get(couponId);
+        if (definition != null) {
+            return Optional.of(definition);
+        }
+
+        long readFrom = evictionSequence.get();
+        Optional<CouponDefinition> loaded = couponRepository.findById(couponId).map(CouponDefinition::from);
+        loaded.ifPresent(found -> merge(List.of(found), readFrom));
+        return loaded;
+    }
+
+    /**
+     * 여러 쿠폰의 정의를 한 번에 조회합니다. 스냅샷에 없는 쿠폰은 한 번의 IN 쿼리로 읽습니다.
+     */
+    public Map<Long, CouponDefinition> findAll(Collection<Long> couponIds) {
+        Map<Long, CouponDefinition> current = snapshot;
+        Map<Long, CouponDefinition> result = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+
+        for (Long couponId : couponIds) {
+            CouponDefinition definition = current.get(couponId);
+            if (definition != null) {
+                result.put(couponId, definition);
+            } else {
+                missing.add(couponId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long readFrom = evictionSequence.get();
+            List<CouponDefinition> loaded = couponRepository.findAllById(missing).stream()
+                    .map(CouponDefinition::from)
+                    .toList();
+            merge(loaded, readFrom);
+            loaded.forEach(definition -> result.put(definition.id(), definition));
+        }
+        return result;
+    }
+
+    /**
+     * 마지막 갱신 이후 바뀐 쿠폰만 다시 읽어 스냅샷에 반영합니다. 처음에는 전체를 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.catalog.refresh-interval-ms:30000}")
+    public void refresh() {
+        try {
+            LocalDateTime since = watermark;
+            LocalDateTime startedAt = LocalDateTime.now();
+            long readFrom = evictionSequence.get();
+            List<Coupon> changed = since == null
+                    ? couponRepository.findAll()
+                    : couponRepository.findUpdatedSince(since.minus(REFRESH_OVERLAP));
+
+            merge(changed.stream().map(CouponDefinition::from).toList(), readFrom);
+            watermark = startedAt;
+        } catch (Exception e) {
+            log.warn("쿠폰 카탈로그 갱신 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 모든 노드의 카탈로그에서 해당 쿠폰을 버리게 합니다.
+     */
+    public void invalidateAfterCommit(Long couponId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishInvalidation(couponId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publishInvalidation(couponId);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            evict(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 쿠폰 카탈로그 무효화 메시지 무시 - body: {}", body);
+        }
+    }
+
+    private void publishInvalidation(Long couponId) {
+        evict(couponId);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, couponId.toString());
+        } catch (Exception e) {
+            // 다른 노드는 다음 주기 갱신에서 updated_at으로 변경을 반영
+            log.warn("쿠폰 카탈로그 무효화 발행 실패 - couponId: {}, error: {}", couponId, e.getMessage());
+        }
+    }
+
+    /**
+     * 읽은 정의를 스냅샷에 반영합니다. readFrom 이후에 무효화된 쿠폰은 무효화 전 값일 수 있으므로 버립니다.
+     */
+    private synchronized void merge(List<CouponDefinition> definitions, long readFrom) {
+        List<CouponDefinition> accepted = definitions.stream()
+                .filter(definition -> evictedAt.getOrDefault(definition.id(), 0L) <= readFrom)
+                .toList();
+        if (accepted.isEmpty()) {
+            return;
+        }
+        Map<Long, CouponDefinition> next = new HashMap<>(snapshot);
+        accepted.forEach(definition -> next.merge(definition.id(), definition, CouponCatalog::newer));
+        snapshot = Map.copyOf(next);
+    }
+
+    private synchronized void evict(Long couponId) {
+        evictedAt.put(couponId, evictionSequence.incrementAndGet());
+        if (!snapshot.containsKey(couponId)) {
+            return;
+        }
+        snapshot = snapshot.entrySet().stream()
+                .filter(entry -> !entry.getKey().equals(couponId))
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private static CouponDefinition newer(CouponDefinition current, CouponDefinition candidate) {
+        if (current.updatedAt() == null || candidate.updatedAt() == null) {
+            return candidate;
+        }
+        return candidate.updatedAt().isBefore(current.updatedAt()) ? current : candidate;
+    }
+}
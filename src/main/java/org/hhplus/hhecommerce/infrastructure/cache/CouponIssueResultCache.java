@@ -0,0 +1,133 @@
+package org.hhplus.hhecommerce.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueRequestResult;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 비동기 쿠폰 발급 요청의 결과를 Redis 해시({@code coupon:issue:result:{requestId}})에 보관하고,
+ * 결과가 확정되면 {@link #RESULT_CHANNEL} 채널로 requestId를 발행해 대기 중인 조회 요청을 깨웁니다.
+ */
+@Slf4j
+@Component
+public class CouponIssueResultCache {
+
+    public static final String RESULT_CHANNEL = "coupon:issue:result";
+
+    private static final String KEY_PREFIX = "coupon:issue:result:";
+    private static final String FIELD_COUPON_ID = "couponId";
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_MESSAGE = "message";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    public CouponIssueResultCache(RedisTemplate<String, String> redisTemplate,
+                                  @Value("${coupon.issue.result.ttl-hours:24}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    public void accepted(String requestId, Long couponId, Long userId) {
+        write(List.of(new CouponIssueRequestResult(
+                requestId, couponId, userId, CouponIssueStatus.PROCESSING, "처리 중")), false);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 결과를 기록하고 발행합니다. 트랜잭션 밖이면 바로 기록합니다.
+     */
+    public void saveAfterCommit(List<CouponIssueRequestResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            saveQuietly(results);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                saveQuietly(results);
+            }
+        });
+    }
+
+    /**
+     * DB에서 읽은 결과를 캐시에 다시 채웁니다. 이미 확정된 결과이므로 발행하지 않습니다.
+     */
+    public void refill(CouponIssueRequestResult result) {
+        try {
+            write(List.of(result), false);
+        } catch (Exception e) {
+            log.warn("쿠폰 발급 결과 캐시 재적재 실패 - requestId: {}, error: {}", result.requestId(), e.getMessage());
+        }
+    }
+
+    public Optional<CouponIssueRequestResult> find(String requestId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(KEY_PREFIX + requestId);
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new CouponIssueRequestResult(
+                requestId,
+                Long.valueOf(entries.get(FIELD_COUPON_ID).toString()),
+                Long.valueOf(entries.get(FIELD_USER_ID).toString()),
+                CouponIssueStatus.valueOf(entries.get(FIELD_STATUS).toString()),
+                (String) entries.get(FIELD_MESSAGE)
+        ));
+    }
+
+    private void saveQuietly(List<CouponIssueRequestResult> results) {
+        try {
+            write(results, true);
+        } catch (Exception e) {
+            // 조회 시 DB로 대체되므로 캐시 기록 실패는 발급 결과에 영향을 주지 않음
+            log.warn("쿠폰 발급 결과 캐시 기록 실패 - 건수: {}, error: {}", results.size(), e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void write(List<CouponIssueRequestResult> results, boolean publish) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (CouponIssueRequestResult result : results) {
+                    String key = KEY_PREFIX + result.requestId();
+                    ops.opsForHash().putAll(key, toFields(result));
+                    ops.expire(key, ttl);
+                    if (publish) {
+                        ops.convertAndSend(RESULT_CHANNEL, result.requestId());
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    private Map<String, String> toFields(CouponIssueRequestResult result) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_COUPON_ID, String.valueOf(result.couponId()));
+        fields.put(FIELD_USER_ID, String.valueOf(result.userId()));
+        fields.put(FIELD_STATUS, result.status().name());
+        if (result.message() != null) {
+            fields.put(FIELD_MESSAGE, result.message());
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,51 @@
+package org.hhplus.hhecommerce.infrastructure.cache;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link CouponIssueResultCache#RESULT_CHANNEL}을 구독해 결과를 기다리는 조회 요청의 콜백을 실행합니다.
+ *
+ * <p>어느 노드에서 결과가 확정되든 모든 노드가 메시지를 받으므로, 롱폴링 요청이 붙어 있는 노드에서 바로 응답할 수 있습니다.</p>
+ */
+@Component
+public class CouponIssueResultNotifier implements MessageListener {
+
+    private final ConcurrentMap<String, Set<Runnable>> listeners = new ConcurrentHashMap<>();
+
+    public CouponIssueResultNotifier(RedisMessageListenerContainer listenerContainer) {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CouponIssueResultCache.RESULT_CHANNEL));
+    }
+
+    public void register(String requestId, Runnable listener) {
+        listeners.compute(requestId, (key, registered) -> {
+            Set<Runnable> set = registered != null ? registered : ConcurrentHashMap.newKeySet();
+            set.add(listener);
+            return set;
+        });
+    }
+
+    public void unregister(String requestId, Runnable listener) {
+        listeners.computeIfPresent(requestId, (key, registered) -> {
+            registered.remove(listener);
+            return registered.isEmpty() ? null : registered;
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String requestId = new String(message.getBody(), StandardCharsets.UTF_8);
+        Set<Runnable> waiting = listeners.get(requestId);
+        if (waiting != null) {
+            waiting.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.hhplus.hhecommerce.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.common.IdempotencyRecord;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key별 처리 상태를 Redis 해시({@code idempotency:{scope}:{userId}:{key}})에 보관합니다.
+ *
+ * <p>처리 중 항목은 단일 실행(single-flight) 표식 역할을 하며, 완료되면 응답 본문을 담아 TTL 동안 유지됩니다.</p>
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_REQUEST_HASH = "requestHash";
+    private static final String FIELD_RESPONSE = "response";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+
+    /**
+     * 키가 없을 때만 처리 중 항목을 만듭니다.
+     * KEYS[1]: 항목 키, ARGV[1]: 요청 해시, ARGV[2]: 처리 중 TTL(ms)
+     * 반환: 1 = 선점 성공, 0 = 이미 존재
+     */
+    private static final String BEGIN_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'status', 'IN_PROGRESS', 'requestHash', ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """;
+
+    /**
+     * 선점한 요청의 처리 중 항목일 때만 응답을 저장하고 응답 TTL로 바꿉니다.
+     * 처리 중 TTL이 지나 항목이 사라졌거나 다른 요청이 같은 키를 다시 선점했다면 건드리지 않습니다.
+     * KEYS[1]: 항목 키, ARGV[1]: 요청 해시, ARGV[2]: 응답, ARGV[3]: 응답 TTL(ms)
+     * 반환: 1 = 저장, 0 = 항목이 없거나 요청 해시가 다름
+     */
+    private static final String COMPLETE_SCRIPT = """
+            if redis.call('HGET', KEYS[1], 'requestHash') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'status', 'COMPLETED', 'response', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> beginScript;
+    private final DefaultRedisScript<Long> completeScript;
+
+    public IdempotencyStore(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.beginScript = new DefaultRedisScript<>(BEGIN_SCRIPT, Long.class);
+        this.completeScript = new DefaultRedisScript<>(COMPLETE_SCRIPT, Long.class);
+    }
+
+    public boolean begin(String key, String requestHash, Duration inFlightTtl) {
+        Long result = redisTemplate.execute(beginScript, List.of(KEY_PREFIX + key),
+                requestHash, String.valueOf(inFlightTtl.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    public Optional<IdempotencyRecord> find(String key) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(KEY_PREFIX + key);
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new IdempotencyRecord(
+                STATUS_COMPLETED.equals(entries.get(FIELD_STATUS)),
+                (String) entries.get(FIELD_REQUEST_HASH),
+                (String) entries.get(FIELD_RESPONSE)
+        ));
+    }
+
+    /**
+     * @return 응답을 저장했으면 true, 선점한 항목이 이미 사라졌거나 다른 요청의 것이면 false
+     */
+    public boolean complete(String key, String requestHash, String response, Duration responseTtl) {
+        Long result = redisTemplate.execute(completeScript, List.of(KEY_PREFIX + key),
+                requestHash, response, String.valueOf(responseTtl.toMillis()));
+        boolean stored = result != null && result == 1L;
+        log.debug("멱등 응답 저장 - key: {}, stored: {}", key, stored);
+        return stored;
+    }
+
+    /**
+     * 처리 중 항목을 지웁니다. 처리에 실패한 요청은 같은 키로 다시 시도할 수 있어야 하기 때문입니다.
+     */
+    public void release(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+}
@@ -0,0 +1,87 @@
+package org.hhplus.hhecommerce.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.order.OrderRequestResult;
+import org.hhplus.hhecommerce.domain.order.OrderRequestStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 비동기 주문 요청의 처리 상태를 Redis 해시({@code order:request:{requestId}})에 보관합니다.
+ */
+@Slf4j
+@Component
+public class OrderRequestStatusCache {
+
+    private static final String KEY_PREFIX = "order:request:";
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_ORDER_ID = "orderId";
+    private static final String FIELD_ERROR_CODE = "errorCode";
+    private static final String FIELD_MESSAGE = "message";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    public OrderRequestStatusCache(RedisTemplate<String, String> redisTemplate,
+                                   @Value("${order.async.status-ttl-hours:24}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    public void accepted(String requestId, Long userId) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_USER_ID, String.valueOf(userId));
+        fields.put(FIELD_STATUS, OrderRequestStatus.ACCEPTED.name());
+        save(requestId, fields);
+    }
+
+    public void processing(String requestId) {
+        save(requestId, Map.of(FIELD_STATUS, OrderRequestStatus.PROCESSING.name()));
+    }
+
+    public void succeeded(String requestId, Long orderId) {
+        save(requestId, Map.of(
+                FIELD_STATUS, OrderRequestStatus.SUCCESS.name(),
+                FIELD_ORDER_ID, String.valueOf(orderId),
+                FIELD_MESSAGE, "주문이 완료되었습니다"));
+    }
+
+    public void failed(String requestId, String errorCode, String message) {
+        save(requestId, Map.of(
+                FIELD_STATUS, OrderRequestStatus.FAILED.name(),
+                FIELD_ERROR_CODE, errorCode,
+                FIELD_MESSAGE, message));
+    }
+
+    public Optional<OrderRequestResult> find(String requestId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(KEY_PREFIX + requestId);
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Object orderId = entries.get(FIELD_ORDER_ID);
+        Object userId = entries.get(FIELD_USER_ID);
+        return Optional.of(new OrderRequestResult(
+                requestId,
+                userId != null ? Long.valueOf(userId.toString()) : null,
+                OrderRequestStatus.valueOf(entries.get(FIELD_STATUS).toString()),
+                orderId != null ? Long.valueOf(orderId.toString()) : null,
+                (String) entries.get(FIELD_ERROR_CODE),
+                (String) entries.get(FIELD_MESSAGE)
+        ));
+    }
+
+    private void save(String requestId, Map<String, String> fields) {
+        String key = KEY_PREFIX + requestId;
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, ttl);
+        log.debug("주문 요청 상태 갱신 - requestId: {}, status: {}", requestId, fields.get(FIELD_STATUS));
+    }
+}
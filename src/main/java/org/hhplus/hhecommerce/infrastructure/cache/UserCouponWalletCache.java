@@ -0,0 +1,156 @@
+package org.hhplus.hhecommerce.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponWallet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 사용자별 쿠폰 지갑({@link UserCouponWallet})을 Redis 문자열({@code coupon:wallet:{userId}})에 보관합니다.
+ *
+ * <p>쿠폰이 발급되거나 사용되면 커밋 후 키를 지우고, 다음 조회가 DB에서 다시 채웁니다.
+ * 삭제할 때마다 사용자별 세대({@code coupon:wallet-gen:{userId}})를 올리고, 재적재는 DB를 읽기 전에 본 세대가
+ * 그대로일 때만 기록합니다. DB를 읽은 뒤 커밋된 발급/사용이 지갑을 지웠다면 읽은 지갑이 이미 오래된 것이므로
+ * 기록하지 않고 다음 조회에 맡깁니다. 주문 시점에는 사용자 쿠폰 상태를 DB에서 다시 확인합니다.</p>
+ */
+@Slf4j
+@Component
+public class UserCouponWalletCache {
+
+    private static final String KEY_PREFIX = "coupon:wallet:";
+    private static final String GENERATION_KEY_PREFIX = "coupon:wallet-gen:";
+    private static final long UNKNOWN_GENERATION = -1L;
+
+    /**
+     * DB를 읽기 전에 본 세대가 그대로일 때만 지갑을 기록합니다.
+     * KEYS[1]: 지갑 키, KEYS[2]: 세대 키, ARGV[1]: 지갑 JSON, ARGV[2]: TTL(초), ARGV[3]: 읽어 둔 세대
+     * 반환: 1 = 기록, 0 = 그 사이 지갑이 지워짐
+     */
+    private static final String SAVE_IF_UNCHANGED_SCRIPT = """
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[3] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            return 1
+            """;
+
+    /**
+     * 지갑을 지우고 세대를 올립니다. 세대 키 TTL은 진행 중인 재적재보다 길기만 하면 되므로 지갑 TTL을 씁니다.
+     * KEYS: 사용자마다 지갑 키, 세대 키 순서, ARGV[1]: 세대 키 TTL(초)
+     */
+    private static final String EVICT_SCRIPT = """
+            for i = 1, #KEYS, 2 do
+                redis.call('DEL', KEYS[i])
+                redis.call('INCR', KEYS[i + 1])
+                redis.call('EXPIRE', KEYS[i + 1], ARGV[1])
+            end
+            return #KEYS / 2
+            """;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final DefaultRedisScript<Long> saveIfUnchangedScript;
+    private final DefaultRedisScript<Long> evictScript;
+
+    public UserCouponWalletCache(RedisTemplate<String, String> redisTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${coupon.wallet.ttl-seconds:600}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.saveIfUnchangedScript = new DefaultRedisScript<>(SAVE_IF_UNCHANGED_SCRIPT, Long.class);
+        this.evictScript = new DefaultRedisScript<>(EVICT_SCRIPT, Long.class);
+    }
+
+    public Optional<UserCouponWallet> find(Long userId) {
+        try {
+            String cached = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+            if (cached == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(cached, UserCouponWallet.class));
+        } catch (Exception e) {
+            log.warn("쿠폰 지갑 캐시 조회 실패 - userId: {}, error: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 지갑을 DB에서 읽기 전에 호출해 현재 세대를 받아 둡니다. 읽지 못하면 이번 재적재는 기록하지 않습니다.
+     */
+    public long generation(Long userId) {
+        try {
+            String generation = redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + userId);
+            return generation == null ? 0L : Long.parseLong(generation);
+        } catch (Exception e) {
+            log.warn("쿠폰 지갑 세대 조회 실패 - userId: {}, error: {}", userId, e.getMessage());
+            return UNKNOWN_GENERATION;
+        }
+    }
+
+    /**
+     * {@link #generation(Long)}로 받아 둔 세대가 그대로일 때만 지갑을 기록합니다.
+     */
+    public void save(Long userId, UserCouponWallet wallet, long generation) {
+        if (generation == UNKNOWN_GENERATION) {
+            return;
+        }
+        try {
+            Long saved = redisTemplate.execute(saveIfUnchangedScript,
+                    List.of(KEY_PREFIX + userId, GENERATION_KEY_PREFIX + userId),
+                    objectMapper.writeValueAsString(wallet), String.valueOf(ttl.toSeconds()), String.valueOf(generation));
+            if (saved == null || saved == 0L) {
+                log.debug("쿠폰 지갑 재적재 중 지갑이 바뀌어 기록하지 않음 - userId: {}", userId);
+            }
+        } catch (Exception e) {
+            // 다음 조회에서 DB로 다시 채우므로 캐시 기록 실패는 무시
+            log.warn("쿠폰 지갑 캐시 기록 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    public void evictAfterCommit(Long userId) {
+        evictAfterCommit(List.of(userId));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 사용자들의 지갑을 한 번의 스크립트로 지우고 세대를 올립니다. 트랜잭션 밖이면 바로 지웁니다.
+     */
+    public void evictAfterCommit(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictQuietly(userIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictQuietly(userIds);
+            }
+        });
+    }
+
+    private void evictQuietly(Collection<Long> userIds) {
+        try {
+            List<String> keys = userIds.stream()
+                    .flatMap(userId -> Stream.of(KEY_PREFIX + userId, GENERATION_KEY_PREFIX + userId))
+                    .toList();
+            redisTemplate.execute(evictScript, keys, String.valueOf(ttl.toSeconds()));
+        } catch (Exception e) {
+            log.warn("쿠폰 지갑 캐시 삭제 실패 - 사용자 수: {}, error: {}", userIds.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.hhplus.hhecommerce.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@Component
+@ConfigurationProperties(prefix = "coupon.issue.coalescing")
+public class CouponCoalescingProperties {
+
+    private boolean enabled = false;
+
+    @Min(value = 0, message = "windowMicros는 0 이상이어야 합니다")
+    private long windowMicros = 200;
+
+    @Min(value = 1, message = "maxBatchSize는 1 이상이어야 합니다")
+    private int maxBatchSize = 64;
+
+    @Min(value = 1, message = "maxBatchesPerLeader는 1 이상이어야 합니다")
+    private int maxBatchesPerLeader = 4;
+
+    @Min(value = 1, message = "resultTimeoutMs는 1 이상이어야 합니다")
+    private long resultTimeoutMs = 3000;
+}
@@ -0,0 +1,22 @@
+package org.hhplus.hhecommerce.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@Component
+@ConfigurationProperties(prefix = "coupon.issue.consumer")
+public class CouponIssueConsumerProperties {
+
+    /** true면 쿠폰 발급 요청을 poll 단위로 모아 한 트랜잭션에서 처리 */
+    private boolean batchEnabled = false;
+
+    @Min(value = 1, message = "maxPollRecords는 1 이상이어야 합니다")
+    private int maxPollRecords = 500;
+}
@@ -0,0 +1,33 @@
+package org.hhplus.hhecommerce.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@Component
+@ConfigurationProperties(prefix = "coupon.issue.lease")
+public class CouponLeaseProperties {
+
+    private boolean enabled = false;
+
+    @Min(value = 1, message = "blockSize는 1 이상이어야 합니다")
+    private int blockSize = 50;
+
+    @Min(value = 1, message = "ttlMs는 1 이상이어야 합니다")
+    private long ttlMs = 10_000;
+
+    @Min(value = 1, message = "returnIntervalMs는 1 이상이어야 합니다")
+    private long returnIntervalMs = 5_000;
+
+    /**
+     * Redis에 남긴 임대 기록의 TTL. 하트비트(returnIntervalMs 주기)가 이 시간 동안 없으면 다른 노드가 재고를 회수합니다.
+     */
+    @Min(value = 1, message = "heartbeatTtlMs는 1 이상이어야 합니다")
+    private long heartbeatTtlMs = 30_000;
+}
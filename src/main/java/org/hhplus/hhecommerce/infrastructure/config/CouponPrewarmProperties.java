@@ -0,0 +1,27 @@
+package org.hhplus.hhecommerce.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@Component
+@ConfigurationProperties(prefix = "coupon.prewarm")
+public class CouponPrewarmProperties {
+
+    private boolean enabled = true;
+
+    @Min(value = 1, message = "lookaheadMinutes는 1 이상이어야 합니다")
+    private long lookaheadMinutes = 30;
+
+    @Min(value = 1, message = "batchSize는 1 이상이어야 합니다")
+    private int batchSize = 100;
+
+    @Min(value = 1, message = "intervalMs는 1 이상이어야 합니다")
+    private long intervalMs = 60_000;
+}
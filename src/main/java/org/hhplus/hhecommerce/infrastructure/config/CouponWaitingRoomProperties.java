@@ -0,0 +1,39 @@
+package org.hhplus.hhecommerce.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@Component
+@ConfigurationProperties(prefix = "coupon.waiting-room")
+public class CouponWaitingRoomProperties {
+
+    private boolean enabled = false;
+
+    /** 쿠폰별로 초당 입장시키는 사용자 수 */
+    @Min(value = 1, message = "admitsPerSecond는 1 이상이어야 합니다")
+    private int admitsPerSecond = 200;
+
+    @Min(value = 10, message = "dispatchIntervalMs는 10 이상이어야 합니다")
+    private long dispatchIntervalMs = 100;
+
+    /** 입장권 유효 시간. 이 안에 발급을 요청하지 않으면 입장권이 사라지고 재고 자리가 다시 열림 */
+    @Min(value = 1, message = "tokenTtlSeconds는 1 이상이어야 합니다")
+    private long tokenTtlSeconds = 30;
+
+    @Min(value = 1, message = "queueTtlHours는 1 이상이어야 합니다")
+    private long queueTtlHours = 24;
+
+    /**
+     * 한 번의 배분에서 쿠폰별로 입장시킬 사용자 수.
+     */
+    public int admitsPerDispatch() {
+        return (int) Math.max(1, admitsPerSecond * dispatchIntervalMs / 1000);
+    }
+}
@@ -0,0 +1,32 @@
+package org.hhplus.hhecommerce.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@Component
+@ConfigurationProperties(prefix = "coupon.issue.write-behind")
+public class CouponWriteBehindProperties {
+
+    private boolean enabled = false;
+
+    @Min(value = 1, message = "batchSize는 1 이상이어야 합니다")
+    private int batchSize = 500;
+
+    @Min(value = 1, message = "flushIntervalMs는 1 이상이어야 합니다")
+    private long flushIntervalMs = 200;
+
+    /** 다른 노드가 읽고 처리하지 못한 항목을 가져오기까지의 유휴 시간 */
+    @Min(value = 1, message = "claimIdleMs는 1 이상이어야 합니다")
+    private long claimIdleMs = 30_000;
+
+    /** 이 횟수만큼 전달해도 저장하지 못한 항목은 dead-letter 스트림으로 옮김 */
+    @Min(value = 1, message = "maxDeliveries는 1 이상이어야 합니다")
+    private int maxDeliveries = 5;
+}
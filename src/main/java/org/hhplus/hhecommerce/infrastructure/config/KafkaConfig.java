@@ -12,6 +12,10 @@ import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
 import java.util.HashMap;
@@ -22,8 +26,15 @@ import java.util.Map;
 @ConditionalOnProperty(name = "event.publisher.type", havingValue = "kafka", matchIfMissing = false)
 public class KafkaConfig {
 
+    public static final String DLT_SUFFIX = ".DLT";
+
+    private static final int ORDER_REQUEST_MAX_RETRIES = 3;
+    private static final int COUPON_ISSUE_BATCH_MAX_RETRIES = 5;
+
     private final KafkaTopicProperties kafkaTopicProperties;
     private final KafkaProperties kafkaProperties;
+    private final CouponIssueConsumerProperties couponIssueConsumerProperties;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
 
     @Bean
     public NewTopic orderCompletedTopic() {
@@ -49,6 +60,36 @@ public class KafkaConfig {
                 .build();
     }
 
+    /**
+     * 재시도를 다 써도 처리하지 못한 쿠폰 발급 요청이 쌓이는 토픽.
+     */
+    @Bean
+    public NewTopic couponIssueRequestDeadLetterTopic() {
+        return TopicBuilder.name(kafkaTopicProperties.getCouponIssueRequest() + DLT_SUFFIX)
+                .partitions(kafkaTopicProperties.getPartitions())
+                .replicas(kafkaTopicProperties.getReplicas())
+                .build();
+    }
+
+    @Bean
+    public NewTopic orderRequestTopic() {
+        return TopicBuilder.name(kafkaTopicProperties.getOrderRequest())
+                .partitions(kafkaTopicProperties.getPartitions())
+                .replicas(kafkaTopicProperties.getReplicas())
+                .build();
+    }
+
+    /**
+     * 재시도를 다 써도 실패한 주문 요청이 쌓이는 토픽. 원본과 같은 파티션으로 보내므로 파티션 수를 맞춥니다.
+     */
+    @Bean
+    public NewTopic orderRequestDeadLetterTopic() {
+        return TopicBuilder.name(kafkaTopicProperties.getOrderRequest() + DLT_SUFFIX)
+                .partitions(kafkaTopicProperties.getPartitions())
+                .replicas(kafkaTopicProperties.getReplicas())
+                .build();
+    }
+
     @Bean
     public ConsumerFactory<String, Object> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
@@ -69,4 +110,49 @@ public class KafkaConfig {
         factory.setConsumerFactory(consumerFactory());
         return factory;
     }
+
+    /**
+     * 비동기 주문 요청용 팩토리. DB 연결 끊김 같은 일시적 오류는 리스너가 그대로 던지고,
+     * 여기서 지수 백오프로 같은 레코드를 다시 전달하다가 재시도를 다 쓰면 DLT로 넘깁니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> orderRequestKafkaListenerContainerFactory() {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(ORDER_REQUEST_MAX_RETRIES);
+        backOff.setInitialInterval(500);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(5000);
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new DeadLetterPublishingRecoverer(kafkaTemplate), backOff));
+        return factory;
+    }
+
+    /**
+     * 쿠폰 발급 요청을 poll 단위 리스트로 전달하는 배치 리스너용 팩토리.
+     * 리스너가 던진 일시적 오류는 지수 백오프로 배치 전체를 다시 전달하고, 재시도를 다 쓰면 레코드별로 DLT로 넘깁니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "coupon.issue.consumer.batch-enabled", havingValue = "true")
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory() {
+        Map<String, Object> props = new HashMap<>(consumerFactory().getConfigurationProperties());
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, couponIssueConsumerProperties.getMaxPollRecords());
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                new DeadLetterPublishingRecoverer(kafkaTemplate), couponIssueBatchBackOff()));
+        return factory;
+    }
+
+    private ExponentialBackOffWithMaxRetries couponIssueBatchBackOff() {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(COUPON_ISSUE_BATCH_MAX_RETRIES);
+        backOff.setInitialInterval(500);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(10000);
+        return backOff;
+    }
 }
@@ -16,6 +16,7 @@ public class KafkaTopicProperties {
     private String orderCompleted = "order-completed";
     private String paymentCompleted = "payment-completed";
     private String couponIssueRequest = "coupon-issue-request";
+    private String orderRequest = "order-request";
 
     private int partitions = 3;
     private int replicas = 1;
@@ -0,0 +1,33 @@
+package org.hhplus.hhecommerce.infrastructure.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@Component
+@ConfigurationProperties(prefix = "order.group-commit")
+public class OrderGroupCommitProperties {
+
+    private boolean enabled = false;
+
+    @Min(value = 1, message = "windowMs는 1 이상이어야 합니다")
+    private long windowMs = 3;
+
+    @Min(value = 1, message = "maxBatchSize는 1 이상이어야 합니다")
+    private int maxBatchSize = 32;
+
+    @Min(value = 1, message = "workerCount는 1 이상이어야 합니다")
+    private int workerCount = 2;
+
+    @Min(value = 1, message = "queueCapacity는 1 이상이어야 합니다")
+    private int queueCapacity = 1000;
+
+    @Min(value = 1, message = "resultTimeoutMs는 1 이상이어야 합니다")
+    private long resultTimeoutMs = 30000;
+}
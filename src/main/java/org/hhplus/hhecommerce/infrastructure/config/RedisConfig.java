@@ -1,5 +1,8 @@
 package org.hhplus.hhecommerce.infrastructure.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
 import org.redisson.config.Config;
@@ -12,6 +15,7 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -55,6 +59,13 @@ public class RedisConfig {
         return template;
     }
 
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     @Bean
     public RedisTemplate<String, Object> redisObjectTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
@@ -108,11 +119,37 @@ public class RedisConfig {
                         RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer())
                 );
 
+        // 발급 가능 쿠폰 목록 캐시 설정 (30초 - 잔여 수량은 조회 시 Redis 재고로 덮어씀)
+        // 쿠폰 정보에 발급 기간(LocalDateTime)이 있으므로 Java 시간 타입을 다루는 직렬화기를 사용
+        RedisCacheConfiguration couponsAvailableCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(Duration.ofSeconds(30))
+                .serializeKeysWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
+                )
+                .serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(javaTimeJsonRedisSerializer())
+                );
+
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultCacheConfig)
                 .withCacheConfiguration("products:list", productsListCacheConfig)
                 .withCacheConfiguration("products:popular", productsPopularCacheConfig)
                 .withCacheConfiguration("products:detail", productDetailCacheConfig)
+                .withCacheConfiguration("coupons:available", couponsAvailableCacheConfig)
+                .build();
+    }
+
+    /**
+     * LocalDateTime 등 Java 시간 타입을 ISO-8601 문자열로 저장하는 JSON 직렬화기.
+     * 역직렬화할 타입을 알 수 있도록 기본 직렬화기처럼 타입 정보를 함께 기록합니다.
+     */
+    private GenericJackson2JsonRedisSerializer javaTimeJsonRedisSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return GenericJackson2JsonRedisSerializer.builder()
+                .objectMapper(objectMapper)
+                .defaultTyping(true)
                 .build();
     }
 }
@@ -0,0 +1,198 @@
+package org.hhplus.hhecommerce.infrastructure.coupon;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResult;
+import org.hhplus.hhecommerce.infrastructure.config.CouponCoalescingProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 같은 쿠폰에 대한 동시 발급 요청을 모아 한 번의 Lua 호출로 처리하는 합치기(coalescing) 계층.
+ *
+ * <p>별도 워커 스레드 없이 요청 스레드 중 하나가 리더가 되어, 짧은 윈도우 동안 쌓인 요청을 꺼내
+ * {@link RedisCouponIssueManager#tryIssueBatch}로 처리하고 나머지 요청 스레드에 결과를 전달합니다.
+ * 선착순 쿠폰 오픈처럼 한 키에 요청이 몰릴 때 Redis 왕복 횟수를 배치 크기만큼 줄이는 것이 목적입니다.</p>
+ *
+ * <p>배치 안에서도 사용자별 판정(ALREADY_ISSUED / PENDING_IN_PROGRESS / OUT_OF_STOCK)은
+ * 단건 스크립트와 같은 규칙으로 도착 순서대로 이루어집니다.</p>
+ *
+ * <p>리더는 최대 {@code max-batches-per-leader}개 배치만 처리하고 물러나며, 남은 요청은 결과를 기다리던
+ * 스레드가 주기적으로 리더 자리를 시도해 이어서 처리합니다. 한 요청 스레드가 트래픽이 이어지는 동안
+ * 계속 붙잡혀 자기 응답까지 늦어지지 않도록 하기 위함입니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.strategy", havingValue = "redis", matchIfMissing = false)
+@ConditionalOnProperty(name = "coupon.issue.coalescing.enabled", havingValue = "true")
+public class CouponIssueCoalescer {
+
+    private static final long HANDOFF_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final RedisCouponIssueManager redisCouponIssueManager;
+    private final CouponCoalescingProperties properties;
+    private final Map<Long, CouponQueue> queues = new ConcurrentHashMap<>();
+
+    private final Map<CouponIssueResult, Counter> issueCounters = new EnumMap<>(CouponIssueResult.class);
+    private final DistributionSummary batchSizeSummary;
+
+    public CouponIssueCoalescer(RedisCouponIssueManager redisCouponIssueManager,
+                                CouponCoalescingProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.redisCouponIssueManager = redisCouponIssueManager;
+        this.properties = properties;
+
+        for (CouponIssueResult result : CouponIssueResult.values()) {
+            issueCounters.put(result, Counter.builder("coupon.issue.coalesced.requests")
+                    .description("합치기 계층을 거친 쿠폰 발급 요청 수")
+                    .tag("result", result.name())
+                    .register(meterRegistry));
+        }
+
+        this.batchSizeSummary = DistributionSummary.builder("coupon.issue.coalesced.batch.size")
+                .description("Lua 호출 한 번에 처리한 발급 요청 수")
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        log.info("쿠폰 발급 요청 합치기 활성화 - windowMicros: {}, maxBatchSize: {}, maxBatchesPerLeader: {}",
+                properties.getWindowMicros(), properties.getMaxBatchSize(), properties.getMaxBatchesPerLeader());
+    }
+
+    public CouponIssueResult tryIssue(Long couponId, Long userId) {
+        CouponQueue queue = queues.computeIfAbsent(couponId, id -> new CouponQueue());
+        PendingIssue pending = new PendingIssue(userId, new CompletableFuture<>());
+        queue.requests.offer(pending);
+
+        drain(couponId, queue);
+
+        try {
+            return await(couponId, queue, pending);
+        } catch (TimeoutException e) {
+            log.error("쿠폰 발급 배치 결과 대기 타임아웃 - couponId: {}, userId: {}", couponId, userId);
+            return CouponIssueResult.ISSUE_FAILED;
+        } catch (ExecutionException e) {
+            log.error("쿠폰 발급 배치 처리 실패 - couponId: {}, userId: {}", couponId, userId, e.getCause());
+            return CouponIssueResult.ISSUE_FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CouponIssueResult.ISSUE_FAILED;
+        }
+    }
+
+    /**
+     * 결과를 기다리는 동안 주기적으로 리더 자리를 시도합니다.
+     * 앞선 리더가 배치 상한에 도달해 물러났을 때 남은 요청을 대기 중인 스레드가 이어서 처리하기 위함입니다.
+     */
+    private CouponIssueResult await(Long couponId, CouponQueue queue, PendingIssue pending)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getResultTimeoutMs());
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            try {
+                return pending.future().get(Math.min(remaining, HANDOFF_CHECK_NANOS), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                drain(couponId, queue);
+            }
+        }
+    }
+
+    /**
+     * 리더 자리를 얻은 스레드만 배치를 실행합니다. 리더 자리를 내려놓은 뒤에도 큐가 남아 있으면
+     * 다시 리더 자리를 시도해, 리더가 바뀌는 사이에 들어온 요청이 방치되지 않도록 합니다.
+     * 배치 상한에 도달하면 남은 요청을 대기 중인 스레드에 넘기고 돌아갑니다.
+     */
+    private void drain(Long couponId, CouponQueue queue) {
+        while (!queue.requests.isEmpty() && queue.leader.compareAndSet(false, true)) {
+            boolean drained;
+            try {
+                waitForWindow();
+                drained = drainBatches(couponId, queue);
+            } finally {
+                queue.leader.set(false);
+            }
+            if (!drained) {
+                return;
+            }
+        }
+
+        // 비워진 큐는 맵에서 제거한다. 제거 직전에 큐를 받아 간 요청은 그 큐로 직접 drain하므로 유실되지 않는다
+        if (queue.requests.isEmpty()) {
+            queues.remove(couponId, queue);
+        }
+    }
+
+    /**
+     * @return 상한 안에 큐를 모두 비웠으면 true
+     */
+    private boolean drainBatches(Long couponId, CouponQueue queue) {
+        for (int i = 0; i < properties.getMaxBatchesPerLeader(); i++) {
+            List<PendingIssue> batch = poll(queue);
+            if (batch.isEmpty()) {
+                return true;
+            }
+            issue(couponId, batch);
+        }
+        return queue.requests.isEmpty();
+    }
+
+    private void waitForWindow() {
+        if (properties.getWindowMicros() > 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(properties.getWindowMicros()));
+        }
+    }
+
+    private List<PendingIssue> poll(CouponQueue queue) {
+        List<PendingIssue> batch = new ArrayList<>();
+        PendingIssue next;
+        while (batch.size() < properties.getMaxBatchSize() && (next = queue.requests.poll()) != null) {
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void issue(Long couponId, List<PendingIssue> batch) {
+        batchSizeSummary.record(batch.size());
+
+        List<CouponIssueResult> results;
+        try {
+            results = redisCouponIssueManager.tryIssueBatch(couponId,
+                    batch.stream().map(PendingIssue::userId).toList());
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            CouponIssueResult result = results.get(i);
+            issueCounters.get(result).increment();
+            batch.get(i).future().complete(result);
+        }
+    }
+
+    private static final class CouponQueue {
+        private final Queue<PendingIssue> requests = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean leader = new AtomicBoolean(false);
+    }
+
+    private record PendingIssue(Long userId, CompletableFuture<CouponIssueResult> future) {}
+}
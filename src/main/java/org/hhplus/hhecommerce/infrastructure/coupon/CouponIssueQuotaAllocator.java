@@ -0,0 +1,100 @@
+package org.hhplus.hhecommerce.infrastructure.coupon;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueQuota;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueQuotaRepository;
+import org.hhplus.hhecommerce.infrastructure.inventory.StockStripeAllocator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 파티션 모드 쿠폰의 발급 수량을 파티션 쿼터에서 확보하고 재분배합니다.
+ *
+ * <p>컨슈머는 자기가 읽은 파티션 번호의 쿼터에 조건부 UPDATE를 시도하므로 파티션마다 서로 다른 행을 갱신합니다.
+ * 자기 쿼터가 부족하면 쿠폰의 모든 쿼터를 번호 순으로 잠근 뒤 합계 기준으로 확보하고,
+ * 남은 수량을 쿼터에 고르게 다시 나눠 다른 파티션에 남아 있던 수량을 가져옵니다.</p>
+ *
+ * <p>쿼터 행은 항상 파티션 번호 순으로 잠가야 교착이 생기지 않습니다. REPEATABLE READ에서는 조건에 맞지 않아 실패한
+ * 자기 쿼터 UPDATE도 행 잠금을 쥔 채로 남아, 그 뒤 전체 쿼터를 번호 순으로 잠그면 순서가 어긋납니다.
+ * 그래서 자기 쿼터 UPDATE(빠른 경로)는 실패한 UPDATE의 잠금을 바로 놓는 READ COMMITTED 트랜잭션에서만 시도하고,
+ * 그 밖의 트랜잭션에서는 처음부터 전체 쿼터를 번호 순으로 잠급니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueQuotaAllocator {
+
+    private final CouponIssueQuotaRepository quotaRepository;
+
+    /**
+     * @return 실제로 확보한 수량 (0 ~ requested)
+     */
+    public int reserve(Long couponId, int partitionNo, int requested) {
+        if (requested == 0) {
+            return 0;
+        }
+        if (releasesUnmatchedRowLocks()
+                && quotaRepository.decreaseQuantity(couponId, partitionNo, requested) == 1) {
+            return requested;
+        }
+
+        log.debug("파티션 쿼터 부족, 전체 쿼터에서 확보 - couponId: {}, partitionNo: {}", couponId, partitionNo);
+        return reserveAcrossPartitions(couponId, requested);
+    }
+
+    /**
+     * 읽은 파티션이 없는 HTTP 발급 경로용. 사용자마다 고정된 쿼터에서 확보해 요청을 파티션에 고르게 나눕니다.
+     */
+    public int reserveForUser(Long couponId, int partitionCount, Long userId) {
+        return reserve(couponId, Math.floorMod(userId, partitionCount), 1);
+    }
+
+    /**
+     * 여러 사용자의 발급 건을 한 번에 확보할 때 사용합니다. 전체 쿼터를 번호 순으로 잠그고 합계 기준으로 확보합니다.
+     *
+     * @return 실제로 확보한 수량 (0 ~ requested)
+     */
+    public int reserveFromAllPartitions(Long couponId, int requested) {
+        if (requested == 0) {
+            return 0;
+        }
+        return reserveAcrossPartitions(couponId, requested);
+    }
+
+    public void release(Long couponId, int partitionNo, int quantity) {
+        if (quotaRepository.increaseQuantity(couponId, partitionNo, quantity) == 0) {
+            // 파티션 수보다 큰 번호에서 확보한 경우(모드 전환 전에 발행된 메시지 등) 첫 쿼터로 반납
+            quotaRepository.increaseQuantity(couponId, 0, quantity);
+        }
+    }
+
+    private boolean releasesUnmatchedRowLocks() {
+        Integer isolationLevel = TransactionSynchronizationManager.getCurrentTransactionIsolationLevel();
+        return isolationLevel != null && isolationLevel == TransactionDefinition.ISOLATION_READ_COMMITTED;
+    }
+
+    private int reserveAcrossPartitions(Long couponId, int requested) {
+        List<CouponIssueQuota> quotas = quotaRepository.findAllByCouponIdWithLock(couponId);
+        int remaining = quotas.stream().mapToInt(CouponIssueQuota::getQuantity).sum();
+        int granted = Math.min(requested, remaining);
+        if (granted == 0) {
+            return 0;
+        }
+
+        List<Integer> rebalanced = StockStripeAllocator.split(remaining - granted, quotas.size());
+        for (int i = 0; i < quotas.size(); i++) {
+            CouponIssueQuota quota = quotas.get(i);
+            if (quota.getQuantity() != rebalanced.get(i)) {
+                quotaRepository.updateQuantity(quota.getId(), rebalanced.get(i));
+            }
+        }
+
+        log.info("파티션 쿼터 재분배 - couponId: {}, 확보: {}, 남은 수량: {}, 파티션 수: {}",
+                couponId, granted, remaining - granted, quotas.size());
+        return granted;
+    }
+}
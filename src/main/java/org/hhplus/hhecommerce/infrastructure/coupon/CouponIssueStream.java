@@ -0,0 +1,206 @@
+package org.hhplus.hhecommerce.infrastructure.coupon;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueReservation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 예약이 끝난 쿠폰 발급 건을 Redis Stream({@code coupon:issue:stream})에 기록하고 읽어 옵니다.
+ *
+ * <p>스트림 기록과 동시에 사용자를 pending에서 issued로 옮기므로, 기록된 발급 건은
+ * PENDING 정리 스케줄러에 의해 재고가 복구되지 않고 DB에 저장될 때까지 스트림에 남습니다.
+ * 여러 번 전달해도 저장하지 못한 항목은 {@code coupon:issue:stream:dead}로 옮겨 수동 처리합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.strategy", havingValue = "redis", matchIfMissing = false)
+@ConditionalOnProperty(name = "coupon.issue.write-behind.enabled", havingValue = "true")
+public class CouponIssueStream {
+
+    static final String STREAM_KEY = "coupon:issue:stream";
+    static final String GROUP = "coupon-issue-flusher";
+    static final String DEAD_LETTER_STREAM_KEY = "coupon:issue:stream:dead";
+
+    private static final String PENDING_KEY_PREFIX = "coupon:pending:";
+    private static final String PENDING_INDEX_KEY_PREFIX = "coupon:pending-index:";
+    private static final String ISSUED_KEY_PREFIX = "coupon:issued:";
+    private static final String ISSUED_BITMAP_KEY_PREFIX = "coupon:issued-bitmap:";
+    private static final long ISSUED_TTL_SECONDS = Duration.ofDays(31).toSeconds();
+
+    private static final String FIELD_COUPON_ID = "couponId";
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_ISSUED_AT = "issuedAt";
+    private static final String FIELD_EXPIRED_AT = "expiredAt";
+    private static final String FIELD_SOURCE_ID = "sourceId";
+    private static final String FIELD_REASON = "reason";
+
+    /**
+     * KEYS[1]: stream, KEYS[2]: pending hash, KEYS[3]: issued set, KEYS[4]: pending index, KEYS[5]: issued bitmap
+     * ARGV[1]: couponId, ARGV[2]: userId, ARGV[3]: issuedAt, ARGV[4]: expiredAt, ARGV[5]: issued set TTL(s)
+     *
+     * <p>발급 사용자 기록은 {@link RedisCouponIssueManager}와 같은 규칙(비트맵 키가 있으면 비트맵, 없으면 SET)을 따릅니다.</p>
+     */
+    private static final String APPEND_SCRIPT = """
+            redis.call('XADD', KEYS[1], '*', 'couponId', ARGV[1], 'userId', ARGV[2], 'issuedAt', ARGV[3], 'expiredAt', ARGV[4])
+            redis.call('HDEL', KEYS[2], ARGV[2])
+            redis.call('ZREM', KEYS[4], ARGV[2])
+            if tonumber(ARGV[2]) <= 4294967295 and redis.call('EXISTS', KEYS[5]) == 1 then
+                redis.call('SETBIT', KEYS[5], ARGV[2], 1)
+                return 1
+            end
+            redis.call('SADD', KEYS[3], ARGV[2])
+            if redis.call('TTL', KEYS[3]) < 0 then
+                redis.call('EXPIRE', KEYS[3], ARGV[5])
+            end
+            return 1
+            """;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> appendScript;
+    private final String consumerName;
+
+    public CouponIssueStream(RedisTemplate<String, String> redisTemplate,
+                             @Value("${coupon.issue.write-behind.consumer-name:${HOSTNAME:coupon-flusher}}") String consumerName) {
+        this.redisTemplate = redisTemplate;
+        this.appendScript = new DefaultRedisScript<>(APPEND_SCRIPT, Long.class);
+        this.consumerName = consumerName;
+    }
+
+    public void append(CouponIssueReservation reservation) {
+        List<String> keys = List.of(
+                STREAM_KEY,
+                PENDING_KEY_PREFIX + reservation.couponId(),
+                ISSUED_KEY_PREFIX + reservation.couponId(),
+                PENDING_INDEX_KEY_PREFIX + reservation.couponId(),
+                ISSUED_BITMAP_KEY_PREFIX + reservation.couponId());
+
+        redisTemplate.execute(appendScript, keys,
+                reservation.couponId().toString(),
+                reservation.userId().toString(),
+                reservation.issuedAt().toString(),
+                reservation.expiredAt().toString(),
+                String.valueOf(ISSUED_TTL_SECONDS));
+    }
+
+    public void ensureGroup() {
+        try {
+            redisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP);
+            log.info("쿠폰 발급 스트림 consumer group 생성 - group: {}", GROUP);
+        } catch (RedisSystemException e) {
+            // BUSYGROUP: 이미 생성된 그룹
+            log.debug("쿠폰 발급 스트림 consumer group 존재 - group: {}", GROUP);
+        }
+    }
+
+    /**
+     * 이 consumer가 읽었지만 아직 ACK하지 못한 항목을 다시 읽습니다. 재시작 후 복구에 사용합니다.
+     */
+    public List<MapRecord<String, Object, Object>> readUnacknowledged(int count) {
+        return read(count, ReadOffset.from("0"));
+    }
+
+    public List<MapRecord<String, Object, Object>> readNew(int count) {
+        return read(count, ReadOffset.lastConsumed());
+    }
+
+    /**
+     * 다른 consumer(종료된 노드 등)가 minIdle 이상 처리하지 못한 항목을 이 consumer로 가져옵니다.
+     */
+    public List<MapRecord<String, Object, Object>> claimIdle(int count, Duration minIdle) {
+        PendingMessages pending = redisTemplate.opsForStream()
+                .pending(STREAM_KEY, GROUP, Range.unbounded(), count);
+        RecordId[] idleIds = pending.stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+
+        if (idleIds.length == 0) {
+            return List.of();
+        }
+        return redisTemplate.opsForStream().claim(STREAM_KEY, GROUP, consumerName, minIdle, idleIds);
+    }
+
+    public void acknowledge(List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        RecordId[] ids = recordIds.toArray(RecordId[]::new);
+        redisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, ids);
+        redisTemplate.opsForStream().delete(STREAM_KEY, ids);
+    }
+
+    /**
+     * 항목별로 consumer group에 전달된 횟수를 구합니다. 이미 ACK된 항목은 결과에 없습니다.
+     */
+    public Map<RecordId, Long> deliveryCounts(List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return Map.of();
+        }
+        List<RecordId> sorted = recordIds.stream()
+                .sorted(Comparator.comparing(RecordId::getTimestamp).thenComparing(RecordId::getSequence))
+                .toList();
+        PendingMessages pending = redisTemplate.opsForStream().pending(STREAM_KEY, GROUP,
+                Range.closed(sorted.get(0).getValue(), sorted.get(sorted.size() - 1).getValue()), recordIds.size());
+
+        Set<RecordId> requested = new HashSet<>(recordIds);
+        return pending.stream()
+                .filter(message -> requested.contains(message.getId()))
+                .collect(Collectors.toMap(PendingMessage::getId, PendingMessage::getTotalDeliveryCount));
+    }
+
+    /**
+     * 항목을 dead-letter 스트림으로 옮기고 원래 스트림에서 ACK합니다.
+     */
+    public void deadLetter(MapRecord<String, Object, Object> record, String reason) {
+        Map<String, String> value = new LinkedHashMap<>();
+        record.getValue().forEach((field, fieldValue) -> value.put(field.toString(), String.valueOf(fieldValue)));
+        value.put(FIELD_SOURCE_ID, record.getId().getValue());
+        value.put(FIELD_REASON, reason);
+
+        redisTemplate.opsForStream().add(StreamRecords.newRecord().in(DEAD_LETTER_STREAM_KEY).ofMap(value));
+        acknowledge(List.of(record.getId()));
+    }
+
+    public CouponIssueReservation toReservation(MapRecord<String, Object, Object> record) {
+        Map<Object, Object> value = record.getValue();
+        return new CouponIssueReservation(
+                Long.valueOf(value.get(FIELD_COUPON_ID).toString()),
+                Long.valueOf(value.get(FIELD_USER_ID).toString()),
+                LocalDateTime.parse(value.get(FIELD_ISSUED_AT).toString()),
+                LocalDateTime.parse(value.get(FIELD_EXPIRED_AT).toString()));
+    }
+
+    private List<MapRecord<String, Object, Object>> read(int count, ReadOffset offset) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().read(
+                Consumer.from(GROUP, consumerName),
+                StreamReadOptions.empty().count(count),
+                StreamOffset.create(STREAM_KEY, offset));
+        return records != null ? records : List.of();
+    }
+}
@@ -0,0 +1,119 @@
+package org.hhplus.hhecommerce.infrastructure.coupon;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재고가 소진된 쿠폰을 노드 메모리에 표시해 두고, Redis Pub/Sub으로 다른 노드에도 알리는 레지스트리.
+ *
+ * <p>발급 스크립트가 OUT_OF_STOCK을 반환하면 쿠폰을 소진으로 표시하고 {@link #CHANNEL}로 발행합니다.
+ * 이후 요청은 Redis를 호출하지 않고 바로 거절됩니다. 롤백, 임대 반납, PENDING 정리로 재고가 돌아오면 표시를 지우고 다시 발행합니다.</p>
+ *
+ * <p>소진 메시지와 재입고 메시지가 엇갈려 도착하면 재고가 있는데도 소진으로 남을 수 있으므로,
+ * 표시는 {@code markTtlMs}가 지나면 만료되어 다음 요청 한 건이 Redis로 다시 확인합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.strategy", havingValue = "redis", matchIfMissing = false)
+@ConditionalOnProperty(name = "coupon.issue.sold-out-broadcast.enabled", havingValue = "true")
+public class CouponSoldOutRegistry implements MessageListener {
+
+    public static final String CHANNEL = "coupon:sold-out";
+
+    private static final String SOLD_OUT = "soldout:";
+    private static final String RESTOCK = "restock:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long markTtlMs;
+    private final Map<Long, Long> soldOutAt = new ConcurrentHashMap<>();
+
+    private final Counter shortCircuitCounter;
+
+    public CouponSoldOutRegistry(RedisTemplate<String, String> redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${coupon.issue.sold-out-broadcast.mark-ttl-ms:1000}") long markTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.markTtlMs = markTtlMs;
+        this.shortCircuitCounter = Counter.builder("coupon.issue.sold-out.short-circuit")
+                .description("소진 표시로 Redis 호출 없이 거절한 쿠폰 발급 요청 수")
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 소진으로 표시된 쿠폰이면 거절 건수를 기록하고 true를 반환합니다.
+     */
+    public boolean isSoldOut(Long couponId) {
+        Long markedAt = soldOutAt.get(couponId);
+        if (markedAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - markedAt > markTtlMs) {
+            soldOutAt.remove(couponId, markedAt);
+            return false;
+        }
+        shortCircuitCounter.increment();
+        return true;
+    }
+
+    /**
+     * 쿠폰을 소진으로 표시합니다. 이 노드에서 새로 표시된 경우에만 다른 노드에 발행합니다.
+     */
+    public void markSoldOut(Long couponId) {
+        if (mark(couponId)) {
+            publish(SOLD_OUT + couponId);
+        }
+    }
+
+    /**
+     * 재고가 돌아온 쿠폰의 소진 표시를 지우고 다른 노드에도 알립니다.
+     */
+    public void clear(Long couponId) {
+        soldOutAt.remove(couponId);
+        publish(RESTOCK + couponId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (body.startsWith(SOLD_OUT)) {
+                mark(Long.valueOf(body.substring(SOLD_OUT.length())));
+            } else if (body.startsWith(RESTOCK)) {
+                soldOutAt.remove(Long.valueOf(body.substring(RESTOCK.length())));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 쿠폰 소진 메시지 무시 - body: {}", body);
+        }
+    }
+
+    private boolean mark(Long couponId) {
+        long now = System.currentTimeMillis();
+        Long previous = soldOutAt.put(couponId, now);
+        return previous == null || now - previous > markTtlMs;
+    }
+
+    private void publish(String body) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, body);
+        } catch (Exception e) {
+            // 다른 노드는 발급 스크립트 결과로 스스로 표시하거나 표시 만료로 다시 확인하므로 발행 실패는 무시
+            log.warn("쿠폰 소진 상태 발행 실패 - message: {}, error: {}", body, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package org.hhplus.hhecommerce.infrastructure.coupon;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResult;
+import org.hhplus.hhecommerce.infrastructure.config.CouponLeaseProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 쿠폰 재고를 블록 단위로 Redis에서 임대(lease)해 노드 안에서 발급하는 매니저.
+ *
+ * <p>발급 1건마다 Redis를 호출하는 대신 {@code blockSize}개를 한 번에 떼어 와서 로컬 카운터로 차감합니다.
+ * Redis 왕복은 대략 블록 크기분의 1로 줄고, 임대받은 재고가 남아 있는 동안은 Redis가 잠시 응답하지 않아도 발급이 계속됩니다.</p>
+ *
+ * <ul>
+ *   <li>재고는 Redis 재고 키에서 원자적으로 떼어 온 만큼만 발급하므로 초과 발급되지 않습니다.
+ *       DB의 {@code issued_quantity < total_quantity} 조건이 최종 방어선입니다.</li>
+ *   <li>같은 노드의 중복 요청은 로컬 사용자 필터로 걸러지고, 다른 노드와의 중복은
+ *       {@code user_coupon(user_id, coupon_id)} 유니크 제약으로 거절된 뒤 롤백으로 재고가 돌아옵니다.</li>
+ *   <li>마지막 임대 후 {@code ttlMs}가 지난 남은 재고는 Redis로 반납하고, 반납한 쿠폰의 확정 사용자 목록도 비웁니다.
+ *       반납할 것도, 처리 중인 사용자도 없는 임대는 맵에서 뺍니다.</li>
+ *   <li>임대한 수량은 {@code coupon:lease:{couponId}}에 노드 ID별로 기록하고 주기마다 남은 수량과 만료 시각을
+ *       갱신합니다. 노드가 비정상 종료되어 {@code heartbeatTtlMs} 동안 갱신이 없으면, 다른 노드의 회수 작업이
+ *       기록된 수량을 재고 키로 되돌립니다. 마지막 하트비트 이후 발급분까지 되돌릴 수 있으므로 이때도
+ *       DB 조건이 초과 발급을 막습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.strategy", havingValue = "redis", matchIfMissing = false)
+@ConditionalOnProperty(name = "coupon.issue.lease.enabled", havingValue = "true")
+public class CouponStockLeaseManager {
+
+    private final RedisCouponIssueManager redisCouponIssueManager;
+    private final CouponLeaseProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<Long, CouponLease> leases = new ConcurrentHashMap<>();
+
+    private final Counter leasedUnitsCounter;
+    private final Counter returnedUnitsCounter;
+    private final Counter localIssueCounter;
+    private final Counter reclaimedUnitsCounter;
+
+    public CouponStockLeaseManager(RedisCouponIssueManager redisCouponIssueManager,
+                                   CouponLeaseProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.redisCouponIssueManager = redisCouponIssueManager;
+        this.properties = properties;
+
+        this.leasedUnitsCounter = Counter.builder("coupon.lease.units")
+                .description("Redis에서 임대한 쿠폰 재고 수")
+                .tag("action", "leased")
+                .register(meterRegistry);
+
+        this.returnedUnitsCounter = Counter.builder("coupon.lease.units")
+                .description("Redis로 반납한 쿠폰 재고 수")
+                .tag("action", "returned")
+                .register(meterRegistry);
+
+        this.localIssueCounter = Counter.builder("coupon.lease.issues")
+                .description("임대 재고로 발급한 쿠폰 수")
+                .register(meterRegistry);
+
+        this.reclaimedUnitsCounter = Counter.builder("coupon.lease.units")
+                .description("하트비트가 끊긴 노드에서 회수한 쿠폰 재고 수")
+                .tag("action", "reclaimed")
+                .register(meterRegistry);
+
+        log.info("쿠폰 재고 임대 발급 활성화 - nodeId: {}, blockSize: {}, ttlMs: {}",
+                nodeId, properties.getBlockSize(), properties.getTtlMs());
+    }
+
+    /**
+     * 로컬 임대 재고로 발급을 시도하고, 부족하면 Redis에서 다음 블록을 임대합니다.
+     */
+    public CouponIssueResult tryIssue(Long couponId, Long userId) {
+        return issue(couponId, userId, true);
+    }
+
+    /**
+     * Redis를 호출하지 않고 이미 임대받은 재고로만 발급을 시도합니다. Circuit Breaker가 열렸을 때 사용합니다.
+     *
+     * @return 로컬 재고가 없으면 {@link CouponIssueResult#LOCK_ACQUISITION_FAILED}
+     */
+    public CouponIssueResult tryIssueLocally(Long couponId, Long userId) {
+        return issue(couponId, userId, false);
+    }
+
+    private CouponIssueResult issue(Long couponId, Long userId, boolean allowRefill) {
+        while (true) {
+            CouponLease lease = leases.computeIfAbsent(couponId, id -> new CouponLease());
+
+            Boolean previous = lease.users.putIfAbsent(userId, Boolean.FALSE);
+            if (previous != null) {
+                return previous ? CouponIssueResult.ALREADY_ISSUED : CouponIssueResult.PENDING_IN_PROGRESS;
+            }
+
+            CouponIssueResult result;
+            try {
+                result = takeUnit(couponId, lease, allowRefill);
+            } catch (RuntimeException e) {
+                lease.users.remove(userId);
+                throw e;
+            }
+
+            if (result == null) {
+                // 정리 작업이 방금 맵에서 뺀 임대 - 새 임대로 다시 시도
+                lease.users.remove(userId);
+                continue;
+            }
+            if (result != CouponIssueResult.SUCCESS) {
+                lease.users.remove(userId);
+            } else {
+                localIssueCounter.increment();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * @return 임대가 이미 정리되어 쓸 수 없으면 null
+     */
+    private CouponIssueResult takeUnit(Long couponId, CouponLease lease, boolean allowRefill) {
+        while (true) {
+            int remaining = lease.remaining.get();
+            if (remaining > 0) {
+                if (lease.remaining.compareAndSet(remaining, remaining - 1)) {
+                    return CouponIssueResult.SUCCESS;
+                }
+                continue;
+            }
+
+            if (!allowRefill) {
+                return CouponIssueResult.LOCK_ACQUISITION_FAILED;
+            }
+
+            synchronized (lease) {
+                if (lease.retired) {
+                    return null;
+                }
+                // 다른 스레드가 먼저 임대해 왔다면 다시 차감 시도
+                if (lease.remaining.get() > 0) {
+                    continue;
+                }
+
+                int granted;
+                try {
+                    granted = redisCouponIssueManager.leaseStock(couponId, properties.getBlockSize(), nodeId,
+                            Duration.ofMillis(properties.getHeartbeatTtlMs()));
+                } catch (RuntimeException e) {
+                    log.error("쿠폰 재고 임대 실패 - couponId: {}", couponId, e);
+                    return CouponIssueResult.ISSUE_FAILED;
+                }
+
+                if (granted < 0) {
+                    return CouponIssueResult.COUPON_NOT_FOUND;
+                }
+                if (granted == 0) {
+                    return CouponIssueResult.OUT_OF_STOCK;
+                }
+
+                leasedUnitsCounter.increment(granted);
+                lease.recorded = true;
+                lease.leasedAt = System.currentTimeMillis();
+                lease.remaining.addAndGet(granted);
+                log.debug("쿠폰 재고 임대 - couponId: {}, granted: {}", couponId, granted);
+            }
+        }
+    }
+
+    public boolean owns(Long couponId, Long userId) {
+        CouponLease lease = leases.get(couponId);
+        return lease != null && lease.users.containsKey(userId);
+    }
+
+    public boolean hasAlreadyIssued(Long couponId, Long userId) {
+        CouponLease lease = leases.get(couponId);
+        return lease != null && Boolean.TRUE.equals(lease.users.get(userId));
+    }
+
+    public void confirm(Long couponId, Long userId) {
+        CouponLease lease = leases.get(couponId);
+        if (lease != null) {
+            lease.users.replace(userId, Boolean.FALSE, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * DB 저장에 실패한 발급의 재고를 로컬 임대분으로 되돌립니다.
+     */
+    public void rollback(Long couponId, Long userId) {
+        CouponLease lease = leases.get(couponId);
+        if (lease != null && lease.users.remove(userId, Boolean.FALSE)) {
+            lease.remaining.incrementAndGet();
+        }
+    }
+
+    /**
+     * 마지막 임대 후 ttlMs가 지난 남은 재고를 Redis로 반납하고, 아직 쓰는 임대는 Redis 기록을 갱신합니다.
+     * 하트비트가 끊긴 다른 노드의 임대 기록도 이때 회수합니다.
+     */
+    @Scheduled(fixedDelayString = "${coupon.issue.lease.return-interval-ms:5000}")
+    public void returnExpiredLeases() {
+        long now = System.currentTimeMillis();
+        leases.forEach((couponId, lease) -> {
+            synchronized (lease) {
+                if (now - lease.leasedAt >= properties.getTtlMs()) {
+                    returnLease(couponId, lease);
+                    prune(couponId, lease);
+                } else {
+                    heartbeat(couponId, lease);
+                }
+            }
+        });
+        sweepOrphanedLeases();
+    }
+
+    @PreDestroy
+    void returnAllLeases() {
+        leases.forEach((couponId, lease) -> {
+            synchronized (lease) {
+                returnLease(couponId, lease);
+            }
+        });
+    }
+
+    /**
+     * 남은 재고를 반납합니다. 남은 재고가 없어도 Redis의 임대 기록은 지워야 마지막 하트비트 이후 발급분이
+     * 회수 대상으로 남지 않습니다.
+     */
+    private void returnLease(Long couponId, CouponLease lease) {
+        if (!lease.recorded && lease.remaining.get() == 0) {
+            return;
+        }
+        int leftover = lease.remaining.getAndSet(0);
+
+        try {
+            redisCouponIssueManager.returnStock(couponId, leftover, nodeId);
+            lease.recorded = false;
+            if (leftover > 0) {
+                returnedUnitsCounter.increment(leftover);
+                log.info("쿠폰 임대 재고 반납 - couponId: {}, units: {}", couponId, leftover);
+            }
+        } catch (RuntimeException e) {
+            // 반납에 실패하면 로컬에 다시 넣어 두고 다음 주기에 재시도
+            lease.remaining.addAndGet(leftover);
+            log.warn("쿠폰 임대 재고 반납 실패 - couponId: {}, units: {}, error: {}", couponId, leftover, e.getMessage());
+        }
+    }
+
+    /**
+     * 반납을 마친 임대의 확정 사용자 목록을 비우고, 처리 중인 사용자도 없으면 맵에서 뺍니다.
+     * 이후 같은 사용자의 재요청은 {@code user_coupon(user_id, coupon_id)} 유니크 제약이 거릅니다.
+     */
+    private void prune(Long couponId, CouponLease lease) {
+        if (lease.remaining.get() > 0) {
+            return;
+        }
+        lease.users.values().removeIf(Boolean.TRUE::equals);
+        if (lease.users.isEmpty() && !lease.recorded) {
+            lease.retired = true;
+            leases.remove(couponId, lease);
+        }
+    }
+
+    private void heartbeat(Long couponId, CouponLease lease) {
+        if (!lease.recorded) {
+            return;
+        }
+        try {
+            if (!redisCouponIssueManager.heartbeatLease(couponId, nodeId, lease.remaining.get(),
+                    Duration.ofMillis(properties.getHeartbeatTtlMs()))) {
+                // 하트비트가 늦어 다른 노드가 이미 회수한 임대 - 로컬 재고를 버려야 초과 발급되지 않음
+                lease.recorded = false;
+                int dropped = lease.remaining.getAndSet(0);
+                log.warn("회수된 쿠폰 임대 폐기 - couponId: {}, units: {}", couponId, dropped);
+            }
+        } catch (RuntimeException e) {
+            log.warn("쿠폰 임대 하트비트 실패 - couponId: {}, error: {}", couponId, e.getMessage());
+        }
+    }
+
+    private void sweepOrphanedLeases() {
+        try {
+            int reclaimed = redisCouponIssueManager.sweepExpiredLeases();
+            if (reclaimed > 0) {
+                reclaimedUnitsCounter.increment(reclaimed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("만료된 쿠폰 임대 회수 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    int getLocalRemaining(Long couponId) {
+        CouponLease lease = leases.get(couponId);
+        return lease != null ? lease.remaining.get() : 0;
+    }
+
+    private static final class CouponLease {
+        private final AtomicInteger remaining = new AtomicInteger();
+        /** userId -> 확정 여부 (false: 발급 처리 중, true: 발급 확정) */
+        private final Map<Long, Boolean> users = new ConcurrentHashMap<>();
+        private volatile long leasedAt;
+        /** Redis에 이 노드의 임대 기록이 있는지 여부 */
+        private volatile boolean recorded;
+        /** 맵에서 빠진 임대. 더 이상 Redis에서 재고를 받아 오지 않음 */
+        private volatile boolean retired;
+    }
+}
@@ -0,0 +1,214 @@
+package org.hhplus.hhecommerce.infrastructure.coupon;
+
+import org.hhplus.hhecommerce.domain.coupon.CouponQueueStatus;
+import org.hhplus.hhecommerce.domain.coupon.CouponQueueTicket;
+import org.hhplus.hhecommerce.infrastructure.config.CouponWaitingRoomProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 오픈 시 발급 요청 앞에 두는 가상 대기실.
+ *
+ * <p>사용자는 쿠폰별 대기열 ZSET({@code coupon:queue:{couponId}}, score = 입장 순번)에 들어가고,
+ * {@link org.hhplus.hhecommerce.infrastructure.scheduler.CouponQueueDispatcher}가 설정된 속도로 앞에서부터 꺼내
+ * 입장권 ZSET({@code coupon:queue:token:{couponId}}, score = 만료 시각)에 옮깁니다.
+ * 입장권이 있는 사용자만 발급 요청을 보낼 수 있고, 순번 조회는 ZRANK라 O(log n)입니다.</p>
+ *
+ * <p>남은 재고가 유효한 입장권 수 이하가 되면 더 입장시켜도 받을 재고가 없으므로 대기열을 비워 모두 거절하고,
+ * 입장권 유효 시간 동안 새 입장도 바로 거절합니다. 입장권이 쓰이지 않고 만료되어 재고가 남으면 다시 열립니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "coupon.issue.strategy", havingValue = "redis", matchIfMissing = false)
+@ConditionalOnProperty(name = "coupon.waiting-room.enabled", havingValue = "true", matchIfMissing = false)
+public class CouponWaitingRoom {
+
+    private static final String QUEUE_KEY_PREFIX = "coupon:queue:";
+    private static final String SEQUENCE_KEY_PREFIX = "coupon:queue:seq:";
+    private static final String TOKEN_KEY_PREFIX = "coupon:queue:token:";
+    private static final String CLOSED_KEY_PREFIX = "coupon:queue:closed:";
+    private static final String QUEUED_COUPONS_KEY = "coupon:queue:coupons";
+    private static final String STOCK_KEY_PREFIX = "coupon:stock:";
+    private static final String LEASE_KEY_PREFIX = "coupon:lease:";
+
+    private static final long ADMITTED = -1L;
+    private static final long SOLD_OUT = -2L;
+    private static final long NOT_IN_QUEUE = 0L;
+
+    /**
+     * 대기열 상태를 조회하고, ARGV[5]가 1이면 없을 때 맨 뒤에 넣습니다.
+     * KEYS[1]: 대기열, KEYS[2]: 순번, KEYS[3]: 입장권, KEYS[4]: 마감 표시, KEYS[5]: 대기열 있는 쿠폰 목록
+     * ARGV[1]: userId, ARGV[2]: 현재 시각(ms), ARGV[3]: couponId, ARGV[4]: 대기열 TTL(ms), ARGV[5]: 입장 여부
+     * 반환: -1 = 입장권 보유, -2 = 마감, 0 = 대기열에 없음, 그 외 = 대기 순번(1부터)
+     */
+    private static final String QUEUE_SCRIPT = """
+            local expireAt = redis.call('ZSCORE', KEYS[3], ARGV[1])
+            if expireAt and tonumber(expireAt) > tonumber(ARGV[2]) then
+                return -1
+            end
+            local rank = redis.call('ZRANK', KEYS[1], ARGV[1])
+            if rank then
+                return rank + 1
+            end
+            if redis.call('EXISTS', KEYS[4]) == 1 then
+                return -2
+            end
+            if ARGV[5] ~= '1' then
+                return 0
+            end
+            local seq = redis.call('INCR', KEYS[2])
+            redis.call('ZADD', KEYS[1], seq, ARGV[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            redis.call('SADD', KEYS[5], ARGV[3])
+            return redis.call('ZRANK', KEYS[1], ARGV[1]) + 1
+            """;
+
+    /**
+     * 만료된 입장권을 정리하고, 남은 재고 - 유효 입장권 수만큼만 대기열 앞에서 입장시킵니다.
+     * 남은 재고에는 노드들이 재고 키에서 임대해 가서 아직 발급하지 않은 수량(임대 기록 합계)도 포함합니다.
+     * 남은 자리가 없으면 대기열을 비우고 마감 표시를 남깁니다. 재고 키가 아직 없으면 재고와 무관하게 입장시킵니다.
+     * KEYS[1]: 대기열, KEYS[2]: 입장권, KEYS[3]: 재고, KEYS[4]: 마감 표시, KEYS[5]: 대기열 있는 쿠폰 목록, KEYS[6]: 임대 기록
+     * ARGV[1]: 현재 시각(ms), ARGV[2]: 입장권 TTL(ms), ARGV[3]: 최대 입장 수, ARGV[4]: couponId
+     * 반환: {입장 수, 거절 수}
+     */
+    private static final String DISPATCH_SCRIPT = """
+            local now = tonumber(ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+            local outstanding = redis.call('ZCARD', KEYS[2])
+            local limit = tonumber(ARGV[3])
+
+            local stock = redis.call('GET', KEYS[3])
+            if stock then
+                local remaining = tonumber(stock)
+                for _, units in ipairs(redis.call('HVALS', KEYS[6])) do
+                    remaining = remaining + tonumber(units)
+                end
+                local available = remaining - outstanding
+                if available <= 0 then
+                    local rejected = redis.call('ZCARD', KEYS[1])
+                    redis.call('DEL', KEYS[1])
+                    redis.call('SET', KEYS[4], '1', 'PX', ARGV[2])
+                    if outstanding == 0 then
+                        redis.call('SREM', KEYS[5], ARGV[4])
+                    end
+                    return {0, rejected}
+                end
+                redis.call('DEL', KEYS[4])
+                if available < limit then
+                    limit = available
+                end
+            end
+
+            local users = redis.call('ZRANGE', KEYS[1], 0, limit - 1)
+            if #users > 0 then
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, #users - 1)
+                local expireAt = now + tonumber(ARGV[2])
+                for _, user in ipairs(users) do
+                    redis.call('ZADD', KEYS[2], expireAt, user)
+                end
+                redis.call('PEXPIRE', KEYS[2], ARGV[2])
+            elseif outstanding == 0 then
+                redis.call('SREM', KEYS[5], ARGV[4])
+            end
+            return {#users, 0}
+            """;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> queueScript;
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> dispatchScript;
+    private final Duration tokenTtl;
+    private final Duration queueTtl;
+
+    public CouponWaitingRoom(RedisTemplate<String, String> redisTemplate,
+                             CouponWaitingRoomProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.queueScript = new DefaultRedisScript<>(QUEUE_SCRIPT, Long.class);
+        this.dispatchScript = new DefaultRedisScript<>(DISPATCH_SCRIPT, List.class);
+        this.tokenTtl = Duration.ofSeconds(properties.getTokenTtlSeconds());
+        this.queueTtl = Duration.ofHours(properties.getQueueTtlHours());
+    }
+
+    /**
+     * 대기열에 들어갑니다. 이미 대기 중이면 순번을 유지하고, 입장권이 있거나 마감되었으면 그 상태를 돌려줍니다.
+     */
+    public CouponQueueTicket enter(Long couponId, Long userId) {
+        return toTicket(runQueueScript(couponId, userId, true));
+    }
+
+    public CouponQueueTicket status(Long couponId, Long userId) {
+        return toTicket(runQueueScript(couponId, userId, false));
+    }
+
+    public boolean hasToken(Long couponId, Long userId) {
+        Double expireAt = redisTemplate.opsForZSet().score(TOKEN_KEY_PREFIX + couponId, userId.toString());
+        return expireAt != null && expireAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 발급 요청을 마친 입장권을 지워 재고 자리를 계산에서 뺍니다. 다시 시도할 수 있는 실패라면 지우지 않고
+     * 입장권 유효 시간 안에 재시도하게 합니다.
+     */
+    public void releaseToken(Long couponId, Long userId) {
+        redisTemplate.opsForZSet().remove(TOKEN_KEY_PREFIX + couponId, userId.toString());
+    }
+
+    public Set<Long> findQueuedCouponIds() {
+        Set<String> members = redisTemplate.opsForSet().members(QUEUED_COUPONS_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    @SuppressWarnings("unchecked")
+    public DispatchResult dispatch(Long couponId, int maxAdmits) {
+        List<Long> result = redisTemplate.execute(dispatchScript,
+                List.of(QUEUE_KEY_PREFIX + couponId, TOKEN_KEY_PREFIX + couponId, STOCK_KEY_PREFIX + couponId,
+                        CLOSED_KEY_PREFIX + couponId, QUEUED_COUPONS_KEY, LEASE_KEY_PREFIX + couponId),
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(tokenTtl.toMillis()),
+                String.valueOf(maxAdmits),
+                couponId.toString());
+
+        if (result == null || result.size() < 2) {
+            return new DispatchResult(0, 0);
+        }
+        return new DispatchResult(result.get(0).intValue(), result.get(1).intValue());
+    }
+
+    private long runQueueScript(Long couponId, Long userId, boolean join) {
+        Long result = redisTemplate.execute(queueScript,
+                List.of(QUEUE_KEY_PREFIX + couponId, SEQUENCE_KEY_PREFIX + couponId, TOKEN_KEY_PREFIX + couponId,
+                        CLOSED_KEY_PREFIX + couponId, QUEUED_COUPONS_KEY),
+                userId.toString(),
+                String.valueOf(System.currentTimeMillis()),
+                couponId.toString(),
+                String.valueOf(queueTtl.toMillis()),
+                join ? "1" : "0");
+        return result != null ? result : NOT_IN_QUEUE;
+    }
+
+    private CouponQueueTicket toTicket(long result) {
+        if (result == ADMITTED) {
+            return CouponQueueTicket.of(CouponQueueStatus.ADMITTED);
+        }
+        if (result == SOLD_OUT) {
+            return CouponQueueTicket.of(CouponQueueStatus.SOLD_OUT);
+        }
+        if (result == NOT_IN_QUEUE) {
+            return CouponQueueTicket.of(CouponQueueStatus.NOT_IN_QUEUE);
+        }
+        return CouponQueueTicket.waiting(result);
+    }
+
+    public record DispatchResult(int admitted, int rejected) {
+    }
+}
@@ -0,0 +1,203 @@
+package org.hhplus.hhecommerce.infrastructure.coupon;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueManager;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResult;
+import org.hhplus.hhecommerce.domain.coupon.CouponStatus;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
+import org.hhplus.hhecommerce.infrastructure.cache.UserCouponWalletCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Redis 없이 DB 트랜잭션 하나로 선착순 발급을 끝내는 전략.
+ *
+ * <p>재고와 기간 조건을 건 {@code UPDATE}로 발급 수량을 먼저 올리고(쿠폰 행 잠금), 같은 트랜잭션에서
+ * {@code INSERT}로 사용자 쿠폰을 저장합니다. 중복 발급은 {@code uk_user_coupon}이 막아
+ * {@link DuplicateKeyException}이 나고, 이때는 트랜잭션을 되돌려 올린 발급 수량도 함께 취소합니다.
+ * 읽고 나서 쓰는 단계가 없으므로 분산 락이나 Redis 재고 키가 필요 없습니다.</p>
+ *
+ * <p>파티션 모드 쿠폰은 쿠폰 행의 발급 수량이 전환 시점 값으로 멈춰 있으므로 조건 {@code UPDATE}에서 제외하고,
+ * 쿠폰 상태를 읽은 뒤 {@link CouponIssueQuotaAllocator}로 쿼터에서 확보하는 트랜잭션을 따로 실행합니다.</p>
+ *
+ * <p>조건 {@code UPDATE}에 걸리지 않은 요청만 트랜잭션 밖에서 쿠폰 상태를 한 번 읽어 거절 사유를 가립니다.
+ * 사용자 쿠폰까지 이 안에서 저장하므로 {@link #persistsUserCoupon()}은 true, 발급 수량도 이미 올렸으므로
+ * {@link #shouldUpdateCouponStock()}은 false입니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.strategy", havingValue = "db-atomic", matchIfMissing = false)
+public class DbAtomicCouponIssueManager implements CouponIssueManager {
+
+    private static final long USER_COUPON_VALID_DAYS = 30;
+
+    private static final String INCREASE_ISSUED_QUANTITY_SQL =
+            "UPDATE coupon SET issued_quantity = issued_quantity + 1 " +
+            "WHERE id = ? AND issued_quantity < total_quantity AND start_at < ? AND end_at > ? " +
+            "AND issue_partition_count = 0";
+
+    private static final String INSERT_USER_COUPON_SQL =
+            "INSERT INTO user_coupon (user_id, coupon_id, status, expired_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String FIND_ISSUE_STATE_SQL =
+            "SELECT c.total_quantity, c.issued_quantity, c.issue_partition_count, " +
+            "(c.start_at < ? AND c.end_at > ?) AS in_period, " +
+            "EXISTS (SELECT 1 FROM user_coupon uc WHERE uc.user_id = ? AND uc.coupon_id = c.id) AS already_issued " +
+            "FROM coupon c WHERE c.id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate quotaTransactionTemplate;
+    private final CouponIssueQuotaAllocator couponIssueQuotaAllocator;
+    private final UserCouponRepository userCouponRepository;
+    private final UserCouponWalletCache userCouponWalletCache;
+
+    public DbAtomicCouponIssueManager(JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      CouponIssueQuotaAllocator couponIssueQuotaAllocator,
+                                      UserCouponRepository userCouponRepository,
+                                      UserCouponWalletCache userCouponWalletCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        // 쿼터 빠른 경로는 READ COMMITTED에서만 쓸 수 있음 (CouponIssueQuotaAllocator 참고)
+        this.quotaTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.quotaTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.couponIssueQuotaAllocator = couponIssueQuotaAllocator;
+        this.userCouponRepository = userCouponRepository;
+        this.userCouponWalletCache = userCouponWalletCache;
+    }
+
+    @Override
+    public CouponIssueResult tryIssue(Long couponId, Long userId) {
+        try {
+            Optional<CouponIssueResult> issued = transactionTemplate.execute(
+                    status -> issueInTransaction(couponId, userId, status));
+
+            if (issued == null || issued.isEmpty()) {
+                return issueFromQuotaOrReject(couponId, userId);
+            }
+            return issued.get();
+        } catch (DataAccessException e) {
+            log.error("DB coupon issue failed for coupon {} user {}", couponId, userId, e);
+            return CouponIssueResult.ISSUE_FAILED;
+        }
+    }
+
+    /**
+     * 조건 UPDATE에 걸리지 않으면 빈 값을 돌려줍니다. 거절 사유 조회는 쿠폰 행 잠금을 놓은 뒤에 합니다.
+     */
+    private Optional<CouponIssueResult> issueInTransaction(Long couponId, Long userId, TransactionStatus status) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp issuedAt = Timestamp.valueOf(now);
+
+        int increased = jdbcTemplate.update(INCREASE_ISSUED_QUANTITY_SQL, couponId, issuedAt, issuedAt);
+        if (increased == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(insertUserCoupon(couponId, userId, now, status));
+    }
+
+    /**
+     * 발급 수량(쿠폰 행 또는 쿼터)을 확보한 뒤 사용자 쿠폰을 저장합니다. 중복이면 트랜잭션을 되돌려 확보한 수량도 취소합니다.
+     */
+    private CouponIssueResult insertUserCoupon(Long couponId, Long userId, LocalDateTime now, TransactionStatus status) {
+        Timestamp issuedAt = Timestamp.valueOf(now);
+        try {
+            jdbcTemplate.update(INSERT_USER_COUPON_SQL,
+                    userId,
+                    couponId,
+                    CouponStatus.AVAILABLE.name(),
+                    Timestamp.valueOf(now.plusDays(USER_COUPON_VALID_DAYS)),
+                    issuedAt,
+                    issuedAt);
+        } catch (DuplicateKeyException e) {
+            // uk_user_coupon에 걸림 - 올린 발급 수량도 함께 되돌림
+            status.setRollbackOnly();
+            log.warn("User {} already issued coupon {} (unique key)", userId, couponId);
+            return CouponIssueResult.ALREADY_ISSUED;
+        }
+
+        userCouponWalletCache.evictAfterCommit(userId);
+        log.debug("Coupon {} issued to user {} (db-atomic)", couponId, userId);
+        return CouponIssueResult.SUCCESS;
+    }
+
+    /**
+     * 조건 UPDATE에 걸리지 않은 요청의 쿠폰 상태를 읽어, 파티션 모드 쿠폰이면 쿼터에서 발급하고 아니면 거절 사유를 돌려줍니다.
+     */
+    private CouponIssueResult issueFromQuotaOrReject(Long couponId, Long userId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<IssueState> states = jdbcTemplate.query(FIND_ISSUE_STATE_SQL, (rs, rowNum) -> new IssueState(
+                rs.getInt("total_quantity"),
+                rs.getInt("issued_quantity"),
+                rs.getInt("issue_partition_count"),
+                rs.getBoolean("in_period"),
+                rs.getBoolean("already_issued")), now, now, userId, couponId);
+
+        if (states.isEmpty()) {
+            return CouponIssueResult.COUPON_NOT_FOUND;
+        }
+        IssueState state = states.get(0);
+        if (state.alreadyIssued()) {
+            return CouponIssueResult.ALREADY_ISSUED;
+        }
+        if (state.issuePartitionCount() > 0) {
+            return state.inPeriod()
+                    ? quotaTransactionTemplate.execute(status -> issueFromQuota(couponId, userId, state.issuePartitionCount(), status))
+                    : CouponIssueResult.NOT_AVAILABLE;
+        }
+        if (state.issuedQuantity() >= state.totalQuantity()) {
+            return CouponIssueResult.OUT_OF_STOCK;
+        }
+        return CouponIssueResult.NOT_AVAILABLE;
+    }
+
+    private CouponIssueResult issueFromQuota(Long couponId, Long userId, int partitionCount, TransactionStatus status) {
+        if (couponIssueQuotaAllocator.reserveForUser(couponId, partitionCount, userId) == 0) {
+            return CouponIssueResult.OUT_OF_STOCK;
+        }
+        return insertUserCoupon(couponId, userId, LocalDateTime.now(), status);
+    }
+
+    private record IssueState(int totalQuantity, int issuedQuantity, int issuePartitionCount,
+                              boolean inPeriod, boolean alreadyIssued) {
+    }
+
+    @Override
+    public boolean hasAlreadyIssued(Long couponId, Long userId) {
+        return userCouponRepository.existsByUserIdAndCouponId(userId, couponId);
+    }
+
+    @Override
+    public void confirm(Long couponId, Long userId) {
+        log.debug("Confirm called for coupon {} user {} (no-op for db-atomic strategy)", couponId, userId);
+    }
+
+    @Override
+    public void rollback(Long couponId, Long userId) {
+        // 발급과 저장이 한 트랜잭션으로 이미 커밋되었으므로 되돌릴 예약이 없음
+        log.debug("Rollback called for coupon {} user {} (no-op for db-atomic strategy)", couponId, userId);
+    }
+
+    @Override
+    public boolean shouldUpdateCouponStock() {
+        return false;
+    }
+
+    @Override
+    public boolean persistsUserCoupon() {
+        return true;
+    }
+}
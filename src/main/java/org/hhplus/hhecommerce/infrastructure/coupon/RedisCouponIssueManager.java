@@ -1,20 +1,34 @@
 package org.hhplus.hhecommerce.infrastructure.coupon;
 
 import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueManager;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueResult;
 import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
 import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
 import org.hhplus.hhecommerce.infrastructure.config.CouponProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
@@ -23,13 +37,62 @@ public class RedisCouponIssueManager implements CouponIssueManager {
 
     private static final String STOCK_KEY_PREFIX = "coupon:stock:";
     private static final String ISSUED_KEY_PREFIX = "coupon:issued:";
+    private static final String ISSUED_BITMAP_KEY_PREFIX = "coupon:issued-bitmap:";
     private static final String PENDING_KEY_PREFIX = "coupon:pending:";
+    private static final String PENDING_INDEX_KEY_PREFIX = "coupon:pending-index:";
+    private static final String PENDING_COUPONS_KEY = "coupon:pending-coupons";
+    private static final String LEASE_KEY_PREFIX = "coupon:lease:";
+    private static final String LEASE_HEARTBEAT_KEY_PREFIX = "coupon:lease-heartbeat:";
+    private static final String LEASE_COUPONS_KEY = "coupon:lease-coupons";
     private static final String INIT_LOCK_KEY_PREFIX = "coupon:init:lock:";
     private static final String INIT_COMPLETE_KEY_PREFIX = "coupon:init:complete:";
     private static final Duration DEFAULT_TTL = Duration.ofDays(31);
-    private static final Duration INIT_LOCK_TTL = Duration.ofSeconds(10);
-    private static final int INIT_WAIT_MAX_RETRIES = 50;
+    // 초기화 잠금 TTL = 기본 10초 + 발급 사용자 100만 명당 30초. 사용자 수를 알게 되면 그 수로 다시 늘림
+    private static final Duration INIT_LOCK_BASE_TTL = Duration.ofSeconds(10);
+    private static final Duration INIT_LOCK_TTL_PER_MILLION_USERS = Duration.ofSeconds(30);
     private static final long INIT_WAIT_INTERVAL_MS = 100;
+    // 발급 사용자 SET을 재구성할 때 SADD 한 번에 보내는 사용자 수
+    private static final int ISSUED_SET_ADD_BATCH_SIZE = 10_000;
+    // Redis 비트맵 오프셋 상한(2^32 - 1). 이보다 큰 userId는 비트맵 모드에서도 SET에 기록
+    private static final long MAX_BITMAP_OFFSET = 4_294_967_295L;
+    // 비트맵을 재구성할 때 한 번에 만들고 SETRANGE로 보내는 크기 (사용자 8,388,608명 범위)
+    private static final int BITMAP_CHUNK_BYTES = 1 << 20;
+    private static final String BITMAP_BUILDING_SUFFIX = ":building";
+
+    /**
+     * 발급 사용자 집합 판정/기록 함수. 비트맵 키가 있으면 userId 번째 비트를, 없으면 SET을 사용합니다.
+     * 발급 관련 스크립트는 모두 이 규칙을 따르므로 쿠폰마다 두 표현 중 하나로 일관되게 동작합니다.
+     */
+    private static final String ISSUED_FUNCTIONS = """
+            local function useBitmap(bitmapKey, userId)
+                return tonumber(userId) <= 4294967295 and redis.call('EXISTS', bitmapKey) == 1
+            end
+            local function isIssued(setKey, bitmapKey, userId)
+                if useBitmap(bitmapKey, userId) then
+                    return redis.call('GETBIT', bitmapKey, userId) == 1
+                end
+                return redis.call('SISMEMBER', setKey, userId) == 1
+            end
+            local function addIssued(setKey, bitmapKey, userId)
+                if useBitmap(bitmapKey, userId) then
+                    redis.call('SETBIT', bitmapKey, userId, 1)
+                else
+                    redis.call('SADD', setKey, userId)
+                end
+            end
+            """;
+
+    /**
+     * 임대 기록 규칙. {@code coupon:lease:{couponId}}에는 노드별로 재고 키에서 떼어 간 수량을,
+     * {@code coupon:lease-heartbeat:{couponId}}에는 그 기록의 만료 시각(ms)을 둡니다.
+     * 노드가 하트비트 없이 사라지면 만료된 기록의 수량을 다른 노드가 재고 키로 되돌립니다.
+     */
+    private static final String LEASE_FUNCTIONS = """
+            local function nowMillis()
+                local time = redis.call('TIME')
+                return tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            end
+            """;
 
     private static final Long RESULT_SUCCESS = 1L;
     private static final Long RESULT_ALREADY_ISSUED = -1L;
@@ -41,31 +104,59 @@ public class RedisCouponIssueManager implements CouponIssueManager {
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
     private final CouponProperties couponProperties;
+    private final CouponSoldOutRegistry soldOutRegistry;
+    private final int issuedBitmapMinTotalQuantity;
+    private final long issuedBitmapMaxBytes;
     private final DefaultRedisScript<List> issueScript;
+    private final DefaultRedisScript<List> batchIssueScript;
+    private final DefaultRedisScript<Long> leaseScript;
+    private final DefaultRedisScript<Long> returnLeaseScript;
+    private final DefaultRedisScript<Long> leaseHeartbeatScript;
+    private final DefaultRedisScript<Long> sweepLeaseScript;
     private final DefaultRedisScript<Long> confirmScript;
     private final DefaultRedisScript<Long> rollbackScript;
+    private final DefaultRedisScript<Long> revokeIssuedScript;
+    private final DefaultRedisScript<Long> restoreStockScript;
+    private final DefaultRedisScript<Long> extendInitLockScript;
+    private final DefaultRedisScript<Long> releaseInitLockScript;
 
     public RedisCouponIssueManager(RedisTemplate<String, String> redisTemplate,
                                    CouponRepository couponRepository,
                                    UserCouponRepository userCouponRepository,
-                                   CouponProperties couponProperties) {
+                                   CouponProperties couponProperties,
+                                   ObjectProvider<CouponSoldOutRegistry> soldOutRegistryProvider,
+                                   @Value("${coupon.issue.issued-bitmap.min-total-quantity:100000}") int issuedBitmapMinTotalQuantity,
+                                   @Value("${coupon.issue.issued-bitmap.max-bytes:67108864}") long issuedBitmapMaxBytes) {
         this.redisTemplate = redisTemplate;
         this.couponRepository = couponRepository;
         this.userCouponRepository = userCouponRepository;
         this.couponProperties = couponProperties;
+        this.soldOutRegistry = soldOutRegistryProvider.getIfAvailable();
+        this.issuedBitmapMinTotalQuantity = issuedBitmapMinTotalQuantity;
+        this.issuedBitmapMaxBytes = issuedBitmapMaxBytes;
         this.issueScript = createIssueScript();
+        this.batchIssueScript = createBatchIssueScript();
+        this.leaseScript = createLeaseScript();
+        this.returnLeaseScript = createReturnLeaseScript();
+        this.leaseHeartbeatScript = createLeaseHeartbeatScript();
+        this.sweepLeaseScript = createSweepLeaseScript();
         this.confirmScript = createConfirmScript();
         this.rollbackScript = createRollbackScript();
+        this.revokeIssuedScript = createRevokeIssuedScript();
+        this.restoreStockScript = createRestoreStockScript();
+        this.extendInitLockScript = createExtendInitLockScript();
+        this.releaseInitLockScript = createReleaseInitLockScript();
     }
 
     private DefaultRedisScript<List> createIssueScript() {
         String script = """
             -- KEYS[1]: stock key, KEYS[2]: issued set, KEYS[3]: pending hash
-            -- ARGV[1]: userId, ARGV[2]: current timestamp, ARGV[3]: pending timeout ms
+            -- KEYS[4]: pending index (예약 시각 ZSET), KEYS[5]: pending 쿠폰 목록, KEYS[6]: issued bitmap
+            -- ARGV[1]: userId, ARGV[2]: current timestamp, ARGV[3]: pending timeout ms, ARGV[4]: couponId
             -- 반환: {코드, 남은재고, 경과시간, 메시지}
 
             -- 1. 이미 발급 완료 체크
-            if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+            if isIssued(KEYS[2], KEYS[6], ARGV[1]) then
                 return {-1, 0, 0, "ALREADY_ISSUED"}
             end
 
@@ -78,6 +169,7 @@ public class RedisCouponIssueManager implements CouponIssueManager {
                 end
                 -- 타임아웃된 pending은 정리하고 재시도 허용
                 redis.call('HDEL', KEYS[3], ARGV[1])
+                redis.call('ZREM', KEYS[4], ARGV[1])
                 redis.call('INCR', KEYS[1])
             end
 
@@ -99,45 +191,295 @@ public class RedisCouponIssueManager implements CouponIssueManager {
                 return {-2, 0, 0, "OUT_OF_STOCK_RACE"}
             end
 
-            -- 6. PENDING 상태로 기록 (issued가 아닌 pending에)
+            -- 6. PENDING 상태로 기록 (issued가 아닌 pending에), 정리 스케줄러를 위해 예약 시각으로 색인
             redis.call('HSET', KEYS[3], ARGV[1], ARGV[2])
+            redis.call('ZADD', KEYS[4], ARGV[2], ARGV[1])
+            redis.call('SADD', KEYS[5], ARGV[4])
 
             return {1, newStock, 0, "SUCCESS"}
             """;
 
         DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
-        redisScript.setScriptText(script);
+        redisScript.setScriptText(ISSUED_FUNCTIONS + script);
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    /**
+     * 여러 사용자의 발급 요청을 한 번의 EVAL로 처리합니다.
+     * 사용자별 판정 순서와 결과 코드는 단건 스크립트와 같고, 배치 안의 순서대로 처리됩니다.
+     */
+    private DefaultRedisScript<List> createBatchIssueScript() {
+        String script = """
+            -- KEYS[1]: stock key, KEYS[2]: issued set, KEYS[3]: pending hash
+            -- KEYS[4]: pending index (예약 시각 ZSET), KEYS[5]: pending 쿠폰 목록, KEYS[6]: issued bitmap
+            -- ARGV[1]: current timestamp, ARGV[2]: pending timeout ms, ARGV[3]: couponId, ARGV[4..]: userIds
+            -- 반환: {사용자별 코드..., 남은재고} / 재고 키가 없으면 {-3}
+
+            local stock = redis.call('GET', KEYS[1])
+            if stock == false then
+                return {-3}
+            end
+
+            local initial = tonumber(stock)
+            local remaining = initial
+            local now = tonumber(ARGV[1])
+            local timeout = tonumber(ARGV[2])
+            local results = {}
+            local reserved = 0
+
+            for i = 4, #ARGV do
+                local userId = ARGV[i]
+                local code
+
+                if isIssued(KEYS[2], KEYS[6], userId) then
+                    code = -1
+                else
+                    local pendingTime = redis.call('HGET', KEYS[3], userId)
+                    if pendingTime and (now - tonumber(pendingTime)) < timeout then
+                        code = -4
+                    else
+                        if pendingTime then
+                            -- 타임아웃된 pending은 정리하고 재고 복구
+                            redis.call('HDEL', KEYS[3], userId)
+                            redis.call('ZREM', KEYS[4], userId)
+                            remaining = remaining + 1
+                        end
+
+                        if remaining <= 0 then
+                            code = -2
+                        else
+                            remaining = remaining - 1
+                            redis.call('HSET', KEYS[3], userId, ARGV[1])
+                            redis.call('ZADD', KEYS[4], ARGV[1], userId)
+                            reserved = reserved + 1
+                            code = 1
+                        end
+                    end
+                end
+
+                results[#results + 1] = code
+            end
+
+            -- 재고 키의 TTL을 유지하기 위해 SET 대신 변화량만 반영
+            if remaining ~= initial then
+                redis.call('INCRBY', KEYS[1], remaining - initial)
+            end
+            if reserved > 0 then
+                redis.call('SADD', KEYS[5], ARGV[3])
+            end
+
+            results[#results + 1] = remaining
+            return results
+            """;
+
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(ISSUED_FUNCTIONS + script);
         redisScript.setResultType(List.class);
         return redisScript;
     }
 
+    private DefaultRedisScript<Long> createLeaseScript() {
+        String script = LEASE_FUNCTIONS + """
+            -- KEYS[1]: stock key, KEYS[2]: lease hash, KEYS[3]: lease heartbeat hash, KEYS[4]: 임대 중인 쿠폰 목록
+            -- ARGV[1]: 요청 수량, ARGV[2]: nodeId, ARGV[3]: 임대 기록 TTL(ms), ARGV[4]: couponId
+            -- 반환: 할당된 수량 (재고가 부족하면 남은 만큼), 재고 키가 없으면 -3
+
+            local stock = redis.call('GET', KEYS[1])
+            if stock == false then
+                return -3
+            end
+
+            local granted = math.min(tonumber(stock), tonumber(ARGV[1]))
+            if granted <= 0 then
+                return 0
+            end
+
+            redis.call('DECRBY', KEYS[1], granted)
+            redis.call('HINCRBY', KEYS[2], ARGV[2], granted)
+            redis.call('HSET', KEYS[3], ARGV[2], nowMillis() + tonumber(ARGV[3]))
+            redis.call('SADD', KEYS[4], ARGV[4])
+            return granted
+            """;
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    private DefaultRedisScript<Long> createReturnLeaseScript() {
+        String script = """
+            -- KEYS[1]: stock key, KEYS[2]: lease hash, KEYS[3]: lease heartbeat hash
+            -- ARGV[1]: 반납 수량, ARGV[2]: nodeId
+            -- 노드가 가진 임대분을 모두 돌려주므로 임대 기록도 지움
+            -- 재고 키가 사라졌다면 다음 동기화 때 DB 기준으로 다시 계산되므로 반납하지 않음
+
+            redis.call('HDEL', KEYS[2], ARGV[2])
+            redis.call('HDEL', KEYS[3], ARGV[2])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('INCRBY', KEYS[1], ARGV[1])
+            return 1
+            """;
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    private DefaultRedisScript<Long> createRestoreStockScript() {
+        String script = """
+            -- KEYS[1]: stock key
+            -- ARGV[1]: 복구 수량
+            -- 재고 키가 사라졌다면 다음 동기화 때 DB 기준으로 다시 계산되므로 복구하지 않음
+
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            redis.call('INCRBY', KEYS[1], ARGV[1])
+            return 1
+            """;
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    private DefaultRedisScript<Long> createExtendInitLockScript() {
+        String script = """
+            -- KEYS: 초기화 잠금 키 목록
+            -- ARGV[1]: 잠금 토큰, ARGV[2]: 새 TTL(ms)
+            -- 이 요청이 잡은(토큰이 같은) 잠금만 늘림. 만료되어 다른 요청이 잡은 잠금은 건드리지 않음
+            -- 반환: 늘린 잠금 수
+
+            local extended = 0
+            for _, key in ipairs(KEYS) do
+                if redis.call('GET', key) == ARGV[1] then
+                    redis.call('PEXPIRE', key, ARGV[2])
+                    extended = extended + 1
+                end
+            end
+            return extended
+            """;
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    private DefaultRedisScript<Long> createReleaseInitLockScript() {
+        String script = """
+            -- KEYS: 초기화 잠금 키 목록
+            -- ARGV[1]: 잠금 토큰
+            -- 이 요청이 잡은(토큰이 같은) 잠금만 해제
+            -- 반환: 해제한 잠금 수
+
+            local released = 0
+            for _, key in ipairs(KEYS) do
+                if redis.call('GET', key) == ARGV[1] then
+                    redis.call('DEL', key)
+                    released = released + 1
+                end
+            end
+            return released
+            """;
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    private DefaultRedisScript<Long> createLeaseHeartbeatScript() {
+        String script = LEASE_FUNCTIONS + """
+            -- KEYS[1]: lease hash, KEYS[2]: lease heartbeat hash
+            -- ARGV[1]: nodeId, ARGV[2]: 노드에 남은 임대 수량, ARGV[3]: 임대 기록 TTL(ms)
+            -- 기록을 실제 남은 수량으로 맞추고 만료 시각을 늘림. 이미 회수된 기록은 되살리지 않음 (반환 0)
+
+            if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('HSET', KEYS[2], ARGV[1], nowMillis() + tonumber(ARGV[3]))
+            return 1
+            """;
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    private DefaultRedisScript<Long> createSweepLeaseScript() {
+        String script = LEASE_FUNCTIONS + """
+            -- KEYS[1]: stock key, KEYS[2]: lease hash, KEYS[3]: lease heartbeat hash, KEYS[4]: 임대 중인 쿠폰 목록
+            -- ARGV[1]: couponId
+            -- 반환: 재고 키로 되돌린 수량
+
+            local now = nowMillis()
+            local stockExists = redis.call('EXISTS', KEYS[1]) == 1
+            local returned = 0
+            local nodes = redis.call('HKEYS', KEYS[2])
+            for _, nodeId in ipairs(nodes) do
+                local expiresAt = tonumber(redis.call('HGET', KEYS[3], nodeId) or '0')
+                if expiresAt < now then
+                    local units = tonumber(redis.call('HGET', KEYS[2], nodeId) or '0')
+                    if stockExists and units > 0 then
+                        redis.call('INCRBY', KEYS[1], units)
+                        returned = returned + units
+                    end
+                    redis.call('HDEL', KEYS[2], nodeId)
+                    redis.call('HDEL', KEYS[3], nodeId)
+                end
+            end
+
+            if redis.call('HLEN', KEYS[2]) == 0 then
+                redis.call('DEL', KEYS[3])
+                redis.call('SREM', KEYS[4], ARGV[1])
+            end
+            return returned
+            """;
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
     private DefaultRedisScript<Long> createConfirmScript() {
         String script = """
-            -- KEYS[1]: issued set, KEYS[2]: pending hash
+            -- KEYS[1]: issued set, KEYS[2]: pending hash, KEYS[3]: pending index, KEYS[4]: issued bitmap
             -- ARGV[1]: userId
 
             -- pending에서 제거하고 issued로 이동
             local removed = redis.call('HDEL', KEYS[2], ARGV[1])
+            redis.call('ZREM', KEYS[3], ARGV[1])
             if removed == 1 then
-                redis.call('SADD', KEYS[1], ARGV[1])
+                addIssued(KEYS[1], KEYS[4], ARGV[1])
                 return 1
             end
             return 0
             """;
 
         DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
-        redisScript.setScriptText(script);
+        redisScript.setScriptText(ISSUED_FUNCTIONS + script);
         redisScript.setResultType(Long.class);
         return redisScript;
     }
 
     private DefaultRedisScript<Long> createRollbackScript() {
         String script = """
-            -- KEYS[1]: stock key, KEYS[2]: pending hash
+            -- KEYS[1]: stock key, KEYS[2]: pending hash, KEYS[3]: pending index
             -- ARGV[1]: userId
 
             -- pending에서 제거하고 재고 복구
             local removed = redis.call('HDEL', KEYS[2], ARGV[1])
+            redis.call('ZREM', KEYS[3], ARGV[1])
             if removed == 1 then
                 redis.call('INCR', KEYS[1])
                 return 1
@@ -151,6 +493,32 @@ public class RedisCouponIssueManager implements CouponIssueManager {
         return redisScript;
     }
 
+    private DefaultRedisScript<Long> createRevokeIssuedScript() {
+        String script = """
+            -- KEYS[1]: stock key, KEYS[2]: issued set, KEYS[3]: issued bitmap
+            -- ARGV[1]: userId
+            -- 확정된 발급을 취소하고 재고 복구. 재고 키가 사라졌다면 다음 동기화 때 DB 기준으로 다시 계산됨
+
+            if not isIssued(KEYS[2], KEYS[3], ARGV[1]) then
+                return 0
+            end
+            if useBitmap(KEYS[3], ARGV[1]) then
+                redis.call('SETBIT', KEYS[3], ARGV[1], 0)
+            else
+                redis.call('SREM', KEYS[2], ARGV[1])
+            end
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('INCR', KEYS[1])
+            end
+            return 1
+            """;
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(ISSUED_FUNCTIONS + script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
     @Override
     public CouponIssueResult tryIssue(Long couponId, Long userId) {
         String stockKey = STOCK_KEY_PREFIX + couponId;
@@ -158,12 +526,14 @@ public class RedisCouponIssueManager implements CouponIssueManager {
         String pendingKey = PENDING_KEY_PREFIX + couponId;
 
         try {
-            List<String> keys = Arrays.asList(stockKey, issuedKey, pendingKey);
+            List<String> keys = Arrays.asList(stockKey, issuedKey, pendingKey,
+                    PENDING_INDEX_KEY_PREFIX + couponId, PENDING_COUPONS_KEY, ISSUED_BITMAP_KEY_PREFIX + couponId);
             String timestamp = String.valueOf(System.currentTimeMillis());
             String timeoutMs = String.valueOf(couponProperties.getTimeoutMs());
 
             @SuppressWarnings("unchecked")
-            List<Object> result = redisTemplate.execute(issueScript, keys, userId.toString(), timestamp, timeoutMs);
+            List<Object> result = redisTemplate.execute(issueScript, keys, userId.toString(), timestamp, timeoutMs,
+                    couponId.toString());
 
             if (result == null || result.isEmpty()) {
                 log.error("Lua script returned null/empty for coupon {} user {}", couponId, userId);
@@ -176,7 +546,8 @@ public class RedisCouponIssueManager implements CouponIssueManager {
                 log.info("Coupon {} not initialized in Redis, syncing from DB", couponId);
                 if (syncFromDatabase(couponId)) {
                     @SuppressWarnings("unchecked")
-                    List<Object> retryResult = redisTemplate.execute(issueScript, keys, userId.toString(), timestamp, timeoutMs);
+                    List<Object> retryResult = redisTemplate.execute(issueScript, keys, userId.toString(), timestamp, timeoutMs,
+                            couponId.toString());
                     if (retryResult == null || retryResult.isEmpty()) {
                         return CouponIssueResult.ISSUE_FAILED;
                     }
@@ -193,6 +564,164 @@ public class RedisCouponIssueManager implements CouponIssueManager {
         }
     }
 
+    /**
+     * 같은 쿠폰에 대한 여러 사용자의 발급 요청을 한 번의 Lua 호출로 처리합니다.
+     *
+     * @return userIds와 같은 순서의 사용자별 결과
+     */
+    public List<CouponIssueResult> tryIssueBatch(Long couponId, List<Long> userIds) {
+        List<String> keys = Arrays.asList(
+                STOCK_KEY_PREFIX + couponId, ISSUED_KEY_PREFIX + couponId, PENDING_KEY_PREFIX + couponId,
+                PENDING_INDEX_KEY_PREFIX + couponId, PENDING_COUPONS_KEY, ISSUED_BITMAP_KEY_PREFIX + couponId);
+
+        try {
+            List<String> args = new ArrayList<>(userIds.size() + 3);
+            args.add(String.valueOf(System.currentTimeMillis()));
+            args.add(String.valueOf(couponProperties.getTimeoutMs()));
+            args.add(couponId.toString());
+            userIds.forEach(userId -> args.add(userId.toString()));
+
+            List<Object> result = executeBatchScript(keys, args);
+            if (isNotInitialized(result)) {
+                log.info("Coupon {} not initialized in Redis, syncing from DB (batch size: {})", couponId, userIds.size());
+                if (!syncFromDatabase(couponId)) {
+                    return Collections.nCopies(userIds.size(), CouponIssueResult.COUPON_NOT_FOUND);
+                }
+                result = executeBatchScript(keys, args);
+            }
+
+            if (result == null || result.size() != userIds.size() + 1) {
+                log.error("Batch Lua script returned unexpected result for coupon {} (batch size: {}): {}",
+                        couponId, userIds.size(), result);
+                return Collections.nCopies(userIds.size(), CouponIssueResult.ISSUE_FAILED);
+            }
+
+            int remainingStock = ((Number) result.get(userIds.size())).intValue();
+            List<CouponIssueResult> results = new ArrayList<>(userIds.size());
+            for (int i = 0; i < userIds.size(); i++) {
+                Long code = ((Number) result.get(i)).longValue();
+                ScriptResult scriptResult = new ScriptResult(code, remainingStock, -1, "BATCH");
+                results.add(mapResult(scriptResult, couponId, userIds.get(i)));
+            }
+            return results;
+        } catch (Exception e) {
+            log.error("Redis batch coupon issue failed for coupon {} (batch size: {})", couponId, userIds.size(), e);
+            return Collections.nCopies(userIds.size(), CouponIssueResult.ISSUE_FAILED);
+        }
+    }
+
+    /**
+     * 재고 키에서 최대 units개를 한 번에 떼어 가고, 떼어 간 수량을 nodeId 앞으로 임대 기록에 남깁니다.
+     * 노드 로컬 임대(lease) 발급에서 사용합니다.
+     *
+     * @param leaseTtl 하트비트가 없을 때 임대 기록이 회수 대상이 되기까지의 시간
+     * @return 실제로 할당된 수량 (0이면 재고 소진), 쿠폰이 없으면 -1
+     */
+    public int leaseStock(Long couponId, int units, String nodeId, Duration leaseTtl) {
+        List<String> keys = leaseKeys(couponId);
+        String[] args = {String.valueOf(units), nodeId, String.valueOf(leaseTtl.toMillis()), String.valueOf(couponId)};
+        Long granted = redisTemplate.execute(leaseScript, keys, (Object[]) args);
+
+        if (RESULT_NOT_INITIALIZED.equals(granted)) {
+            log.info("Coupon {} not initialized in Redis, syncing from DB before lease", couponId);
+            if (!syncFromDatabase(couponId)) {
+                return -1;
+            }
+            granted = redisTemplate.execute(leaseScript, keys, (Object[]) args);
+        }
+
+        return granted != null && granted > 0 ? granted.intValue() : 0;
+    }
+
+    /**
+     * 사용하지 않은 임대 재고를 재고 키에 돌려놓고 nodeId의 임대 기록을 지웁니다.
+     */
+    public void returnStock(Long couponId, int units, String nodeId) {
+        Long result = redisTemplate.execute(returnLeaseScript,
+                List.of(STOCK_KEY_PREFIX + couponId, LEASE_KEY_PREFIX + couponId, LEASE_HEARTBEAT_KEY_PREFIX + couponId),
+                String.valueOf(units), nodeId);
+        if (result == null || result == 0L) {
+            log.warn("Lease return skipped - stock key missing for coupon {} (units: {})", couponId, units);
+            return;
+        }
+        if (units > 0) {
+            clearSoldOut(couponId);
+        }
+    }
+
+    /**
+     * 차감했지만 발급으로 이어지지 않은 재고를 재고 키에 돌려놓습니다. Write-behind 저장에서 이미 DB에 있던
+     * 사용자로 밝혀진 예약처럼, pending 기록 없이 차감분만 남은 경우에 사용합니다.
+     */
+    public void restoreStock(Long couponId, int units) {
+        Long result = redisTemplate.execute(restoreStockScript, List.of(STOCK_KEY_PREFIX + couponId), String.valueOf(units));
+        if (result == null || result == 0L) {
+            log.warn("Stock restore skipped - stock key missing for coupon {} (units: {})", couponId, units);
+            return;
+        }
+        clearSoldOut(couponId);
+    }
+
+    /**
+     * 다른 노드가 임대해 간 수량이 남아 있는지 확인합니다. 임대 기록은 하트비트 때 실제 남은 수량으로 맞춰지므로
+     * 그 사이에는 이미 발급한 수량까지 남은 것으로 보일 수 있습니다.
+     */
+    public boolean hasLeasedStock(Long couponId) {
+        return redisTemplate.<String, String>opsForHash().values(LEASE_KEY_PREFIX + couponId).stream()
+                .anyMatch(units -> Long.parseLong(units) > 0);
+    }
+
+    /**
+     * nodeId의 임대 기록을 남은 수량으로 맞추고 만료 시각을 늘립니다.
+     *
+     * @return 기록이 이미 회수되어 갱신하지 못했으면 false
+     */
+    public boolean heartbeatLease(Long couponId, String nodeId, int remaining, Duration leaseTtl) {
+        Long result = redisTemplate.execute(leaseHeartbeatScript,
+                List.of(LEASE_KEY_PREFIX + couponId, LEASE_HEARTBEAT_KEY_PREFIX + couponId),
+                nodeId, String.valueOf(remaining), String.valueOf(leaseTtl.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 하트비트가 끊긴 노드의 임대 기록을 찾아 그 수량을 재고 키로 되돌립니다. 여러 노드가 동시에 실행해도
+     * 기록 하나는 한 번만 회수됩니다.
+     *
+     * @return 되돌린 전체 수량
+     */
+    public int sweepExpiredLeases() {
+        Set<String> couponIds = redisTemplate.opsForSet().members(LEASE_COUPONS_KEY);
+        if (couponIds == null || couponIds.isEmpty()) {
+            return 0;
+        }
+
+        int total = 0;
+        for (String couponId : couponIds) {
+            Long returned = redisTemplate.execute(sweepLeaseScript, leaseKeys(Long.valueOf(couponId)), couponId);
+            if (returned != null && returned > 0) {
+                log.warn("Reclaimed {} orphaned lease units for coupon {}", returned, couponId);
+                clearSoldOut(Long.valueOf(couponId));
+                total += returned.intValue();
+            }
+        }
+        return total;
+    }
+
+    private List<String> leaseKeys(Long couponId) {
+        return List.of(STOCK_KEY_PREFIX + couponId, LEASE_KEY_PREFIX + couponId,
+                LEASE_HEARTBEAT_KEY_PREFIX + couponId, LEASE_COUPONS_KEY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> executeBatchScript(List<String> keys, List<String> args) {
+        return redisTemplate.execute(batchIssueScript, keys, args.toArray());
+    }
+
+    private boolean isNotInitialized(List<Object> result) {
+        return result != null && result.size() == 1
+                && RESULT_NOT_INITIALIZED.equals(((Number) result.get(0)).longValue());
+    }
+
     private ScriptResult parseScriptResult(List<Object> result) {
         Long code = ((Number) result.get(0)).longValue();
         int remainingStock = result.size() > 1 ? ((Number) result.get(1)).intValue() : -1;
@@ -209,20 +738,17 @@ public class RedisCouponIssueManager implements CouponIssueManager {
         String pendingKey = PENDING_KEY_PREFIX + couponId;
 
         try {
-            List<String> keys = Arrays.asList(issuedKey, pendingKey);
+            List<String> keys = Arrays.asList(issuedKey, pendingKey, PENDING_INDEX_KEY_PREFIX + couponId,
+                    ISSUED_BITMAP_KEY_PREFIX + couponId);
             Long result = redisTemplate.execute(confirmScript, keys, userId.toString());
 
             if (result != null && result == 1L) {
                 log.info("Confirmed coupon {} for user {}", couponId, userId);
             } else {
-                Boolean alreadyIssued = redisTemplate.opsForSet()
-                        .isMember(issuedKey, userId.toString());
-
-                if (Boolean.TRUE.equals(alreadyIssued)) {
+                if (hasAlreadyIssued(couponId, userId)) {
                     log.info("Already confirmed coupon {} for user {} (idempotent)", couponId, userId);
                 } else {
-                    redisTemplate.opsForSet().add(issuedKey, userId.toString());
-                    redisTemplate.expire(issuedKey, DEFAULT_TTL);
+                    addIssuedUser(couponId, userId);
                     log.warn("Force confirmed coupon {} for user {} (recovery)", couponId, userId);
                 }
             }
@@ -237,11 +763,12 @@ public class RedisCouponIssueManager implements CouponIssueManager {
         String pendingKey = PENDING_KEY_PREFIX + couponId;
 
         try {
-            List<String> keys = Arrays.asList(stockKey, pendingKey);
+            List<String> keys = Arrays.asList(stockKey, pendingKey, PENDING_INDEX_KEY_PREFIX + couponId);
             Long result = redisTemplate.execute(rollbackScript, keys, userId.toString());
 
             if (result != null && result == 1L) {
                 log.info("Rolled back coupon {} for user {}", couponId, userId);
+                clearSoldOut(couponId);
             } else {
                 log.warn("Rollback skipped - pending not found for coupon {} user {}", couponId, userId);
             }
@@ -250,15 +777,42 @@ public class RedisCouponIssueManager implements CouponIssueManager {
         }
     }
 
+    /**
+     * 이미 확정(issued)된 발급을 취소하고 재고를 돌려놓습니다. Write-behind 저장이 끝내 실패해 user_coupon 없이
+     * 발급 표시만 남은 사용자를 DB와 맞추는 데 사용합니다.
+     *
+     * @return 발급 표시가 있어 취소했으면 true
+     */
+    public boolean revokeIssued(Long couponId, Long userId) {
+        List<String> keys = Arrays.asList(STOCK_KEY_PREFIX + couponId, ISSUED_KEY_PREFIX + couponId,
+                ISSUED_BITMAP_KEY_PREFIX + couponId);
+        Long result = redisTemplate.execute(revokeIssuedScript, keys, userId.toString());
+
+        if (result == null || result == 0L) {
+            log.warn("Revoke skipped - coupon {} not issued to user {}", couponId, userId);
+            return false;
+        }
+        log.info("Revoked coupon {} for user {}", couponId, userId);
+        clearSoldOut(couponId);
+        return true;
+    }
+
+    /**
+     * 재고 키가 없는 쿠폰을 DB 기준으로 초기화합니다. 쿠폰마다 한 요청만 초기화하고 나머지는 잠금이 풀릴 때까지 기다립니다.
+     *
+     * <p>잠금은 기본 TTL로 잡고, 쿠폰을 읽은 뒤 발급 수량으로, 발급 사용자를 읽은 뒤 실제 사용자 수로 다시 늘립니다.
+     * 재구성이 길어져도 잠금이 먼저 풀려 다른 요청이 같은 재구성을 겹쳐 하지 않게 하기 위해서입니다.</p>
+     */
     private boolean syncFromDatabase(Long couponId) {
         if (isInitializationComplete(couponId)) {
             return true;
         }
 
-        String lockKey = INIT_LOCK_KEY_PREFIX + couponId;
+        List<String> lockKeys = List.of(INIT_LOCK_KEY_PREFIX + couponId);
+        String token = UUID.randomUUID().toString();
 
         Boolean acquired = redisTemplate.opsForValue()
-                .setIfAbsent(lockKey, "1", INIT_LOCK_TTL);
+                .setIfAbsent(lockKeys.get(0), token, INIT_LOCK_BASE_TTL);
 
         if (!Boolean.TRUE.equals(acquired)) {
             log.info("Another thread is initializing coupon {}, waiting...", couponId);
@@ -271,14 +825,19 @@ public class RedisCouponIssueManager implements CouponIssueManager {
                 return true;
             }
 
-            return doSyncFromDatabase(couponId);
+            return doSyncFromDatabase(couponId, lockKeys, token);
         } finally {
-            redisTemplate.delete(lockKey);
+            redisTemplate.execute(releaseInitLockScript, lockKeys, token);
         }
     }
 
+    /**
+     * 초기화 잠금이 남아 있는 동안 완료 표시를 기다립니다. 잠금 TTL이 재구성 시간에 맞춰 늘어나므로 대기 시간도 그만큼 늘고,
+     * 초기화하던 요청이 사라져도 TTL이 지나면 잠금이 풀려 끝납니다.
+     */
     private boolean waitForInitialization(Long couponId) {
-        for (int i = 0; i < INIT_WAIT_MAX_RETRIES; i++) {
+        String lockKey = INIT_LOCK_KEY_PREFIX + couponId;
+        while (true) {
             try {
                 Thread.sleep(INIT_WAIT_INTERVAL_MS);
             } catch (InterruptedException e) {
@@ -291,18 +850,30 @@ public class RedisCouponIssueManager implements CouponIssueManager {
                 log.info("Coupon {} initialization completed by another thread", couponId);
                 return true;
             }
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(lockKey))) {
+                boolean completed = isInitializationComplete(couponId);
+                if (!completed) {
+                    log.warn("Coupon {} initialization lock released without completion", couponId);
+                }
+                return completed;
+            }
         }
-
-        log.warn("Timeout waiting for coupon {} initialization", couponId);
-        return false;
     }
 
-    private boolean doSyncFromDatabase(Long couponId) {
-        return couponRepository.findById(couponId)
+    private boolean doSyncFromDatabase(Long couponId, List<String> lockKeys, String token) {
+        return couponRepository.findByIdWithRemaining(couponId)
                 .map(coupon -> {
                     int remainingStock = coupon.getTotalQuantity() - coupon.getIssuedQuantity();
 
-                    syncIssuedUsers(couponId);
+                    extendInitLocks(lockKeys, token, coupon.getTotalQuantity());
+                    List<Long> issuedUserIds = userCouponRepository.findUserIdsByCouponId(couponId);
+                    extendInitLocks(lockKeys, token, issuedUserIds.size());
+
+                    IssuedUsers issuedUsers = planIssuedUsers(coupon, issuedUserIds);
+                    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                        writeIssuedUsers(connection, issuedUsers);
+                        return null;
+                    });
                     initializeStock(couponId, remainingStock);
                     markInitializationComplete(couponId);
 
@@ -312,6 +883,122 @@ public class RedisCouponIssueManager implements CouponIssueManager {
                 .orElse(false);
     }
 
+    /**
+     * 시작 전 쿠폰의 발급 사용자 집합, 재고 키, 초기화 완료 표시를 미리 적재해 첫 요청이 지연 초기화를 타지 않게 합니다.
+     *
+     * <p>이미 초기화된 쿠폰과 다른 요청이 초기화 중인 쿠폰은 건너뜁니다. 대상 쿠폰의 발급 사용자는 쿼리 한 번으로 읽고,
+     * 발급 사용자 집합/재고 키/완료 표시는 모든 쿠폰을 묶어 파이프라인 한 번으로 씁니다.
+     * 잠금 TTL은 대상 쿠폰의 발급 수량 합계로 잡고, 발급 사용자를 읽은 뒤 실제 사용자 수로 다시 늘립니다.</p>
+     *
+     * @return 이번에 적재한 쿠폰 ID
+     */
+    public List<Long> prewarm(List<Coupon> coupons) {
+        List<Object> completed = executePipelined(ops ->
+                coupons.forEach(coupon -> ops.hasKey(INIT_COMPLETE_KEY_PREFIX + coupon.getId())));
+
+        List<Coupon> candidates = new ArrayList<>();
+        for (int i = 0; i < coupons.size(); i++) {
+            if (!Boolean.TRUE.equals(completed.get(i))) {
+                candidates.add(coupons.get(i));
+            }
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        String token = UUID.randomUUID().toString();
+        Duration lockTtl = initLockTtl(candidates.stream().mapToLong(Coupon::getTotalQuantity).sum());
+        List<Object> acquired = executePipelined(ops -> candidates.forEach(coupon ->
+                ops.opsForValue().setIfAbsent(INIT_LOCK_KEY_PREFIX + coupon.getId(), token, lockTtl)));
+
+        List<Coupon> targets = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (Boolean.TRUE.equals(acquired.get(i))) {
+                targets.add(candidates.get(i));
+            }
+        }
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> lockKeys = targets.stream().map(coupon -> INIT_LOCK_KEY_PREFIX + coupon.getId()).toList();
+        try {
+            couponRepository.loadPartitionedRemaining(targets);
+            Map<Long, List<Long>> issuedUserIdsByCouponId = new HashMap<>();
+            List<Object[]> rows = userCouponRepository.findCouponIdAndUserIdsByCouponIdIn(
+                    targets.stream().map(Coupon::getId).toList());
+            for (Object[] row : rows) {
+                issuedUserIdsByCouponId.computeIfAbsent((Long) row[0], couponId -> new ArrayList<>()).add((Long) row[1]);
+            }
+            extendInitLocks(lockKeys, token, rows.size());
+
+            List<IssuedUsers> issuedUsers = targets.stream()
+                    .map(coupon -> planIssuedUsers(coupon,
+                            issuedUserIdsByCouponId.getOrDefault(coupon.getId(), List.of())))
+                    .toList();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = 0; i < targets.size(); i++) {
+                    Coupon coupon = targets.get(i);
+                    int remainingStock = coupon.getTotalQuantity() - coupon.getIssuedQuantity();
+                    writeIssuedUsers(connection, issuedUsers.get(i));
+                    connection.stringCommands().setEx(bytes(STOCK_KEY_PREFIX + coupon.getId()),
+                            DEFAULT_TTL.toSeconds(), bytes(String.valueOf(remainingStock)));
+                    connection.stringCommands().setEx(bytes(INIT_COMPLETE_KEY_PREFIX + coupon.getId()),
+                            DEFAULT_TTL.toSeconds(), bytes("1"));
+                }
+                return null;
+            });
+        } finally {
+            redisTemplate.execute(releaseInitLockScript, lockKeys, token);
+        }
+
+        log.info("Prewarmed {} coupons", targets.size());
+        return targets.stream().map(Coupon::getId).toList();
+    }
+
+    private Duration initLockTtl(long expectedUsers) {
+        return INIT_LOCK_BASE_TTL.plus(INIT_LOCK_TTL_PER_MILLION_USERS.multipliedBy(expectedUsers).dividedBy(1_000_000));
+    }
+
+    private void extendInitLocks(List<String> lockKeys, String token, long expectedUsers) {
+        Long extended = redisTemplate.execute(extendInitLockScript, lockKeys, token,
+                String.valueOf(initLockTtl(expectedUsers).toMillis()));
+        if (extended == null || extended < lockKeys.size()) {
+            log.warn("Initialization lock expired before renewal ({} of {} extended)", extended, lockKeys.size());
+        }
+    }
+
+    /**
+     * 재고 키와 초기화 완료 표시가 모두 있는지 확인합니다.
+     *
+     * @return 적재되지 않은 쿠폰 ID
+     */
+    public List<Long> findNotPrewarmed(List<Long> couponIds) {
+        List<Object> results = executePipelined(ops -> couponIds.forEach(couponId -> {
+            ops.hasKey(STOCK_KEY_PREFIX + couponId);
+            ops.hasKey(INIT_COMPLETE_KEY_PREFIX + couponId);
+        }));
+
+        List<Long> missing = new ArrayList<>();
+        for (int i = 0; i < couponIds.size(); i++) {
+            if (!Boolean.TRUE.equals(results.get(i * 2)) || !Boolean.TRUE.equals(results.get(i * 2 + 1))) {
+                missing.add(couponIds.get(i));
+            }
+        }
+        return missing;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> executePipelined(Consumer<RedisOperations<String, String>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
     private boolean isInitializationComplete(Long couponId) {
         String completeKey = INIT_COMPLETE_KEY_PREFIX + couponId;
         return Boolean.TRUE.equals(redisTemplate.hasKey(completeKey));
@@ -322,22 +1009,121 @@ public class RedisCouponIssueManager implements CouponIssueManager {
         redisTemplate.opsForValue().set(completeKey, "1", DEFAULT_TTL);
     }
 
-    private void syncIssuedUsers(Long couponId) {
-        String issuedKey = ISSUED_KEY_PREFIX + couponId;
+    /**
+     * 발급 사용자 집합을 어떤 표현으로 다시 만들지 정합니다.
+     *
+     * <p>발급 수량이 큰 쿠폰은 SET 대신 userId 번째 비트를 켠 비트맵을 씁니다. SET은 사용자 수에 비례해
+     * 회원당 수십 바이트를 쓰지만, 비트맵은 가장 큰 userId / 8 바이트로 고정됩니다. 그래서 userId가 커서 비트맵이
+     * {@code coupon.issue.issued-bitmap.max-bytes}를 넘으면 사용자 수가 적어도 SET을 씁니다.</p>
+     */
+    private IssuedUsers planIssuedUsers(Coupon coupon, List<Long> issuedUserIds) {
+        boolean useBitmap = coupon.getTotalQuantity() >= issuedBitmapMinTotalQuantity;
+        if (useBitmap) {
+            long bitmapBytes = (maxBitmapOffset(issuedUserIds) >> 3) + 1;
+            if (bitmapBytes > issuedBitmapMaxBytes) {
+                log.warn("Issued bitmap for coupon {} would take {} bytes (max {}), using SET instead",
+                        coupon.getId(), bitmapBytes, issuedBitmapMaxBytes);
+                useBitmap = false;
+            }
+        }
+        return new IssuedUsers(coupon.getId(), issuedUserIds, useBitmap);
+    }
 
-        List<Long> issuedUserIds = userCouponRepository.findByCouponId(couponId)
-                .stream()
-                .map(uc -> uc.getUserId())
-                .toList();
+    private record IssuedUsers(Long couponId, List<Long> userIds, boolean useBitmap) {}
+
+    /**
+     * 발급 사용자 집합을 쓰는 명령을 연결에 보냅니다. 호출하는 쪽이 파이프라인으로 묶으므로 여러 쿠폰도 왕복 한 번에 씁니다.
+     * SET은 {@link #ISSUED_SET_ADD_BATCH_SIZE}명씩 나눠 SADD합니다.
+     */
+    private void writeIssuedUsers(RedisConnection connection, IssuedUsers issuedUsers) {
+        Long couponId = issuedUsers.couponId();
+        List<Long> setUserIds = issuedUsers.userIds();
+        if (issuedUsers.useBitmap()) {
+            setUserIds = setUserIds.stream().filter(userId -> userId > MAX_BITMAP_OFFSET).toList();
+            writeIssuedBitmap(connection, couponId, issuedUsers.userIds());
+        } else {
+            connection.keyCommands().del(bytes(ISSUED_BITMAP_KEY_PREFIX + couponId));
+        }
+
+        if (!setUserIds.isEmpty()) {
+            byte[] issuedKey = bytes(ISSUED_KEY_PREFIX + couponId);
+            for (int from = 0; from < setUserIds.size(); from += ISSUED_SET_ADD_BATCH_SIZE) {
+                byte[][] members = setUserIds.subList(from, Math.min(from + ISSUED_SET_ADD_BATCH_SIZE, setUserIds.size()))
+                        .stream()
+                        .map(userId -> bytes(String.valueOf(userId)))
+                        .toArray(byte[][]::new);
+                connection.setCommands().sAdd(issuedKey, members);
+            }
+            connection.keyCommands().expire(issuedKey, DEFAULT_TTL.toSeconds());
+        }
+        log.info("Synced {} issued users for coupon {} (bitmap: {})",
+                issuedUsers.userIds().size(), couponId, issuedUsers.useBitmap());
+    }
+
+    private long maxBitmapOffset(List<Long> userIds) {
+        return userIds.stream()
+                .filter(userId -> userId <= MAX_BITMAP_OFFSET)
+                .mapToLong(Long::longValue)
+                .max()
+                .orElse(0L);
+    }
+
+    /**
+     * userId를 정렬해 {@link #BITMAP_CHUNK_BYTES} 단위로 비트맵을 만들고, 사용자가 있는 구간만 SETRANGE로 씁니다.
+     * 임시 키에 다 쓴 뒤 RENAME하므로 읽는 쪽은 완성된 비트맵만 봅니다. 파이프라인에서는 구간들이 전송 전까지
+     * 버퍼에 쌓이지만, 전체 크기는 {@code coupon.issue.issued-bitmap.max-bytes}로 묶입니다.
+     */
+    private void writeIssuedBitmap(RedisConnection connection, Long couponId, List<Long> userIds) {
+        long[] offsets = userIds.stream()
+                .mapToLong(Long::longValue)
+                .filter(userId -> userId >= 0 && userId <= MAX_BITMAP_OFFSET)
+                .sorted()
+                .toArray();
+
+        byte[] key = bytes(ISSUED_BITMAP_KEY_PREFIX + couponId);
+        byte[] buildingKey = bytes(ISSUED_BITMAP_KEY_PREFIX + couponId + BITMAP_BUILDING_SUFFIX);
+
+        connection.keyCommands().del(buildingKey);
+        // 비어 있어도 키가 있어야 비트맵 모드로 판정되므로 최소 1바이트
+        connection.stringCommands().setRange(buildingKey, new byte[1], 0);
+
+        byte[] chunk = new byte[BITMAP_CHUNK_BYTES];
+        int index = 0;
+        while (index < offsets.length) {
+            // Redis 비트맵은 오프셋 0이 첫 바이트의 최상위 비트
+            long chunkStart = (offsets[index] >> 3) / BITMAP_CHUNK_BYTES * BITMAP_CHUNK_BYTES;
+            int used = 0;
+            while (index < offsets.length && (offsets[index] >> 3) < chunkStart + BITMAP_CHUNK_BYTES) {
+                int byteIndex = (int) ((offsets[index] >> 3) - chunkStart);
+                chunk[byteIndex] |= (byte) (0x80 >>> (offsets[index] & 7));
+                used = byteIndex + 1;
+                index++;
+            }
+            connection.stringCommands().setRange(buildingKey, Arrays.copyOf(chunk, used), chunkStart);
+            Arrays.fill(chunk, 0, used, (byte) 0);
+        }
+
+        connection.keyCommands().expire(buildingKey, DEFAULT_TTL.toSeconds());
+        connection.keyCommands().rename(buildingKey, key);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
 
-        if (!issuedUserIds.isEmpty()) {
-            String[] userIdStrings = issuedUserIds.stream()
-                    .map(String::valueOf)
-                    .toArray(String[]::new);
-            redisTemplate.opsForSet().add(issuedKey, userIdStrings);
-            redisTemplate.expire(issuedKey, DEFAULT_TTL);
-            log.info("Synced {} issued users for coupon {}", issuedUserIds.size(), couponId);
+    private boolean usesBitmap(Long couponId, Long userId) {
+        return userId <= MAX_BITMAP_OFFSET
+                && Boolean.TRUE.equals(redisTemplate.hasKey(ISSUED_BITMAP_KEY_PREFIX + couponId));
+    }
+
+    private void addIssuedUser(Long couponId, Long userId) {
+        if (usesBitmap(couponId, userId)) {
+            redisTemplate.opsForValue().setBit(ISSUED_BITMAP_KEY_PREFIX + couponId, userId, true);
+            return;
         }
+        String issuedKey = ISSUED_KEY_PREFIX + couponId;
+        redisTemplate.opsForSet().add(issuedKey, userId.toString());
+        redisTemplate.expire(issuedKey, DEFAULT_TTL);
     }
 
     private CouponIssueResult mapResult(ScriptResult scriptResult, Long couponId, Long userId) {
@@ -370,6 +1156,9 @@ public class RedisCouponIssueManager implements CouponIssueManager {
 
     @Override
     public boolean hasAlreadyIssued(Long couponId, Long userId) {
+        if (usesBitmap(couponId, userId)) {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().getBit(ISSUED_BITMAP_KEY_PREFIX + couponId, userId));
+        }
         String issuedKey = ISSUED_KEY_PREFIX + couponId;
         Boolean isMember = redisTemplate.opsForSet().isMember(issuedKey, userId.toString());
         return Boolean.TRUE.equals(isMember);
@@ -379,6 +1168,18 @@ public class RedisCouponIssueManager implements CouponIssueManager {
         String stockKey = STOCK_KEY_PREFIX + couponId;
         redisTemplate.opsForValue().set(stockKey, String.valueOf(quantity), DEFAULT_TTL);
         log.info("Initialized coupon {} stock to {}", couponId, quantity);
+        if (quantity > 0) {
+            clearSoldOut(couponId);
+        }
+    }
+
+    /**
+     * 재고가 돌아온 쿠폰의 소진 표시를 지웁니다. 소진 브로드캐스트가 꺼져 있으면 아무것도 하지 않습니다.
+     */
+    public void clearSoldOut(Long couponId) {
+        if (soldOutRegistry != null) {
+            soldOutRegistry.clear(couponId);
+        }
     }
 
     public int getRemainingStock(Long couponId) {
@@ -387,10 +1188,35 @@ public class RedisCouponIssueManager implements CouponIssueManager {
         return stock != null ? Integer.parseInt(stock) : 0;
     }
 
+    /**
+     * 여러 쿠폰의 남은 재고를 MGET 한 번으로 읽습니다. 재고 키가 없는 쿠폰은 결과에 담지 않습니다.
+     */
+    public Map<Long, Integer> getRemainingStocks(List<Long> couponIds) {
+        if (couponIds.isEmpty()) {
+            return Map.of();
+        }
+        List<String> stocks = redisTemplate.opsForValue().multiGet(
+                couponIds.stream().map(couponId -> STOCK_KEY_PREFIX + couponId).toList());
+
+        Map<Long, Integer> remaining = new HashMap<>();
+        if (stocks == null) {
+            return remaining;
+        }
+        for (int i = 0; i < couponIds.size(); i++) {
+            String stock = stocks.get(i);
+            if (stock != null) {
+                remaining.put(couponIds.get(i), Math.max(0, Integer.parseInt(stock)));
+            }
+        }
+        return remaining;
+    }
+
     public long getIssuedCount(Long couponId) {
         String issuedKey = ISSUED_KEY_PREFIX + couponId;
         Long size = redisTemplate.opsForSet().size(issuedKey);
-        return size != null ? size : 0;
+        byte[] bitmapKey = (ISSUED_BITMAP_KEY_PREFIX + couponId).getBytes(StandardCharsets.UTF_8);
+        Long bitCount = redisTemplate.execute((RedisCallback<Long>) connection -> connection.stringCommands().bitCount(bitmapKey));
+        return (size != null ? size : 0) + (bitCount != null ? bitCount : 0);
     }
 
     public Map<Object, Object> getPendingUsers(Long couponId) {
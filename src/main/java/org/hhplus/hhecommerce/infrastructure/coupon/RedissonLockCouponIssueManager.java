@@ -13,6 +13,9 @@ import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -29,6 +32,8 @@ public class RedissonLockCouponIssueManager implements CouponIssueManager {
     private final CouponRepository couponRepository;
     private final UserCouponRepository userCouponRepository;
     private final RedissonClient redissonClient;
+    private final CouponIssueQuotaAllocator couponIssueQuotaAllocator;
+    private final TransactionTemplate quotaTransactionTemplate;
     private final Timer lockWaitTimer;
     private final Timer lockHoldTimer;
     private final Counter lockAcquiredCounter;
@@ -37,10 +42,15 @@ public class RedissonLockCouponIssueManager implements CouponIssueManager {
     public RedissonLockCouponIssueManager(CouponRepository couponRepository,
                                           UserCouponRepository userCouponRepository,
                                           RedissonClient redissonClient,
+                                          CouponIssueQuotaAllocator couponIssueQuotaAllocator,
+                                          PlatformTransactionManager transactionManager,
                                           MeterRegistry meterRegistry) {
         this.couponRepository = couponRepository;
         this.userCouponRepository = userCouponRepository;
         this.redissonClient = redissonClient;
+        this.couponIssueQuotaAllocator = couponIssueQuotaAllocator;
+        this.quotaTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.quotaTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
 
         this.lockWaitTimer = Timer.builder("coupon.lock.wait.time")
                 .description("쿠폰 발급 락 획득 대기 시간")
@@ -70,7 +80,8 @@ public class RedissonLockCouponIssueManager implements CouponIssueManager {
             return CouponIssueResult.ALREADY_ISSUED;
         }
 
-        String lockKey = LOCK_KEY_PREFIX + couponId + ":" + userId;
+        // findByIdWithLock의 행 잠금은 조회 트랜잭션이 끝나면 풀리므로, 재고 차감 전체를 쿠폰 단위 락으로 직렬화
+        String lockKey = LOCK_KEY_PREFIX + couponId;
         RLock lock = redissonClient.getLock(lockKey);
         long waitStartTime = System.nanoTime();
 
@@ -125,6 +136,9 @@ public class RedissonLockCouponIssueManager implements CouponIssueManager {
         }
 
         Coupon coupon = couponOpt.get();
+        if (coupon.isIssuePartitioned()) {
+            return issueFromQuota(coupon, userId);
+        }
 
         if (coupon.getIssuedQuantity() >= coupon.getTotalQuantity()) {
             log.warn("Coupon {} sold out (issued: {}, total: {})",
@@ -145,6 +159,25 @@ public class RedissonLockCouponIssueManager implements CouponIssueManager {
         return CouponIssueResult.SUCCESS;
     }
 
+    /**
+     * 파티션 모드 쿠폰의 쿠폰 행 발급 수량은 전환 시점 값으로 멈춰 있으므로 쿼터에서 확보합니다.
+     */
+    private CouponIssueResult issueFromQuota(Coupon coupon, Long userId) {
+        if (!coupon.isInIssuePeriod()) {
+            return CouponIssueResult.NOT_AVAILABLE;
+        }
+
+        Integer granted = quotaTransactionTemplate.execute(status -> couponIssueQuotaAllocator.reserveForUser(
+                coupon.getId(), coupon.getIssuePartitionCount(), userId));
+        if (granted == null || granted == 0) {
+            log.warn("Coupon {} sold out (partitioned quotas)", coupon.getId());
+            return CouponIssueResult.OUT_OF_STOCK;
+        }
+
+        log.info("Coupon {} issued to user {} from partitioned quota", coupon.getId(), userId);
+        return CouponIssueResult.SUCCESS;
+    }
+
     @Override
     public boolean hasAlreadyIssued(Long couponId, Long userId) {
         return userCouponRepository.existsByUserIdAndCouponId(userId, couponId);
@@ -6,6 +6,7 @@ import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueManager;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueResult;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.RedisConnectionFailureException;
@@ -40,11 +41,20 @@ public class ResilientCouponIssueManager implements CouponIssueManager {
     private static final String CIRCUIT_BREAKER_NAME = "redisCouponIssue";
 
     private final RedisCouponIssueManager delegate;
+    private final CouponIssueCoalescer coalescer;
+    private final CouponStockLeaseManager leaseManager;
+    private final CouponSoldOutRegistry soldOutRegistry;
     private final CircuitBreaker circuitBreaker;
 
     public ResilientCouponIssueManager(RedisCouponIssueManager delegate,
-                                        CircuitBreakerRegistry circuitBreakerRegistry) {
+                                        CircuitBreakerRegistry circuitBreakerRegistry,
+                                        ObjectProvider<CouponIssueCoalescer> coalescerProvider,
+                                        ObjectProvider<CouponStockLeaseManager> leaseManagerProvider,
+                                        ObjectProvider<CouponSoldOutRegistry> soldOutRegistryProvider) {
         this.delegate = delegate;
+        this.coalescer = coalescerProvider.getIfAvailable();
+        this.leaseManager = leaseManagerProvider.getIfAvailable();
+        this.soldOutRegistry = soldOutRegistryProvider.getIfAvailable();
         this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
 
         // Circuit Breaker 상태 변경 이벤트 로깅
@@ -65,9 +75,18 @@ public class ResilientCouponIssueManager implements CouponIssueManager {
 
     @Override
     public CouponIssueResult tryIssue(Long couponId, Long userId) {
+        // 소진으로 표시된 쿠폰은 Redis를 호출하지 않고 바로 거절
+        if (soldOutRegistry != null && soldOutRegistry.isSoldOut(couponId)) {
+            return CouponIssueResult.OUT_OF_STOCK;
+        }
+
         try {
             return circuitBreaker.executeSupplier(() -> {
-                CouponIssueResult result = delegate.tryIssue(couponId, userId);
+                CouponIssueResult result = issue(couponId, userId);
+
+                if (result == CouponIssueResult.OUT_OF_STOCK && soldOutRegistry != null && isExhausted(couponId)) {
+                    soldOutRegistry.markSoldOut(couponId);
+                }
 
                 // Redis 관련 실패는 Circuit Breaker에 기록
                 if (result == CouponIssueResult.ISSUE_FAILED) {
@@ -100,31 +119,63 @@ public class ResilientCouponIssueManager implements CouponIssueManager {
         }
     }
 
+    /**
+     * 임대 발급 중에는 재고 키가 0이어도 다른 노드가 임대한 수량이 남아 있을 수 있으므로,
+     * 임대 기록까지 비어 있을 때만 클러스터 전체에서 소진된 것으로 봅니다.
+     */
+    private boolean isExhausted(Long couponId) {
+        return leaseManager == null || !delegate.hasLeasedStock(couponId);
+    }
+
+    private CouponIssueResult issue(Long couponId, Long userId) {
+        // 임대 발급이 켜져 있으면 노드 로컬 재고로 발급하고, 재고가 떨어졌을 때만 Redis에서 다음 블록을 임대
+        if (leaseManager != null) {
+            return leaseManager.tryIssue(couponId, userId);
+        }
+        // 합치기가 켜져 있으면 같은 쿠폰의 동시 요청을 한 번의 Lua 호출로 묶어 처리
+        if (coalescer != null) {
+            return coalescer.tryIssue(couponId, userId);
+        }
+        return delegate.tryIssue(couponId, userId);
+    }
+
     /**
      * Circuit Breaker가 OPEN 상태일 때 실행되는 fallback 메서드.
      *
-     * <p>현재는 즉시 거부 전략을 사용합니다.
+     * <p>임대 발급이 켜져 있으면 이미 임대받은 로컬 재고로 먼저 발급하고, 로컬 재고가 없으면 즉시 거부합니다.
      * 필요에 따라 다음 전략으로 확장할 수 있습니다:</p>
      * <ul>
      *   <li>DB 직접 조회 후 발급 (성능 저하 감수)</li>
      *   <li>Queue에 저장 후 비동기 처리</li>
-     *   <li>로컬 캐시 활용</li>
      * </ul>
      */
     private CouponIssueResult fallback(Long couponId, Long userId, Throwable throwable) {
         log.warn("Fallback triggered for coupon {} user {} due to: {}",
                 couponId, userId, throwable.getClass().getSimpleName());
 
-        // 전략 1: 즉시 거부 (현재 구현)
+        // 전략 1: 로컬 임대 재고 사용 (Redis 호출 없음)
+        if (leaseManager != null) {
+            CouponIssueResult localResult = leaseManager.tryIssueLocally(couponId, userId);
+            if (localResult != CouponIssueResult.LOCK_ACQUISITION_FAILED) {
+                return localResult;
+            }
+        }
+
+        // 전략 2: 즉시 거부
         // 사용자에게 잠시 후 재시도를 안내
         return CouponIssueResult.LOCK_ACQUISITION_FAILED;
 
-        // 전략 2: DB Fallback (주석 처리됨 - 필요 시 활성화)
+        // 전략 3: DB Fallback (주석 처리됨 - 필요 시 활성화)
         // return directDatabaseIssue(couponId, userId);
     }
 
     @Override
     public void confirm(Long couponId, Long userId) {
+        if (leaseManager != null && leaseManager.owns(couponId, userId)) {
+            leaseManager.confirm(couponId, userId);
+            return;
+        }
+
         try {
             circuitBreaker.executeRunnable(() -> delegate.confirm(couponId, userId));
         } catch (CallNotPermittedException e) {
@@ -138,6 +189,13 @@ public class ResilientCouponIssueManager implements CouponIssueManager {
 
     @Override
     public void rollback(Long couponId, Long userId) {
+        if (leaseManager != null && leaseManager.owns(couponId, userId)) {
+            leaseManager.rollback(couponId, userId);
+            // 임대 재고로 돌아간 경우에도 이 노드는 다시 발급할 수 있으므로 소진 표시를 지움
+            delegate.clearSoldOut(couponId);
+            return;
+        }
+
         try {
             circuitBreaker.executeRunnable(() -> delegate.rollback(couponId, userId));
         } catch (CallNotPermittedException e) {
@@ -151,6 +209,10 @@ public class ResilientCouponIssueManager implements CouponIssueManager {
 
     @Override
     public boolean hasAlreadyIssued(Long couponId, Long userId) {
+        if (leaseManager != null && leaseManager.hasAlreadyIssued(couponId, userId)) {
+            return true;
+        }
+
         try {
             return circuitBreaker.executeSupplier(() -> delegate.hasAlreadyIssued(couponId, userId));
         } catch (CallNotPermittedException e) {
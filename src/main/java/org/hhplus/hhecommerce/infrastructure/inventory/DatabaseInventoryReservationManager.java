@@ -0,0 +1,68 @@
+package org.hhplus.hhecommerce.infrastructure.inventory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.product.InventoryReservationManager;
+import org.hhplus.hhecommerce.domain.product.ProductOption;
+import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
+import org.hhplus.hhecommerce.domain.product.StockReservationResult;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MySQL 조건부 UPDATE로 재고를 차감하는 기본 전략.
+ *
+ * <p>차감이 주문 트랜잭션 안에서 수행되므로 확정/롤백은 트랜잭션 커밋/롤백에 맡깁니다.
+ * 스트라이프 모드 옵션은 {@link StockStripeAllocator}로 스트라이프 행에서 차감합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.reservation.strategy", havingValue = "database", matchIfMissing = true)
+public class DatabaseInventoryReservationManager implements InventoryReservationManager {
+
+    private final ProductOptionRepository productOptionRepository;
+    private final StockStripeAllocator stockStripeAllocator;
+
+    @Override
+    public StockReservationResult reserve(String reservationId, Map<Long, Integer> quantityByOptionId) {
+        List<ProductOption> stripedOptions = productOptionRepository.findStockStripedByIdIn(quantityByOptionId.keySet())
+                .stream()
+                .sorted(Comparator.comparing(ProductOption::getId))
+                .toList();
+
+        Map<Long, Integer> singleRowQuantities = new HashMap<>(quantityByOptionId);
+        stripedOptions.forEach(option -> singleRowQuantities.remove(option.getId()));
+
+        if (!singleRowQuantities.isEmpty()) {
+            int updatedRows = productOptionRepository.decreaseStocks(singleRowQuantities);
+            if (updatedRows != singleRowQuantities.size()) {
+                return StockReservationResult.INSUFFICIENT_STOCK;
+            }
+        }
+
+        for (ProductOption option : stripedOptions) {
+            int quantity = quantityByOptionId.get(option.getId());
+            if (!stockStripeAllocator.decrease(option.getId(), option.getStockStripeCount(), quantity)) {
+                return StockReservationResult.INSUFFICIENT_STOCK;
+            }
+        }
+
+        return StockReservationResult.SUCCESS;
+    }
+
+    @Override
+    public void confirm(String reservationId) {
+        log.debug("DB 재고 차감은 주문 트랜잭션과 함께 커밋됨 - reservationId: {}", reservationId);
+    }
+
+    @Override
+    public void rollback(String reservationId) {
+        log.debug("DB 재고 차감은 주문 트랜잭션과 함께 롤백됨 - reservationId: {}", reservationId);
+    }
+}
@@ -0,0 +1,275 @@
+package org.hhplus.hhecommerce.infrastructure.inventory;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.product.InventoryReservationManager;
+import org.hhplus.hhecommerce.domain.product.ProductOption;
+import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
+import org.hhplus.hhecommerce.domain.product.StockReservationResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis에 옵션별 재고 카운터를 두고 주문 라인 전체를 하나의 Lua 스크립트로 예약하는 전략.
+ *
+ * <p>예약(reserve) 시 재고 키를 차감하고 예약 내역을 {@code inventory:reservation:{id}} 해시에 기록합니다.
+ * 주문 트랜잭션이 커밋되면 예약 내역만 삭제(confirm)하고, 롤백되면 예약 수량을 재고 키에 되돌립니다(rollback).
+ * 확정/롤백 없이 TTL이 만료된 예약은 판매된 것으로 간주되어 재고가 복구되지 않으므로 초과 판매는 발생하지 않습니다.</p>
+ *
+ * <p>변경된 옵션 ID는 {@code inventory:dirty} 집합에 모이며,
+ * {@code InventoryReconciliationScheduler}가 주기적으로 {@code product_option.stock}에 반영합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "inventory.reservation.strategy", havingValue = "redis")
+public class RedisInventoryReservationManager implements InventoryReservationManager {
+
+    public static final String STOCK_KEY_PREFIX = "inventory:stock:";
+    public static final String RESERVATION_KEY_PREFIX = "inventory:reservation:";
+    public static final String DIRTY_SET_KEY = "inventory:dirty";
+
+    private static final Long RESULT_SUCCESS = 1L;
+    private static final Long RESULT_INSUFFICIENT_STOCK = -2L;
+    private static final Long RESULT_NOT_INITIALIZED = -3L;
+    private static final Long RESULT_DUPLICATE_RESERVATION = -4L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductOptionRepository productOptionRepository;
+    private final long reservationTtlMs;
+    private final DefaultRedisScript<List> reserveScript;
+    private final DefaultRedisScript<Long> rollbackScript;
+
+    public RedisInventoryReservationManager(RedisTemplate<String, String> redisTemplate,
+                                            ProductOptionRepository productOptionRepository,
+                                            @Value("${inventory.reservation.ttl-ms:300000}") long reservationTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.productOptionRepository = productOptionRepository;
+        this.reservationTtlMs = reservationTtlMs;
+        this.reserveScript = createReserveScript();
+        this.rollbackScript = createRollbackScript();
+    }
+
+    private DefaultRedisScript<List> createReserveScript() {
+        String script = """
+            -- KEYS[1]: reservation hash, KEYS[2]: dirty set, KEYS[3..]: stock keys (옵션 ID 오름차순)
+            -- ARGV[1]: reservation ttl ms, ARGV[2..n+1]: 수량, ARGV[n+2..2n+1]: 옵션 ID
+            -- 반환: {코드, 라인 인덱스...}
+
+            local lineCount = #KEYS - 2
+
+            -- 1. 같은 예약 ID로 중복 차감 방지
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return {-4}
+            end
+
+            -- 2. 모든 라인의 재고 키 존재 여부 확인 (없으면 DB에서 적재 후 재시도)
+            local missing = {-3}
+            for i = 1, lineCount do
+                if redis.call('EXISTS', KEYS[i + 2]) == 0 then
+                    table.insert(missing, i)
+                end
+            end
+            if #missing > 1 then
+                return missing
+            end
+
+            -- 3. 한 라인이라도 부족하면 아무것도 차감하지 않음
+            for i = 1, lineCount do
+                if tonumber(redis.call('GET', KEYS[i + 2])) < tonumber(ARGV[i + 1]) then
+                    return {-2, i}
+                end
+            end
+
+            -- 4. 전체 라인 차감 + 예약 기록
+            for i = 1, lineCount do
+                redis.call('DECRBY', KEYS[i + 2], ARGV[i + 1])
+                redis.call('HSET', KEYS[1], ARGV[lineCount + i + 1], ARGV[i + 1])
+                redis.call('SADD', KEYS[2], ARGV[lineCount + i + 1])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+
+            return {1}
+            """;
+
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(List.class);
+        return redisScript;
+    }
+
+    private DefaultRedisScript<Long> createRollbackScript() {
+        String script = """
+            -- KEYS[1]: reservation hash, KEYS[2]: dirty set, KEYS[3..]: stock keys
+            -- ARGV[1..n]: 수량, ARGV[n+1..2n]: 옵션 ID
+
+            -- 예약 내역을 먼저 삭제한 쪽만 재고를 복구 (중복 롤백 방지)
+            if redis.call('DEL', KEYS[1]) == 0 then
+                return 0
+            end
+
+            local lineCount = #KEYS - 2
+            for i = 1, lineCount do
+                redis.call('INCRBY', KEYS[i + 2], ARGV[i])
+                redis.call('SADD', KEYS[2], ARGV[lineCount + i])
+            end
+            return 1
+            """;
+
+        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        redisScript.setScriptText(script);
+        redisScript.setResultType(Long.class);
+        return redisScript;
+    }
+
+    @Override
+    public StockReservationResult reserve(String reservationId, Map<Long, Integer> quantityByOptionId) {
+        List<Long> optionIds = quantityByOptionId.keySet().stream()
+                .sorted()
+                .toList();
+
+        List<String> keys = new ArrayList<>();
+        keys.add(RESERVATION_KEY_PREFIX + reservationId);
+        keys.add(DIRTY_SET_KEY);
+        optionIds.forEach(optionId -> keys.add(STOCK_KEY_PREFIX + optionId));
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(reservationTtlMs));
+        optionIds.forEach(optionId -> args.add(String.valueOf(quantityByOptionId.get(optionId))));
+        optionIds.forEach(optionId -> args.add(String.valueOf(optionId)));
+
+        try {
+            List<Object> result = executeReserve(keys, args);
+
+            if (result != null && !result.isEmpty() && code(result).equals(RESULT_NOT_INITIALIZED)) {
+                if (!initializeMissingStocks(optionIds, result)) {
+                    return StockReservationResult.OPTION_NOT_FOUND;
+                }
+                result = executeReserve(keys, args);
+            }
+
+            return mapResult(result, reservationId, optionIds);
+        } catch (Exception e) {
+            log.error("Redis 재고 예약 실패 - reservationId: {}, options: {}", reservationId, optionIds, e);
+            return StockReservationResult.RESERVE_FAILED;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> executeReserve(List<String> keys, List<String> args) {
+        return redisTemplate.execute(reserveScript, keys, args.toArray());
+    }
+
+    private Long code(List<Object> result) {
+        return ((Number) result.get(0)).longValue();
+    }
+
+    /**
+     * 스크립트가 알려준 누락 라인만 DB에서 읽어 재고 키를 적재합니다.
+     * 다른 인스턴스가 먼저 적재했을 수 있으므로 SETNX로 덮어쓰지 않습니다.
+     */
+    private boolean initializeMissingStocks(List<Long> optionIds, List<Object> result) {
+        List<Long> missingOptionIds = result.subList(1, result.size()).stream()
+                .map(index -> optionIds.get(((Number) index).intValue() - 1))
+                .toList();
+
+        List<ProductOption> options = productOptionRepository.findAllById(missingOptionIds);
+        if (options.size() != missingOptionIds.size()) {
+            log.warn("재고 적재 대상 옵션을 찾을 수 없음 - options: {}", missingOptionIds);
+            return false;
+        }
+        productOptionRepository.loadStripedStocks(options);
+
+        for (ProductOption option : options) {
+            Boolean initialized = redisTemplate.opsForValue()
+                    .setIfAbsent(STOCK_KEY_PREFIX + option.getId(), String.valueOf(option.getStock()));
+            if (Boolean.TRUE.equals(initialized)) {
+                log.info("옵션 재고 Redis 적재 - optionId: {}, stock: {}", option.getId(), option.getStock());
+            }
+        }
+        return true;
+    }
+
+    private StockReservationResult mapResult(List<Object> result, String reservationId, List<Long> optionIds) {
+        if (result == null || result.isEmpty()) {
+            log.error("재고 예약 스크립트 결과 없음 - reservationId: {}", reservationId);
+            return StockReservationResult.RESERVE_FAILED;
+        }
+
+        Long code = code(result);
+        if (code.equals(RESULT_SUCCESS)) {
+            log.debug("재고 예약 성공 - reservationId: {}, options: {}", reservationId, optionIds);
+            return StockReservationResult.SUCCESS;
+        } else if (code.equals(RESULT_INSUFFICIENT_STOCK)) {
+            Long shortOptionId = optionIds.get(((Number) result.get(1)).intValue() - 1);
+            log.info("재고 부족으로 예약 실패 - reservationId: {}, optionId: {}", reservationId, shortOptionId);
+            return StockReservationResult.INSUFFICIENT_STOCK;
+        } else if (code.equals(RESULT_DUPLICATE_RESERVATION)) {
+            log.warn("이미 존재하는 예약 ID - reservationId: {}", reservationId);
+            return StockReservationResult.RESERVE_FAILED;
+        }
+
+        log.error("알 수 없는 재고 예약 결과 - reservationId: {}, code: {}", reservationId, code);
+        return StockReservationResult.RESERVE_FAILED;
+    }
+
+    @Override
+    public void confirm(String reservationId) {
+        try {
+            Boolean deleted = redisTemplate.delete(RESERVATION_KEY_PREFIX + reservationId);
+            if (!Boolean.TRUE.equals(deleted)) {
+                log.warn("확정할 재고 예약이 없음 (TTL 만료 등) - reservationId: {}", reservationId);
+            }
+        } catch (Exception e) {
+            // 삭제에 실패해도 TTL 만료 시 판매 확정으로 간주되므로 재고는 일관적이다
+            log.error("재고 예약 확정 실패 - reservationId: {}", reservationId, e);
+        }
+    }
+
+    @Override
+    public void rollback(String reservationId) {
+        String reservationKey = RESERVATION_KEY_PREFIX + reservationId;
+
+        try {
+            Map<Object, Object> reservedLines = redisTemplate.opsForHash().entries(reservationKey);
+            if (reservedLines.isEmpty()) {
+                log.warn("롤백할 재고 예약이 없음 - reservationId: {}", reservationId);
+                return;
+            }
+
+            List<String> keys = new ArrayList<>();
+            keys.add(reservationKey);
+            keys.add(DIRTY_SET_KEY);
+            List<String> quantities = new ArrayList<>();
+            List<String> optionIds = new ArrayList<>();
+
+            for (Map.Entry<Object, Object> entry : reservedLines.entrySet()) {
+                keys.add(STOCK_KEY_PREFIX + entry.getKey());
+                quantities.add(entry.getValue().toString());
+                optionIds.add(entry.getKey().toString());
+            }
+
+            List<String> args = new ArrayList<>(quantities);
+            args.addAll(optionIds);
+
+            Long result = redisTemplate.execute(rollbackScript, keys, args.toArray());
+            if (result != null && result == 1L) {
+                log.info("재고 예약 롤백 완료 - reservationId: {}, options: {}", reservationId, optionIds);
+            } else {
+                log.warn("재고 예약 롤백 스킵 - 이미 처리됨. reservationId: {}", reservationId);
+            }
+        } catch (Exception e) {
+            log.error("재고 예약 롤백 실패 - reservationId: {}", reservationId, e);
+        }
+    }
+
+    public int getStock(Long optionId) {
+        String stock = redisTemplate.opsForValue().get(STOCK_KEY_PREFIX + optionId);
+        return stock != null ? Integer.parseInt(stock) : -1;
+    }
+}
@@ -0,0 +1,80 @@
+package org.hhplus.hhecommerce.infrastructure.inventory;
+
+import jakarta.persistence.OptimisticLockException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.product.ProductOptionStockStripe;
+import org.hhplus.hhecommerce.domain.product.ProductOptionStockStripeRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스트라이프 모드 옵션의 재고를 차감하고 재분배합니다.
+ *
+ * <p>잠금 없이 수량이 충분한 스트라이프 번호를 읽고 그중 임의의 하나에 조건부 UPDATE를 시도하므로 동시 주문이 서로 다른 행으로 흩어집니다.
+ * 충분한 스트라이프가 없으면 아직 아무 스트라이프도 잠그지 않은 상태에서 옵션의 모든 스트라이프를 번호 순으로 잠근 뒤
+ * 합계 기준으로 차감하고 남은 재고를 스트라이프에 고르게 다시 나눕니다. 어느 경로든 스트라이프 합계가 곧 전체 재고이므로 총량은 정확히 유지됩니다.</p>
+ *
+ * <p>읽은 뒤 다른 주문이 먼저 차감해 조건부 UPDATE가 실패하면, REPEATABLE READ에서는 실패한 UPDATE도 그 행의 잠금을 쥐고 있습니다.
+ * 이 상태로 전체 스트라이프를 잠그면 같은 처지의 주문과 서로의 행을 기다리며 교착되므로,
+ * {@link OptimisticLockException}을 던져 주문 트랜잭션을 되돌리고 처음부터 다시 시도하게 합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockStripeAllocator {
+
+    private final ProductOptionStockStripeRepository stripeRepository;
+
+    public boolean decrease(Long optionId, int stripeCount, int quantity) {
+        List<Integer> candidates = stripeRepository.findStripeNosWithStock(optionId, quantity);
+        if (candidates.isEmpty()) {
+            log.debug("수량이 충분한 스트라이프 없음, 전체 스트라이프에서 차감 - optionId: {}, stripeCount: {}", optionId, stripeCount);
+            return decreaseAcrossStripes(optionId, quantity);
+        }
+
+        int stripeNo = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+        if (stripeRepository.decreaseStock(optionId, stripeNo, quantity) == 1) {
+            return true;
+        }
+
+        log.debug("스트라이프 차감 경합, 주문 트랜잭션 재시도 - optionId: {}, stripeNo: {}", optionId, stripeNo);
+        throw new OptimisticLockException("스트라이프 재고가 읽은 뒤 바뀌었습니다 - optionId: " + optionId);
+    }
+
+    private boolean decreaseAcrossStripes(Long optionId, int quantity) {
+        List<ProductOptionStockStripe> stripes = stripeRepository.findAllByProductOptionIdWithLock(optionId);
+        int totalStock = stripes.stream().mapToInt(ProductOptionStockStripe::getStock).sum();
+        if (totalStock < quantity) {
+            return false;
+        }
+
+        List<Integer> rebalanced = split(totalStock - quantity, stripes.size());
+        for (int i = 0; i < stripes.size(); i++) {
+            ProductOptionStockStripe stripe = stripes.get(i);
+            if (stripe.getStock() != rebalanced.get(i)) {
+                stripeRepository.updateStock(stripe.getId(), rebalanced.get(i));
+            }
+        }
+
+        log.info("스트라이프 재고 재분배 - optionId: {}, 남은 재고: {}, 스트라이프 수: {}",
+                optionId, totalStock - quantity, stripes.size());
+        return true;
+    }
+
+    /**
+     * 재고를 스트라이프 수만큼 고르게 나눕니다. 나머지는 앞 번호 스트라이프부터 1개씩 더 배정합니다.
+     */
+    public static List<Integer> split(int totalStock, int stripeCount) {
+        List<Integer> stocks = new ArrayList<>(stripeCount);
+        int base = totalStock / stripeCount;
+        int remainder = totalStock % stripeCount;
+        for (int i = 0; i < stripeCount; i++) {
+            stocks.add(base + (i < remainder ? 1 : 0));
+        }
+        return stocks;
+    }
+}
@@ -0,0 +1,93 @@
+package org.hhplus.hhecommerce.infrastructure.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueRequest;
+import org.hhplus.hhecommerce.infrastructure.config.KafkaConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link CouponIssueConsumer}의 배치 모드. poll 한 번에 받은 요청을 {@link CouponIssueBatchService}로 한꺼번에 처리합니다.
+ *
+ * <p>요청은 couponId 키로 발행되므로 한 쿠폰의 요청은 한 파티션에 도착 순서대로 쌓이고,
+ * 배치 안에서도 그 순서대로 재고가 배정됩니다. 파티션 모드 쿠폰은 여러 파티션에 나뉘어 오므로
+ * 파티션별로 트랜잭션을 나눠 각자 자기 파티션의 쿼터에서 확보합니다.</p>
+ *
+ * <p>DB 연결 끊김, 락 대기 초과, 교착 같은 일시적 오류는 실패 결과를 남기지 않고 그대로 던져 배치를 다시 전달받습니다.
+ * 실패 결과를 먼저 저장하면 재전달 때 이미 처리된 요청으로 걸러져 다시 시도할 기회가 사라지기 때문입니다.
+ * 재시도를 다 쓴 요청은 DLT로 넘어가고, 거기서 실패 결과를 남깁니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.publisher.type", havingValue = "kafka", matchIfMissing = false)
+@ConditionalOnProperty(name = "coupon.issue.consumer.batch-enabled", havingValue = "true")
+public class CouponIssueBatchConsumer {
+
+    private static final String FAILED_MESSAGE = "쿠폰 발급 처리 중 오류가 발생했습니다.";
+
+    private final CouponIssueBatchService couponIssueBatchService;
+    private final CouponIssueResultService couponIssueResultService;
+
+    @KafkaListener(
+            topics = "${kafka.topic.coupon-issue-request}",
+            groupId = "coupon-issue-group",
+            containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void consume(List<ConsumerRecord<String, CouponIssueRequest>> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        ConsumerRecord<String, CouponIssueRequest> first = records.get(0);
+        log.info("[Kafka Consumer] 쿠폰 발급 요청 배치 수신 - topic: {}, 건수: {}, 첫 partition: {}, 첫 offset: {}",
+                first.topic(), records.size(), first.partition(), first.offset());
+
+        Map<Integer, List<CouponIssueRequest>> requestsByPartition = records.stream()
+                .collect(Collectors.groupingBy(ConsumerRecord::partition, LinkedHashMap::new,
+                        Collectors.mapping(ConsumerRecord::value, Collectors.toList())));
+
+        requestsByPartition.forEach(this::process);
+    }
+
+    private void process(int partition, List<CouponIssueRequest> requests) {
+        try {
+            couponIssueBatchService.process(partition, requests);
+        } catch (TransientDataAccessException | RecoverableDataAccessException | DataAccessResourceFailureException e) {
+            log.warn("[Kafka Consumer] 쿠폰 발급 배치 일시적 실패, 재전달 대기 - partition: {}, 건수: {}, error: {}",
+                    partition, requests.size(), e.getMessage());
+            throw e;
+        } catch (Exception e) {
+            log.error("[Kafka Consumer] 쿠폰 발급 배치 처리 실패 - partition: {}, 건수: {}, error: {}",
+                    partition, requests.size(), e.getMessage(), e);
+            couponIssueResultService.saveFailedResults(requests, FAILED_MESSAGE);
+            throw e;
+        }
+    }
+
+    /**
+     * 재시도를 다 쓴 요청에 실패 결과를 남깁니다. 마지막 시도에서 커밋된 결과가 있으면 그 결과를 유지합니다.
+     */
+    @KafkaListener(
+            topics = "${kafka.topic.coupon-issue-request}" + KafkaConfig.DLT_SUFFIX,
+            groupId = "coupon-issue-dlt-group",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void consumeDeadLetter(@Payload CouponIssueRequest request) {
+        couponIssueResultService.saveFailedResults(List.of(request), FAILED_MESSAGE);
+        log.error("[Kafka Consumer] 쿠폰 발급 요청 재시도 소진 - couponId: {}, userId: {}, requestId: {}",
+                request.couponId(), request.userId(), request.requestId());
+    }
+}
@@ -0,0 +1,186 @@
+package org.hhplus.hhecommerce.infrastructure.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.coupon.*;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponIssueResultCache;
+import org.hhplus.hhecommerce.infrastructure.cache.UserCouponWalletCache;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponIssueQuotaAllocator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * poll 한 번에 받은 쿠폰 발급 요청을 한 트랜잭션에서 처리합니다.
+ *
+ * <p>요청마다 조회·갱신하던 것을 묶음 단위로 바꿔 DB 왕복 횟수를 요청 수와 무관하게 만듭니다.</p>
+ * <ol>
+ *   <li>이미 처리된 requestId를 IN 쿼리 한 번으로 걸러냅니다.</li>
+ *   <li>쿠폰별로 묶어 중복 발급 여부를 쿠폰당 IN 쿼리 한 번으로 확인합니다. 쿠폰은 id 순으로 처리해
+ *       여러 쿠폰이 섞인 배치끼리도 쿠폰 행(또는 쿼터 행) 잠금을 같은 순서로 잡아 교착을 피합니다.</li>
+ *   <li>쿠폰당 {@code issued_quantity + k} 조건부 UPDATE 한 번으로 재고를 확보하고,
+ *       모자라면 남은 수량만큼만 도착 순서대로 당첨시킵니다.
+ *       파티션 모드 쿠폰은 쿠폰 행 대신 이 파티션의 쿼터에서 확보합니다.</li>
+ *   <li>user_coupon과 발급 결과를 각각 JDBC 배치로 저장하고, 커밋 후 결과 캐시에 한 번에 기록합니다.</li>
+ * </ol>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponIssueBatchService {
+
+    private static final String SUCCESS_MESSAGE = "쿠폰 발급이 완료되었습니다.";
+    private static final String NOT_FOUND_MESSAGE = "쿠폰을 찾을 수 없습니다.";
+    private static final String ALREADY_ISSUED_MESSAGE = "이미 발급받은 쿠폰입니다.";
+    private static final String OUT_OF_STOCK_MESSAGE = "쿠폰 재고가 소진되었습니다.";
+
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final CouponIssueResultRepository couponIssueResultRepository;
+    private final CouponIssueQuotaAllocator couponIssueQuotaAllocator;
+    private final CouponIssueResultCache couponIssueResultCache;
+    private final UserCouponWalletCache userCouponWalletCache;
+
+    /**
+     * @param partition 요청을 읽은 토픽 파티션 번호. 파티션 모드 쿠폰의 쿼터 선택에 사용
+     *                  (쿼터 빠른 경로를 쓰려면 READ COMMITTED여야 함 - {@link CouponIssueQuotaAllocator} 참고)
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public List<CouponIssueResultRecord> process(int partition, List<CouponIssueRequest> requests) {
+        // 1. 멱등성 체크 (배치 안의 재전달 포함)
+        Map<String, CouponIssueRequest> uniqueRequests = new LinkedHashMap<>();
+        requests.forEach(request -> uniqueRequests.putIfAbsent(request.requestId(), request));
+        if (uniqueRequests.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> processedRequestIds = new HashSet<>(
+                couponIssueResultRepository.findRequestIdsIn(uniqueRequests.keySet()));
+        Map<Long, List<CouponIssueRequest>> requestsByCoupon = uniqueRequests.values().stream()
+                .filter(request -> !processedRequestIds.contains(request.requestId()))
+                .collect(Collectors.groupingBy(CouponIssueRequest::couponId, TreeMap::new, Collectors.toList()));
+        if (requestsByCoupon.isEmpty()) {
+            log.info("[CouponIssueBatchService] 모두 이미 처리된 요청 - 건수: {}", uniqueRequests.size());
+            return List.of();
+        }
+
+        // 2. 쿠폰별 발급 대상 선정
+        Map<Long, Coupon> coupons = couponRepository.findAllById(requestsByCoupon.keySet()).stream()
+                .collect(Collectors.toMap(Coupon::getId, Function.identity()));
+
+        List<CouponIssueResultRecord> results = new ArrayList<>();
+        List<CouponIssueRequest> winners = new ArrayList<>();
+        requestsByCoupon.forEach((couponId, couponRequests) ->
+                selectWinners(coupons.get(couponId), couponId, partition, couponRequests, winners, results));
+
+        // 3. user_coupon 일괄 저장
+        LocalDateTime now = LocalDateTime.now();
+        List<CouponIssueReservation> reservations = winners.stream()
+                .map(request -> new CouponIssueReservation(
+                        request.couponId(), request.userId(), now, coupons.get(request.couponId()).getEndAt()))
+                .toList();
+        boolean[] inserted = userCouponRepository.insertAllSkippingDuplicates(reservations);
+
+        List<Long> issuedUserIds = new ArrayList<>();
+        Map<Long, Integer> releasedByCoupon = new TreeMap<>();
+        for (int i = 0; i < winners.size(); i++) {
+            CouponIssueRequest request = winners.get(i);
+            if (inserted[i]) {
+                issuedUserIds.add(request.userId());
+                results.add(result(request, CouponIssueStatus.SUCCESS, SUCCESS_MESSAGE));
+            } else {
+                // 조회 이후 다른 경로로 먼저 발급된 경우 - 확보한 재고를 돌려준다
+                results.add(result(request, CouponIssueStatus.ALREADY_ISSUED, ALREADY_ISSUED_MESSAGE));
+                releasedByCoupon.merge(request.couponId(), 1, Integer::sum);
+            }
+        }
+        releasedByCoupon.forEach((couponId, released) ->
+                releaseStock(coupons.get(couponId), partition, released));
+
+        // 4. 발급 결과 일괄 저장
+        couponIssueResultRepository.insertIgnoreAll(results);
+        couponIssueResultCache.saveAfterCommit(results.stream().map(CouponIssueRequestResult::from).toList());
+        userCouponWalletCache.evictAfterCommit(issuedUserIds);
+
+        log.info("[CouponIssueBatchService] 쿠폰 발급 배치 처리 완료 - 요청: {}, 처리: {}, 쿠폰 수: {}, 발급: {}",
+                requests.size(), results.size(), requestsByCoupon.size(), issuedUserIds.size());
+        return results;
+    }
+
+    private void selectWinners(Coupon coupon, Long couponId, int partition, List<CouponIssueRequest> couponRequests,
+                               List<CouponIssueRequest> winners, List<CouponIssueResultRecord> results) {
+        if (coupon == null) {
+            couponRequests.forEach(request ->
+                    results.add(result(request, CouponIssueStatus.COUPON_NOT_FOUND, NOT_FOUND_MESSAGE)));
+            return;
+        }
+
+        Set<Long> userIds = couponRequests.stream().map(CouponIssueRequest::userId).collect(Collectors.toSet());
+        Set<Long> issuedUserIds = new HashSet<>(userCouponRepository.findIssuedUserIds(couponId, userIds));
+
+        List<CouponIssueRequest> candidates = new ArrayList<>();
+        for (CouponIssueRequest request : couponRequests) {
+            // 이미 발급된 사용자와 같은 배치 안에서 두 번째 이후 요청은 중복 발급
+            if (issuedUserIds.add(request.userId())) {
+                candidates.add(request);
+            } else {
+                results.add(result(request, CouponIssueStatus.ALREADY_ISSUED, ALREADY_ISSUED_MESSAGE));
+            }
+        }
+
+        int granted = coupon.isIssuePartitioned()
+                ? couponIssueQuotaAllocator.reserve(couponId, partition, candidates.size())
+                : reserveStock(couponId, candidates.size());
+        winners.addAll(candidates.subList(0, granted));
+        candidates.subList(granted, candidates.size()).forEach(request ->
+                results.add(result(request, CouponIssueStatus.OUT_OF_STOCK, OUT_OF_STOCK_MESSAGE)));
+    }
+
+    /**
+     * 요청 수만큼 재고를 확보하고 실제로 확보한 수량을 반환합니다.
+     * 한 번에 확보하지 못하면 쿠폰 행을 잠그고 남은 수량만큼만 확보합니다.
+     */
+    private int reserveStock(Long couponId, int requested) {
+        if (requested == 0) {
+            return 0;
+        }
+        if (couponRepository.increaseIssuedQuantityBy(couponId, requested) > 0) {
+            return requested;
+        }
+
+        // 위 UPDATE가 영속성 컨텍스트를 비웠으므로 잠금 조회는 최신 발급 수량을 읽는다
+        Coupon locked = couponRepository.findByIdWithLock(couponId).orElse(null);
+        if (locked == null) {
+            return 0;
+        }
+        int granted = Math.min(requested, Math.max(locked.getTotalQuantity() - locked.getIssuedQuantity(), 0));
+        if (granted > 0) {
+            couponRepository.increaseIssuedQuantityBy(couponId, granted);
+        }
+        return granted;
+    }
+
+    private void releaseStock(Coupon coupon, int partition, int released) {
+        if (coupon.isIssuePartitioned()) {
+            couponIssueQuotaAllocator.release(coupon.getId(), partition, released);
+        } else {
+            couponRepository.increaseIssuedQuantityBy(coupon.getId(), -released);
+        }
+    }
+
+    private CouponIssueResultRecord result(CouponIssueRequest request, CouponIssueStatus status, String message) {
+        return new CouponIssueResultRecord(
+                request.requestId(),
+                request.couponId(),
+                request.userId(),
+                status,
+                message,
+                request.requestedAt()
+        );
+    }
+}
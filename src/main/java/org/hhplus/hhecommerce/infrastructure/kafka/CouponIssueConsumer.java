@@ -3,30 +3,38 @@ package org.hhplus.hhecommerce.infrastructure.kafka;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hhplus.hhecommerce.domain.coupon.*;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponCatalog;
+import org.hhplus.hhecommerce.infrastructure.cache.UserCouponWalletCache;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponIssueQuotaAllocator;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 @ConditionalOnProperty(name = "event.publisher.type", havingValue = "kafka", matchIfMissing = false)
+@ConditionalOnProperty(name = "coupon.issue.consumer.batch-enabled", havingValue = "false", matchIfMissing = true)
 public class CouponIssueConsumer {
 
     private final CouponRepository couponRepository;
+    private final CouponCatalog couponCatalog;
+    private final UserCouponWalletCache userCouponWalletCache;
     private final UserCouponRepository userCouponRepository;
     private final CouponIssueResultService couponIssueResultService;
+    private final CouponIssueQuotaAllocator couponIssueQuotaAllocator;
 
     @KafkaListener(
             topics = "${kafka.topic.coupon-issue-request}",
             groupId = "coupon-issue-group",
             containerFactory = "kafkaListenerContainerFactory"
     )
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public void consume(
             @Payload CouponIssueRequest request,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
@@ -43,13 +51,13 @@ public class CouponIssueConsumer {
             return;
         }
 
-        // 2. 쿠폰 존재 여부 확인
-        var couponOptional = couponRepository.findById(request.couponId());
+        // 2. 쿠폰 존재 여부 확인 (노드 로컬 카탈로그에서 조회)
+        var couponOptional = couponCatalog.find(request.couponId());
         if (couponOptional.isEmpty()) {
             saveResult(request, CouponIssueStatus.COUPON_NOT_FOUND, "쿠폰을 찾을 수 없습니다.");
             return;
         }
-        Coupon coupon = couponOptional.get();
+        CouponDefinition coupon = couponOptional.get();
 
         // 3. 중복 발급 체크
         if (hasAlreadyIssued(request.couponId(), request.userId())) {
@@ -59,15 +67,15 @@ public class CouponIssueConsumer {
 
         // 4. 재고 확인 및 발급
         try {
-            int updated = couponRepository.increaseIssuedQuantity(request.couponId());
-            if (updated == 0) {
+            if (!reserveStock(coupon.id(), partition)) {
                 saveResult(request, CouponIssueStatus.OUT_OF_STOCK, "쿠폰 재고가 소진되었습니다.");
                 return;
             }
 
             // 5. UserCoupon 저장
-            UserCoupon userCoupon = new UserCoupon(request.userId(), request.couponId(), coupon.getEndAt());
+            UserCoupon userCoupon = new UserCoupon(request.userId(), request.couponId(), coupon.endAt());
             userCouponRepository.save(userCoupon);
+            userCouponWalletCache.evictAfterCommit(request.userId());
 
             saveResult(request, CouponIssueStatus.SUCCESS, "쿠폰 발급이 완료되었습니다.");
             log.info("[Kafka Consumer] 쿠폰 발급 성공 - couponId: {}, userId: {}, requestId: {}",
@@ -85,6 +93,29 @@ public class CouponIssueConsumer {
         return couponIssueResultService.existsByRequestId(requestId);
     }
 
+    /**
+     * 파티션 모드는 카탈로그가 아닌 DB에서 읽습니다. 읽은 뒤 모드가 바뀌어 확보하지 못했으면 바뀐 모드로 한 번 더 시도합니다.
+     */
+    private boolean reserveStock(Long couponId, int partition) {
+        int partitionCount = findIssuePartitionCount(couponId);
+        if (reserveStock(couponId, partitionCount, partition)) {
+            return true;
+        }
+        int currentPartitionCount = findIssuePartitionCount(couponId);
+        return currentPartitionCount != partitionCount && reserveStock(couponId, currentPartitionCount, partition);
+    }
+
+    private boolean reserveStock(Long couponId, int partitionCount, int partition) {
+        if (partitionCount > 0) {
+            return couponIssueQuotaAllocator.reserve(couponId, partition, 1) > 0;
+        }
+        return couponRepository.increaseIssuedQuantity(couponId) > 0;
+    }
+
+    private int findIssuePartitionCount(Long couponId) {
+        return couponRepository.findIssuePartitionCount(couponId).orElse(0);
+    }
+
     private boolean hasAlreadyIssued(Long couponId, Long userId) {
         return userCouponRepository.existsByUserIdAndCouponId(userId, couponId);
     }
@@ -3,19 +3,26 @@ package org.hhplus.hhecommerce.infrastructure.kafka;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueRequest;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueRequestResult;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueResultRecord;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueResultRepository;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueStatus;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponIssueResultCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CouponIssueResultService {
 
     private final CouponIssueResultRepository couponIssueResultRepository;
+    private final CouponIssueResultCache couponIssueResultCache;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void saveResult(CouponIssueRequest request, CouponIssueStatus status, String message) {
@@ -28,10 +35,32 @@ public class CouponIssueResultService {
                 request.requestedAt()
         );
         couponIssueResultRepository.save(result);
+        couponIssueResultCache.saveAfterCommit(List.of(CouponIssueRequestResult.from(result)));
         log.info("[CouponIssueResultService] 발급 결과 저장 - requestId: {}, status: {}, message: {}",
                 request.requestId(), status, message);
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void saveFailedResults(List<CouponIssueRequest> requests, String message) {
+        // 이미 결과가 저장된 요청은 그대로 두고 캐시도 덮어쓰지 않음
+        Set<String> processedRequestIds = new HashSet<>(couponIssueResultRepository.findRequestIdsIn(
+                requests.stream().map(CouponIssueRequest::requestId).toList()));
+        List<CouponIssueResultRecord> results = requests.stream()
+                .filter(request -> !processedRequestIds.contains(request.requestId()))
+                .map(request -> new CouponIssueResultRecord(
+                        request.requestId(),
+                        request.couponId(),
+                        request.userId(),
+                        CouponIssueStatus.FAILED,
+                        message,
+                        request.requestedAt()
+                ))
+                .toList();
+        couponIssueResultRepository.insertIgnoreAll(results);
+        couponIssueResultCache.saveAfterCommit(results.stream().map(CouponIssueRequestResult::from).toList());
+        log.info("[CouponIssueResultService] 발급 실패 결과 일괄 저장 - 건수: {}", results.size());
+    }
+
     @Transactional(readOnly = true)
     public boolean existsByRequestId(String requestId) {
         return couponIssueResultRepository.existsByRequestId(requestId);
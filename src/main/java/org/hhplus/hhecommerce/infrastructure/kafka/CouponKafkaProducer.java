@@ -3,6 +3,7 @@ package org.hhplus.hhecommerce.infrastructure.kafka;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueRequest;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponIssueResultCache;
 import org.hhplus.hhecommerce.infrastructure.config.KafkaTopicProperties;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -22,6 +23,8 @@ public class CouponKafkaProducer {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final KafkaTopicProperties kafkaTopicProperties;
+    private final PartitionedCouponRegistry partitionedCouponRegistry;
+    private final CouponIssueResultCache couponIssueResultCache;
 
     private static final long SEND_TIMEOUT_SECONDS = 10;
 
@@ -30,10 +33,14 @@ public class CouponKafkaProducer {
         CouponIssueRequest request = CouponIssueRequest.of(requestId, couponId, userId);
 
         String topic = kafkaTopicProperties.getCouponIssueRequest();
-        String key = String.valueOf(couponId);
+        Integer partition = resolvePartition(couponId, userId);
+        String key = partition == null ? String.valueOf(couponId) : couponId + ":" + partition;
+
+        // 발행 전에 처리 중 상태를 남겨 결과 조회가 DB까지 내려가지 않게 함
+        couponIssueResultCache.accepted(requestId, couponId, userId);
 
         try {
-            SendResult<String, Object> result = kafkaTemplate.send(topic, key, request)
+            SendResult<String, Object> result = kafkaTemplate.send(topic, partition, key, request)
                     .get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
 
             log.info("[Kafka] 쿠폰 발급 요청 발행 성공 - topic: {}, key: {}, partition: {}, offset: {}, requestId: {}",
@@ -57,4 +64,18 @@ public class CouponKafkaProducer {
             throw new RuntimeException("쿠폰 발급 요청 전송 중단", e);
         }
     }
+
+    /**
+     * 파티션 모드 쿠폰은 userId 해시로 파티션을 직접 골라 여러 파티션에 나눠 보냅니다.
+     * 같은 사용자의 요청은 항상 같은 파티션으로 가고, 컨슈머는 받은 파티션 번호의 쿼터에서 발급합니다.
+     * 그 외 쿠폰은 couponId 키 해시에 맡겨 한 파티션으로 보냅니다.
+     */
+    private Integer resolvePartition(Long couponId, Long userId) {
+        int partitionCount = Math.min(partitionedCouponRegistry.partitionCount(couponId),
+                kafkaTopicProperties.getPartitions());
+        if (partitionCount < 2) {
+            return null;
+        }
+        return Math.floorMod(Long.hashCode(userId * 0x9E3779B97F4A7C15L), partitionCount);
+    }
 }
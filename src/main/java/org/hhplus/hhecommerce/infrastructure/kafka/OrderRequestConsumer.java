@@ -0,0 +1,148 @@
+package org.hhplus.hhecommerce.infrastructure.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.api.dto.order.CreateOrderRequest;
+import org.hhplus.hhecommerce.api.exception.CustomException;
+import org.hhplus.hhecommerce.application.order.CreateOrderUseCase;
+import org.hhplus.hhecommerce.application.order.OrderProcessResult;
+import org.hhplus.hhecommerce.application.order.OrderTransactionService;
+import org.hhplus.hhecommerce.domain.order.AsyncOrderRequest;
+import org.hhplus.hhecommerce.domain.order.OrderRepository;
+import org.hhplus.hhecommerce.domain.order.OrderRequestResult;
+import org.hhplus.hhecommerce.domain.order.exception.OrderErrorCode;
+import org.hhplus.hhecommerce.infrastructure.cache.OrderRequestStatusCache;
+import org.hhplus.hhecommerce.infrastructure.config.KafkaConfig;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 주문 요청을 처리합니다.
+ *
+ * <p>요청은 userId 키로 발행되므로 같은 사용자의 비동기 주문은 한 파티션에서 순차 처리됩니다.
+ * 다만 같은 사용자가 동기 API로도 주문하면 같은 장바구니를 두 번 결제할 수 있으므로, 동기 API와 같은
+ * 사용자 단위 분산락({@link CreateOrderUseCase#LOCK_KEY_PREFIX})을 잡고 처리합니다. 락을 얻지 못하면
+ * 예외를 던져 컨테이너의 재시도로 넘깁니다.</p>
+ *
+ * <p>requestId는 주문과 같은 트랜잭션에 유니크 컬럼으로 저장됩니다. 주문은 커밋됐지만 상태 캐시 갱신이나
+ * 오프셋 커밋 전에 죽어 재전달되면, 캐시가 아니라 주문 테이블에서 requestId를 찾아 성공으로 마무리합니다.
+ * 비즈니스 거절({@link CustomException})만 여기서 실패로 확정하고, 그 밖의 오류는 컨테이너의 재시도와
+ * DLT로 넘깁니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.publisher.type", havingValue = "kafka", matchIfMissing = false)
+public class OrderRequestConsumer {
+
+    private static final long LOCK_WAIT_TIME = 10L;
+    private static final long LOCK_LEASE_TIME = 30L;
+
+    private final RedissonClient redissonClient;
+    private final OrderTransactionService orderTransactionService;
+    private final OrderRepository orderRepository;
+    private final OrderRequestStatusCache orderRequestStatusCache;
+
+    @KafkaListener(
+            topics = "${kafka.topic.order-request}",
+            groupId = "order-request-group",
+            containerFactory = "orderRequestKafkaListenerContainerFactory"
+    )
+    public void consume(
+            @Payload AsyncOrderRequest request,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+            @Header(KafkaHeaders.OFFSET) long offset
+    ) {
+        log.info("[Kafka Consumer] 주문 요청 수신 - partition: {}, offset: {}, userId: {}, requestId: {}",
+                partition, offset, request.userId(), request.requestId());
+
+        // 1. 멱등성 체크 (재전달된 메시지는 다시 처리하지 않음)
+        if (completeIfOrdered(request)) {
+            return;
+        }
+        Optional<OrderRequestResult> current = orderRequestStatusCache.find(request.requestId());
+        if (current.isPresent() && current.get().status().isCompleted()) {
+            log.info("[Kafka Consumer] 이미 처리된 주문 요청 - requestId: {}", request.requestId());
+            return;
+        }
+
+        orderRequestStatusCache.processing(request.requestId());
+
+        // 2. 동기 주문과 같은 사용자 락을 잡고 주문 처리
+        RLock lock = acquireUserLock(request);
+        try {
+            OrderProcessResult result = orderTransactionService.executeOrderLogic(
+                    request.userId(), new CreateOrderRequest(request.userCouponId()), request.requestId());
+
+            orderRequestStatusCache.succeeded(request.requestId(), result.order().getId());
+            log.info("[Kafka Consumer] 주문 처리 성공 - userId: {}, orderId: {}, requestId: {}",
+                    request.userId(), result.order().getId(), request.requestId());
+
+        } catch (CustomException e) {
+            orderRequestStatusCache.failed(request.requestId(), e.getErrorCode().getCode(), e.getMessage());
+            log.warn("[Kafka Consumer] 주문 처리 실패 - userId: {}, requestId: {}, code: {}",
+                    request.userId(), request.requestId(), e.getErrorCode().getCode());
+
+        } catch (DataIntegrityViolationException e) {
+            // 다른 컨슈머가 같은 요청으로 먼저 주문을 커밋한 경우 (uk_order_request_id)
+            if (!completeIfOrdered(request)) {
+                throw e;
+            }
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private RLock acquireUserLock(AsyncOrderRequest request) {
+        RLock lock = redissonClient.getLock(CreateOrderUseCase.LOCK_KEY_PREFIX + request.userId());
+        try {
+            if (!lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("사용자 주문 락 획득 실패 - userId: " + request.userId());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("사용자 주문 락 대기 중 인터럽트 - userId: " + request.userId(), e);
+        }
+        return lock;
+    }
+
+    /**
+     * 재시도를 다 쓴 요청을 마무리합니다. 마지막 시도에서 주문이 커밋됐을 수 있으므로 주문 테이블을 먼저 봅니다.
+     */
+    @KafkaListener(
+            topics = "${kafka.topic.order-request}" + KafkaConfig.DLT_SUFFIX,
+            groupId = "order-request-dlt-group",
+            containerFactory = "kafkaListenerContainerFactory"
+    )
+    public void consumeDeadLetter(@Payload AsyncOrderRequest request) {
+        if (completeIfOrdered(request)) {
+            return;
+        }
+        orderRequestStatusCache.failed(request.requestId(),
+                OrderErrorCode.ORDER_FAILED.getCode(), OrderErrorCode.ORDER_FAILED.getMessage());
+        log.error("[Kafka Consumer] 주문 요청 재시도 소진 - userId: {}, requestId: {}",
+                request.userId(), request.requestId());
+    }
+
+    private boolean completeIfOrdered(AsyncOrderRequest request) {
+        Optional<Long> orderId = orderRepository.findIdByRequestId(request.requestId());
+        if (orderId.isEmpty()) {
+            return false;
+        }
+        orderRequestStatusCache.succeeded(request.requestId(), orderId.get());
+        log.info("[Kafka Consumer] 이미 주문된 요청 - requestId: {}, orderId: {}", request.requestId(), orderId.get());
+        return true;
+    }
+}
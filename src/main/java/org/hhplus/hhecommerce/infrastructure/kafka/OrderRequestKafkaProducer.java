@@ -0,0 +1,60 @@
+package org.hhplus.hhecommerce.infrastructure.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.order.AsyncOrderRequest;
+import org.hhplus.hhecommerce.domain.order.exception.OrderErrorCode;
+import org.hhplus.hhecommerce.domain.order.exception.OrderException;
+import org.hhplus.hhecommerce.infrastructure.config.KafkaTopicProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.publisher.type", havingValue = "kafka", matchIfMissing = false)
+public class OrderRequestKafkaProducer {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final KafkaTopicProperties kafkaTopicProperties;
+
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
+    /**
+     * 주문 요청을 userId 키로 발행합니다.
+     * 같은 사용자의 요청은 같은 파티션에서 순서대로 처리되므로 별도의 사용자 락이 필요 없습니다.
+     */
+    public void requestOrder(AsyncOrderRequest request) {
+        String topic = kafkaTopicProperties.getOrderRequest();
+        String key = String.valueOf(request.userId());
+
+        try {
+            SendResult<String, Object> result = kafkaTemplate.send(topic, key, request)
+                    .get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            log.info("[Kafka] 주문 요청 발행 성공 - topic: {}, key: {}, partition: {}, offset: {}, requestId: {}",
+                    topic, key,
+                    result.getRecordMetadata().partition(),
+                    result.getRecordMetadata().offset(),
+                    request.requestId());
+
+        } catch (TimeoutException e) {
+            log.error("[Kafka] 주문 요청 발행 타임아웃 - topic: {}, key: {}, requestId: {}", topic, key, request.requestId(), e);
+            throw new OrderException(OrderErrorCode.ORDER_REQUEST_FAILED);
+        } catch (ExecutionException e) {
+            log.error("[Kafka] 주문 요청 발행 실패 - topic: {}, key: {}, requestId: {}, error: {}",
+                    topic, key, request.requestId(), e.getCause().getMessage(), e);
+            throw new OrderException(OrderErrorCode.ORDER_REQUEST_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[Kafka] 주문 요청 발행 중단 - topic: {}, key: {}, requestId: {}", topic, key, request.requestId(), e);
+            throw new OrderException(OrderErrorCode.ORDER_REQUEST_FAILED);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.hhplus.hhecommerce.infrastructure.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 발급 파티션 모드인 쿠폰 목록을 주기적으로 읽어 두고, 발급 요청을 발행할 때 DB 조회 없이 파티션 수를 알려줍니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "event.publisher.type", havingValue = "kafka", matchIfMissing = false)
+public class PartitionedCouponRegistry {
+
+    private final CouponRepository couponRepository;
+
+    private volatile Map<Long, Integer> partitionCountByCouponId = Map.of();
+
+    /**
+     * @return 파티션 모드가 아니면 0
+     */
+    public int partitionCount(Long couponId) {
+        return partitionCountByCouponId.getOrDefault(couponId, 0);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.issue.partitioning.refresh-interval-ms:5000}")
+    public void refresh() {
+        try {
+            partitionCountByCouponId = couponRepository.findIssuePartitioned().stream()
+                    .collect(Collectors.toUnmodifiableMap(Coupon::getId, Coupon::getIssuePartitionCount));
+        } catch (Exception e) {
+            log.warn("파티션 모드 쿠폰 목록 갱신 실패 - 이전 목록을 유지합니다. error: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package org.hhplus.hhecommerce.infrastructure.monitoring;
+
+/**
+ * 주문 트랜잭션 안의 처리 단계. {@code order.phase.duration} 타이머의 phase 태그 값으로 쓰입니다.
+ */
+public enum OrderPhase {
+    VALIDATE_USER("validate_user"),
+    LOAD_CART("load_cart"),
+    DEDUCT_STOCK("deduct_stock"),
+    APPLY_COUPON("apply_coupon"),
+    SAVE_ORDER("save_order"),
+    DEDUCT_POINT("deduct_point"),
+    CLEAR_CART("clear_cart"),
+    WRITE_OUTBOX("write_outbox");
+
+    private final String tag;
+
+    OrderPhase(String tag) {
+        this.tag = tag;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+}
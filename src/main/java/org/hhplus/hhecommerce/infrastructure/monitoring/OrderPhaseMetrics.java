@@ -0,0 +1,131 @@
+package org.hhplus.hhecommerce.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 주문 트랜잭션의 단계별 소요 시간을 {@code order.phase.duration} 타이머로 기록합니다.
+ *
+ * <p>태그는 phase, cart_size(장바구니 라인 수 구간), outcome(success/failure)입니다.
+ * 전체 소요 시간이 임계값을 넘으면 단계별 내역을 함께 로그로 남겨 p99 상승 원인을 바로 확인할 수 있게 합니다.</p>
+ */
+@Slf4j
+@Component
+public class OrderPhaseMetrics {
+
+    private static final String METRIC_NAME = "order.phase.duration";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public OrderPhaseMetrics(MeterRegistry meterRegistry,
+                             @Value("${order.phase.slow-threshold-ms:500}") long slowThresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    public Recording start() {
+        return new Recording();
+    }
+
+    static String cartSizeBucket(int cartSize) {
+        if (cartSize <= 0) {
+            return "unknown";
+        }
+        if (cartSize == 1) {
+            return "1";
+        }
+        if (cartSize <= 5) {
+            return "2-5";
+        }
+        if (cartSize <= 20) {
+            return "6-20";
+        }
+        return "21+";
+    }
+
+    private Timer timer(OrderPhase phase, String cartSizeBucket, String outcome) {
+        return timers.computeIfAbsent(phase.getTag() + ":" + cartSizeBucket + ":" + outcome, key ->
+                Timer.builder(METRIC_NAME)
+                        .description("주문 트랜잭션 단계별 소요 시간")
+                        .tag("phase", phase.getTag())
+                        .tag("cart_size", cartSizeBucket)
+                        .tag("outcome", outcome)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry));
+    }
+
+    /**
+     * 주문 한 건의 단계별 측정값. 한 스레드에서만 사용합니다.
+     */
+    public final class Recording {
+
+        private final long startedAt = System.nanoTime();
+        private final long[] phaseNanos = new long[OrderPhase.values().length];
+        private final boolean[] executed = new boolean[OrderPhase.values().length];
+        private int cartSize;
+
+        private Recording() {
+        }
+
+        public <T> T time(OrderPhase phase, Supplier<T> action) {
+            long start = System.nanoTime();
+            try {
+                return action.get();
+            } finally {
+                phaseNanos[phase.ordinal()] += System.nanoTime() - start;
+                executed[phase.ordinal()] = true;
+            }
+        }
+
+        public void run(OrderPhase phase, Runnable action) {
+            time(phase, () -> {
+                action.run();
+                return null;
+            });
+        }
+
+        public void cartSize(int cartSize) {
+            this.cartSize = cartSize;
+        }
+
+        /**
+         * 실행된 단계의 타이머를 기록하고, 느린 주문이면 단계별 내역을 로그로 남깁니다.
+         */
+        public void finish(Long userId, boolean success) {
+            String bucket = cartSizeBucket(cartSize);
+            String outcome = success ? "success" : "failure";
+            for (OrderPhase phase : OrderPhase.values()) {
+                if (executed[phase.ordinal()]) {
+                    timer(phase, bucket, outcome).record(phaseNanos[phase.ordinal()], TimeUnit.NANOSECONDS);
+                }
+            }
+
+            long totalNanos = System.nanoTime() - startedAt;
+            if (totalNanos >= slowThresholdNanos) {
+                log.warn("느린 주문 처리 - userId: {}, cartSize: {}, outcome: {}, total: {}ms, phases: {}",
+                        userId, cartSize, outcome, TimeUnit.NANOSECONDS.toMillis(totalNanos), breakdown());
+            }
+        }
+
+        private String breakdown() {
+            StringJoiner joiner = new StringJoiner(", ", "{", "}");
+            for (OrderPhase phase : OrderPhase.values()) {
+                if (executed[phase.ordinal()]) {
+                    joiner.add(phase.getTag() + "=" + TimeUnit.NANOSECONDS.toMillis(phaseNanos[phase.ordinal()]) + "ms");
+                }
+            }
+            return joiner.toString();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.hhplus.hhecommerce.infrastructure.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL 문 수를 스레드 단위로 셉니다.
+ * {@link #start()} 이후 {@link #stop()} 까지 실행된 문장만 세므로 요청 처리 구간에만 적용됩니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * 세기를 멈추고 그동안 실행된 문장 수를 반환합니다. 시작하지 않았다면 -1을 반환합니다.
+     */
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter[0] : -1;
+    }
+}
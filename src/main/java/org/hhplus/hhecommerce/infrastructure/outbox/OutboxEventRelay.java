@@ -3,6 +3,7 @@ package org.hhplus.hhecommerce.infrastructure.outbox;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.application.order.OrderViewProjector;
 import org.hhplus.hhecommerce.domain.common.DomainEventPublisher;
 import org.hhplus.hhecommerce.domain.common.OutboxEvent;
 import org.hhplus.hhecommerce.domain.common.OutboxEventRepository;
@@ -26,6 +27,7 @@ public class OutboxEventRelay {
     private final DomainEventPublisher eventPublisher;
     private final ObjectMapper objectMapper;
     private final TransactionTemplate transactionTemplate;
+    private final OrderViewProjector orderViewProjector;
 
     @Value("${outbox.relay.batch-size:100}")
     private int batchSize;
@@ -77,9 +79,10 @@ public class OutboxEventRelay {
             outboxEventRepository.save(outboxEvent);
         });
 
+        Object event;
         try {
             // 2. 카프카 발행
-            Object event = deserializeEvent(outboxEvent);
+            event = deserializeEvent(outboxEvent);
             eventPublisher.publish(event);
 
             // 3. 발행 성공 → PUBLISHED (별도 트랜잭션)
@@ -97,6 +100,17 @@ public class OutboxEventRelay {
             });
             throw e;
         }
+
+        // 5. 주문 조회 모델 작성. 실패해도 발행은 끝났으므로 이벤트 상태를 바꾸지 않음
+        //    (반영되지 않은 주문은 목록/상세 조회가 주문 테이블에서 보완하고, 백필 작업이 채움)
+        if (event instanceof PaymentCompletedEvent paymentEvent) {
+            try {
+                orderViewProjector.project(paymentEvent);
+            } catch (Exception e) {
+                log.warn("주문 조회 모델 작성 실패 - outboxId: {}, orderId: {}, error: {}",
+                        outboxEvent.getId(), paymentEvent.orderId(), e.getMessage());
+            }
+        }
     }
 
     private Object deserializeEvent(OutboxEvent outboxEvent) {
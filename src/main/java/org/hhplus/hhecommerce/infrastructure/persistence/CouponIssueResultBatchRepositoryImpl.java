@@ -0,0 +1,40 @@
+package org.hhplus.hhecommerce.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResultBatchRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResultRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class CouponIssueResultBatchRepositoryImpl implements CouponIssueResultBatchRepository {
+
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO coupon_issue_result " +
+            "(request_id, coupon_id, user_id, status, message, requested_at, processed_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertIgnoreAll(List<CouponIssueResultRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = records.stream()
+                .map(record -> new Object[]{
+                        record.getRequestId(),
+                        record.getCouponId(),
+                        record.getUserId(),
+                        record.getStatus().name(),
+                        record.getMessage(),
+                        Timestamp.valueOf(record.getRequestedAt()),
+                        Timestamp.valueOf(record.getProcessedAt())
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, args);
+    }
+}
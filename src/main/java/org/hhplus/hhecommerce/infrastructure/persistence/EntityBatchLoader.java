@@ -0,0 +1,87 @@
+package org.hhplus.hhecommerce.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.hhplus.hhecommerce.domain.product.Product;
+import org.hhplus.hhecommerce.domain.product.ProductOption;
+import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
+import org.hhplus.hhecommerce.domain.product.ProductRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 범위 배치 로더.
+ *
+ * <p>유스케이스가 필요한 ID를 모아 넘기면 타입별로 {@code findAllById} 한 번으로 조회하고,
+ * 결과를 현재 HTTP 요청 속성에 보관해 같은 요청 안에서는 다시 조회하지 않습니다.
+ * 요청 컨텍스트가 없는 곳(스케줄러, 컨슈머 등)에서는 보관 없이 배치 조회만 수행합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityBatchLoader {
+
+    private static final String CACHE_ATTRIBUTE = EntityBatchLoader.class.getName() + ".cache";
+
+    private final ProductOptionRepository productOptionRepository;
+    private final ProductRepository productRepository;
+
+    public Map<Long, ProductOption> loadProductOptions(Collection<Long> ids) {
+        return load(ProductOption.class, ids, productOptionRepository::findAllById, ProductOption::getId);
+    }
+
+    public Map<Long, Product> loadProducts(Collection<Long> ids) {
+        return load(Product.class, ids, productRepository::findAllById, Product::getId);
+    }
+
+    private <T> Map<Long, T> load(Class<T> type,
+                                  Collection<Long> ids,
+                                  Function<Set<Long>, List<T>> fetcher,
+                                  Function<T, Long> idExtractor) {
+        Map<Long, Object> cache = cacheFor(type);
+
+        Set<Long> missingIds = ids.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !cache.containsKey(id))
+                .collect(Collectors.toSet());
+
+        if (!missingIds.isEmpty()) {
+            for (T entity : fetcher.apply(missingIds)) {
+                cache.put(idExtractor.apply(entity), entity);
+            }
+        }
+
+        Map<Long, T> result = new HashMap<>();
+        for (Long id : ids) {
+            Object entity = cache.get(id);
+            if (entity != null) {
+                result.put(id, type.cast(entity));
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Object> cacheFor(Class<?> type) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new HashMap<>();
+        }
+
+        Map<Class<?>, Map<Long, Object>> caches =
+                (Map<Class<?>, Map<Long, Object>>) attributes.getAttribute(CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (caches == null) {
+            caches = new HashMap<>();
+            attributes.setAttribute(CACHE_ATTRIBUTE, caches, RequestAttributes.SCOPE_REQUEST);
+        }
+        return caches.computeIfAbsent(type, key -> new HashMap<>());
+    }
+}
@@ -1,15 +1,21 @@
 package org.hhplus.hhecommerce.infrastructure.persistence;
 
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResultBatchRepository;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueResultRecord;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueResultRepository;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface JpaCouponIssueResultRepository extends JpaRepository<CouponIssueResultRecord, Long>, CouponIssueResultRepository {
+public interface JpaCouponIssueResultRepository extends JpaRepository<CouponIssueResultRecord, Long>,
+        CouponIssueResultRepository, CouponIssueResultBatchRepository {
 
     @Override
     Optional<CouponIssueResultRecord> findByRequestId(String requestId);
@@ -19,4 +25,8 @@ public interface JpaCouponIssueResultRepository extends JpaRepository<CouponIssu
 
     @Override
     boolean existsByCouponIdAndUserIdAndStatus(Long couponId, Long userId, CouponIssueStatus status);
+
+    @Override
+    @Query("SELECT r.requestId FROM CouponIssueResultRecord r WHERE r.requestId IN :requestIds")
+    List<String> findRequestIdsIn(@Param("requestIds") Collection<String> requestIds);
 }
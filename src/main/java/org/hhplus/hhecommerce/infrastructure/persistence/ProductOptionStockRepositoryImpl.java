@@ -0,0 +1,49 @@
+package org.hhplus.hhecommerce.infrastructure.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hhplus.hhecommerce.domain.product.ProductOptionStockRepository;
+
+import java.util.List;
+import java.util.Map;
+
+public class ProductOptionStockRepositoryImpl implements ProductOptionStockRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int decreaseStocks(Map<Long, Integer> quantityByOptionId) {
+        if (quantityByOptionId.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> optionIds = quantityByOptionId.keySet().stream()
+                .sorted()
+                .toList();
+
+        StringBuilder quantityCase = new StringBuilder("CASE id");
+        for (int i = 0; i < optionIds.size(); i++) {
+            quantityCase.append(" WHEN :id").append(i).append(" THEN :qty").append(i);
+        }
+        quantityCase.append(" END");
+
+        String sql = "UPDATE product_option " +
+                "SET stock = stock - (" + quantityCase + ") " +
+                "WHERE id IN (:ids) AND stock >= (" + quantityCase + ") " +
+                "ORDER BY id";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setParameter("ids", optionIds);
+        for (int i = 0; i < optionIds.size(); i++) {
+            Long optionId = optionIds.get(i);
+            query.setParameter("id" + i, optionId);
+            query.setParameter("qty" + i, quantityByOptionId.get(optionId));
+        }
+
+        int updatedRows = query.executeUpdate();
+        entityManager.clear();
+        return updatedRows;
+    }
+}
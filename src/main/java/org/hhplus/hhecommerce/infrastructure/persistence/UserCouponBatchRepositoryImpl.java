@@ -0,0 +1,110 @@
+package org.hhplus.hhecommerce.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueReservation;
+import org.hhplus.hhecommerce.domain.coupon.CouponStatus;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponBatchRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class UserCouponBatchRepositoryImpl implements UserCouponBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO user_coupon (user_id, coupon_id, status, expired_at, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String FIND_ISSUED_USER_IDS_SQL =
+            "SELECT user_id FROM user_coupon WHERE coupon_id = ? AND user_id IN (%s)";
+
+    private static final String INCREASE_ISSUED_QUANTITY_SQL =
+            "UPDATE coupon SET issued_quantity = issued_quantity + ? " +
+            "WHERE id = ? AND issued_quantity + ? <= total_quantity AND issue_partition_count = 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean[] insertAllSkippingDuplicates(List<CouponIssueReservation> reservations) {
+        boolean[] inserted = new boolean[reservations.size()];
+        if (reservations.isEmpty()) {
+            return inserted;
+        }
+
+        // 이미 저장된 (user_id, coupon_id)와 같은 배치 안의 두 번째 이후 예약은 건너뛰고 나머지만 INSERT
+        Map<Long, Set<Long>> issuedUserIdsByCoupon = findIssuedUserIds(reservations);
+        List<Object[]> args = new ArrayList<>(reservations.size());
+        for (int i = 0; i < reservations.size(); i++) {
+            CouponIssueReservation reservation = reservations.get(i);
+            if (!issuedUserIdsByCoupon.get(reservation.couponId()).add(reservation.userId())) {
+                continue;
+            }
+            inserted[i] = true;
+
+            Timestamp issuedAt = Timestamp.valueOf(reservation.issuedAt());
+            args.add(new Object[]{
+                    reservation.userId(),
+                    reservation.couponId(),
+                    CouponStatus.AVAILABLE.name(),
+                    Timestamp.valueOf(reservation.expiredAt()),
+                    issuedAt,
+                    issuedAt
+            });
+        }
+
+        // 조회 이후 다른 트랜잭션이 먼저 저장했다면 DuplicateKeyException으로 배치 전체가 실패하고, 다시 읽을 때 걸러짐
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, args);
+        }
+        return inserted;
+    }
+
+    private Map<Long, Set<Long>> findIssuedUserIds(List<CouponIssueReservation> reservations) {
+        Map<Long, List<Long>> userIdsByCoupon = new LinkedHashMap<>();
+        for (CouponIssueReservation reservation : reservations) {
+            userIdsByCoupon.computeIfAbsent(reservation.couponId(), id -> new ArrayList<>()).add(reservation.userId());
+        }
+
+        Map<Long, Set<Long>> issuedUserIdsByCoupon = new LinkedHashMap<>();
+        userIdsByCoupon.forEach((couponId, userIds) -> {
+            String sql = FIND_ISSUED_USER_IDS_SQL.formatted(String.join(",", Collections.nCopies(userIds.size(), "?")));
+            List<Object> params = new ArrayList<>(userIds.size() + 1);
+            params.add(couponId);
+            params.addAll(userIds);
+            issuedUserIdsByCoupon.put(couponId,
+                    new HashSet<>(jdbcTemplate.queryForList(sql, Long.class, params.toArray())));
+        });
+        return issuedUserIdsByCoupon;
+    }
+
+    @Override
+    public List<Long> increaseIssuedQuantities(Map<Long, Integer> issuedCountByCouponId) {
+        List<Map.Entry<Long, Integer>> entries = issuedCountByCouponId.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object[]> args = entries.stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()})
+                .toList();
+        int[] updateCounts = jdbcTemplate.batchUpdate(INCREASE_ISSUED_QUANTITY_SQL, args);
+
+        List<Long> rejectedCouponIds = new ArrayList<>();
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == 0) {
+                rejectedCouponIds.add(entries.get(i).getKey());
+            }
+        }
+        return rejectedCouponIds;
+    }
+}
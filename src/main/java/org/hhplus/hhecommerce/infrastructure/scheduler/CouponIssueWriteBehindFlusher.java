@@ -0,0 +1,293 @@
+package org.hhplus.hhecommerce.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.application.coupon.CouponIssueFlushService;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueManager;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueReservation;
+import org.hhplus.hhecommerce.infrastructure.config.CouponWriteBehindProperties;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponIssueStream;
+import org.hhplus.hhecommerce.infrastructure.coupon.RedisCouponIssueManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 쿠폰 발급 스트림을 주기적으로 읽어 user_coupon에 배치로 저장(write-behind)합니다.
+ *
+ * <ul>
+ *   <li>시작 시 이 consumer가 ACK하지 못한 항목부터 다시 처리해 재시작 전에 저장되지 못한 발급 건을 복구합니다.</li>
+ *   <li>다른 노드가 오래 처리하지 못한 항목은 가져와서 대신 처리합니다.</li>
+ *   <li>DB 저장이 커밋된 뒤에만 ACK하므로 중간에 실패하면 같은 항목이 다시 처리되고, 이미 저장된 사용자는 건너뜁니다.</li>
+ *   <li>배치 저장이 실패하면 한 건씩 나눠 저장하고, {@code max-deliveries}번 전달해도 실패한 항목은
+ *       dead-letter 스트림으로 옮겨 같은 배치를 끝없이 다시 읽지 않게 합니다. DB 연결 끊김 같은 일시적 실패는 제외합니다.
+ *       이때 Redis의 발급 표시를 취소하고 재고를 돌려놓아 user_coupon 없이 발급된 사용자로 남지 않게 합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.strategy", havingValue = "redis", matchIfMissing = false)
+@ConditionalOnProperty(name = "coupon.issue.write-behind.enabled", havingValue = "true")
+public class CouponIssueWriteBehindFlusher {
+
+    private final CouponIssueStream couponIssueStream;
+    private final CouponIssueFlushService couponIssueFlushService;
+    private final CouponIssueManager couponIssueManager;
+    private final RedisCouponIssueManager redisCouponIssueManager;
+    private final CouponWriteBehindProperties properties;
+
+    private final Counter flushedCounter;
+    private final Counter failedFlushCounter;
+    private final Counter deadLetteredCounter;
+    private final Counter revokedCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    private volatile boolean recovered = false;
+
+    public CouponIssueWriteBehindFlusher(CouponIssueStream couponIssueStream,
+                                         CouponIssueFlushService couponIssueFlushService,
+                                         CouponIssueManager couponIssueManager,
+                                         RedisCouponIssueManager redisCouponIssueManager,
+                                         CouponWriteBehindProperties properties,
+                                         MeterRegistry meterRegistry) {
+        this.couponIssueStream = couponIssueStream;
+        this.couponIssueFlushService = couponIssueFlushService;
+        this.couponIssueManager = couponIssueManager;
+        this.redisCouponIssueManager = redisCouponIssueManager;
+        this.properties = properties;
+
+        this.flushedCounter = Counter.builder("coupon.write_behind.flushed")
+                .description("스트림에서 user_coupon으로 저장한 발급 건 수")
+                .register(meterRegistry);
+
+        this.failedFlushCounter = Counter.builder("coupon.write_behind.flush.failures")
+                .description("user_coupon 배치 저장 실패 횟수")
+                .register(meterRegistry);
+
+        this.deadLetteredCounter = Counter.builder("coupon.write_behind.dead_lettered")
+                .description("저장하지 못해 dead-letter 스트림으로 옮긴 발급 건 수")
+                .register(meterRegistry);
+
+        this.revokedCounter = Counter.builder("coupon.write_behind.revoked")
+                .description("dead-letter로 옮기면서 Redis 발급 표시를 취소한 발급 건 수")
+                .register(meterRegistry);
+
+        this.batchSizeSummary = DistributionSummary.builder("coupon.write_behind.batch.size")
+                .description("한 번에 저장한 발급 건 수")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        try {
+            couponIssueStream.ensureGroup();
+
+            int recoveredCount = 0;
+            List<MapRecord<String, Object, Object>> records;
+            while (!(records = couponIssueStream.readUnacknowledged(properties.getBatchSize())).isEmpty()) {
+                if (!flush(records)) {
+                    // DB가 아직 준비되지 않았다면 주기 실행에서 다시 시도
+                    return;
+                }
+                recoveredCount += records.size();
+            }
+
+            recovered = true;
+            if (recoveredCount > 0) {
+                log.info("저장되지 않은 쿠폰 발급 건 복구 완료 - {}건", recoveredCount);
+            }
+        } catch (Exception e) {
+            log.error("쿠폰 발급 스트림 복구 실패 - 주기 실행에서 다시 시도합니다.", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.issue.write-behind.flush-interval-ms:200}")
+    public void flushPending() {
+        if (!recovered) {
+            recover();
+            if (!recovered) {
+                return;
+            }
+        }
+
+        try {
+            // 이 consumer가 읽고 저장하지 못한 항목을 먼저 다시 시도 (다시 읽을 때마다 전달 횟수가 늘어남)
+            if (!flush(couponIssueStream.readUnacknowledged(properties.getBatchSize()))) {
+                return;
+            }
+            flush(couponIssueStream.claimIdle(properties.getBatchSize(),
+                    Duration.ofMillis(properties.getClaimIdleMs())));
+
+            List<MapRecord<String, Object, Object>> records;
+            while (!(records = couponIssueStream.readNew(properties.getBatchSize())).isEmpty()) {
+                if (!flush(records)) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("쿠폰 발급 스트림 처리 실패", e);
+        }
+    }
+
+    /**
+     * @return 모든 항목을 저장(또는 dead-letter)하고 ACK까지 끝냈으면 true. 남은 항목은 다음 주기에 다시 읽힌다.
+     */
+    private boolean flush(List<MapRecord<String, Object, Object>> records) {
+        if (records.isEmpty()) {
+            return true;
+        }
+
+        List<MapRecord<String, Object, Object>> parsedRecords = new ArrayList<>(records.size());
+        List<CouponIssueReservation> reservations = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                reservations.add(couponIssueStream.toReservation(record));
+                parsedRecords.add(record);
+            } catch (RuntimeException e) {
+                // 형식이 깨진 항목은 재시도해도 성공할 수 없으므로 바로 dead-letter로 옮김
+                log.error("쿠폰 발급 스트림 항목 파싱 실패 - id: {}, value: {}", record.getId(), record.getValue(), e);
+                deadLetter(record, e);
+            }
+        }
+        if (reservations.isEmpty()) {
+            return true;
+        }
+
+        try {
+            persist(parsedRecords, reservations);
+            return true;
+        } catch (Exception e) {
+            failedFlushCounter.increment();
+            if (isTransient(e) || reservations.size() == 1) {
+                log.error("쿠폰 발급 배치 저장 실패 - 건수: {}, 다음 주기에 재시도합니다.", reservations.size(), e);
+                if (!isTransient(e)) {
+                    deadLetterIfExhausted(Map.of(parsedRecords.get(0), e));
+                }
+                return false;
+            }
+            log.warn("쿠폰 발급 배치 저장 실패 - 건수: {}, 한 건씩 나눠 다시 저장합니다.", reservations.size(), e);
+        }
+
+        // 한 건 때문에 배치 전체가 되돌려졌을 수 있으므로 나머지는 한 건씩 저장해 진행시킴
+        Map<MapRecord<String, Object, Object>, Exception> failures = new LinkedHashMap<>();
+        for (int i = 0; i < reservations.size(); i++) {
+            try {
+                persist(List.of(parsedRecords.get(i)), List.of(reservations.get(i)));
+            } catch (Exception e) {
+                log.error("쿠폰 발급 건 저장 실패 - id: {}, reservation: {}", parsedRecords.get(i).getId(), reservations.get(i), e);
+                failures.put(parsedRecords.get(i), e);
+            }
+        }
+        deadLetterIfExhausted(failures);
+        return failures.isEmpty();
+    }
+
+    private void persist(List<MapRecord<String, Object, Object>> records, List<CouponIssueReservation> reservations) {
+        List<CouponIssueReservation> skipped = couponIssueFlushService.persist(reservations);
+
+        // 처음 전달된 항목이 건너뛰어졌다면 DB에 이미 있던 사용자 - 이 예약이 차감한 Redis 재고를 돌려놓음.
+        // 재전달된 항목은 이전 전달에서 저장한 뒤 ACK만 못 했을 수 있으므로 돌려놓지 않음.
+        // ACK하면 전달 횟수를 알 수 없으므로 ACK 전에 조회함
+        List<CouponIssueReservation> duplicates = findFirstDeliveries(records, reservations, skipped);
+
+        couponIssueStream.acknowledge(records.stream().map(MapRecord::getId).toList());
+        batchSizeSummary.record(reservations.size());
+        flushedCounter.increment(reservations.size() - skipped.size());
+
+        for (CouponIssueReservation reservation : reservations) {
+            couponIssueManager.confirm(reservation.couponId(), reservation.userId());
+        }
+        for (CouponIssueReservation duplicate : duplicates) {
+            log.warn("DB에 이미 발급된 사용자 - 차감한 재고 복구 - couponId: {}, userId: {}", duplicate.couponId(), duplicate.userId());
+            redisCouponIssueManager.restoreStock(duplicate.couponId(), 1);
+        }
+    }
+
+    private List<CouponIssueReservation> findFirstDeliveries(List<MapRecord<String, Object, Object>> records,
+                                                             List<CouponIssueReservation> reservations,
+                                                             List<CouponIssueReservation> skipped) {
+        if (skipped.isEmpty()) {
+            return List.of();
+        }
+        // persist는 넘긴 예약 객체를 그대로 돌려주므로 동일성으로 항목을 찾음
+        Map<CouponIssueReservation, RecordId> recordIdByReservation = new IdentityHashMap<>();
+        for (int i = 0; i < reservations.size(); i++) {
+            recordIdByReservation.put(reservations.get(i), records.get(i).getId());
+        }
+        Map<RecordId, Long> deliveryCounts = couponIssueStream.deliveryCounts(
+                skipped.stream().map(recordIdByReservation::get).toList());
+
+        return skipped.stream()
+                .filter(reservation -> deliveryCounts.getOrDefault(recordIdByReservation.get(reservation), 0L) == 1L)
+                .toList();
+    }
+
+    /**
+     * 최대 전달 횟수에 이른 실패 항목을 dead-letter 스트림으로 옮기고 Redis 발급 상태를 되돌립니다.
+     * 나머지는 ACK하지 않아 다시 전달됩니다.
+     */
+    private void deadLetterIfExhausted(Map<MapRecord<String, Object, Object>, Exception> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        Map<RecordId, Long> deliveryCounts = couponIssueStream.deliveryCounts(
+                failures.keySet().stream().map(MapRecord::getId).toList());
+
+        failures.forEach((record, failure) -> {
+            long deliveryCount = deliveryCounts.getOrDefault(record.getId(), 0L);
+            if (deliveryCount >= properties.getMaxDeliveries()) {
+                log.error("쿠폰 발급 건 {}회 저장 실패 - dead-letter로 이동 - id: {}, value: {}",
+                        deliveryCount, record.getId(), record.getValue());
+                deadLetter(record, failure);
+                revoke(record);
+            }
+        });
+    }
+
+    /**
+     * 응답은 이미 성공으로 나갔지만 user_coupon이 없으므로 Redis 발급 표시와 재고를 DB에 맞춥니다.
+     * 되돌리지 못한 항목은 dead-letter 스트림에 남아 있으므로 로그를 보고 수동으로 맞춥니다.
+     */
+    private void revoke(MapRecord<String, Object, Object> record) {
+        CouponIssueReservation reservation = couponIssueStream.toReservation(record);
+        try {
+            if (redisCouponIssueManager.revokeIssued(reservation.couponId(), reservation.userId())) {
+                revokedCounter.increment();
+            }
+        } catch (Exception e) {
+            log.error("dead-letter 발급 건 Redis 취소 실패 - 수동 보정 필요 - id: {}, reservation: {}",
+                    record.getId(), reservation, e);
+        }
+    }
+
+    private void deadLetter(MapRecord<String, Object, Object> record, Exception failure) {
+        couponIssueStream.deadLetter(record, failure.getClass().getSimpleName() + ": " + failure.getMessage());
+        deadLetteredCounter.increment();
+    }
+
+    /**
+     * DB 연결 끊김이나 락 대기 초과처럼 기다리면 풀리는 실패. 항목 문제가 아니므로 나눠 저장하거나 dead-letter로 옮기지 않는다.
+     */
+    private boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+}
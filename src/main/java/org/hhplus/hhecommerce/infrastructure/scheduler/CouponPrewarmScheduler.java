@@ -0,0 +1,114 @@
+package org.hhplus.hhecommerce.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.infrastructure.config.CouponPrewarmProperties;
+import org.hhplus.hhecommerce.infrastructure.coupon.RedisCouponIssueManager;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 곧 시작하는 쿠폰의 Redis 발급 상태를 미리 적재하는 스케줄러.
+ *
+ * <p>초기화되지 않은 쿠폰의 첫 요청은 초기화 락을 잡고 DB에서 동기화하며, 동시에 들어온 나머지 요청은
+ * 최대 5초까지 완료를 기다립니다. {@code lookaheadMinutes} 안에 시작하는 쿠폰을 시작 전에 적재하고 확인해 두면
+ * 오픈 직후 요청이 지연 초기화를 타지 않습니다. 확인에 실패한 쿠폰은 다음 실행에서 다시 적재합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.strategy", havingValue = "redis", matchIfMissing = false)
+@ConditionalOnProperty(name = "coupon.prewarm.enabled", havingValue = "true", matchIfMissing = true)
+public class CouponPrewarmScheduler {
+
+    private static final String LOCK_KEY = "scheduler:coupon-prewarm:lock";
+    private static final long LOCK_WAIT_TIME = 0L;
+    private static final long LOCK_LEASE_TIME = 60L;
+
+    private final CouponRepository couponRepository;
+    private final RedisCouponIssueManager redisCouponIssueManager;
+    private final RedissonClient redissonClient;
+    private final CouponPrewarmProperties properties;
+
+    private final Counter prewarmedCounter;
+    private final Counter verifyFailedCounter;
+
+    public CouponPrewarmScheduler(CouponRepository couponRepository,
+                                  RedisCouponIssueManager redisCouponIssueManager,
+                                  RedissonClient redissonClient,
+                                  CouponPrewarmProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.couponRepository = couponRepository;
+        this.redisCouponIssueManager = redisCouponIssueManager;
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+
+        this.prewarmedCounter = Counter.builder("coupon.prewarm.coupons")
+                .description("시작 전에 Redis 발급 상태를 적재한 쿠폰 수")
+                .tag("result", "prewarmed")
+                .register(meterRegistry);
+
+        this.verifyFailedCounter = Counter.builder("coupon.prewarm.coupons")
+                .description("적재 후 확인에 실패한 쿠폰 수")
+                .tag("result", "verify_failed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.prewarm.interval-ms:60000}")
+    public void prewarmUpcomingCoupons() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+
+        try {
+            boolean acquired = lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS);
+            if (!acquired) {
+                log.debug("다른 인스턴스에서 쿠폰 사전 적재 중. 스킵합니다.");
+                return;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            List<Coupon> upcoming = couponRepository.findStartingBetween(now, now.plusMinutes(properties.getLookaheadMinutes()));
+            if (upcoming.isEmpty()) {
+                return;
+            }
+
+            int batchSize = properties.getBatchSize();
+            for (int from = 0; from < upcoming.size(); from += batchSize) {
+                prewarmBatch(upcoming.subList(from, Math.min(from + batchSize, upcoming.size())));
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("쿠폰 사전 적재 중 인터럽트 발생", e);
+        } catch (Exception e) {
+            log.error("쿠폰 사전 적재 실패", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void prewarmBatch(List<Coupon> coupons) {
+        List<Long> prewarmed = redisCouponIssueManager.prewarm(coupons);
+        prewarmedCounter.increment(prewarmed.size());
+
+        List<Long> missing = redisCouponIssueManager.findNotPrewarmed(coupons.stream().map(Coupon::getId).toList());
+        if (!missing.isEmpty()) {
+            verifyFailedCounter.increment(missing.size());
+            log.warn("쿠폰 사전 적재 확인 실패 - 다음 실행에서 재시도. couponIds: {}", missing);
+        }
+
+        if (!prewarmed.isEmpty()) {
+            log.info("쿠폰 사전 적재 완료 - 적재: {}, 확인 실패: {}", prewarmed.size(), missing.size());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.hhplus.hhecommerce.infrastructure.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.infrastructure.config.CouponWaitingRoomProperties;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponWaitingRoom;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 발급 대기열에서 설정된 속도로 사용자를 입장시키는 스케줄러.
+ *
+ * <p>여러 인스턴스가 동시에 배분하면 입장 속도가 인스턴스 수만큼 늘어나므로 분산 락을 잡은 인스턴스만 배분합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "coupon.issue.strategy", havingValue = "redis", matchIfMissing = false)
+@ConditionalOnProperty(name = "coupon.waiting-room.enabled", havingValue = "true", matchIfMissing = false)
+public class CouponQueueDispatcher {
+
+    private static final String LOCK_KEY = "scheduler:coupon-queue-dispatch:lock";
+    private static final long LOCK_WAIT_TIME = 0L;
+    private static final long LOCK_LEASE_TIME = 5L;
+
+    private final CouponWaitingRoom couponWaitingRoom;
+    private final RedissonClient redissonClient;
+    private final CouponWaitingRoomProperties properties;
+
+    private final Counter admittedCounter;
+    private final Counter rejectedCounter;
+
+    public CouponQueueDispatcher(CouponWaitingRoom couponWaitingRoom,
+                                 RedissonClient redissonClient,
+                                 CouponWaitingRoomProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.couponWaitingRoom = couponWaitingRoom;
+        this.redissonClient = redissonClient;
+        this.properties = properties;
+
+        this.admittedCounter = Counter.builder("coupon.queue.users")
+                .description("대기열에서 입장권을 받은 사용자 수")
+                .tag("result", "admitted")
+                .register(meterRegistry);
+
+        this.rejectedCounter = Counter.builder("coupon.queue.users")
+                .description("재고 부족으로 대기열에서 거절된 사용자 수")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.waiting-room.dispatch-interval-ms:100}")
+    public void dispatch() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+
+        try {
+            boolean acquired = lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS);
+            if (!acquired) {
+                return;
+            }
+
+            int admitsPerDispatch = properties.admitsPerDispatch();
+            for (Long couponId : couponWaitingRoom.findQueuedCouponIds()) {
+                CouponWaitingRoom.DispatchResult result = couponWaitingRoom.dispatch(couponId, admitsPerDispatch);
+                admittedCounter.increment(result.admitted());
+                rejectedCounter.increment(result.rejected());
+
+                if (result.rejected() > 0) {
+                    log.info("쿠폰 재고 소진으로 대기열 마감 - couponId: {}, 거절: {}", couponId, result.rejected());
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("쿠폰 대기열 배분 중 인터럽트 발생", e);
+        } catch (Exception e) {
+            log.error("쿠폰 대기열 배분 실패", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
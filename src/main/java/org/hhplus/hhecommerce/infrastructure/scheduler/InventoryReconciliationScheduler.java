@@ -0,0 +1,111 @@
+package org.hhplus.hhecommerce.infrastructure.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hhplus.hhecommerce.infrastructure.inventory.RedisInventoryReservationManager.DIRTY_SET_KEY;
+import static org.hhplus.hhecommerce.infrastructure.inventory.RedisInventoryReservationManager.STOCK_KEY_PREFIX;
+
+/**
+ * Redis 재고 카운터를 product_option.stock에 반영하는 스케줄러.
+ *
+ * <p>예약/롤백 시 변경된 옵션 ID가 쌓이는 dirty 집합을 배치 단위로 꺼내
+ * 현재 Redis 값으로 DB를 덮어씁니다. DB 반영에 실패한 옵션은 다시 dirty 집합에 넣어 다음 주기에 재시도합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inventory.reservation.strategy", havingValue = "redis")
+public class InventoryReconciliationScheduler {
+
+    private static final String LOCK_KEY = "scheduler:inventory-reconciliation:lock";
+
+    private static final long LOCK_WAIT_TIME = 0L;
+    private static final long LOCK_LEASE_TIME = 60L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedissonClient redissonClient;
+    private final ProductOptionRepository productOptionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${inventory.reconciliation.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${inventory.reconciliation.fixed-delay-ms:5000}")
+    public void reconcile() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+
+        try {
+            boolean acquired = lock.tryLock(LOCK_WAIT_TIME, LOCK_LEASE_TIME, TimeUnit.SECONDS);
+            if (!acquired) {
+                log.debug("다른 인스턴스에서 재고 동기화 중. 스킵합니다.");
+                return;
+            }
+
+            int synced = 0;
+            List<String> optionIds;
+            while (!(optionIds = popDirtyOptionIds()).isEmpty()) {
+                synced += syncBatch(optionIds);
+                if (optionIds.size() < batchSize) {
+                    break;
+                }
+            }
+
+            if (synced > 0) {
+                log.info("Redis 재고 DB 동기화 완료 - 옵션 수: {}", synced);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("재고 동기화 중 인터럽트 발생", e);
+        } catch (Exception e) {
+            log.error("재고 동기화 실패", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private List<String> popDirtyOptionIds() {
+        List<String> optionIds = redisTemplate.opsForSet().pop(DIRTY_SET_KEY, batchSize);
+        return optionIds != null ? optionIds : List.of();
+    }
+
+    private int syncBatch(List<String> optionIds) {
+        List<String> stockKeys = optionIds.stream()
+                .map(optionId -> STOCK_KEY_PREFIX + optionId)
+                .toList();
+        List<String> stocks = redisTemplate.opsForValue().multiGet(stockKeys);
+
+        try {
+            Integer synced = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (int i = 0; i < optionIds.size(); i++) {
+                    String stock = stocks != null ? stocks.get(i) : null;
+                    if (stock == null) {
+                        continue;
+                    }
+                    count += productOptionRepository.syncStock(Long.valueOf(optionIds.get(i)), Integer.parseInt(stock));
+                }
+                return count;
+            });
+            return synced != null ? synced : 0;
+        } catch (RuntimeException e) {
+            redisTemplate.opsForSet().add(DIRTY_SET_KEY, optionIds.toArray(String[]::new));
+            log.warn("재고 DB 반영 실패, 다음 주기에 재시도 - 옵션 수: {}", optionIds.size());
+            throw e;
+        }
+    }
+}
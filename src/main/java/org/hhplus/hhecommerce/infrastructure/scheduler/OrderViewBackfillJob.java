@@ -0,0 +1,93 @@
+package org.hhplus.hhecommerce.infrastructure.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hhplus.hhecommerce.application.order.OrderViewProjector;
+import org.hhplus.hhecommerce.domain.order.Order;
+import org.hhplus.hhecommerce.domain.order.OrderRepository;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 주문으로 order_view를 채우는 백필 작업.
+ *
+ * <p>주문 ID 기준 키셋 방식으로 배치 크기만큼씩 읽어 배치마다 별도 트랜잭션으로 작성하므로
+ * 전체 주문을 메모리에 올리지 않습니다. 이미 작성된 주문은 건너뛰므로 중단 후 다시 실행해도 됩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.view.backfill.enabled", havingValue = "true")
+public class OrderViewBackfillJob {
+
+    private static final String LOCK_KEY = "scheduler:order-view-backfill:lock";
+    private static final long LOCK_WAIT_TIME = 0L;
+
+    private final RedissonClient redissonClient;
+    private final OrderRepository orderRepository;
+    private final OrderViewProjector orderViewProjector;
+
+    @Value("${order.view.backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        backfill();
+    }
+
+    /**
+     * @return 새로 작성한 조회 모델 수
+     */
+    public int backfill() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        long lastOrderId = 0L;
+
+        try {
+            // 배치 수를 예측할 수 없으므로 리스 시간 없이 워치독으로 락을 유지
+            boolean acquired = lock.tryLock(LOCK_WAIT_TIME, TimeUnit.SECONDS);
+            if (!acquired) {
+                log.info("다른 인스턴스에서 주문 조회 모델 백필 중. 스킵합니다.");
+                return 0;
+            }
+
+            log.info("주문 조회 모델 백필 시작 - batchSize: {}", batchSize);
+
+            int scanned = 0;
+            int projected = 0;
+            List<Long> orderIds;
+            while (!(orderIds = orderRepository.findIdsAfter(lastOrderId, batchSize)).isEmpty()) {
+                List<Order> orders = orderRepository.findAllWithItemsByIdIn(orderIds);
+                projected += orderViewProjector.projectOrders(orders);
+                scanned += orderIds.size();
+                lastOrderId = orderIds.get(orderIds.size() - 1);
+
+                log.debug("주문 조회 모델 백필 진행 - lastOrderId: {}, scanned: {}, projected: {}",
+                        lastOrderId, scanned, projected);
+            }
+
+            log.info("주문 조회 모델 백필 완료 - 조회: {}건, 작성: {}건", scanned, projected);
+            return projected;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("주문 조회 모델 백필 중 인터럽트 발생", e);
+            return 0;
+        } catch (Exception e) {
+            // 이미 작성된 배치는 건너뛰므로 다시 실행하면 실패한 지점부터 이어서 진행됨
+            log.error("주문 조회 모델 백필 실패 - lastOrderId: {}", lastOrderId, e);
+            return 0;
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -2,79 +2,103 @@ package org.hhplus.hhecommerce.infrastructure.scheduler;
 
 import lombok.extern.slf4j.Slf4j;
 import org.hhplus.hhecommerce.infrastructure.config.CouponProperties;
+import org.hhplus.hhecommerce.infrastructure.coupon.RedisCouponIssueManager;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
-
+/**
+ * 타임아웃된 PENDING 예약을 정리하고 재고를 복구하는 스케줄러.
+ *
+ * <p>발급 스크립트는 예약을 쿠폰별 ZSET({@code coupon:pending-index:{couponId}})에 예약 시각을 점수로 색인하고,
+ * pending이 있는 쿠폰을 {@code coupon:pending-coupons}에 등록합니다. 정리는 등록된 쿠폰마다 Lua 한 번으로
+ * 기준 시각 이전의 항목만 꺼내 처리하므로, 비용이 전체 키 공간이나 전체 pending 수가 아니라 만료된 건수에 비례합니다.</p>
+ *
+ * <p>색인 도입 전에 기록된 pending 해시는 프로세스가 시작된 뒤 첫 실행에서 한 번만 SCAN해 색인에 채워 넣습니다.</p>
+ */
 @Slf4j
 @Component
 @ConditionalOnProperty(name = "coupon.issue.strategy", havingValue = "redis", matchIfMissing = false)
 public class PendingCouponCleanupScheduler {
 
+    private static final String PENDING_KEY_PREFIX = "coupon:pending:";
     private static final String PENDING_KEY_PATTERN = "coupon:pending:*";
+    private static final String PENDING_INDEX_KEY_PREFIX = "coupon:pending-index:";
+    private static final String PENDING_COUPONS_KEY = "coupon:pending-coupons";
     private static final String STOCK_KEY_PREFIX = "coupon:stock:";
     private static final String LOCK_KEY = "scheduler:pending-coupon-cleanup:lock";
 
     private static final long LOCK_WAIT_TIME = 0L;
     private static final long LOCK_LEASE_TIME = 60L;
+    private static final int SWEEP_BATCH_SIZE = 1000;
 
     private final RedisTemplate<String, String> redisTemplate;
     private final RedissonClient redissonClient;
     private final CouponProperties couponProperties;
-    private final DefaultRedisScript<Long> cleanupScript;
+    private final RedisCouponIssueManager redisCouponIssueManager;
+    private final DefaultRedisScript<List> sweepScript;
+
+    private volatile boolean unindexedBackfilled = false;
 
     public PendingCouponCleanupScheduler(RedisTemplate<String, String> redisTemplate,
                                          RedissonClient redissonClient,
-                                         CouponProperties couponProperties) {
+                                         CouponProperties couponProperties,
+                                         RedisCouponIssueManager redisCouponIssueManager) {
         this.redisTemplate = redisTemplate;
         this.redissonClient = redissonClient;
         this.couponProperties = couponProperties;
-        this.cleanupScript = createCleanupScript();
+        this.redisCouponIssueManager = redisCouponIssueManager;
+        this.sweepScript = createSweepScript();
     }
 
-    private DefaultRedisScript<Long> createCleanupScript() {
+    private DefaultRedisScript<List> createSweepScript() {
         String script = """
-            -- KEYS[1]: pending hash, KEYS[2]: stock key
-            -- ARGV[1]: userId, ARGV[2]: pending timestamp, ARGV[3]: current time, ARGV[4]: timeout ms
-
-            -- 현재 pending 값 확인 (다른 프로세스가 이미 처리했는지 체크)
-            local currentPendingTime = redis.call('HGET', KEYS[1], ARGV[1])
-            if currentPendingTime == false then
-                return 0  -- 이미 삭제됨
+            -- KEYS[1]: pending index, KEYS[2]: pending hash, KEYS[3]: stock key, KEYS[4]: pending 쿠폰 목록
+            -- ARGV[1]: 기준 시각 (이 시각보다 먼저 예약된 항목을 정리), ARGV[2]: couponId, ARGV[3]: 최대 처리 건수
+            -- 반환: {꺼낸 건수, 재고를 복구한 건수}
+
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[1], 'LIMIT', 0, tonumber(ARGV[3]))
+            local restored = 0
+
+            for _, userId in ipairs(expired) do
+                redis.call('ZREM', KEYS[1], userId)
+                -- 이미 확정/롤백됐거나 다시 예약된 항목은 해시 값으로 걸러냄
+                local pendingTime = redis.call('HGET', KEYS[2], userId)
+                if pendingTime and tonumber(pendingTime) < tonumber(ARGV[1]) then
+                    redis.call('HDEL', KEYS[2], userId)
+                    restored = restored + 1
+                end
             end
 
-            -- timestamp가 일치하는지 확인 (Lua 스크립트에서 처리된 경우 다른 timestamp일 수 있음)
-            if currentPendingTime ~= ARGV[2] then
-                return 0  -- 다른 요청으로 갱신됨
+            -- 재고 키가 사라졌다면 다음 동기화 때 DB 기준으로 다시 계산되므로 복구하지 않음
+            if restored > 0 and redis.call('EXISTS', KEYS[3]) == 1 then
+                redis.call('INCRBY', KEYS[3], restored)
             end
 
-            -- 타임아웃 재확인
-            local elapsed = tonumber(ARGV[3]) - tonumber(currentPendingTime)
-            if elapsed <= tonumber(ARGV[4]) then
-                return 0  -- 아직 타임아웃 안됨
+            if redis.call('ZCARD', KEYS[1]) == 0 then
+                redis.call('SREM', KEYS[4], ARGV[2])
             end
 
-            -- 원자적으로 삭제 + 재고 복구
-            redis.call('HDEL', KEYS[1], ARGV[1])
-            redis.call('INCR', KEYS[2])
-            return 1
+            return {#expired, restored}
             """;
 
-        DefaultRedisScript<Long> redisScript = new DefaultRedisScript<>();
+        DefaultRedisScript<List> redisScript = new DefaultRedisScript<>();
         redisScript.setScriptText(script);
-        redisScript.setResultType(Long.class);
+        redisScript.setResultType(List.class);
         return redisScript;
     }
 
@@ -89,18 +113,19 @@ public class PendingCouponCleanupScheduler {
                 return;
             }
 
+            if (!unindexedBackfilled) {
+                backfillUnindexedPending();
+                unindexedBackfilled = true;
+            }
+
             log.debug("오래된 PENDING 쿠폰 정리 시작");
             int cleanedCount = 0;
+            long cutoff = System.currentTimeMillis() - couponProperties.getCleanupTimeoutMs();
 
-            ScanOptions scanOptions = ScanOptions.scanOptions()
-                    .match(PENDING_KEY_PATTERN)
-                    .count(100)
-                    .build();
-
-            try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
-                while (cursor.hasNext()) {
-                    String pendingKey = cursor.next();
-                    cleanedCount += cleanupPendingKey(pendingKey);
+            Set<String> couponIds = redisTemplate.opsForSet().members(PENDING_COUPONS_KEY);
+            if (couponIds != null) {
+                for (String couponId : couponIds) {
+                    cleanedCount += sweep(couponId, cutoff);
                 }
             }
 
@@ -120,49 +145,73 @@ public class PendingCouponCleanupScheduler {
         }
     }
 
-    private int cleanupPendingKey(String pendingKey) {
-        int cleanedCount = 0;
-        long currentTime = System.currentTimeMillis();
-        long cleanupTimeoutMs = couponProperties.getCleanupTimeoutMs();
+    private int sweep(String couponId, long cutoff) {
+        List<String> keys = List.of(
+                PENDING_INDEX_KEY_PREFIX + couponId,
+                PENDING_KEY_PREFIX + couponId,
+                STOCK_KEY_PREFIX + couponId,
+                PENDING_COUPONS_KEY);
+
+        int restored = 0;
+        int popped;
+        do {
+            List<?> result = redisTemplate.execute(sweepScript, keys,
+                    String.valueOf(cutoff), couponId, String.valueOf(SWEEP_BATCH_SIZE));
+            if (result == null || result.size() < 2) {
+                break;
+            }
+            popped = ((Number) result.get(0)).intValue();
+            restored += ((Number) result.get(1)).intValue();
+        } while (popped == SWEEP_BATCH_SIZE);
+
+        if (restored > 0) {
+            log.info("Stale PENDING 정리: coupon={}, count={}", couponId, restored);
+            redisCouponIssueManager.clearSoldOut(Long.valueOf(couponId));
+        }
+        return restored;
+    }
+
+    /**
+     * 색인 없이 기록된 pending 해시를 찾아 예약 시각 색인과 쿠폰 목록에 채워 넣습니다.
+     * 그 사이 확정되거나 롤백된 항목은 정리 스크립트가 해시 값을 확인해 걸러내므로 함께 색인돼도 문제없습니다.
+     */
+    private void backfillUnindexedPending() {
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(PENDING_KEY_PATTERN)
+                .count(100)
+                .build();
+
+        int indexedCount = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+            while (cursor.hasNext()) {
+                indexedCount += backfillPendingKey(cursor.next());
+            }
+        }
 
-        String couponId = pendingKey.replace("coupon:pending:", "");
-        String stockKey = STOCK_KEY_PREFIX + couponId;
+        if (indexedCount > 0) {
+            log.info("색인되지 않은 PENDING 색인 완료. 건수: {}", indexedCount);
+        }
+    }
 
+    private int backfillPendingKey(String pendingKey) {
+        String couponId = pendingKey.substring(PENDING_KEY_PREFIX.length());
         Map<Object, Object> pendingUsers = redisTemplate.opsForHash().entries(pendingKey);
 
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
         for (Map.Entry<Object, Object> entry : pendingUsers.entrySet()) {
-            String userId = entry.getKey().toString();
-            String pendingTimeStr = entry.getValue().toString();
-            long pendingTime;
-
             try {
-                pendingTime = Long.parseLong(pendingTimeStr);
+                double pendingTime = Long.parseLong(entry.getValue().toString());
+                tuples.add(new DefaultTypedTuple<>(entry.getKey().toString(), pendingTime));
             } catch (NumberFormatException e) {
-                log.warn("잘못된 pending 시간 형식: coupon={}, user={}", couponId, userId);
-                continue;
-            }
-
-            long elapsed = currentTime - pendingTime;
-
-            if (elapsed > cleanupTimeoutMs) {
-                List<String> keys = Arrays.asList(pendingKey, stockKey);
-                Long result = redisTemplate.execute(
-                        cleanupScript,
-                        keys,
-                        userId,
-                        pendingTimeStr,
-                        String.valueOf(currentTime),
-                        String.valueOf(cleanupTimeoutMs)
-                );
-
-                if (result != null && result == 1L) {
-                    cleanedCount++;
-                    log.info("Stale PENDING 정리: coupon={}, user={}, elapsed={}ms",
-                            couponId, userId, elapsed);
-                }
+                log.warn("잘못된 pending 시간 형식: coupon={}, user={}", couponId, entry.getKey());
             }
         }
 
-        return cleanedCount;
+        if (tuples.isEmpty()) {
+            return 0;
+        }
+        redisTemplate.opsForZSet().add(PENDING_INDEX_KEY_PREFIX + couponId, tuples);
+        redisTemplate.opsForSet().add(PENDING_COUPONS_KEY, couponId);
+        return tuples.size();
     }
 }
@@ -31,6 +31,7 @@ CREATE TABLE `product_option` (
     option_value VARCHAR(100) NOT NULL COMMENT '옵션값 (블랙, XL 등)',
     price INT NOT NULL COMMENT '판매가격',
     stock INT NOT NULL DEFAULT 0 COMMENT '재고수량',
+    stock_stripe_count INT NOT NULL DEFAULT 0 COMMENT '재고 스트라이프 수 (0이면 단일 행 재고)',
     version BIGINT NOT NULL DEFAULT 0 COMMENT '낙관적 락 버전',
     created_at DATETIME NOT NULL COMMENT '생성일시',
     updated_at DATETIME NOT NULL COMMENT '수정일시',
@@ -38,6 +39,17 @@ CREATE TABLE `product_option` (
     INDEX idx_stock (stock)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='상품 옵션';
 
+-- PRODUCT_OPTION_STOCK_STRIPE 테이블 (핫 옵션 재고 분산)
+CREATE TABLE `product_option_stock_stripe` (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '재고 스트라이프 ID',
+    product_option_id BIGINT NOT NULL COMMENT '상품 옵션 ID',
+    stripe_no INT NOT NULL COMMENT '스트라이프 번호 (0부터)',
+    stock INT NOT NULL DEFAULT 0 COMMENT '스트라이프 재고수량',
+    created_at DATETIME NOT NULL COMMENT '생성일시',
+    updated_at DATETIME NOT NULL COMMENT '수정일시',
+    UNIQUE KEY uk_option_stripe (product_option_id, stripe_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='상품 옵션 재고 스트라이프';
+
 -- CART 테이블
 CREATE TABLE `cart` (
     id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '장바구니 ID',
@@ -59,8 +71,10 @@ CREATE TABLE `order` (
     final_amount INT NOT NULL COMMENT '최종 결제금액',
     status VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '주문 상태 (PENDING, CONFIRMED, COMPLETED, CANCELLED)',
     ordered_at DATETIME NOT NULL COMMENT '주문일시',
+    request_id VARCHAR(64) COMMENT '비동기 주문 요청 ID (동기 주문은 NULL)',
     created_at DATETIME NOT NULL COMMENT '생성일시',
     updated_at DATETIME NOT NULL COMMENT '수정일시',
+    UNIQUE KEY uk_order_request_id (request_id),
     INDEX idx_user_id (user_id),
     INDEX idx_status (status),
     INDEX idx_created_at (created_at),
@@ -85,6 +99,21 @@ CREATE TABLE `order_item` (
     INDEX idx_order_product_quantity (order_id, product_option_id, quantity)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='주문 상품';
 
+-- ORDER_VIEW 테이블 (주문 조회 모델)
+CREATE TABLE `order_view` (
+    order_id BIGINT PRIMARY KEY COMMENT '주문 ID',
+    user_id BIGINT NOT NULL COMMENT '사용자 ID',
+    status VARCHAR(20) NOT NULL COMMENT '주문 상태',
+    total_amount INT NOT NULL COMMENT '총 주문금액',
+    discount_amount INT NOT NULL DEFAULT 0 COMMENT '할인금액',
+    final_amount INT NOT NULL COMMENT '최종 결제금액',
+    item_count INT NOT NULL COMMENT '주문 항목 수',
+    items JSON NOT NULL COMMENT '주문 항목 (상품명, 옵션명, 단가, 수량, 소계)',
+    ordered_at DATETIME NOT NULL COMMENT '주문일시',
+    projected_at DATETIME NOT NULL COMMENT '조회 모델 작성일시',
+    INDEX idx_order_view_user_ordered (user_id, ordered_at DESC, order_id DESC, status, final_amount, item_count)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='주문 조회 모델';
+
 -- POINT 테이블
 CREATE TABLE `point` (
     id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '포인트 ID',
@@ -107,6 +136,7 @@ CREATE TABLE `coupon` (
     min_order_amount INT NOT NULL DEFAULT 0 COMMENT '최소 주문금액',
     total_quantity INT NOT NULL COMMENT '총 발급 가능 수량',
     issued_quantity INT NOT NULL DEFAULT 0 COMMENT '현재 발급된 수량',
+    issue_partition_count INT NOT NULL DEFAULT 0 COMMENT '발급 파티션 수 (0이면 쿠폰 행에서 수량 관리)',
     start_at DATETIME NOT NULL COMMENT '사용 시작일시',
     end_at DATETIME NOT NULL COMMENT '사용 종료일시',
     created_at DATETIME NOT NULL COMMENT '생성일시',
@@ -114,6 +144,17 @@ CREATE TABLE `coupon` (
     INDEX idx_start_end_at (start_at, end_at)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='쿠폰';
 
+-- COUPON_ISSUE_QUOTA 테이블 (핫 쿠폰 발급 수량 파티션 분할)
+CREATE TABLE `coupon_issue_quota` (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '발급 쿼터 ID',
+    coupon_id BIGINT NOT NULL COMMENT '쿠폰 ID',
+    partition_no INT NOT NULL COMMENT '토픽 파티션 번호 (0부터)',
+    quantity INT NOT NULL DEFAULT 0 COMMENT '파티션에 남은 발급 가능 수량',
+    created_at DATETIME NOT NULL COMMENT '생성일시',
+    updated_at DATETIME NOT NULL COMMENT '수정일시',
+    UNIQUE KEY uk_coupon_partition (coupon_id, partition_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COMMENT='쿠폰 발급 쿼터';
+
 -- USER_COUPON 테이블
 CREATE TABLE `user_coupon` (
     id BIGINT PRIMARY KEY AUTO_INCREMENT COMMENT '사용자 쿠폰 ID',
@@ -46,7 +46,7 @@ class AddToCartUseCaseTest {
         Product product = new Product(1L, "노트북", "고성능 노트북", "전자제품", ProductStatus.ACTIVE);
         ProductOption option = new ProductOption(1L, product.getId(), "RAM", "16GB", 1500000, 10);
 
-        when(productOptionRepository.findById(1L)).thenReturn(Optional.of(option));
+        when(productOptionRepository.findByIdWithStock(1L)).thenReturn(Optional.of(option));
         when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
         when(cartRepository.findByUserIdAndProductOptionId(userId, 1L)).thenReturn(Optional.empty());
         when(cartRepository.save(any(Cart.class))).thenAnswer(invocation -> {
@@ -79,7 +79,7 @@ class AddToCartUseCaseTest {
         Cart existingCart = new Cart(userId, option.getId(), 2);
         existingCart.setId(1L);
 
-        when(productOptionRepository.findById(1L)).thenReturn(Optional.of(option));
+        when(productOptionRepository.findByIdWithStock(1L)).thenReturn(Optional.of(option));
         when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
         when(cartRepository.findByUserIdAndProductOptionId(userId, 1L)).thenReturn(Optional.of(existingCart));
         when(cartRepository.save(any(Cart.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -102,7 +102,7 @@ class AddToCartUseCaseTest {
         Product product = new Product(1L, "노트북", "고성능 노트북", "전자제품", ProductStatus.ACTIVE);
         ProductOption option = new ProductOption(1L, product.getId(), "RAM", "16GB", 1500000, 5);
 
-        when(productOptionRepository.findById(1L)).thenReturn(Optional.of(option));
+        when(productOptionRepository.findByIdWithStock(1L)).thenReturn(Optional.of(option));
 
         AddCartRequest request = new AddCartRequest(option.getId(), 10);
 
@@ -117,7 +117,7 @@ class AddToCartUseCaseTest {
         // Given
         Long userId = 1L;
 
-        when(productOptionRepository.findById(999L)).thenReturn(Optional.empty());
+        when(productOptionRepository.findByIdWithStock(999L)).thenReturn(Optional.empty());
 
         AddCartRequest request = new AddCartRequest(999L, 2);
 
@@ -8,21 +8,25 @@ import org.hhplus.hhecommerce.domain.product.ProductOption;
 import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
 import org.hhplus.hhecommerce.domain.product.ProductRepository;
 import org.hhplus.hhecommerce.domain.product.ProductStatus;
+import org.hhplus.hhecommerce.infrastructure.persistence.EntityBatchLoader;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Pageable;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Optional;
+import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,9 +41,15 @@ class GetCartListUseCaseTest {
     @Mock
     private ProductRepository productRepository;
 
-    @InjectMocks
     private GetCartListUseCase getCartListUseCase;
 
+    @BeforeEach
+    void setUp() {
+        EntityBatchLoader entityBatchLoader =
+                new EntityBatchLoader(productOptionRepository, productRepository);
+        getCartListUseCase = new GetCartListUseCase(cartRepository, entityBatchLoader);
+    }
+
     @Test
     @DisplayName("정상적으로 장바구니 목록을 조회할 수 있다")
     void 정상적으로_장바구니_목록을_조회할_수_있다() {
@@ -53,8 +63,8 @@ class GetCartListUseCaseTest {
 
         when(cartRepository.findByUserId(eq(userId), any(Pageable.class))).thenReturn(Collections.singletonList(cart));
         when(cartRepository.countByUserId(userId)).thenReturn(1);
-        when(productOptionRepository.findById(option.getId())).thenReturn(Optional.of(option));
-        when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
+        when(productOptionRepository.findAllById(Set.of(option.getId()))).thenReturn(List.of(option));
+        when(productRepository.findAllById(Set.of(product.getId()))).thenReturn(List.of(product));
 
         // When
         CartListResponse response = getCartListUseCase.execute(userId, 0, 10);
@@ -103,10 +113,10 @@ class GetCartListUseCaseTest {
 
         when(cartRepository.findByUserId(eq(userId), any(Pageable.class))).thenReturn(Arrays.asList(cart1, cart2));
         when(cartRepository.countByUserId(userId)).thenReturn(2);
-        when(productOptionRepository.findById(option1.getId())).thenReturn(Optional.of(option1));
-        when(productOptionRepository.findById(option2.getId())).thenReturn(Optional.of(option2));
-        when(productRepository.findById(product1.getId())).thenReturn(Optional.of(product1));
-        when(productRepository.findById(product2.getId())).thenReturn(Optional.of(product2));
+        when(productOptionRepository.findAllById(Set.of(option1.getId(), option2.getId())))
+                .thenReturn(List.of(option1, option2));
+        when(productRepository.findAllById(Set.of(product1.getId(), product2.getId())))
+                .thenReturn(List.of(product1, product2));
 
         // When
         CartListResponse response = getCartListUseCase.execute(userId, 0, 10);
@@ -115,5 +125,7 @@ class GetCartListUseCaseTest {
         assertThat(response.items()).hasSize(2);
         assertThat(response.totalCount()).isEqualTo(2);
         assertThat(response.totalAmount()).isEqualTo(3300000); // (1500000*2) + (100000*3)
+        verify(productOptionRepository, never()).findById(any());
+        verify(productRepository, never()).findById(any());
     }
 }
@@ -52,7 +52,7 @@ class UpdateCartUseCaseTest {
         cart.setId(cartId);
 
         when(cartRepository.findById(cartId)).thenReturn(Optional.of(cart));
-        when(productOptionRepository.findById(option.getId())).thenReturn(Optional.of(option));
+        when(productOptionRepository.findByIdWithStock(option.getId())).thenReturn(Optional.of(option));
         when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
         when(cartRepository.save(any(Cart.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -79,7 +79,7 @@ class UpdateCartUseCaseTest {
         cart.setId(cartId);
 
         when(cartRepository.findById(cartId)).thenReturn(Optional.of(cart));
-        when(productOptionRepository.findById(option.getId())).thenReturn(Optional.of(option));
+        when(productOptionRepository.findByIdWithStock(option.getId())).thenReturn(Optional.of(option));
 
         UpdateCartRequest request = new UpdateCartRequest(10);
 
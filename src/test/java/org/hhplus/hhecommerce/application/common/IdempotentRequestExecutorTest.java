@@ -0,0 +1,194 @@
+package org.hhplus.hhecommerce.application.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hhplus.hhecommerce.api.dto.point.ChargeRequest;
+import org.hhplus.hhecommerce.api.dto.point.ChargeResponse;
+import org.hhplus.hhecommerce.domain.common.IdempotencyRecord;
+import org.hhplus.hhecommerce.domain.common.exception.IdempotencyErrorCode;
+import org.hhplus.hhecommerce.domain.common.exception.IdempotencyException;
+import org.hhplus.hhecommerce.domain.point.exception.PointErrorCode;
+import org.hhplus.hhecommerce.domain.point.exception.PointException;
+import org.hhplus.hhecommerce.infrastructure.cache.IdempotencyStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotentRequestExecutor 테스트")
+class IdempotentRequestExecutorTest {
+
+    private static final String STORE_KEY = "point-charge:1:key-1";
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    private ObjectMapper objectMapper;
+    private IdempotentRequestExecutor executor;
+
+    private final ChargeRequest request = new ChargeRequest(10000);
+    private final ChargeResponse response = new ChargeResponse(1L, 1L, 10000,
+            LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 0, 0), 10000, "Point charged successfully");
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        executor = new IdempotentRequestExecutor(idempotencyStore, objectMapper, new SimpleMeterRegistry(),
+                60000, 24, 200, 10);
+    }
+
+    @Nested
+    @DisplayName("최초 요청")
+    class FirstRequest {
+
+        @Test
+        @DisplayName("Idempotency-Key가 없으면 저장소를 거치지 않고 그대로 실행한다")
+        void 키가_없으면_그대로_실행한다() {
+            // when
+            ChargeResponse result = executor.execute(IdempotencyScope.POINT_CHARGE, 1L, null,
+                    request, ChargeResponse.class, () -> response);
+
+            // then
+            assertThat(result).isEqualTo(response);
+            verifyNoInteractions(idempotencyStore);
+        }
+
+        @Test
+        @DisplayName("키를 선점하면 실행 후 응답을 저장한다")
+        void 선점하면_실행_후_응답을_저장한다() {
+            // given
+            when(idempotencyStore.begin(eq(STORE_KEY), anyString(), any())).thenReturn(true);
+
+            // when
+            ChargeResponse result = executor.execute(IdempotencyScope.POINT_CHARGE, 1L, "key-1",
+                    request, ChargeResponse.class, () -> response);
+
+            // then
+            assertThat(result).isEqualTo(response);
+            verify(idempotencyStore).complete(eq(STORE_KEY), anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("실행에 실패하면 키를 해제해 다시 시도할 수 있게 한다")
+        void 실패하면_키를_해제한다() {
+            // given
+            when(idempotencyStore.begin(eq(STORE_KEY), anyString(), any())).thenReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> executor.execute(IdempotencyScope.POINT_CHARGE, 1L, "key-1",
+                    request, ChargeResponse.class, () -> {
+                        throw new PointException(PointErrorCode.INVALID_AMOUNT);
+                    }))
+                    .isInstanceOf(PointException.class);
+            verify(idempotencyStore).release(STORE_KEY);
+            verify(idempotencyStore, never()).complete(anyString(), anyString(), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("키 해제에 실패해도 원래 예외를 던지고 해제 실패는 suppressed로 붙인다")
+        void 해제_실패는_원래_예외에_덧붙인다() {
+            // given
+            when(idempotencyStore.begin(eq(STORE_KEY), anyString(), any())).thenReturn(true);
+            RedisConnectionFailureException releaseFailure = new RedisConnectionFailureException("down");
+            doThrow(releaseFailure).when(idempotencyStore).release(STORE_KEY);
+
+            // when & then
+            assertThatThrownBy(() -> executor.execute(IdempotencyScope.POINT_CHARGE, 1L, "key-1",
+                    request, ChargeResponse.class, () -> {
+                        throw new PointException(PointErrorCode.INVALID_AMOUNT);
+                    }))
+                    .isInstanceOf(PointException.class)
+                    .satisfies(thrown -> assertThat(thrown.getSuppressed()).containsExactly(releaseFailure));
+        }
+    }
+
+    @Nested
+    @DisplayName("중복 요청")
+    class DuplicateRequest {
+
+        @Test
+        @DisplayName("완료된 키는 실행하지 않고 저장된 응답을 돌려준다")
+        void 완료된_응답을_재사용한다() throws Exception {
+            // given
+            String requestHash = captureRequestHash();
+            when(idempotencyStore.begin(eq(STORE_KEY), anyString(), any())).thenReturn(false);
+            when(idempotencyStore.find(STORE_KEY)).thenReturn(Optional.of(
+                    new IdempotencyRecord(true, requestHash, objectMapper.writeValueAsString(response))));
+            AtomicInteger executions = new AtomicInteger();
+
+            // when
+            ChargeResponse result = executor.execute(IdempotencyScope.POINT_CHARGE, 1L, "key-1",
+                    request, ChargeResponse.class, () -> {
+                        executions.incrementAndGet();
+                        return response;
+                    });
+
+            // then
+            assertThat(result).isEqualTo(response);
+            assertThat(executions.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("같은 키로 다른 요청 본문이 오면 예외가 발생한다")
+        void 다른_요청에_키를_재사용하면_예외() {
+            // given
+            when(idempotencyStore.begin(eq(STORE_KEY), anyString(), any())).thenReturn(false);
+            when(idempotencyStore.find(STORE_KEY)).thenReturn(Optional.of(
+                    new IdempotencyRecord(true, "other-hash", "{}")));
+
+            // when & then
+            assertThatThrownBy(() -> executor.execute(IdempotencyScope.POINT_CHARGE, 1L, "key-1",
+                    request, ChargeResponse.class, () -> response))
+                    .isInstanceOf(IdempotencyException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", IdempotencyErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+
+        @Test
+        @DisplayName("선행 요청이 끝나지 않으면 대기하다가 처리 중 예외가 발생한다")
+        void 처리중_대기_타임아웃() {
+            // given
+            String requestHash = captureRequestHash();
+            when(idempotencyStore.begin(eq(STORE_KEY), anyString(), any())).thenReturn(false);
+            when(idempotencyStore.find(STORE_KEY)).thenReturn(Optional.of(
+                    new IdempotencyRecord(false, requestHash, null)));
+
+            // when & then
+            assertThatThrownBy(() -> executor.execute(IdempotencyScope.POINT_CHARGE, 1L, "key-1",
+                    request, ChargeResponse.class, () -> response))
+                    .isInstanceOf(IdempotencyException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", IdempotencyErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    /**
+     * 키를 선점한 최초 요청이 저장하는 요청 해시를 구합니다.
+     */
+    private String captureRequestHash() {
+        IdempotencyStore probeStore = mock(IdempotencyStore.class);
+        when(probeStore.begin(anyString(), anyString(), any())).thenReturn(true);
+        new IdempotentRequestExecutor(probeStore, objectMapper, new SimpleMeterRegistry(), 60000, 24, 200, 10)
+                .execute(IdempotencyScope.POINT_CHARGE, 1L, "key-1", request, ChargeResponse.class, () -> response);
+
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(probeStore).begin(anyString(), captor.capture(), any());
+        return captor.getValue();
+    }
+}
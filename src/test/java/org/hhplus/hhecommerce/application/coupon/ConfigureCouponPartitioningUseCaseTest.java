@@ -0,0 +1,155 @@
+package org.hhplus.hhecommerce.application.coupon;
+
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueQuota;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueQuotaRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponType;
+import org.hhplus.hhecommerce.domain.coupon.exception.CouponErrorCode;
+import org.hhplus.hhecommerce.domain.coupon.exception.CouponException;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponIssueQuotaAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConfigureCouponPartitioningUseCaseTest extends TestContainersConfig {
+
+    @Autowired
+    private ConfigureCouponPartitioningUseCase configureCouponPartitioningUseCase;
+
+    @Autowired
+    private CouponIssueQuotaAllocator couponIssueQuotaAllocator;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponIssueQuotaRepository quotaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        quotaRepository.deleteAll();
+
+        LocalDateTime now = LocalDateTime.now();
+        coupon = couponRepository.save(new Coupon("핫 쿠폰", CouponType.AMOUNT, 5000, null, 10000, 10,
+                now.minusDays(1), now.plusDays(30)));
+    }
+
+    @Test
+    @DisplayName("파티션 모드를 켜면 남은 수량이 쿼터에 고르게 나뉘고 발급 수량은 그대로 조회된다")
+    void 파티션_모드_활성화() {
+        // when
+        configureCouponPartitioningUseCase.enable(coupon.getId(), 3);
+
+        // then
+        assertThat(quotaRepository.findByCouponIdOrderByPartitionNo(coupon.getId()))
+                .extracting(CouponIssueQuota::getQuantity)
+                .containsExactly(4, 3, 3);
+        Coupon reloaded = couponRepository.findByIdWithRemaining(coupon.getId()).orElseThrow();
+        assertThat(reloaded.isIssuePartitioned()).isTrue();
+        assertThat(reloaded.getIssuedQuantity()).isZero();
+    }
+
+    @Test
+    @DisplayName("파티션 수가 2 미만이면 예외가 발생한다")
+    void 잘못된_파티션_수() {
+        assertThatThrownBy(() -> configureCouponPartitioningUseCase.enable(coupon.getId(), 1))
+                .isInstanceOf(CouponException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.INVALID_ISSUE_PARTITION_COUNT);
+    }
+
+    @Test
+    @DisplayName("자기 쿼터가 부족하면 다른 파티션의 남은 수량을 가져와 확보하고 나머지를 재분배한다")
+    void 쿼터_부족_시_재분배() {
+        // given
+        configureCouponPartitioningUseCase.enable(coupon.getId(), 3);
+
+        // when
+        Integer granted = transactionTemplate.execute(status ->
+                couponIssueQuotaAllocator.reserve(coupon.getId(), 2, 5));
+
+        // then
+        assertThat(granted).isEqualTo(5);
+        assertThat(quotaRepository.findByCouponIdOrderByPartitionNo(coupon.getId()))
+                .extracting(CouponIssueQuota::getQuantity)
+                .containsExactly(2, 2, 1);
+    }
+
+    @Test
+    @DisplayName("전체 남은 수량보다 많이 요청하면 남은 만큼만 확보한다")
+    void 남은_수량만큼만_확보() {
+        // given
+        configureCouponPartitioningUseCase.enable(coupon.getId(), 2);
+
+        // when
+        Integer granted = transactionTemplate.execute(status ->
+                couponIssueQuotaAllocator.reserve(coupon.getId(), 0, 15));
+
+        // then
+        assertThat(granted).isEqualTo(10);
+        assertThat(couponRepository.findByIdWithRemaining(coupon.getId()).orElseThrow().getIssuedQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("파티션 모드를 끄면 쿼터의 남은 수량으로 쿠폰 행의 발급 수량을 맞춘다")
+    void 파티션_모드_비활성화() {
+        // given
+        configureCouponPartitioningUseCase.enable(coupon.getId(), 2);
+        transactionTemplate.executeWithoutResult(status ->
+                couponIssueQuotaAllocator.reserve(coupon.getId(), 1, 3));
+
+        // when
+        configureCouponPartitioningUseCase.disable(coupon.getId());
+
+        // then
+        Coupon reloaded = couponRepository.findById(coupon.getId()).orElseThrow();
+        assertThat(reloaded.isIssuePartitioned()).isFalse();
+        assertThat(reloaded.getIssuedQuantity()).isEqualTo(3);
+        assertThat(quotaRepository.findByCouponIdOrderByPartitionNo(coupon.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파티션 모드 쿠폰은 쿠폰 행 발급 수량을 올리지 않고, 쿼터가 모두 소진되면 발급 가능 목록에서 빠진다")
+    void 파티션_모드_쿠폰은_쿠폰_행을_갱신하지_않는다() {
+        // given
+        configureCouponPartitioningUseCase.enable(coupon.getId(), 2);
+
+        // when
+        Integer increased = transactionTemplate.execute(status -> couponRepository.increaseIssuedQuantity(coupon.getId()));
+        transactionTemplate.executeWithoutResult(status ->
+                couponIssueQuotaAllocator.reserveFromAllPartitions(coupon.getId(), 10));
+
+        // then
+        assertThat(increased).isZero();
+        assertThat(couponRepository.findAvailableCoupons(LocalDateTime.now(), Pageable.unpaged()))
+                .extracting(Coupon::getId)
+                .doesNotContain(coupon.getId());
+    }
+
+    @Test
+    @DisplayName("쿼터 합계를 채우지 않은 파티션 모드 쿠폰의 발급 수량을 읽으면 예외가 발생한다")
+    void 쿼터_합계_없이_발급_수량을_읽으면_예외() {
+        // given
+        configureCouponPartitioningUseCase.enable(coupon.getId(), 2);
+
+        // when
+        Coupon reloaded = couponRepository.findById(coupon.getId()).orElseThrow();
+
+        // then
+        assertThatThrownBy(reloaded::getIssuedQuantity).isInstanceOf(IllegalStateException.class);
+    }
+}
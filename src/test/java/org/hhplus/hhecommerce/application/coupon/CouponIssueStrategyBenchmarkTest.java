@@ -0,0 +1,189 @@
+package org.hhplus.hhecommerce.application.coupon;
+
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponType;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 선착순 쿠폰 발급 전략(redis, lock, db-atomic)의 처리량과 p99 지연을 같은 조건에서 비교합니다.
+ *
+ * <p>전략마다 컨텍스트를 따로 띄워 {@link IssueCouponUseCase}를 그대로 호출하므로 사용자 쿠폰 저장까지 포함한
+ * 응답 시간을 잽니다. 재고보다 많은 요청을 보내 소진 이후의 거절 경로도 함께 잽니다.
+ * 동시성 단계, 재고, 요청 수는 환경 변수로 바꿀 수 있습니다.</p>
+ *
+ * <p>기본 {@code test}에서는 제외됩니다. 다음과 같이 실행합니다.</p>
+ *
+ * <pre>
+ * COUPON_BENCHMARK_CONCURRENCY=16,64,128 COUPON_BENCHMARK_STOCK=1000 COUPON_BENCHMARK_REQUESTS=3000 \
+ *     ./gradlew benchmark --tests '*CouponIssueStrategyBenchmarkTest'
+ * </pre>
+ */
+@Tag("benchmark")
+class CouponIssueStrategyBenchmarkTest extends TestContainersConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponIssueStrategyBenchmarkTest.class);
+
+    private static final List<Integer> CONCURRENCY_LEVELS = intListEnv("COUPON_BENCHMARK_CONCURRENCY", "16,64");
+    private static final int STOCK = intEnv("COUPON_BENCHMARK_STOCK", 200);
+    private static final int REQUEST_COUNT = intEnv("COUPON_BENCHMARK_REQUESTS", STOCK * 3);
+
+    @Nested
+    @TestPropertySource(properties = "coupon.issue.strategy=redis")
+    class RedisStrategy extends StrategyBenchmark {
+    }
+
+    @Nested
+    @TestPropertySource(properties = "coupon.issue.strategy=lock")
+    class LockStrategy extends StrategyBenchmark {
+    }
+
+    @Nested
+    @TestPropertySource(properties = "coupon.issue.strategy=db-atomic")
+    class DbAtomicStrategy extends StrategyBenchmark {
+    }
+
+    abstract class StrategyBenchmark {
+
+        @Autowired
+        private IssueCouponUseCase issueCouponUseCase;
+
+        @Autowired
+        private CouponRepository couponRepository;
+
+        @Autowired
+        private UserCouponRepository userCouponRepository;
+
+        @Autowired
+        private RedisTemplate<String, String> redisTemplate;
+
+        @Value("${coupon.issue.strategy}")
+        private String strategy;
+
+        @BeforeEach
+        void setUp() {
+            userCouponRepository.deleteAll();
+            couponRepository.deleteAll();
+
+            Set<String> keys = redisTemplate.keys("coupon:*");
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        }
+
+        @Test
+        @DisplayName("동시성 단계마다 재고만큼만 발급하면서 처리량과 p99 지연을 기록한다")
+        void benchmark() throws InterruptedException {
+            for (int concurrency : CONCURRENCY_LEVELS) {
+                // given
+                Coupon coupon = couponRepository.save(new Coupon("선착순 벤치마크 쿠폰", CouponType.AMOUNT, 5000, null,
+                        10000, STOCK, LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(30)));
+
+                // when
+                BenchmarkResult result = run(coupon.getId(), concurrency);
+
+                log.info(String.format("[CouponIssueStrategyBenchmark] strategy=%s, concurrency=%d, stock=%d, requests=%d: " +
+                                "%.1f req/s, p50=%.2fms, p99=%.2fms (success=%d, elapsed=%.2fs)",
+                        strategy, concurrency, STOCK, REQUEST_COUNT, result.throughput(),
+                        result.percentileMillis(0.50), result.percentileMillis(0.99),
+                        result.successCount(), result.elapsedSeconds()));
+
+                // then
+                int issuedQuantity = couponRepository.findById(coupon.getId()).orElseThrow().getIssuedQuantity();
+                assertThat(result.successCount()).isPositive().isLessThanOrEqualTo(STOCK);
+                assertThat(issuedQuantity).isEqualTo(result.successCount());
+                assertThat(userCouponRepository.findByCouponId(coupon.getId())).hasSize(result.successCount());
+            }
+        }
+
+        private BenchmarkResult run(Long couponId, int concurrency) throws InterruptedException {
+            ExecutorService executorService = Executors.newFixedThreadPool(concurrency);
+            CountDownLatch startLatch = new CountDownLatch(1);
+            CountDownLatch doneLatch = new CountDownLatch(REQUEST_COUNT);
+            AtomicInteger successCount = new AtomicInteger(0);
+            long[] latencies = new long[REQUEST_COUNT];
+
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                int index = i;
+                long userId = i + 1;
+                executorService.submit(() -> {
+                    try {
+                        startLatch.await();
+                        long requestStart = System.nanoTime();
+                        try {
+                            issueCouponUseCase.execute(userId, couponId);
+                            successCount.incrementAndGet();
+                        } catch (Exception e) {
+                            // 재고 소진 이후 요청은 거절이 정상
+                        } finally {
+                            latencies[index] = System.nanoTime() - requestStart;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        doneLatch.countDown();
+                    }
+                });
+            }
+
+            long startTime = System.nanoTime();
+            startLatch.countDown();
+            doneLatch.await(5, TimeUnit.MINUTES);
+            double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+            executorService.shutdown();
+
+            Arrays.sort(latencies);
+            return new BenchmarkResult(successCount.get(), elapsedSeconds, latencies);
+        }
+    }
+
+    private record BenchmarkResult(int successCount, double elapsedSeconds, long[] sortedLatencies) {
+
+        double throughput() {
+            return sortedLatencies.length / elapsedSeconds;
+        }
+
+        double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    private static int intEnv(String name, int defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static List<Integer> intListEnv(String name, String defaultValue) {
+        String value = System.getenv(name);
+        String levels = value == null || value.isBlank() ? defaultValue : value;
+        return Arrays.stream(levels.split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+    }
+}
@@ -0,0 +1,141 @@
+package org.hhplus.hhecommerce.application.coupon;
+
+import org.hhplus.hhecommerce.api.dto.coupon.CheckoutCouponResponse;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponDefinition;
+import org.hhplus.hhecommerce.domain.coupon.CouponType;
+import org.hhplus.hhecommerce.domain.coupon.UserCoupon;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponWallet;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponCatalog;
+import org.hhplus.hhecommerce.infrastructure.cache.UserCouponWalletCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EvaluateCheckoutCouponsUseCaseTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @Mock
+    private CouponCatalog couponCatalog;
+
+    @Mock
+    private UserCouponWalletCache userCouponWalletCache;
+
+    @InjectMocks
+    private EvaluateCheckoutCouponsUseCase evaluateCheckoutCouponsUseCase;
+
+    @Test
+    @DisplayName("적용 가능한 쿠폰을 할인 금액 순으로 정렬하고 최대 할인 쿠폰을 표시한다")
+    void 할인_금액_순으로_추천한다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Coupon rate = coupon(1L, "10% 할인", CouponType.RATE, 10, 5000, 10000);
+        Coupon amount = coupon(2L, "3000원 할인", CouponType.AMOUNT, 3000, null, 10000);
+        Coupon highMin = coupon(3L, "10000원 할인", CouponType.AMOUNT, 10000, null, 100000);
+
+        List<UserCoupon> userCoupons = List.of(
+                userCoupon(11L, rate, now.plusDays(30)),
+                userCoupon(12L, amount, now.plusDays(30)),
+                userCoupon(13L, highMin, now.plusDays(30)));
+
+        when(userCouponWalletCache.find(USER_ID)).thenReturn(Optional.empty());
+        when(userCouponWalletCache.generation(USER_ID)).thenReturn(3L);
+        when(userCouponRepository.findAvailableByUserId(eq(USER_ID), any(LocalDateTime.class))).thenReturn(userCoupons);
+        when(couponCatalog.findAll(List.of(1L, 2L, 3L))).thenReturn(Map.of(
+                1L, CouponDefinition.from(rate),
+                2L, CouponDefinition.from(amount),
+                3L, CouponDefinition.from(highMin)));
+
+        // when - 주문금액 40,000원: 10% = 4,000원, 고정 3,000원, 최소 주문금액 미달 1장
+        CheckoutCouponResponse response = evaluateCheckoutCouponsUseCase.execute(USER_ID, 40000);
+
+        // then
+        assertThat(response.coupons()).extracting(CheckoutCouponResponse.CheckoutCouponInfo::userCouponId)
+                .containsExactly(11L, 12L);
+        assertThat(response.coupons().get(0).best()).isTrue();
+        assertThat(response.coupons().get(0).expectedDiscount()).isEqualTo(4000);
+        assertThat(response.coupons().get(0).finalAmount()).isEqualTo(36000);
+        assertThat(response.coupons().get(1).best()).isFalse();
+        assertThat(response.bestUserCouponId()).isEqualTo(11L);
+        verify(userCouponWalletCache).save(eq(USER_ID), any(UserCouponWallet.class), eq(3L));
+    }
+
+    @Test
+    @DisplayName("캐시된 지갑이 있으면 DB를 조회하지 않고 금액만 다시 계산한다")
+    void 캐시된_지갑으로_계산한다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Coupon rate = coupon(1L, "10% 할인", CouponType.RATE, 10, 5000, 10000);
+        Coupon amount = coupon(2L, "3000원 할인", CouponType.AMOUNT, 3000, null, 10000);
+        UserCouponWallet wallet = UserCouponWallet.of(
+                List.of(userCoupon(11L, rate, now.plusDays(30)), userCoupon(12L, amount, now.plusDays(7))),
+                Map.of(1L, CouponDefinition.from(rate), 2L, CouponDefinition.from(amount)));
+        when(userCouponWalletCache.find(USER_ID)).thenReturn(Optional.of(wallet));
+
+        // when - 주문금액 20,000원: 10% = 2,000원, 고정 3,000원
+        CheckoutCouponResponse response = evaluateCheckoutCouponsUseCase.execute(USER_ID, 20000);
+
+        // then
+        assertThat(response.bestUserCouponId()).isEqualTo(12L);
+        assertThat(response.coupons()).extracting(CheckoutCouponResponse.CheckoutCouponInfo::expectedDiscount)
+                .containsExactly(3000, 2000);
+        verifyNoInteractions(userCouponRepository, couponCatalog);
+    }
+
+    @Test
+    @DisplayName("할인 금액이 같으면 먼저 만료되는 쿠폰을 추천하고, 만료된 쿠폰은 제외한다")
+    void 동일_할인은_먼저_만료되는_쿠폰을_추천한다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Coupon first = coupon(1L, "5000원 할인 A", CouponType.AMOUNT, 5000, null, 10000);
+        Coupon second = coupon(2L, "5000원 할인 B", CouponType.AMOUNT, 5000, null, 10000);
+        Coupon expired = coupon(3L, "20000원 할인", CouponType.AMOUNT, 20000, null, 10000);
+        UserCouponWallet wallet = UserCouponWallet.of(
+                List.of(userCoupon(11L, first, now.plusDays(30)),
+                        userCoupon(12L, second, now.plusDays(3)),
+                        userCoupon(13L, expired, now.minusMinutes(1))),
+                Map.of(1L, CouponDefinition.from(first), 2L, CouponDefinition.from(second),
+                        3L, CouponDefinition.from(expired)));
+        when(userCouponWalletCache.find(USER_ID)).thenReturn(Optional.of(wallet));
+
+        // when
+        CheckoutCouponResponse response = evaluateCheckoutCouponsUseCase.execute(USER_ID, 50000);
+
+        // then
+        assertThat(response.coupons()).extracting(CheckoutCouponResponse.CheckoutCouponInfo::userCouponId)
+                .containsExactly(12L, 11L);
+        assertThat(response.bestUserCouponId()).isEqualTo(12L);
+    }
+
+    private Coupon coupon(Long id, String name, CouponType type, int value, Integer maxDiscount, int minOrderAmount) {
+        LocalDateTime now = LocalDateTime.now();
+        Coupon coupon = new Coupon(name, type, value, maxDiscount, minOrderAmount, 100,
+                now.minusDays(1), now.plusDays(30));
+        coupon.setId(id);
+        return coupon;
+    }
+
+    private UserCoupon userCoupon(Long id, Coupon coupon, LocalDateTime expiredAt) {
+        UserCoupon userCoupon = new UserCoupon(USER_ID, coupon.getId(), expiredAt);
+        userCoupon.setId(id);
+        return userCoupon;
+    }
+}
@@ -1,69 +1,128 @@
 package org.hhplus.hhecommerce.application.coupon;
 
 import org.hhplus.hhecommerce.api.dto.coupon.CouponListResponse;
-import org.hhplus.hhecommerce.domain.coupon.Coupon;
-import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
-import org.hhplus.hhecommerce.domain.coupon.CouponType;
+import org.hhplus.hhecommerce.infrastructure.cache.AvailableCouponListCache;
+import org.hhplus.hhecommerce.infrastructure.coupon.RedisCouponIssueManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.ObjectProvider;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class GetAvailableCouponsUseCaseTest {
 
     @Mock
-    private CouponRepository couponRepository;
+    private AvailableCouponListCache availableCouponListCache;
 
-    @InjectMocks
-    private GetAvailableCouponsUseCase getAvailableCouponsUseCase;
+    @Mock
+    private RedisCouponIssueManager redisCouponIssueManager;
+
+    @Mock
+    private ObjectProvider<RedisCouponIssueManager> redisCouponIssueManagerProvider;
 
     @Test
     @DisplayName("정상적으로 발급 가능한 쿠폰 목록을 조회할 수 있다")
     void 정상적으로_발급_가능한_쿠폰_목록을_조회할_수_있다() {
         // Given
-        LocalDateTime now = LocalDateTime.now();
-        Coupon coupon = new Coupon("10% 할인", CouponType.RATE, 10, 5000, 10000, 100,
-                now.minusDays(1), now.plusDays(30));
-        coupon.setId(1L);
-
-        when(couponRepository.findAvailableCoupons(any(LocalDateTime.class), any(Pageable.class)))
-            .thenReturn(List.of(coupon));
-        when(couponRepository.countAvailableCoupons(any(LocalDateTime.class))).thenReturn(1);
+        when(availableCouponListCache.findAll()).thenReturn(cachedList(couponInfo(1L, "10% 할인", 100)));
 
         // When
-        CouponListResponse response = getAvailableCouponsUseCase.execute(0, 10);
+        CouponListResponse response = useCase(false).execute(0, 10);
 
         // Then
         assertThat(response).isNotNull();
         assertThat(response.coupons()).hasSize(1);
         assertThat(response.totalCount()).isEqualTo(1);
         assertThat(response.coupons().get(0).name()).isEqualTo("10% 할인");
+        assertThat(response.coupons().get(0).remainingQuantity()).isEqualTo(100);
     }
 
     @Test
     @DisplayName("기간이 지난 쿠폰은 조회되지 않는다")
     void 기간이_지난_쿠폰은_조회되지_않는다() {
         // Given
-        when(couponRepository.findAvailableCoupons(any(LocalDateTime.class), any(Pageable.class)))
-            .thenReturn(List.of());
-        when(couponRepository.countAvailableCoupons(any(LocalDateTime.class))).thenReturn(0);
+        when(availableCouponListCache.findAll()).thenReturn(cachedList());
 
         // When
-        CouponListResponse response = getAvailableCouponsUseCase.execute(0, 10);
+        CouponListResponse response = useCase(false).execute(0, 10);
 
         // Then
         assertThat(response.coupons()).hasSize(0);
         assertThat(response.totalCount()).isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("캐시된 전체 목록에서 페이지를 잘라내고, 총 개수는 전체 목록 크기를 쓴다")
+    void 캐시된_목록에서_페이지를_잘라낸다() {
+        // Given
+        when(availableCouponListCache.findAll()).thenReturn(cachedList(
+                couponInfo(1L, "쿠폰 1", 10), couponInfo(2L, "쿠폰 2", 10), couponInfo(3L, "쿠폰 3", 10)));
+
+        // When
+        CouponListResponse second = useCase(false).execute(1, 2);
+        CouponListResponse outOfRange = useCase(false).execute(5, 2);
+
+        // Then
+        assertThat(second.coupons()).extracting(CouponListResponse.CouponInfo::id).containsExactly(3L);
+        assertThat(second.totalCount()).isEqualTo(3);
+        assertThat(outOfRange.coupons()).isEmpty();
+        assertThat(outOfRange.totalCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Redis 재고 키가 있는 쿠폰은 잔여 수량을 Redis 값으로 덮어쓴다")
+    void 잔여_수량을_Redis_재고로_덮어쓴다() {
+        // Given
+        when(availableCouponListCache.findAll()).thenReturn(cachedList(
+                couponInfo(1L, "쿠폰 1", 100), couponInfo(2L, "쿠폰 2", 50)));
+        when(redisCouponIssueManager.getRemainingStocks(List.of(1L, 2L))).thenReturn(Map.of(1L, 7));
+
+        // When
+        CouponListResponse response = useCase(true).execute(0, 10);
+
+        // Then
+        assertThat(response.coupons()).extracting(CouponListResponse.CouponInfo::remainingQuantity)
+                .containsExactly(7, 50);
+    }
+
+    @Test
+    @DisplayName("Redis 재고 조회에 실패하면 캐시된 잔여 수량으로 응답한다")
+    void Redis_조회_실패_시_캐시된_수량을_쓴다() {
+        // Given
+        when(availableCouponListCache.findAll()).thenReturn(cachedList(couponInfo(1L, "쿠폰 1", 100)));
+        when(redisCouponIssueManager.getRemainingStocks(List.of(1L)))
+                .thenThrow(new RuntimeException("Redis 연결 실패"));
+
+        // When
+        CouponListResponse response = useCase(true).execute(0, 10);
+
+        // Then
+        assertThat(response.coupons().get(0).remainingQuantity()).isEqualTo(100);
+    }
+
+    private GetAvailableCouponsUseCase useCase(boolean redisStrategy) {
+        when(redisCouponIssueManagerProvider.getIfAvailable())
+                .thenReturn(redisStrategy ? redisCouponIssueManager : null);
+        return new GetAvailableCouponsUseCase(availableCouponListCache, redisCouponIssueManagerProvider);
+    }
+
+    private CouponListResponse cachedList(CouponListResponse.CouponInfo... coupons) {
+        return new CouponListResponse(new ArrayList<>(List.of(coupons)), coupons.length);
+    }
+
+    private CouponListResponse.CouponInfo couponInfo(Long id, String name, int remainingQuantity) {
+        LocalDateTime now = LocalDateTime.now();
+        return new CouponListResponse.CouponInfo(id, name, "RATE", 10, 5000, 10000, remainingQuantity,
+                now.minusDays(1), now.plusDays(30));
+    }
 }
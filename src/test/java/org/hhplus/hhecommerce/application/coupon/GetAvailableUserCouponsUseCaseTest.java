@@ -2,10 +2,11 @@ package org.hhplus.hhecommerce.application.coupon;
 
 import org.hhplus.hhecommerce.api.dto.coupon.AvailableUserCouponListResponse;
 import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponDefinition;
 import org.hhplus.hhecommerce.domain.coupon.CouponType;
 import org.hhplus.hhecommerce.domain.coupon.UserCoupon;
-import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
 import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponCatalog;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,7 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -26,7 +27,7 @@ import static org.mockito.Mockito.when;
 class GetAvailableUserCouponsUseCaseTest {
 
     @Mock
-    private CouponRepository couponRepository;
+    private CouponCatalog couponCatalog;
 
     @Mock
     private UserCouponRepository userCouponRepository;
@@ -59,8 +60,9 @@ class GetAvailableUserCouponsUseCaseTest {
 
         when(userCouponRepository.findAvailableByUserId(anyLong(), any(LocalDateTime.class)))
             .thenReturn(List.of(userCoupon1, userCoupon2));
-        when(couponRepository.findById(1L)).thenReturn(Optional.of(coupon1));
-        when(couponRepository.findById(2L)).thenReturn(Optional.of(coupon2));
+        when(couponCatalog.findAll(List.of(1L, 2L))).thenReturn(Map.of(
+                1L, CouponDefinition.from(coupon1),
+                2L, CouponDefinition.from(coupon2)));
 
         // When - 주문금액 20,000원
         AvailableUserCouponListResponse response = getAvailableUserCouponsUseCase.execute(userId, 20000);
@@ -91,7 +93,7 @@ class GetAvailableUserCouponsUseCaseTest {
 
         when(userCouponRepository.findAvailableByUserId(anyLong(), any(LocalDateTime.class)))
             .thenReturn(List.of(userCoupon));
-        when(couponRepository.findById(1L)).thenReturn(Optional.of(coupon));
+        when(couponCatalog.findAll(List.of(1L))).thenReturn(Map.of(1L, CouponDefinition.from(coupon)));
 
         // When - 주문금액 100,000원 (10% = 10,000원이지만 최대 5,000원)
         AvailableUserCouponListResponse response = getAvailableUserCouponsUseCase.execute(userId, 100000);
@@ -118,7 +120,7 @@ class GetAvailableUserCouponsUseCaseTest {
 
         when(userCouponRepository.findAvailableByUserId(anyLong(), any(LocalDateTime.class)))
             .thenReturn(List.of(userCoupon));
-        when(couponRepository.findById(1L)).thenReturn(Optional.of(coupon));
+        when(couponCatalog.findAll(List.of(1L))).thenReturn(Map.of(1L, CouponDefinition.from(coupon)));
 
         // When
         AvailableUserCouponListResponse response = getAvailableUserCouponsUseCase.execute(userId, 30000);
@@ -0,0 +1,128 @@
+package org.hhplus.hhecommerce.application.coupon;
+
+import org.hhplus.hhecommerce.api.dto.coupon.CouponIssueRequestStatusResponse;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueRequestResult;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResultRecord;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResultRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueStatus;
+import org.hhplus.hhecommerce.domain.coupon.exception.CouponErrorCode;
+import org.hhplus.hhecommerce.domain.coupon.exception.CouponException;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponIssueResultCache;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponIssueResultNotifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetCouponIssueResultUseCaseTest {
+
+    private static final String REQUEST_ID = "req-1";
+
+    @Mock
+    private CouponIssueResultCache couponIssueResultCache;
+
+    @Mock
+    private CouponIssueResultRepository couponIssueResultRepository;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private CouponIssueResultNotifier couponIssueResultNotifier;
+    private GetCouponIssueResultUseCase getCouponIssueResultUseCase;
+
+    @BeforeEach
+    void setUp() {
+        couponIssueResultNotifier = new CouponIssueResultNotifier(listenerContainer);
+        getCouponIssueResultUseCase = new GetCouponIssueResultUseCase(
+                couponIssueResultCache, couponIssueResultRepository, couponIssueResultNotifier, 10);
+    }
+
+    @Test
+    @DisplayName("캐시에 확정된 결과가 있으면 DB를 조회하지 않고 바로 응답한다")
+    void 캐시의_결과를_바로_응답한다() {
+        // given
+        when(couponIssueResultCache.find(REQUEST_ID)).thenReturn(Optional.of(result(CouponIssueStatus.SUCCESS)));
+
+        // when
+        DeferredResult<CouponIssueRequestStatusResponse> deferred = getCouponIssueResultUseCase.execute(REQUEST_ID, 10);
+
+        // then
+        assertThat(response(deferred).status()).isEqualTo("SUCCESS");
+        verifyNoInteractions(couponIssueResultRepository);
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 DB에서 읽고 캐시를 다시 채운다")
+    void 캐시에_없으면_DB에서_읽는다() {
+        // given
+        CouponIssueResultRecord record = new CouponIssueResultRecord(REQUEST_ID, 1L, 10L,
+                CouponIssueStatus.OUT_OF_STOCK, "쿠폰 재고가 소진되었습니다.", LocalDateTime.now());
+        when(couponIssueResultCache.find(REQUEST_ID)).thenReturn(Optional.empty());
+        when(couponIssueResultRepository.findByRequestId(REQUEST_ID)).thenReturn(Optional.of(record));
+
+        // when
+        DeferredResult<CouponIssueRequestStatusResponse> deferred = getCouponIssueResultUseCase.execute(REQUEST_ID, 0);
+
+        // then
+        assertThat(response(deferred).status()).isEqualTo("OUT_OF_STOCK");
+        verify(couponIssueResultCache).refill(any(CouponIssueRequestResult.class));
+    }
+
+    @Test
+    @DisplayName("캐시와 DB 모두에 없으면 예외가 발생한다")
+    void 없는_요청은_예외가_발생한다() {
+        // given
+        when(couponIssueResultCache.find(REQUEST_ID)).thenReturn(Optional.empty());
+        when(couponIssueResultRepository.findByRequestId(REQUEST_ID)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> getCouponIssueResultUseCase.execute(REQUEST_ID, 5))
+                .isInstanceOf(CouponException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.COUPON_ISSUE_REQUEST_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("처리 중이면 응답을 보류하고, 결과 발행 메시지를 받으면 확정된 결과로 응답한다")
+    void 결과_발행_시_대기_중인_요청에_응답한다() {
+        // given
+        when(couponIssueResultCache.find(REQUEST_ID)).thenReturn(
+                Optional.of(result(CouponIssueStatus.PROCESSING)),
+                Optional.of(result(CouponIssueStatus.PROCESSING)),
+                Optional.of(result(CouponIssueStatus.SUCCESS)));
+
+        DeferredResult<CouponIssueRequestStatusResponse> deferred = getCouponIssueResultUseCase.execute(REQUEST_ID, 10);
+        assertThat(deferred.hasResult()).isFalse();
+
+        // when
+        couponIssueResultNotifier.onMessage(new DefaultMessage(
+                CouponIssueResultCache.RESULT_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                REQUEST_ID.getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(response(deferred).status()).isEqualTo("SUCCESS");
+    }
+
+    private CouponIssueRequestResult result(CouponIssueStatus status) {
+        return new CouponIssueRequestResult(REQUEST_ID, 1L, 10L, status, null);
+    }
+
+    private CouponIssueRequestStatusResponse response(DeferredResult<CouponIssueRequestStatusResponse> deferred) {
+        assertThat(deferred.hasResult()).isTrue();
+        return (CouponIssueRequestStatusResponse) deferred.getResult();
+    }
+}
@@ -2,20 +2,21 @@ package org.hhplus.hhecommerce.application.coupon;
 
 import org.hhplus.hhecommerce.api.dto.coupon.UserCouponListResponse;
 import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponDefinition;
 import org.hhplus.hhecommerce.domain.coupon.CouponType;
 import org.hhplus.hhecommerce.domain.coupon.UserCoupon;
-import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
 import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponCatalog;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.when;
@@ -24,14 +25,18 @@ import static org.mockito.Mockito.when;
 class GetUserCouponsUseCaseTest {
 
     @Mock
-    private CouponRepository couponRepository;
+    private CouponCatalog couponCatalog;
 
     @Mock
     private UserCouponRepository userCouponRepository;
 
-    @InjectMocks
     private GetUserCouponsUseCase getUserCouponsUseCase;
 
+    @BeforeEach
+    void setUp() {
+        getUserCouponsUseCase = new GetUserCouponsUseCase(userCouponRepository, couponCatalog);
+    }
+
     @Test
     @DisplayName("사용자의 쿠폰 목록을 조회할 수 있다")
     void 사용자의_쿠폰_목록을_조회할_수_있다() {
@@ -54,8 +59,9 @@ class GetUserCouponsUseCaseTest {
         userCoupon2.setId(2L);
 
         when(userCouponRepository.findByUserId(userId)).thenReturn(List.of(userCoupon1, userCoupon2));
-        when(couponRepository.findById(1L)).thenReturn(Optional.of(coupon1));
-        when(couponRepository.findById(2L)).thenReturn(Optional.of(coupon2));
+        when(couponCatalog.findAll(List.of(1L, 2L))).thenReturn(Map.of(
+                1L, CouponDefinition.from(coupon1),
+                2L, CouponDefinition.from(coupon2)));
 
         // When
         UserCouponListResponse response = getUserCouponsUseCase.execute(userId);
@@ -3,24 +3,32 @@ package org.hhplus.hhecommerce.application.coupon;
 import org.hhplus.hhecommerce.api.dto.coupon.IssueCouponResponse;
 import org.hhplus.hhecommerce.domain.coupon.Coupon;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueManager;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueReservation;
 import org.hhplus.hhecommerce.domain.coupon.CouponIssueResult;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
 import org.hhplus.hhecommerce.domain.coupon.CouponType;
 import org.hhplus.hhecommerce.domain.coupon.FailedCouponRollbackRepository;
 import org.hhplus.hhecommerce.domain.coupon.UserCoupon;
 import org.hhplus.hhecommerce.domain.coupon.exception.CouponErrorCode;
 import org.hhplus.hhecommerce.domain.coupon.exception.CouponException;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponIssueStream;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponWaitingRoom;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -38,6 +46,21 @@ class IssueCouponUseCaseTest {
     @Mock
     private FailedCouponRollbackRepository failedCouponRollbackRepository;
 
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private ObjectProvider<CouponIssueStream> couponIssueStreamProvider;
+
+    @Mock
+    private CouponIssueStream couponIssueStream;
+
+    @Mock
+    private ObjectProvider<CouponWaitingRoom> couponWaitingRoomProvider;
+
+    @Mock
+    private CouponWaitingRoom couponWaitingRoom;
+
     private IssueCouponUseCase issueCouponUseCase;
 
     @BeforeEach
@@ -45,7 +68,22 @@ class IssueCouponUseCaseTest {
         issueCouponUseCase = new IssueCouponUseCase(
                 couponIssueManager,
                 couponTransactionService,
-                failedCouponRollbackRepository
+                failedCouponRollbackRepository,
+                couponRepository,
+                couponIssueStreamProvider,
+                couponWaitingRoomProvider
+        );
+    }
+
+    private IssueCouponUseCase createWriteBehindUseCase() {
+        when(couponIssueStreamProvider.getIfAvailable()).thenReturn(couponIssueStream);
+        return new IssueCouponUseCase(
+                couponIssueManager,
+                couponTransactionService,
+                failedCouponRollbackRepository,
+                couponRepository,
+                couponIssueStreamProvider,
+                couponWaitingRoomProvider
         );
     }
 
@@ -85,6 +123,29 @@ class IssueCouponUseCaseTest {
         verify(couponTransactionService).saveUserCoupon(userId, couponId);
     }
 
+    @Test
+    @DisplayName("발급 전략이 사용자 쿠폰까지 저장했으면 다시 저장하지 않고 저장된 쿠폰으로 응답한다")
+    void 사용자_쿠폰을_저장하는_전략은_저장된_쿠폰으로_응답한다() {
+        // Given
+        Long userId = 1L;
+        Long couponId = 1L;
+        CouponTransactionService.CouponSaveResult saved = createMockSaveResult(couponId);
+
+        when(couponIssueManager.tryIssue(couponId, userId)).thenReturn(CouponIssueResult.SUCCESS);
+        when(couponIssueManager.persistsUserCoupon()).thenReturn(true);
+        when(couponTransactionService.findIssuedUserCoupon(userId, couponId)).thenReturn(saved);
+
+        // When
+        IssueCouponResponse response = issueCouponUseCase.execute(userId, couponId);
+
+        // Then
+        assertThat(response.id()).isEqualTo(1L);
+        assertThat(response.couponName()).isEqualTo("10% 할인");
+
+        verify(couponTransactionService, never()).saveUserCoupon(anyLong(), anyLong());
+        verify(couponIssueManager, never()).rollback(anyLong(), anyLong());
+    }
+
     @Test
     @DisplayName("이미 발급받은 쿠폰은 다시 발급받을 수 없다")
     void 이미_발급받은_쿠폰은_다시_발급받을_수_없다() {
@@ -210,4 +271,118 @@ class IssueCouponUseCaseTest {
         // 롤백 실패 기록이 저장되었는지 확인
         verify(failedCouponRollbackRepository).save(any());
     }
+
+    @Test
+    @DisplayName("write-behind 모드에서는 예약을 스트림에 기록하고 DB 저장 없이 응답한다")
+    void write_behind_모드는_스트림에_기록하고_바로_응답한다() {
+        // Given
+        Long userId = 1L;
+        Long couponId = 1L;
+        IssueCouponUseCase writeBehindUseCase = createWriteBehindUseCase();
+        Coupon coupon = createMockSaveResult(couponId).coupon();
+
+        when(couponIssueManager.tryIssue(couponId, userId)).thenReturn(CouponIssueResult.SUCCESS);
+        when(couponRepository.findById(couponId)).thenReturn(Optional.of(coupon));
+
+        // When
+        IssueCouponResponse response = writeBehindUseCase.execute(userId, couponId);
+
+        // Then
+        ArgumentCaptor<CouponIssueReservation> captor = ArgumentCaptor.forClass(CouponIssueReservation.class);
+        verify(couponIssueStream).append(captor.capture());
+        assertThat(captor.getValue().userId()).isEqualTo(userId);
+        assertThat(response.id()).isNull();
+        assertThat(response.couponName()).isEqualTo("10% 할인");
+        assertThat(response.expiredAt()).isEqualTo(captor.getValue().expiredAt());
+
+        verify(couponIssueManager).confirm(couponId, userId);
+        verify(couponTransactionService, never()).saveUserCoupon(any(), any());
+    }
+
+    @Test
+    @DisplayName("write-behind 모드에서 스트림 기록에 실패하면 예약을 롤백한다")
+    void write_behind_스트림_기록_실패_시_롤백() {
+        // Given
+        Long userId = 1L;
+        Long couponId = 1L;
+        IssueCouponUseCase writeBehindUseCase = createWriteBehindUseCase();
+
+        when(couponIssueManager.tryIssue(couponId, userId)).thenReturn(CouponIssueResult.SUCCESS);
+        when(couponRepository.findById(couponId)).thenReturn(Optional.of(createMockSaveResult(couponId).coupon()));
+        doThrow(new RuntimeException("Redis 장애")).when(couponIssueStream).append(any());
+
+        // When & Then
+        assertThatThrownBy(() -> writeBehindUseCase.execute(userId, couponId))
+                .isInstanceOf(CouponException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.COUPON_ISSUE_FAILED);
+
+        verify(couponIssueManager).rollback(couponId, userId);
+        verify(couponIssueManager, never()).confirm(couponId, userId);
+    }
+
+    @Test
+    @DisplayName("대기실 모드에서 입장권이 없으면 발급을 시도하지 않고 거절한다")
+    void 대기실_모드_입장권이_없으면_거절한다() {
+        // Given
+        Long userId = 1L;
+        Long couponId = 1L;
+        IssueCouponUseCase waitingRoomUseCase = createWaitingRoomUseCase();
+        when(couponWaitingRoom.hasToken(couponId, userId)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> waitingRoomUseCase.execute(userId, couponId))
+                .isInstanceOf(CouponException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.COUPON_QUEUE_TOKEN_REQUIRED);
+
+        verify(couponIssueManager, never()).tryIssue(any(), any());
+    }
+
+    @Test
+    @DisplayName("대기실 모드에서 입장권이 있으면 발급을 시도하고, 재시도할 수 없는 실패면 입장권을 반납한다")
+    void 대기실_모드_입장권으로_발급하고_반납한다() {
+        // Given
+        Long userId = 1L;
+        Long couponId = 1L;
+        IssueCouponUseCase waitingRoomUseCase = createWaitingRoomUseCase();
+        when(couponWaitingRoom.hasToken(couponId, userId)).thenReturn(true);
+        when(couponIssueManager.tryIssue(couponId, userId)).thenReturn(CouponIssueResult.OUT_OF_STOCK);
+
+        // When & Then
+        assertThatThrownBy(() -> waitingRoomUseCase.execute(userId, couponId))
+                .isInstanceOf(CouponException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.COUPON_OUT_OF_STOCK);
+
+        verify(couponIssueManager).tryIssue(couponId, userId);
+        verify(couponWaitingRoom).releaseToken(couponId, userId);
+    }
+
+    @Test
+    @DisplayName("대기실 모드에서 락 대기 초과처럼 재시도할 수 있는 실패면 입장권을 유지한다")
+    void 대기실_모드_재시도할_수_있는_실패면_입장권을_유지한다() {
+        // Given
+        Long userId = 1L;
+        Long couponId = 1L;
+        IssueCouponUseCase waitingRoomUseCase = createWaitingRoomUseCase();
+        when(couponWaitingRoom.hasToken(couponId, userId)).thenReturn(true);
+        when(couponIssueManager.tryIssue(couponId, userId)).thenReturn(CouponIssueResult.LOCK_ACQUISITION_FAILED);
+
+        // When & Then
+        assertThatThrownBy(() -> waitingRoomUseCase.execute(userId, couponId))
+                .isInstanceOf(CouponException.class)
+                .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.COUPON_ISSUE_TIMEOUT);
+
+        verify(couponWaitingRoom, never()).releaseToken(couponId, userId);
+    }
+
+    private IssueCouponUseCase createWaitingRoomUseCase() {
+        when(couponWaitingRoomProvider.getIfAvailable()).thenReturn(couponWaitingRoom);
+        return new IssueCouponUseCase(
+                couponIssueManager,
+                couponTransactionService,
+                failedCouponRollbackRepository,
+                couponRepository,
+                couponIssueStreamProvider,
+                couponWaitingRoomProvider
+        );
+    }
 }
@@ -0,0 +1,96 @@
+package org.hhplus.hhecommerce.application.order;
+
+import org.hhplus.hhecommerce.api.dto.order.AcceptOrderResponse;
+import org.hhplus.hhecommerce.api.dto.order.CreateOrderRequest;
+import org.hhplus.hhecommerce.domain.cart.CartRepository;
+import org.hhplus.hhecommerce.domain.order.AsyncOrderRequest;
+import org.hhplus.hhecommerce.domain.order.exception.OrderErrorCode;
+import org.hhplus.hhecommerce.domain.order.exception.OrderException;
+import org.hhplus.hhecommerce.domain.user.UserRepository;
+import org.hhplus.hhecommerce.infrastructure.cache.OrderRequestStatusCache;
+import org.hhplus.hhecommerce.infrastructure.kafka.OrderRequestKafkaProducer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AcceptOrderUseCaseTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CartRepository cartRepository;
+
+    @Mock
+    private OrderRequestKafkaProducer orderRequestKafkaProducer;
+
+    @Mock
+    private OrderRequestStatusCache orderRequestStatusCache;
+
+    @InjectMocks
+    private AcceptOrderUseCase acceptOrderUseCase;
+
+    @Test
+    @DisplayName("주문 요청을 접수 상태로 기록한 뒤 userId 키로 발행한다")
+    void 주문_요청을_접수하고_발행한다() {
+        // given
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(cartRepository.countByUserId(1L)).thenReturn(2);
+
+        // when
+        AcceptOrderResponse response = acceptOrderUseCase.execute(1L, new CreateOrderRequest(10L));
+
+        // then
+        ArgumentCaptor<AsyncOrderRequest> captor = ArgumentCaptor.forClass(AsyncOrderRequest.class);
+        InOrder inOrder = inOrder(orderRequestStatusCache, orderRequestKafkaProducer);
+        inOrder.verify(orderRequestStatusCache).accepted(anyString(), eq(1L));
+        inOrder.verify(orderRequestKafkaProducer).requestOrder(captor.capture());
+
+        assertThat(response.status()).isEqualTo("ACCEPTED");
+        assertThat(captor.getValue().requestId()).isEqualTo(response.requestId());
+        assertThat(captor.getValue().userCouponId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("장바구니가 비어 있으면 발행하지 않고 예외가 발생한다")
+    void 빈_장바구니는_접수하지_않는다() {
+        // given
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(cartRepository.countByUserId(1L)).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> acceptOrderUseCase.execute(1L, new CreateOrderRequest(null)))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OrderErrorCode.EMPTY_CART);
+        verify(orderRequestKafkaProducer, never()).requestOrder(any());
+    }
+
+    @Test
+    @DisplayName("발행에 실패하면 요청 상태를 실패로 기록한다")
+    void 발행_실패_시_실패_상태를_기록한다() {
+        // given
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(cartRepository.countByUserId(1L)).thenReturn(1);
+        doThrow(new OrderException(OrderErrorCode.ORDER_REQUEST_FAILED))
+                .when(orderRequestKafkaProducer).requestOrder(any());
+
+        // when & then
+        assertThatThrownBy(() -> acceptOrderUseCase.execute(1L, new CreateOrderRequest(null)))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OrderErrorCode.ORDER_REQUEST_FAILED);
+        verify(orderRequestStatusCache).failed(anyString(), eq("ORDER_REQUEST_FAILED"), anyString());
+    }
+}
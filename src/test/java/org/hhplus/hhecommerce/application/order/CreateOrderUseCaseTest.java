@@ -23,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
+import org.springframework.beans.factory.ObjectProvider;
 import org.redisson.api.RedissonClient;
 
 import java.util.List;
@@ -50,6 +51,9 @@ class CreateOrderUseCaseTest {
     @Mock
     private RLock rLock;
 
+    @Mock
+    private ObjectProvider<OrderGroupCommitExecutor> groupCommitExecutorProvider;
+
     private CreateOrderUseCase createOrderUseCase;
 
     @BeforeEach
@@ -59,7 +63,8 @@ class CreateOrderUseCaseTest {
                 orderTransactionService,
                 orderRepository,
                 productRepository,
-                new SimpleMeterRegistry()
+                new SimpleMeterRegistry(),
+                groupCommitExecutorProvider
         );
 
         lenient().when(redissonClient.getLock(anyString())).thenReturn(rLock);
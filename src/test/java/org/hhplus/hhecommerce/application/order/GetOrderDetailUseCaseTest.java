@@ -3,6 +3,10 @@ package org.hhplus.hhecommerce.application.order;
 import org.hhplus.hhecommerce.api.dto.order.OrderDetailResponse;
 import org.hhplus.hhecommerce.domain.order.Order;
 import org.hhplus.hhecommerce.domain.order.OrderItem;
+import org.hhplus.hhecommerce.domain.order.OrderStatus;
+import org.hhplus.hhecommerce.domain.order.OrderView;
+import org.hhplus.hhecommerce.domain.order.OrderViewItem;
+import org.hhplus.hhecommerce.domain.order.OrderViewRepository;
 import org.hhplus.hhecommerce.domain.order.exception.OrderException;
 import org.hhplus.hhecommerce.domain.order.OrderRepository;
 import org.hhplus.hhecommerce.domain.product.Product;
@@ -10,23 +14,32 @@ import org.hhplus.hhecommerce.domain.product.ProductOption;
 import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
 import org.hhplus.hhecommerce.domain.product.ProductRepository;
 import org.hhplus.hhecommerce.domain.product.ProductStatus;
+import org.hhplus.hhecommerce.domain.product.exception.ProductException;
 import org.hhplus.hhecommerce.domain.user.User;
+import org.hhplus.hhecommerce.infrastructure.persistence.EntityBatchLoader;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class GetOrderDetailUseCaseTest {
 
+    @Mock
+    private OrderViewRepository orderViewRepository;
+
     @Mock
     private OrderRepository orderRepository;
 
@@ -36,12 +49,38 @@ class GetOrderDetailUseCaseTest {
     @Mock
     private ProductRepository productRepository;
 
-    @InjectMocks
     private GetOrderDetailUseCase getOrderDetailUseCase;
 
+    @BeforeEach
+    void setUp() {
+        EntityBatchLoader entityBatchLoader =
+                new EntityBatchLoader(productOptionRepository, productRepository);
+        OrderViewProjector orderViewProjector = new OrderViewProjector(orderViewRepository, entityBatchLoader);
+        getOrderDetailUseCase = new GetOrderDetailUseCase(orderViewRepository, orderRepository, orderViewProjector);
+    }
+
     @Test
-    @DisplayName("주문 상세를 조회할 수 있다")
-    void 주문_상세를_조회할_수_있다() {
+    @DisplayName("조회 모델이 있으면 조회 모델 한 건으로 주문 상세를 조회한다")
+    void 조회_모델로_주문_상세를_조회한다() {
+        // Given
+        OrderView view = OrderView.of(1L, 1L, OrderStatus.PENDING, 100000, 0, 100000,
+                List.of(new OrderViewItem("노트북", "RAM", 50000, 2, 100000)), LocalDateTime.now());
+        when(orderViewRepository.findById(1L)).thenReturn(Optional.of(view));
+
+        // When
+        OrderDetailResponse response = getOrderDetailUseCase.execute(1L);
+
+        // Then
+        assertThat(response.id()).isEqualTo(1L);
+        assertThat(response.totalAmount()).isEqualTo(100000);
+        assertThat(response.items()).hasSize(1);
+        assertThat(response.items().get(0).productName()).isEqualTo("노트북");
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("조회 모델이 아직 없으면 주문 테이블에서 상세를 만든다")
+    void 조회_모델이_없으면_주문_테이블에서_조회한다() {
         // Given
         User user = new User(1L, "테스트유저", "test@test.com");
 
@@ -52,9 +91,10 @@ class GetOrderDetailUseCaseTest {
         Order order = Order.create(user.getId(), List.of(item), 0);
         order.setId(1L);
 
+        when(orderViewRepository.findById(1L)).thenReturn(Optional.empty());
         when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
-        when(productOptionRepository.findById(option.getId())).thenReturn(Optional.of(option));
-        when(productRepository.findById(product.getId())).thenReturn(Optional.of(product));
+        when(productOptionRepository.findAllById(any())).thenReturn(List.of(option));
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
 
         // When
         OrderDetailResponse response = getOrderDetailUseCase.execute(order.getId());
@@ -65,16 +105,35 @@ class GetOrderDetailUseCaseTest {
         assertThat(response.userId()).isEqualTo(user.getId());
         assertThat(response.totalAmount()).isEqualTo(100000);
         assertThat(response.items()).hasSize(1);
+        assertThat(response.items().get(0).productName()).isEqualTo("노트북");
     }
 
     @Test
     @DisplayName("존재하지 않는 주문을 조회하면 예외가 발생한다")
     void 존재하지_않는_주문을_조회하면_예외가_발생한다() {
         // Given
+        when(orderViewRepository.findById(999L)).thenReturn(Optional.empty());
         when(orderRepository.findById(999L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> getOrderDetailUseCase.execute(999L))
             .isInstanceOf(OrderException.class);
     }
+
+    @Test
+    @DisplayName("조회 모델이 없고 주문 상품 옵션이 삭제되었으면 예외가 발생한다")
+    void 상품_옵션이_없으면_예외가_발생한다() {
+        // Given
+        OrderItem item = new OrderItem(99L, 1, 50000);
+        Order order = Order.create(1L, List.of(item), 0);
+        order.setId(1L);
+
+        when(orderViewRepository.findById(1L)).thenReturn(Optional.empty());
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(productOptionRepository.findAllById(any())).thenReturn(List.of());
+
+        // When & Then
+        assertThatThrownBy(() -> getOrderDetailUseCase.execute(1L))
+            .isInstanceOf(ProductException.class);
+    }
 }
@@ -1,13 +1,12 @@
 package org.hhplus.hhecommerce.application.order;
 
 import org.hhplus.hhecommerce.api.dto.order.OrderListResponse;
-import org.hhplus.hhecommerce.domain.order.Order;
-import org.hhplus.hhecommerce.domain.order.OrderItem;
-import org.hhplus.hhecommerce.domain.product.Product;
 import org.hhplus.hhecommerce.domain.order.OrderRepository;
-import org.hhplus.hhecommerce.domain.product.ProductOption;
-import org.hhplus.hhecommerce.domain.product.ProductStatus;
-import org.hhplus.hhecommerce.domain.user.User;
+import org.hhplus.hhecommerce.domain.order.OrderStatus;
+import org.hhplus.hhecommerce.domain.order.OrderSummaryProjection;
+import org.hhplus.hhecommerce.domain.order.OrderViewRepository;
+import org.hhplus.hhecommerce.domain.order.exception.OrderErrorCode;
+import org.hhplus.hhecommerce.domain.order.exception.OrderException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,14 +14,25 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class GetOrdersUseCaseTest {
 
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 10, 28, 10, 0);
+
+    @Mock
+    private OrderViewRepository orderViewRepository;
+
     @Mock
     private OrderRepository orderRepository;
 
@@ -33,23 +43,125 @@ class GetOrdersUseCaseTest {
     @DisplayName("사용자의 주문 목록을 조회할 수 있다")
     void 사용자의_주문_목록을_조회할_수_있다() {
         // Given
-        User user = new User(1L, "테스트유저", "test@test.com");
+        when(orderRepository.findUnprojectedSummaries(1L, 21)).thenReturn(List.of());
+        when(orderViewRepository.findLatestSummaries(1L, 21)).thenReturn(List.of(summary(1L, BASE_TIME)));
 
-        Product product = new Product(1L, "노트북", "고성능 노트북", "전자제품", ProductStatus.ACTIVE);
-        ProductOption option = new ProductOption(1L, product.getId(), "RAM", "16GB", 50000, 10);
+        // When
+        OrderListResponse response = getOrdersUseCase.execute(1L, null, 20);
 
-        OrderItem item = new OrderItem(option.getId(), 2, 50000);
-        Order order = Order.create(user.getId(), List.of(item), 0);
-        order.setId(1L);
+        // Then
+        assertThat(response).isNotNull();
+        assertThat(response.orders()).hasSize(1);
+        assertThat(response.orders().get(0).itemCount()).isEqualTo(1);
+        assertThat(response.count()).isEqualTo(1);
+        assertThat(response.nextCursor()).isNull();
+    }
 
-        when(orderRepository.findByUserId(1L)).thenReturn(List.of(order));
+    @Test
+    @DisplayName("페이지 크기보다 많으면 마지막 주문 기준의 nextCursor를 돌려주고, 그 커서로 다음 페이지를 조회한다")
+    void 다음_페이지_커서를_돌려준다() {
+        // Given
+        when(orderRepository.findUnprojectedSummaries(1L, 3)).thenReturn(List.of());
+        when(orderViewRepository.findLatestSummaries(1L, 3)).thenReturn(List.of(
+                summary(3L, BASE_TIME.plusMinutes(2)),
+                summary(2L, BASE_TIME.plusMinutes(1)),
+                summary(1L, BASE_TIME)));
 
         // When
-        OrderListResponse response = getOrdersUseCase.execute(user.getId());
+        OrderListResponse firstPage = getOrdersUseCase.execute(1L, null, 2);
 
         // Then
-        assertThat(response).isNotNull();
-        assertThat(response.orders()).hasSize(1);
-        assertThat(response.total()).isEqualTo(1);
+        assertThat(firstPage.orders()).extracting(OrderListResponse.OrderSummary::id).containsExactly(3L, 2L);
+        assertThat(firstPage.nextCursor()).isNotNull();
+
+        OrderCursor cursor = OrderCursor.decode(firstPage.nextCursor());
+        assertThat(cursor.orderId()).isEqualTo(2L);
+        assertThat(cursor.orderedAt()).isEqualTo(BASE_TIME.plusMinutes(1));
+
+        // When - 다음 페이지
+        when(orderViewRepository.findSummariesAfter(1L, BASE_TIME.plusMinutes(1), 2L, 3))
+                .thenReturn(List.of(summary(1L, BASE_TIME)));
+        OrderListResponse secondPage = getOrdersUseCase.execute(1L, firstPage.nextCursor(), 2);
+
+        // Then
+        assertThat(secondPage.orders()).extracting(OrderListResponse.OrderSummary::id).containsExactly(1L);
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("조회 모델에 아직 반영되지 않은 최근 주문도 최신순으로 함께 조회되고 중복되지 않는다")
+    void 반영되지_않은_최근_주문도_함께_조회된다() {
+        // Given - 주문 2는 두 조회 사이에 반영되어 양쪽에 모두 나온 상황
+        when(orderRepository.findUnprojectedSummaries(1L, 21)).thenReturn(List.of(
+                summary(3L, BASE_TIME.plusMinutes(2)),
+                summary(2L, BASE_TIME.plusMinutes(1))));
+        when(orderViewRepository.findLatestSummaries(1L, 21)).thenReturn(List.of(
+                summary(2L, BASE_TIME.plusMinutes(1)),
+                summary(1L, BASE_TIME)));
+
+        // When
+        OrderListResponse response = getOrdersUseCase.execute(1L, null, 20);
+
+        // Then
+        assertThat(response.orders()).extracting(OrderListResponse.OrderSummary::id)
+                .containsExactly(3L, 2L, 1L);
+        assertThat(response.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("반영이 실패해 재시도를 기다리는 주문은 더 새 주문이 반영되어도 목록에 남는다")
+    void 반영이_실패한_주문도_목록에_남는다() {
+        // Given - 주문 1의 반영이 실패한 사이 주문 2, 3이 먼저 반영된 상황
+        when(orderRepository.findUnprojectedSummaries(1L, 21)).thenReturn(List.of(
+                summary(1L, BASE_TIME)));
+        when(orderViewRepository.findLatestSummaries(1L, 21)).thenReturn(List.of(
+                summary(3L, BASE_TIME.plusMinutes(2)),
+                summary(2L, BASE_TIME.plusMinutes(1))));
+
+        // When
+        OrderListResponse response = getOrdersUseCase.execute(1L, null, 20);
+
+        // Then
+        assertThat(response.orders()).extracting(OrderListResponse.OrderSummary::id)
+                .containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회하면 예외가 발생한다")
+    void 잘못된_커서는_예외가_발생한다() {
+        // When & Then
+        assertThatThrownBy(() -> getOrdersUseCase.execute(1L, "not-a-cursor", 20))
+                .isInstanceOf(OrderException.class)
+                .hasFieldOrPropertyWithValue("errorCode", OrderErrorCode.INVALID_ORDER_CURSOR);
+        verify(orderViewRepository, never()).findSummariesAfter(anyLong(), any(), anyLong(), anyInt());
+    }
+
+    private OrderSummaryProjection summary(Long orderId, LocalDateTime orderedAt) {
+        return new OrderSummaryProjection() {
+            @Override
+            public Long getOrderId() {
+                return orderId;
+            }
+
+            @Override
+            public OrderStatus getStatus() {
+                return OrderStatus.PENDING;
+            }
+
+            @Override
+            public Integer getFinalAmount() {
+                return 50000;
+            }
+
+            @Override
+            public Long getItemCount() {
+                return 1L;
+            }
+
+            @Override
+            public LocalDateTime getOrderedAt() {
+                return orderedAt;
+            }
+        };
     }
 }
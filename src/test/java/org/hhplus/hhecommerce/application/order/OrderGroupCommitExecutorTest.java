@@ -0,0 +1,187 @@
+package org.hhplus.hhecommerce.application.order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hhplus.hhecommerce.api.dto.order.CreateOrderRequest;
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.cart.Cart;
+import org.hhplus.hhecommerce.domain.cart.CartRepository;
+import org.hhplus.hhecommerce.domain.order.OrderRepository;
+import org.hhplus.hhecommerce.domain.point.Point;
+import org.hhplus.hhecommerce.domain.point.PointRepository;
+import org.hhplus.hhecommerce.domain.product.Product;
+import org.hhplus.hhecommerce.domain.product.ProductOption;
+import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
+import org.hhplus.hhecommerce.domain.product.ProductRepository;
+import org.hhplus.hhecommerce.domain.user.User;
+import org.hhplus.hhecommerce.domain.user.UserRepository;
+import org.hhplus.hhecommerce.infrastructure.config.OrderGroupCommitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@TestPropertySource(properties = {
+        "order.group-commit.enabled=true",
+        "order.group-commit.window-ms=20",
+        "order.group-commit.worker-count=1"
+})
+class OrderGroupCommitExecutorTest extends TestContainersConfig {
+
+    private static final int USER_COUNT = 20;
+    private static final int INITIAL_STOCK = 100;
+
+    @Autowired
+    private OrderGroupCommitExecutor orderGroupCommitExecutor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductOptionRepository productOptionRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private ProductOption option;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        cartRepository.deleteAll();
+        productOptionRepository.deleteAll();
+        productRepository.deleteAll();
+        pointRepository.deleteAll();
+        userRepository.deleteAll();
+
+        Product product = productRepository.save(new Product("그룹 커밋 상품", "설명", "테스트"));
+        option = productOptionRepository.save(
+                new ProductOption(product.getId(), "기본 옵션", "일반", 1000, INITIAL_STOCK));
+
+        users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = userRepository.save(new User("사용자" + i, "group" + i + "@example.com"));
+            // 홀수 사용자는 포인트가 부족해 주문이 실패해야 함
+            int balance = i % 2 == 0 ? 100000 : 0;
+            pointRepository.save(new Point(null, user.getId(), balance));
+            cartRepository.save(new Cart(user.getId(), option.getId(), 1));
+            users.add(user);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 배치의 주문이 실패해도 나머지 주문은 함께 커밋된다")
+    void failedOrderDoesNotAbortNeighbours() throws InterruptedException {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(USER_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(USER_COUNT);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failureCount = new AtomicInteger(0);
+
+        // when
+        for (User user : users) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    orderGroupCommitExecutor.execute(user.getId(), new CreateOrderRequest(null));
+                    successCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    failureCount.incrementAndGet();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        startLatch.countDown();
+        doneLatch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        // then
+        int remainingStock = productOptionRepository.findById(option.getId()).orElseThrow().getStock();
+        long orderCount = users.stream()
+                .mapToLong(user -> orderRepository.findByUserId(user.getId()).size())
+                .sum();
+        assertThat(successCount.get()).isEqualTo(USER_COUNT / 2);
+        assertThat(failureCount.get()).isEqualTo(USER_COUNT / 2);
+        assertThat(orderCount).isEqualTo(USER_COUNT / 2);
+        assertThat(remainingStock).isEqualTo(INITIAL_STOCK - USER_COUNT / 2);
+    }
+
+    @Test
+    @DisplayName("교착으로 savepoint까지 사라지면 주문의 재고 예약을 취소하고 개별 트랜잭션으로 한 번만 다시 실행한다")
+    void deadlockReleasesReservationBeforeFallback() {
+        // given - 교착으로 트랜잭션 전체가 롤백되어 savepoint 롤백도 실패하는 상황
+        OrderTransactionService orderTransactionService = mock(OrderTransactionService.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        when(status.createSavepoint()).thenReturn(new Object());
+        doThrow(new TransactionSystemException("SAVEPOINT does not exist")).when(status).rollbackToSavepoint(any());
+
+        AtomicInteger reservations = new AtomicInteger();
+        AtomicInteger releasedReservations = new AtomicInteger();
+        when(orderTransactionService.processOrder(eq(1L), any(), any())).thenAnswer(invocation -> {
+            reservations.incrementAndGet();
+            OrderCompletionActions completionActions = invocation.getArgument(2);
+            completionActions.add(() -> { }, releasedReservations::incrementAndGet);
+            throw new CannotAcquireLockException("Deadlock found when trying to get lock");
+        });
+        OrderProcessResult individualResult = new OrderProcessResult(null, List.of(), Map.of());
+        when(orderTransactionService.executeOrderLogic(eq(1L), any())).thenReturn(individualResult);
+
+        OrderGroupCommitProperties properties = new OrderGroupCommitProperties();
+        properties.setWorkerCount(1);
+        properties.setResultTimeoutMs(10000);
+        OrderGroupCommitExecutor executor = new OrderGroupCommitExecutor(orderTransactionService,
+                mock(CartRepository.class), properties, transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(executor, "entityManager", mock(EntityManager.class));
+        executor.start();
+
+        // when
+        OrderProcessResult result;
+        try {
+            result = executor.execute(1L, new CreateOrderRequest(null));
+        } finally {
+            executor.stop();
+        }
+
+        // then
+        assertThat(result).isSameAs(individualResult);
+        assertThat(reservations.get()).isEqualTo(1);
+        assertThat(releasedReservations.get()).isEqualTo(1);
+        verify(orderTransactionService, times(1)).executeOrderLogic(eq(1L), any());
+        verify(transactionManager).rollback(status);
+    }
+}
@@ -2,6 +2,7 @@ package org.hhplus.hhecommerce.application.order;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.OptimisticLockException;
 import org.hhplus.hhecommerce.api.dto.order.CreateOrderRequest;
 import org.hhplus.hhecommerce.domain.cart.Cart;
@@ -19,14 +20,19 @@ import org.hhplus.hhecommerce.domain.point.Point;
 import org.hhplus.hhecommerce.domain.point.PointRepository;
 import org.hhplus.hhecommerce.domain.point.exception.PointErrorCode;
 import org.hhplus.hhecommerce.domain.point.exception.PointException;
+import org.hhplus.hhecommerce.domain.product.InventoryReservationManager;
 import org.hhplus.hhecommerce.domain.product.Product;
 import org.hhplus.hhecommerce.domain.product.ProductOption;
 import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
 import org.hhplus.hhecommerce.domain.product.ProductRepository;
+import org.hhplus.hhecommerce.domain.product.StockReservationResult;
 import org.hhplus.hhecommerce.domain.product.exception.ProductErrorCode;
 import org.hhplus.hhecommerce.domain.product.exception.ProductException;
 import org.hhplus.hhecommerce.domain.user.User;
 import org.hhplus.hhecommerce.domain.user.UserRepository;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponCatalog;
+import org.hhplus.hhecommerce.infrastructure.cache.UserCouponWalletCache;
+import org.hhplus.hhecommerce.infrastructure.monitoring.OrderPhaseMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,11 +40,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -46,6 +54,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -74,7 +84,10 @@ class OrderTransactionServiceTest {
     private ProductRepository productRepository;
 
     @Mock
-    private CouponRepository couponRepository;
+    private CouponCatalog couponCatalog;
+
+    @Mock
+    private UserCouponWalletCache userCouponWalletCache;
 
     @Mock
     private OutboxEventRepository outboxEventRepository;
@@ -82,6 +95,12 @@ class OrderTransactionServiceTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private InventoryReservationManager inventoryReservationManager;
+
+    @Spy
+    private OrderPhaseMetrics orderPhaseMetrics = new OrderPhaseMetrics(new SimpleMeterRegistry(), 500);
+
     @InjectMocks
     private OrderTransactionService orderTransactionService;
 
@@ -120,9 +139,9 @@ class OrderTransactionServiceTest {
 
             when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
             when(cartRepository.findByUserId(userId)).thenReturn(List.of(testCart));
-            when(productOptionRepository.findById(testCart.getProductOptionId()))
-                    .thenReturn(Optional.of(testProductOption));
-            when(productOptionRepository.decreaseStock(anyLong(), anyInt())).thenReturn(1);
+            when(productOptionRepository.findAllById(any()))
+                    .thenReturn(List.of(testProductOption));
+            when(inventoryReservationManager.reserve(anyString(), anyMap())).thenReturn(StockReservationResult.SUCCESS);
             when(productRepository.findAllById(any())).thenReturn(List.of(testProduct));
             when(pointRepository.findByUserId(userId)).thenReturn(Optional.of(new Point(userId)));
             when(pointRepository.deductPoint(eq(userId), anyInt())).thenReturn(1);
@@ -143,6 +162,68 @@ class OrderTransactionServiceTest {
             verify(outboxEventRepository, atLeast(2)).save(any(OutboxEvent.class));
         }
 
+        @Test
+        @DisplayName("여러 라인의 재고를 한 번의 조회와 한 번의 차감으로 처리한다")
+        void shouldDeductAllLinesInSingleStatement() {
+            // given
+            Long userId = 1L;
+            CreateOrderRequest request = new CreateOrderRequest(null);
+
+            ProductOption secondOption = new ProductOption(1L, "옵션명", "옵션B", 5000, 100);
+            secondOption.setId(2L);
+            Cart secondCart = new Cart(1L, 2L, 3);
+            secondCart.setId(2L);
+
+            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+            when(cartRepository.findByUserId(userId)).thenReturn(List.of(secondCart, testCart));
+            when(productOptionRepository.findAllById(any()))
+                    .thenReturn(List.of(testProductOption, secondOption));
+            when(inventoryReservationManager.reserve(anyString(), anyMap())).thenReturn(StockReservationResult.SUCCESS);
+            when(productRepository.findAllById(any())).thenReturn(List.of(testProduct));
+            when(pointRepository.findByUserId(userId)).thenReturn(Optional.of(new Point(userId)));
+            when(pointRepository.deductPoint(eq(userId), anyInt())).thenReturn(1);
+            when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+                Order order = invocation.getArgument(0);
+                order.setId(1L);
+                return order;
+            });
+
+            // when
+            OrderProcessResult result = orderTransactionService.executeOrderLogic(userId, request);
+
+            // then
+            assertThat(result.orderItems()).hasSize(2);
+            assertThat(result.order().getTotalAmount()).isEqualTo(10000 * 2 + 5000 * 3);
+            verify(inventoryReservationManager).reserve(anyString(), eq(Map.of(1L, 2, 2L, 3)));
+            verify(inventoryReservationManager).confirm(anyString());
+            verify(productOptionRepository, never()).findById(anyLong());
+        }
+
+        @Test
+        @DisplayName("한 라인이라도 재고가 부족하면 주문 전체가 실패한다")
+        void shouldFailWholeOrderWhenAnyLineIsShort() {
+            // given
+            Long userId = 1L;
+            CreateOrderRequest request = new CreateOrderRequest(null);
+
+            ProductOption secondOption = new ProductOption(1L, "옵션명", "옵션B", 5000, 1);
+            secondOption.setId(2L);
+            Cart secondCart = new Cart(1L, 2L, 3);
+            secondCart.setId(2L);
+
+            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+            when(cartRepository.findByUserId(userId)).thenReturn(List.of(testCart, secondCart));
+            when(productOptionRepository.findAllById(any()))
+                    .thenReturn(List.of(testProductOption, secondOption));
+            when(inventoryReservationManager.reserve(anyString(), anyMap())).thenReturn(StockReservationResult.INSUFFICIENT_STOCK);
+
+            // when & then
+            assertThatThrownBy(() -> orderTransactionService.executeOrderLogic(userId, request))
+                    .isInstanceOf(ProductException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ProductErrorCode.INSUFFICIENT_STOCK);
+            verify(orderRepository, never()).save(any(Order.class));
+        }
+
         @Test
         @DisplayName("존재하지 않는 사용자로 주문 시 예외가 발생한다")
         void shouldThrowExceptionWhenUserNotFound() {
@@ -183,9 +264,9 @@ class OrderTransactionServiceTest {
 
             when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
             when(cartRepository.findByUserId(userId)).thenReturn(List.of(testCart));
-            when(productOptionRepository.findById(testCart.getProductOptionId()))
-                    .thenReturn(Optional.of(testProductOption));
-            when(productOptionRepository.decreaseStock(anyLong(), anyInt())).thenReturn(0);
+            when(productOptionRepository.findAllById(any()))
+                    .thenReturn(List.of(testProductOption));
+            when(inventoryReservationManager.reserve(anyString(), anyMap())).thenReturn(StockReservationResult.INSUFFICIENT_STOCK);
 
             // when & then
             assertThatThrownBy(() -> orderTransactionService.executeOrderLogic(userId, request))
@@ -193,6 +274,27 @@ class OrderTransactionServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", ProductErrorCode.INSUFFICIENT_STOCK);
         }
 
+        @Test
+        @DisplayName("재고 예약 저장소 장애 시 재시도 가능한 예외가 발생하고 주문은 저장되지 않는다")
+        void shouldThrowExceptionWhenReservationFails() {
+            // given
+            Long userId = 1L;
+            CreateOrderRequest request = new CreateOrderRequest(null);
+
+            when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
+            when(cartRepository.findByUserId(userId)).thenReturn(List.of(testCart));
+            when(productOptionRepository.findAllById(any()))
+                    .thenReturn(List.of(testProductOption));
+            when(inventoryReservationManager.reserve(anyString(), anyMap())).thenReturn(StockReservationResult.RESERVE_FAILED);
+
+            // when & then
+            assertThatThrownBy(() -> orderTransactionService.executeOrderLogic(userId, request))
+                    .isInstanceOf(ProductException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ProductErrorCode.STOCK_RESERVATION_FAILED);
+            verify(orderRepository, never()).save(any(Order.class));
+            verify(inventoryReservationManager, never()).confirm(anyString());
+        }
+
         @Test
         @DisplayName("상품 옵션이 존재하지 않으면 예외가 발생한다")
         void shouldThrowExceptionWhenProductOptionNotFound() {
@@ -202,8 +304,8 @@ class OrderTransactionServiceTest {
 
             when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
             when(cartRepository.findByUserId(userId)).thenReturn(List.of(testCart));
-            when(productOptionRepository.findById(testCart.getProductOptionId()))
-                    .thenReturn(Optional.empty());
+            when(productOptionRepository.findAllById(any()))
+                    .thenReturn(Collections.emptyList());
 
             // when & then
             assertThatThrownBy(() -> orderTransactionService.executeOrderLogic(userId, request))
@@ -220,9 +322,9 @@ class OrderTransactionServiceTest {
 
             when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
             when(cartRepository.findByUserId(userId)).thenReturn(List.of(testCart));
-            when(productOptionRepository.findById(testCart.getProductOptionId()))
-                    .thenReturn(Optional.of(testProductOption));
-            when(productOptionRepository.decreaseStock(anyLong(), anyInt())).thenReturn(1);
+            when(productOptionRepository.findAllById(any()))
+                    .thenReturn(List.of(testProductOption));
+            when(inventoryReservationManager.reserve(anyString(), anyMap())).thenReturn(StockReservationResult.SUCCESS);
             when(productRepository.findAllById(any())).thenReturn(List.of(testProduct));
             when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
                 Order order = invocation.getArgument(0);
@@ -261,12 +363,12 @@ class OrderTransactionServiceTest {
 
             when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
             when(cartRepository.findByUserId(userId)).thenReturn(List.of(testCart));
-            when(productOptionRepository.findById(testCart.getProductOptionId()))
-                    .thenReturn(Optional.of(testProductOption));
-            when(productOptionRepository.decreaseStock(anyLong(), anyInt())).thenReturn(1);
+            when(productOptionRepository.findAllById(any()))
+                    .thenReturn(List.of(testProductOption));
+            when(inventoryReservationManager.reserve(anyString(), anyMap())).thenReturn(StockReservationResult.SUCCESS);
             when(productRepository.findAllById(any())).thenReturn(List.of(testProduct));
             when(userCouponRepository.findById(userCouponId)).thenReturn(Optional.of(userCoupon));
-            when(couponRepository.findById(coupon.getId())).thenReturn(Optional.of(coupon));
+            when(couponCatalog.find(coupon.getId())).thenReturn(Optional.of(CouponDefinition.from(coupon)));
             when(userCouponRepository.useCoupon(userCouponId)).thenReturn(1);
             when(pointRepository.findByUserId(userId)).thenReturn(Optional.of(new Point(userId)));
             when(pointRepository.deductPoint(eq(userId), anyInt())).thenReturn(1);
@@ -295,9 +397,9 @@ class OrderTransactionServiceTest {
 
             when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
             when(cartRepository.findByUserId(userId)).thenReturn(List.of(testCart));
-            when(productOptionRepository.findById(testCart.getProductOptionId()))
-                    .thenReturn(Optional.of(testProductOption));
-            when(productOptionRepository.decreaseStock(anyLong(), anyInt())).thenReturn(1);
+            when(productOptionRepository.findAllById(any()))
+                    .thenReturn(List.of(testProductOption));
+            when(inventoryReservationManager.reserve(anyString(), anyMap())).thenReturn(StockReservationResult.SUCCESS);
             when(productRepository.findAllById(any())).thenReturn(List.of(testProduct));
             when(userCouponRepository.findById(userCouponId)).thenReturn(Optional.empty());
 
@@ -323,9 +425,9 @@ class OrderTransactionServiceTest {
 
             when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
             when(cartRepository.findByUserId(userId)).thenReturn(List.of(testCart));
-            when(productOptionRepository.findById(testCart.getProductOptionId()))
-                    .thenReturn(Optional.of(testProductOption));
-            when(productOptionRepository.decreaseStock(anyLong(), anyInt())).thenReturn(1);
+            when(productOptionRepository.findAllById(any()))
+                    .thenReturn(List.of(testProductOption));
+            when(inventoryReservationManager.reserve(anyString(), anyMap())).thenReturn(StockReservationResult.SUCCESS);
             when(productRepository.findAllById(any())).thenReturn(List.of(testProduct));
             when(userCouponRepository.findById(userCouponId)).thenReturn(Optional.of(userCoupon));
 
@@ -353,12 +455,12 @@ class OrderTransactionServiceTest {
 
             when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
             when(cartRepository.findByUserId(userId)).thenReturn(List.of(testCart));
-            when(productOptionRepository.findById(testCart.getProductOptionId()))
-                    .thenReturn(Optional.of(testProductOption));
-            when(productOptionRepository.decreaseStock(anyLong(), anyInt())).thenReturn(1);
+            when(productOptionRepository.findAllById(any()))
+                    .thenReturn(List.of(testProductOption));
+            when(inventoryReservationManager.reserve(anyString(), anyMap())).thenReturn(StockReservationResult.SUCCESS);
             when(productRepository.findAllById(any())).thenReturn(List.of(testProduct));
             when(userCouponRepository.findById(userCouponId)).thenReturn(Optional.of(userCoupon));
-            when(couponRepository.findById(coupon.getId())).thenReturn(Optional.of(coupon));
+            when(couponCatalog.find(coupon.getId())).thenReturn(Optional.of(CouponDefinition.from(coupon)));
 
             // when & then
             assertThatThrownBy(() -> orderTransactionService.executeOrderLogic(userId, request))
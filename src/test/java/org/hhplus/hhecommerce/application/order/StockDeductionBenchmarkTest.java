@@ -0,0 +1,188 @@
+package org.hhplus.hhecommerce.application.order;
+
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.product.Product;
+import org.hhplus.hhecommerce.domain.product.ProductOption;
+import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
+import org.hhplus.hhecommerce.domain.product.ProductRepository;
+import org.hhplus.hhecommerce.domain.product.exception.ProductErrorCode;
+import org.hhplus.hhecommerce.domain.product.exception.ProductException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다중 라인 주문의 재고 차감 방식별 경합 벤치마크.
+ *
+ * <p>동일한 핫 옵션 풀을 공유하는 주문을 동시에 실행하면서
+ * 라인별 조회 + 차감 루프(기존 방식)와 일괄 조회 + 단일 조건부 UPDATE(집합 기반)를 비교합니다.
+ * 각 주문은 옵션을 무작위 순서로 담고 있어 라인별 루프에서는 락 순서 역전이 발생할 수 있습니다.</p>
+ *
+ * <p>기본 {@code test}에서는 제외됩니다. {@code ./gradlew benchmark --tests '*StockDeductionBenchmarkTest'}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+class StockDeductionBenchmarkTest extends TestContainersConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(StockDeductionBenchmarkTest.class);
+
+    private static final int HOT_OPTION_COUNT = 20;
+    private static final int THREAD_COUNT = 16;
+    private static final int ORDER_COUNT = 200;
+    private static final int INITIAL_STOCK = 1_000_000;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductOptionRepository productOptionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<Long> hotOptionIds;
+
+    @BeforeEach
+    void setUp() {
+        productOptionRepository.deleteAll();
+        productRepository.deleteAll();
+
+        Product product = productRepository.save(new Product("벤치마크 상품", "설명", "테스트"));
+
+        hotOptionIds = new ArrayList<>();
+        for (int i = 0; i < HOT_OPTION_COUNT; i++) {
+            ProductOption option = productOptionRepository.save(
+                    new ProductOption(product.getId(), "옵션", "값" + i, 1000, INITIAL_STOCK));
+            hotOptionIds.add(option.getId());
+        }
+    }
+
+    @ParameterizedTest(name = "주문당 {0}개 라인")
+    @ValueSource(ints = {1, 5, 20})
+    @DisplayName("집합 기반 차감과 라인별 차감 루프의 처리량을 비교한다")
+    void compareSetBasedWithPerLineLoop(int linesPerOrder) throws InterruptedException {
+        BenchmarkResult perLine = run(linesPerOrder, this::deductPerLine);
+        long perLineDeducted = totalDeducted();
+
+        BenchmarkResult setBased = run(linesPerOrder, this::deductSetBased);
+        long setBasedDeducted = totalDeducted() - perLineDeducted;
+
+        log.info(String.format("[StockDeductionBenchmark] lines=%d per-line: %.1f orders/s (success=%d, lockFailures=%d) | " +
+                        "set-based: %.1f orders/s (success=%d, lockFailures=%d)",
+                linesPerOrder,
+                perLine.throughput(), perLine.success(), perLine.lockFailures(),
+                setBased.throughput(), setBased.success(), setBased.lockFailures()));
+
+        assertThat(perLineDeducted).isEqualTo((long) perLine.success() * linesPerOrder);
+        assertThat(setBasedDeducted).isEqualTo((long) setBased.success() * linesPerOrder);
+        assertThat(setBased.lockFailures()).isZero();
+        assertThat(setBased.success()).isEqualTo(ORDER_COUNT);
+    }
+
+    private BenchmarkResult run(int linesPerOrder, Consumer<List<Long>> deduction) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(ORDER_COUNT);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger lockFailureCount = new AtomicInteger(0);
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            List<Long> lines = pickLines(linesPerOrder);
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    transactionTemplate.executeWithoutResult(status -> deduction.accept(lines));
+                    successCount.incrementAndGet();
+                } catch (PessimisticLockingFailureException e) {
+                    lockFailureCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    // 재고 부족 등은 벤치마크 대상이 아니므로 무시
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        doneLatch.await(5, TimeUnit.MINUTES);
+        long elapsedNanos = System.nanoTime() - startTime;
+        executorService.shutdown();
+
+        return new BenchmarkResult(successCount.get(), lockFailureCount.get(), elapsedNanos);
+    }
+
+    private List<Long> pickLines(int linesPerOrder) {
+        List<Long> shuffled = new ArrayList<>(hotOptionIds);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+        return shuffled.subList(0, linesPerOrder);
+    }
+
+    /**
+     * 기존 OrderTransactionService의 라인별 루프: 장바구니 순서대로 조회 후 차감.
+     */
+    private void deductPerLine(List<Long> optionIds) {
+        for (Long optionId : optionIds) {
+            ProductOption option = productOptionRepository.findById(optionId)
+                    .orElseThrow(() -> new ProductException(ProductErrorCode.PRODUCT_OPTION_NOT_FOUND));
+            int updatedRows = productOptionRepository.decreaseStock(option.getId(), 1);
+            if (updatedRows == 0) {
+                throw new ProductException(ProductErrorCode.INSUFFICIENT_STOCK);
+            }
+        }
+    }
+
+    /**
+     * 집합 기반 차감: 한 번의 IN 조회 + 옵션 ID 순서의 단일 조건부 UPDATE.
+     */
+    private void deductSetBased(List<Long> optionIds) {
+        Map<Long, Integer> quantityByOptionId = new HashMap<>();
+        optionIds.forEach(optionId -> quantityByOptionId.merge(optionId, 1, Integer::sum));
+
+        List<ProductOption> options = productOptionRepository.findAllById(quantityByOptionId.keySet());
+        if (options.size() != quantityByOptionId.size()) {
+            throw new ProductException(ProductErrorCode.PRODUCT_OPTION_NOT_FOUND);
+        }
+
+        int updatedRows = productOptionRepository.decreaseStocks(quantityByOptionId);
+        if (updatedRows != quantityByOptionId.size()) {
+            throw new ProductException(ProductErrorCode.INSUFFICIENT_STOCK);
+        }
+    }
+
+    private long totalDeducted() {
+        return productOptionRepository.findAllById(hotOptionIds).stream()
+                .mapToLong(option -> INITIAL_STOCK - option.getStock())
+                .sum();
+    }
+
+    private record BenchmarkResult(int success, int lockFailures, long elapsedNanos) {
+        double throughput() {
+            return success / (elapsedNanos / 1_000_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.hhplus.hhecommerce.application.order;
+
+import org.hhplus.hhecommerce.api.dto.order.CreateOrderRequest;
+import org.hhplus.hhecommerce.application.product.ConfigureStockStripingUseCase;
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.cart.Cart;
+import org.hhplus.hhecommerce.domain.cart.CartRepository;
+import org.hhplus.hhecommerce.domain.point.Point;
+import org.hhplus.hhecommerce.domain.point.PointRepository;
+import org.hhplus.hhecommerce.domain.product.Product;
+import org.hhplus.hhecommerce.domain.product.ProductOption;
+import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
+import org.hhplus.hhecommerce.domain.product.ProductOptionStockStripeRepository;
+import org.hhplus.hhecommerce.domain.product.ProductRepository;
+import org.hhplus.hhecommerce.domain.user.User;
+import org.hhplus.hhecommerce.domain.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단일 핫 옵션에 대한 동시 주문 처리량을 단일 행 재고와 스트라이프 재고로 비교합니다.
+ *
+ * <p>{@code CreateOrderUseCaseConcurrencyTest}와 같이 서로 다른 사용자가 같은 옵션을 동시에 주문하며,
+ * 재고보다 많은 주문을 보내 스트라이프가 바닥나는 구간(재분배 경로)까지 포함합니다.</p>
+ *
+ * <p>기본 {@code test}에서는 제외됩니다. {@code ./gradlew benchmark --tests '*StripedStockBenchmarkTest'}로 실행합니다.</p>
+ */
+@Tag("benchmark")
+class StripedStockBenchmarkTest extends TestContainersConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(StripedStockBenchmarkTest.class);
+
+    private static final int USER_COUNT = 200;
+    private static final int THREAD_COUNT = 32;
+    private static final int INITIAL_STOCK = 150;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ConfigureStockStripingUseCase configureStockStripingUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductOptionRepository productOptionRepository;
+
+    @Autowired
+    private ProductOptionStockStripeRepository stripeRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    private ProductOption hotOption;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        cartRepository.deleteAll();
+        stripeRepository.deleteAll();
+        productOptionRepository.deleteAll();
+        productRepository.deleteAll();
+        pointRepository.deleteAll();
+        userRepository.deleteAll();
+
+        Product product = productRepository.save(new Product("한정판 상품", "설명", "테스트"));
+        hotOption = productOptionRepository.save(
+                new ProductOption(product.getId(), "기본 옵션", "일반", 1000, INITIAL_STOCK));
+
+        users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = userRepository.save(new User("사용자" + i, "stripe" + i + "@example.com"));
+            pointRepository.save(new Point(null, user.getId(), 100000));
+            cartRepository.save(new Cart(user.getId(), hotOption.getId(), 1));
+            users.add(user);
+        }
+    }
+
+    @ParameterizedTest(name = "스트라이프 수 {0} (0 = 단일 행)")
+    @ValueSource(ints = {0, 4, 16})
+    @DisplayName("스트라이프 재고는 총 재고를 정확히 유지하면서 단일 행 경합을 분산한다")
+    void compareStripedWithSingleRow(int stripeCount) throws InterruptedException {
+        // given
+        if (stripeCount > 0) {
+            configureStockStripingUseCase.enable(hotOption.getId(), stripeCount);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(USER_COUNT);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when
+        for (User user : users) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    createOrderUseCase.execute(user.getId(), new CreateOrderRequest(null));
+                    successCount.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    // 재고 소진 이후 주문은 실패가 정상
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        long startTime = System.nanoTime();
+        startLatch.countDown();
+        doneLatch.await(5, TimeUnit.MINUTES);
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0;
+        executorService.shutdown();
+
+        log.info(String.format("[StripedStockBenchmark] stripes=%d: %.1f orders/s (success=%d, elapsed=%.2fs)",
+                stripeCount, successCount.get() / elapsedSeconds, successCount.get(), elapsedSeconds));
+
+        // then
+        int remainingStock = productOptionRepository.findByIdWithStock(hotOption.getId()).orElseThrow().getStock();
+        assertThat(successCount.get()).isPositive();
+        assertThat(successCount.get() + remainingStock).isEqualTo(INITIAL_STOCK);
+    }
+}
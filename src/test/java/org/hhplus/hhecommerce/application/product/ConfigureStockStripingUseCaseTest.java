@@ -0,0 +1,135 @@
+package org.hhplus.hhecommerce.application.product;
+
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.product.InventoryReservationManager;
+import org.hhplus.hhecommerce.domain.product.Product;
+import org.hhplus.hhecommerce.domain.product.ProductOption;
+import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
+import org.hhplus.hhecommerce.domain.product.ProductOptionStockStripe;
+import org.hhplus.hhecommerce.domain.product.ProductOptionStockStripeRepository;
+import org.hhplus.hhecommerce.domain.product.ProductRepository;
+import org.hhplus.hhecommerce.domain.product.StockReservationResult;
+import org.hhplus.hhecommerce.domain.product.exception.ProductErrorCode;
+import org.hhplus.hhecommerce.domain.product.exception.ProductException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConfigureStockStripingUseCaseTest extends TestContainersConfig {
+
+    @Autowired
+    private ConfigureStockStripingUseCase configureStockStripingUseCase;
+
+    @Autowired
+    private InventoryReservationManager inventoryReservationManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductOptionRepository productOptionRepository;
+
+    @Autowired
+    private ProductOptionStockStripeRepository stripeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private ProductOption option;
+
+    @BeforeEach
+    void setUp() {
+        stripeRepository.deleteAll();
+        productOptionRepository.deleteAll();
+        productRepository.deleteAll();
+
+        Product product = productRepository.save(new Product("핫딜 상품", "설명", "테스트"));
+        option = productOptionRepository.save(new ProductOption(product.getId(), "색상", "블랙", 10000, 10));
+    }
+
+    @Test
+    @DisplayName("스트라이프 모드를 켜면 재고가 스트라이프에 고르게 나뉘고 조회 시 합계가 반환된다")
+    void 스트라이프_활성화() {
+        // when
+        configureStockStripingUseCase.enable(option.getId(), 4);
+
+        // then
+        assertThat(stripeRepository.findByProductOptionIdOrderByStripeNo(option.getId()))
+                .extracting(ProductOptionStockStripe::getStock)
+                .containsExactly(3, 3, 2, 2);
+        ProductOption reloaded = productOptionRepository.findByIdWithStock(option.getId()).orElseThrow();
+        assertThat(reloaded.isStockStriped()).isTrue();
+        assertThat(reloaded.getStock()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("스트라이프 수가 2 미만이면 예외가 발생한다")
+    void 잘못된_스트라이프_수() {
+        assertThatThrownBy(() -> configureStockStripingUseCase.enable(option.getId(), 1))
+                .isInstanceOf(ProductException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ProductErrorCode.INVALID_STOCK_STRIPE_COUNT);
+    }
+
+    @Test
+    @DisplayName("스트라이프가 바닥나도 다른 스트라이프에서 차감해 전체 재고를 정확히 소진한다")
+    void 스트라이프_소진_후_재분배() {
+        // given
+        configureStockStripingUseCase.enable(option.getId(), 4);
+
+        // when - 1개씩 10번 주문하면 일부 스트라이프가 먼저 바닥난다
+        for (int i = 0; i < 10; i++) {
+            assertThat(reserve(1)).isEqualTo(StockReservationResult.SUCCESS);
+        }
+        StockReservationResult soldOut = reserve(1);
+
+        // then
+        assertThat(soldOut).isEqualTo(StockReservationResult.INSUFFICIENT_STOCK);
+        assertThat(productOptionRepository.findByIdWithStock(option.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 스트라이프보다 많은 수량도 전체 합계가 충분하면 차감된다")
+    void 스트라이프_합산_차감() {
+        // given
+        configureStockStripingUseCase.enable(option.getId(), 4);
+
+        // when
+        StockReservationResult result = reserve(7);
+
+        // then
+        assertThat(result).isEqualTo(StockReservationResult.SUCCESS);
+        assertThat(stripeRepository.findByProductOptionIdOrderByStripeNo(option.getId()))
+                .extracting(ProductOptionStockStripe::getStock)
+                .containsExactly(1, 1, 1, 0);
+    }
+
+    @Test
+    @DisplayName("스트라이프 모드를 끄면 남은 재고가 옵션 행으로 합쳐진다")
+    void 스트라이프_비활성화() {
+        // given
+        configureStockStripingUseCase.enable(option.getId(), 4);
+        reserve(3);
+
+        // when
+        configureStockStripingUseCase.disable(option.getId());
+
+        // then
+        ProductOption reloaded = productOptionRepository.findByIdWithStock(option.getId()).orElseThrow();
+        assertThat(reloaded.isStockStriped()).isFalse();
+        assertThat(reloaded.getStock()).isEqualTo(7);
+        assertThat(stripeRepository.findByProductOptionIdOrderByStripeNo(option.getId())).isEmpty();
+    }
+
+    private StockReservationResult reserve(int quantity) {
+        return transactionTemplate.execute(status -> inventoryReservationManager.reserve(
+                UUID.randomUUID().toString(), Map.of(option.getId(), quantity)));
+    }
+}
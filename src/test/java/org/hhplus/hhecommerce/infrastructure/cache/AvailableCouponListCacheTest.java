@@ -0,0 +1,66 @@
+package org.hhplus.hhecommerce.infrastructure.cache;
+
+import org.hhplus.hhecommerce.api.dto.coupon.CouponListResponse;
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponType;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailableCouponListCacheTest extends TestContainersConfig {
+
+    @Autowired
+    private AvailableCouponListCache availableCouponListCache;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        userCouponRepository.deleteAll();
+        couponRepository.deleteAll();
+        cacheManager.getCache("coupons:available").clear();
+    }
+
+    @Test
+    @DisplayName("발급 기간(LocalDateTime)이 있는 쿠폰 목록을 Redis 캐시에 저장하고 그대로 다시 읽는다")
+    void 쿠폰_목록을_캐시에서_다시_읽는다() {
+        // given
+        LocalDateTime startAt = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime endAt = startAt.plusDays(30);
+        Coupon coupon = couponRepository.save(new Coupon("캐시 쿠폰", CouponType.AMOUNT, 5000, null, 10000,
+                100, startAt, endAt));
+        CouponListResponse loaded = availableCouponListCache.findAll();
+
+        // 캐시 적재 이후 추가된 쿠폰은 캐시에서 읽으면 보이지 않아야 한다
+        couponRepository.save(new Coupon("나중 쿠폰", CouponType.AMOUNT, 5000, null, 10000,
+                100, startAt, endAt));
+
+        // when
+        CouponListResponse cached = availableCouponListCache.findAll();
+
+        // then
+        assertThat(cached).isEqualTo(loaded);
+        assertThat(cached.coupons()).singleElement().satisfies(info -> {
+            assertThat(info.id()).isEqualTo(coupon.getId());
+            assertThat(info.startAt()).isEqualTo(startAt);
+            assertThat(info.endAt()).isEqualTo(endAt);
+        });
+    }
+}
@@ -0,0 +1,161 @@
+package org.hhplus.hhecommerce.infrastructure.cache;
+
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponDefinition;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponCatalogTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private CouponCatalog couponCatalog;
+
+    @BeforeEach
+    void setUp() {
+        couponCatalog = new CouponCatalog(couponRepository, redisTemplate, listenerContainer);
+    }
+
+    @Test
+    @DisplayName("전체 적재 후에는 DB를 조회하지 않고 스냅샷에서 쿠폰 정의를 읽는다")
+    void 스냅샷에서_조회한다() {
+        // given
+        when(couponRepository.findAll()).thenReturn(List.of(coupon(1L), coupon(2L)));
+        couponCatalog.refresh();
+
+        // when
+        Optional<CouponDefinition> found = couponCatalog.find(1L);
+        Map<Long, CouponDefinition> all = couponCatalog.findAll(List.of(1L, 2L));
+
+        // then
+        assertThat(found).map(CouponDefinition::name).contains("쿠폰 1");
+        assertThat(all).containsOnlyKeys(1L, 2L);
+        verify(couponRepository, never()).findById(any());
+        verify(couponRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 쿠폰만 한 번의 쿼리로 읽어 스냅샷에 추가한다")
+    void 없는_쿠폰만_읽는다() {
+        // given
+        when(couponRepository.findAll()).thenReturn(List.of(coupon(1L)));
+        couponCatalog.refresh();
+        when(couponRepository.findAllById(Set.of(2L))).thenReturn(List.of(coupon(2L)));
+
+        // when
+        Map<Long, CouponDefinition> all = couponCatalog.findAll(List.of(1L, 2L));
+
+        // then
+        assertThat(all).containsOnlyKeys(1L, 2L);
+        assertThat(couponCatalog.find(2L)).isPresent();
+        verify(couponRepository, times(1)).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("두 번째 갱신부터는 updated_at 기준으로 바뀐 쿠폰만 읽는다")
+    void 증분_갱신() {
+        // given
+        when(couponRepository.findAll()).thenReturn(List.of(coupon(1L)));
+        couponCatalog.refresh();
+        when(couponRepository.findUpdatedSince(any(LocalDateTime.class))).thenReturn(List.of(coupon(3L)));
+
+        // when
+        couponCatalog.refresh();
+
+        // then
+        verify(couponRepository, times(1)).findAll();
+        assertThat(couponCatalog.findAll(List.of(1L, 3L))).containsOnlyKeys(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("무효화 메시지를 받으면 해당 쿠폰을 버리고 다음 조회 때 DB에서 다시 읽는다")
+    void 무효화_메시지() {
+        // given
+        when(couponRepository.findAll()).thenReturn(List.of(coupon(1L)));
+        couponCatalog.refresh();
+        when(couponRepository.findById(1L)).thenReturn(Optional.of(coupon(1L)));
+
+        // when
+        couponCatalog.onMessage(new DefaultMessage(
+                CouponCatalog.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(couponCatalog.find(1L)).isPresent();
+        verify(couponRepository).findById(1L);
+    }
+
+    @Test
+    @DisplayName("DB에서 읽는 동안 무효화된 쿠폰은 읽은 정의를 스냅샷에 넣지 않는다")
+    void 읽는_중_무효화되면_스냅샷에_넣지_않는다() {
+        // given - 조회가 DB를 읽는 사이에 무효화 메시지가 도착
+        when(couponRepository.findById(1L)).thenAnswer(invocation -> {
+            couponCatalog.onMessage(new DefaultMessage(
+                    CouponCatalog.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                    "1".getBytes(StandardCharsets.UTF_8)), null);
+            return Optional.of(coupon(1L));
+        });
+
+        // when
+        Optional<CouponDefinition> first = couponCatalog.find(1L);
+        Optional<CouponDefinition> second = couponCatalog.find(1L);
+
+        // then - 호출자는 읽은 값을 받지만, 다음 조회는 다시 DB에서 읽는다
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        verify(couponRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("무효화 이후에 시작한 조회의 정의는 다시 스냅샷에 넣는다")
+    void 무효화_이후_조회는_스냅샷에_넣는다() {
+        // given
+        couponCatalog.onMessage(new DefaultMessage(
+                CouponCatalog.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)), null);
+        when(couponRepository.findById(1L)).thenReturn(Optional.of(coupon(1L)));
+
+        // when
+        couponCatalog.find(1L);
+        couponCatalog.find(1L);
+
+        // then
+        verify(couponRepository, times(1)).findById(1L);
+    }
+
+    private Coupon coupon(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        Coupon coupon = new Coupon("쿠폰 " + id, CouponType.AMOUNT, 5000, null, 10000, 100,
+                now.minusDays(1), now.plusDays(30));
+        coupon.setId(id);
+        return coupon;
+    }
+}
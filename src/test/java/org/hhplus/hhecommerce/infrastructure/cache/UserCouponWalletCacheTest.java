@@ -0,0 +1,64 @@
+package org.hhplus.hhecommerce.infrastructure.cache;
+
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponWallet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserCouponWalletCacheTest extends TestContainersConfig {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private UserCouponWalletCache userCouponWalletCache;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final UserCouponWallet wallet = UserCouponWallet.of(List.of(), Map.of());
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = redisTemplate.keys("coupon:wallet*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("DB를 읽는 동안 지갑이 지워지지 않았으면 재적재한 지갑을 기록한다")
+    void 세대가_그대로면_기록한다() {
+        // given
+        long generation = userCouponWalletCache.generation(USER_ID);
+
+        // when
+        userCouponWalletCache.save(USER_ID, wallet, generation);
+
+        // then
+        assertThat(userCouponWalletCache.find(USER_ID)).isPresent();
+    }
+
+    @Test
+    @DisplayName("DB를 읽는 동안 발급/사용으로 지갑이 지워졌으면 읽은 지갑을 기록하지 않는다")
+    void 그_사이_지워졌으면_기록하지_않는다() {
+        // given
+        long generation = userCouponWalletCache.generation(USER_ID);
+        userCouponWalletCache.evictAfterCommit(USER_ID);
+
+        // when
+        userCouponWalletCache.save(USER_ID, wallet, generation);
+
+        // then
+        assertThat(userCouponWalletCache.find(USER_ID)).isEmpty();
+        assertThat(userCouponWalletCache.generation(USER_ID)).isEqualTo(generation + 1);
+    }
+}
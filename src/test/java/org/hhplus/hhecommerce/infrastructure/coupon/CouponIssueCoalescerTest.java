@@ -0,0 +1,143 @@
+package org.hhplus.hhecommerce.infrastructure.coupon;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResult;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "coupon.issue.strategy=redis",
+        "coupon.issue.coalescing.enabled=true",
+        "coupon.issue.coalescing.window-micros=500",
+        "coupon.issue.coalescing.max-batch-size=16",
+        "coupon.issue.coalescing.max-batches-per-leader=2"
+})
+class CouponIssueCoalescerTest extends TestContainersConfig {
+
+    @Autowired
+    private CouponIssueCoalescer couponIssueCoalescer;
+
+    @Autowired
+    private RedisCouponIssueManager redisCouponIssueManager;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Coupon testCoupon;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = redisTemplate.keys("coupon:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        testCoupon = couponRepository.save(new Coupon(
+                "합치기 테스트 쿠폰", CouponType.AMOUNT, 5000, null, 10000, 100,
+                now.minusDays(1), now.plusDays(30)));
+    }
+
+    @Test
+    @DisplayName("동시 요청을 배치로 묶어 처리해도 정확히 재고만큼만 발급되고, 리더가 바뀌어도 남는 요청이 없다")
+    void 동시_요청_배치_처리() throws InterruptedException {
+        // given
+        int totalQuantity = 100;
+        int totalUsers = 300;
+        redisCouponIssueManager.initializeStock(testCoupon.getId(), totalQuantity);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(64);
+        CountDownLatch latch = new CountDownLatch(totalUsers);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger outOfStockCount = new AtomicInteger();
+
+        // when
+        for (int i = 1; i <= totalUsers; i++) {
+            final long userId = i;
+            executorService.submit(() -> {
+                try {
+                    CouponIssueResult result = couponIssueCoalescer.tryIssue(testCoupon.getId(), userId);
+                    if (result == CouponIssueResult.SUCCESS) {
+                        successCount.incrementAndGet();
+                    } else if (result == CouponIssueResult.OUT_OF_STOCK) {
+                        outOfStockCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(totalQuantity);
+        assertThat(outOfStockCount.get()).isEqualTo(totalUsers - totalQuantity);
+        assertThat(redisCouponIssueManager.getRemainingStock(testCoupon.getId())).isZero();
+        assertThat(redisCouponIssueManager.getPendingUsers(testCoupon.getId())).hasSize(totalQuantity);
+
+        DistributionSummary batchSize = meterRegistry.find("coupon.issue.coalesced.batch.size").summary();
+        assertThat(batchSize).isNotNull();
+        assertThat(batchSize.count()).isLessThan(totalUsers);
+
+        Map<?, ?> queues = (Map<?, ?>) ReflectionTestUtils.getField(couponIssueCoalescer, "queues");
+        assertThat(queues).doesNotContainKey(testCoupon.getId());
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 중복 요청은 한 번만 성공한다")
+    void 같은_사용자_중복_요청() throws InterruptedException {
+        // given
+        redisCouponIssueManager.initializeStock(testCoupon.getId(), 100);
+        int attempts = 20;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(attempts);
+        CountDownLatch latch = new CountDownLatch(attempts);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < attempts; i++) {
+            executorService.submit(() -> {
+                try {
+                    if (couponIssueCoalescer.tryIssue(testCoupon.getId(), 1L) == CouponIssueResult.SUCCESS) {
+                        successCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(1);
+        assertThat(redisCouponIssueManager.getRemainingStock(testCoupon.getId())).isEqualTo(99);
+    }
+}
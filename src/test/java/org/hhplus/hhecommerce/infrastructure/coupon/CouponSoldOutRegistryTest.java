@@ -0,0 +1,161 @@
+package org.hhplus.hhecommerce.infrastructure.coupon;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponSoldOutRegistryTest {
+
+    private static final Long COUPON_ID = 1L;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private RedisCouponIssueManager redisCouponIssueManager;
+
+    @Mock
+    private CouponStockLeaseManager leaseManager;
+
+    @Mock
+    private ObjectProvider<CouponIssueCoalescer> coalescerProvider;
+
+    @Mock
+    private ObjectProvider<CouponStockLeaseManager> leaseManagerProvider;
+
+    @Mock
+    private ObjectProvider<CouponSoldOutRegistry> soldOutRegistryProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CouponSoldOutRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new CouponSoldOutRegistry(redisTemplate, listenerContainer, meterRegistry, 60_000);
+    }
+
+    @Test
+    @DisplayName("소진으로 표시하면 이후 요청이 거절되고, 처음 표시할 때만 다른 노드에 발행한다")
+    void 소진_표시와_발행() {
+        // when
+        registry.markSoldOut(COUPON_ID);
+        registry.markSoldOut(COUPON_ID);
+
+        // then
+        assertThat(registry.isSoldOut(COUPON_ID)).isTrue();
+        assertThat(registry.isSoldOut(2L)).isFalse();
+        verify(redisTemplate, times(1)).convertAndSend(CouponSoldOutRegistry.CHANNEL, "soldout:" + COUPON_ID);
+        assertThat(meterRegistry.counter("coupon.issue.sold-out.short-circuit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("재고가 돌아오면 소진 표시를 지우고 재입고를 발행한다")
+    void 재입고_시_표시_해제() {
+        // given
+        registry.markSoldOut(COUPON_ID);
+
+        // when
+        registry.clear(COUPON_ID);
+
+        // then
+        assertThat(registry.isSoldOut(COUPON_ID)).isFalse();
+        verify(redisTemplate).convertAndSend(CouponSoldOutRegistry.CHANNEL, "restock:" + COUPON_ID);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 소진/재입고 메시지를 받으면 로컬 표시에 반영한다")
+    void 다른_노드_메시지_반영() {
+        // when
+        registry.onMessage(message("soldout:" + COUPON_ID), null);
+
+        // then
+        assertThat(registry.isSoldOut(COUPON_ID)).isTrue();
+
+        // when
+        registry.onMessage(message("restock:" + COUPON_ID), null);
+
+        // then
+        assertThat(registry.isSoldOut(COUPON_ID)).isFalse();
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("표시 유지 시간이 지나면 소진 표시가 만료되어 Redis로 다시 확인한다")
+    void 표시_만료() throws InterruptedException {
+        // given
+        CouponSoldOutRegistry shortLived = new CouponSoldOutRegistry(redisTemplate, listenerContainer, meterRegistry, 10);
+        shortLived.markSoldOut(COUPON_ID);
+
+        // when
+        Thread.sleep(30);
+
+        // then
+        assertThat(shortLived.isSoldOut(COUPON_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("임대 발급 중 재고 키가 0이어도 다른 노드의 임대분이 남아 있으면 소진으로 표시하지 않는다")
+    void 임대분이_남아_있으면_소진_표시하지_않음() {
+        // given
+        ResilientCouponIssueManager manager = leasingManager();
+        when(leaseManager.tryIssue(COUPON_ID, 1L)).thenReturn(CouponIssueResult.OUT_OF_STOCK);
+        when(redisCouponIssueManager.hasLeasedStock(COUPON_ID)).thenReturn(true);
+
+        // when
+        CouponIssueResult result = manager.tryIssue(COUPON_ID, 1L);
+
+        // then
+        assertThat(result).isEqualTo(CouponIssueResult.OUT_OF_STOCK);
+        assertThat(registry.isSoldOut(COUPON_ID)).isFalse();
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("임대 발급 중 재고 키와 임대분이 모두 비면 소진으로 표시하고 발행한다")
+    void 임대분까지_비면_소진_표시() {
+        // given
+        ResilientCouponIssueManager manager = leasingManager();
+        when(leaseManager.tryIssue(COUPON_ID, 1L)).thenReturn(CouponIssueResult.OUT_OF_STOCK);
+        when(redisCouponIssueManager.hasLeasedStock(COUPON_ID)).thenReturn(false);
+
+        // when
+        manager.tryIssue(COUPON_ID, 1L);
+
+        // then
+        assertThat(registry.isSoldOut(COUPON_ID)).isTrue();
+        verify(redisTemplate).convertAndSend(CouponSoldOutRegistry.CHANNEL, "soldout:" + COUPON_ID);
+    }
+
+    private ResilientCouponIssueManager leasingManager() {
+        when(leaseManagerProvider.getIfAvailable()).thenReturn(leaseManager);
+        when(soldOutRegistryProvider.getIfAvailable()).thenReturn(registry);
+        return new ResilientCouponIssueManager(redisCouponIssueManager, CircuitBreakerRegistry.ofDefaults(),
+                coalescerProvider, leaseManagerProvider, soldOutRegistryProvider);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                CouponSoldOutRegistry.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
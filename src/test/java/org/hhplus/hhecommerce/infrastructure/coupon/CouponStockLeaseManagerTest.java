@@ -0,0 +1,205 @@
+package org.hhplus.hhecommerce.infrastructure.coupon;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResult;
+import org.hhplus.hhecommerce.infrastructure.config.CouponLeaseProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponStockLeaseManager 테스트")
+class CouponStockLeaseManagerTest {
+
+    private static final Long COUPON_ID = 1L;
+
+    @Mock
+    private RedisCouponIssueManager redisCouponIssueManager;
+
+    private CouponLeaseProperties properties;
+    private CouponStockLeaseManager leaseManager;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CouponLeaseProperties();
+        properties.setBlockSize(3);
+        properties.setTtlMs(10_000);
+        leaseManager = new CouponStockLeaseManager(redisCouponIssueManager, properties, new SimpleMeterRegistry());
+    }
+
+    @Nested
+    @DisplayName("발급")
+    class Issue {
+
+        @Test
+        @DisplayName("임대받은 블록을 다 쓸 때까지 Redis를 다시 호출하지 않는다")
+        void 블록_단위로_임대한다() {
+            // given
+            when(redisCouponIssueManager.leaseStock(eq(COUPON_ID), eq(3), anyString(), any())).thenReturn(3);
+
+            // when
+            for (long userId = 1; userId <= 3; userId++) {
+                assertThat(leaseManager.tryIssue(COUPON_ID, userId)).isEqualTo(CouponIssueResult.SUCCESS);
+            }
+
+            // then
+            verify(redisCouponIssueManager, times(1)).leaseStock(eq(COUPON_ID), eq(3), anyString(), any());
+            assertThat(leaseManager.getLocalRemaining(COUPON_ID)).isZero();
+        }
+
+        @Test
+        @DisplayName("Redis 재고가 소진되면 OUT_OF_STOCK을 반환한다")
+        void 재고_소진() {
+            // given
+            when(redisCouponIssueManager.leaseStock(eq(COUPON_ID), eq(3), anyString(), any())).thenReturn(1, 0);
+
+            // when
+            CouponIssueResult first = leaseManager.tryIssue(COUPON_ID, 1L);
+            CouponIssueResult second = leaseManager.tryIssue(COUPON_ID, 2L);
+
+            // then
+            assertThat(first).isEqualTo(CouponIssueResult.SUCCESS);
+            assertThat(second).isEqualTo(CouponIssueResult.OUT_OF_STOCK);
+            assertThat(leaseManager.owns(COUPON_ID, 2L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("같은 사용자의 재요청은 확정 전에는 PENDING_IN_PROGRESS, 확정 후에는 ALREADY_ISSUED를 반환한다")
+        void 로컬_사용자_필터() {
+            // given
+            when(redisCouponIssueManager.leaseStock(eq(COUPON_ID), eq(3), anyString(), any())).thenReturn(3);
+            leaseManager.tryIssue(COUPON_ID, 1L);
+
+            // when
+            CouponIssueResult pending = leaseManager.tryIssue(COUPON_ID, 1L);
+            leaseManager.confirm(COUPON_ID, 1L);
+            CouponIssueResult issued = leaseManager.tryIssue(COUPON_ID, 1L);
+
+            // then
+            assertThat(pending).isEqualTo(CouponIssueResult.PENDING_IN_PROGRESS);
+            assertThat(issued).isEqualTo(CouponIssueResult.ALREADY_ISSUED);
+            assertThat(leaseManager.getLocalRemaining(COUPON_ID)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("로컬 발급은 임대 재고가 없으면 Redis를 호출하지 않고 거부한다")
+        void 로컬_재고만_사용() {
+            // when
+            CouponIssueResult result = leaseManager.tryIssueLocally(COUPON_ID, 1L);
+
+            // then
+            assertThat(result).isEqualTo(CouponIssueResult.LOCK_ACQUISITION_FAILED);
+            verifyNoInteractions(redisCouponIssueManager);
+        }
+    }
+
+    @Nested
+    @DisplayName("롤백과 반납")
+    class RollbackAndReturn {
+
+        @Test
+        @DisplayName("DB 저장 실패로 롤백하면 재고가 로컬 임대분으로 돌아온다")
+        void 롤백하면_로컬_재고_복구() {
+            // given
+            when(redisCouponIssueManager.leaseStock(eq(COUPON_ID), eq(3), anyString(), any())).thenReturn(3);
+            leaseManager.tryIssue(COUPON_ID, 1L);
+
+            // when
+            leaseManager.rollback(COUPON_ID, 1L);
+
+            // then
+            assertThat(leaseManager.getLocalRemaining(COUPON_ID)).isEqualTo(3);
+            assertThat(leaseManager.owns(COUPON_ID, 1L)).isFalse();
+        }
+
+        @Test
+        @DisplayName("만료된 임대의 남은 재고를 Redis로 반납한다")
+        void 만료된_임대_반납() {
+            // given
+            properties.setTtlMs(1);
+            when(redisCouponIssueManager.leaseStock(eq(COUPON_ID), eq(3), anyString(), any())).thenReturn(3);
+            leaseManager.tryIssue(COUPON_ID, 1L);
+
+            // when
+            await();
+            leaseManager.returnExpiredLeases();
+
+            // then
+            verify(redisCouponIssueManager).returnStock(eq(COUPON_ID), eq(2), anyString());
+            assertThat(leaseManager.getLocalRemaining(COUPON_ID)).isZero();
+        }
+
+        @Test
+        @DisplayName("반납에 실패하면 로컬에 남겨 두고 다음 주기에 다시 반납한다")
+        void 반납_실패시_보존() {
+            // given
+            properties.setTtlMs(1);
+            when(redisCouponIssueManager.leaseStock(eq(COUPON_ID), eq(3), anyString(), any())).thenReturn(3);
+            doThrow(new IllegalStateException("redis down"))
+                    .when(redisCouponIssueManager).returnStock(anyLong(), anyInt(), anyString());
+            leaseManager.tryIssue(COUPON_ID, 1L);
+
+            // when
+            await();
+            leaseManager.returnExpiredLeases();
+
+            // then
+            assertThat(leaseManager.getLocalRemaining(COUPON_ID)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("반납을 마치고 처리 중인 사용자가 없으면 임대를 정리하고 다음 요청은 새로 임대한다")
+        void 반납한_임대_정리() {
+            // given
+            properties.setTtlMs(1);
+            when(redisCouponIssueManager.leaseStock(eq(COUPON_ID), eq(3), anyString(), any())).thenReturn(3);
+            leaseManager.tryIssue(COUPON_ID, 1L);
+            leaseManager.confirm(COUPON_ID, 1L);
+
+            // when
+            await();
+            leaseManager.returnExpiredLeases();
+
+            // then
+            assertThat(leaseManager.hasAlreadyIssued(COUPON_ID, 1L)).isFalse();
+            assertThat(leaseManager.tryIssue(COUPON_ID, 2L)).isEqualTo(CouponIssueResult.SUCCESS);
+            verify(redisCouponIssueManager, times(2)).leaseStock(eq(COUPON_ID), eq(3), anyString(), any());
+        }
+
+        @Test
+        @DisplayName("다른 노드가 임대 기록을 회수했으면 로컬에 남은 재고를 버린다")
+        void 회수된_임대는_폐기() {
+            // given
+            when(redisCouponIssueManager.leaseStock(eq(COUPON_ID), eq(3), anyString(), any())).thenReturn(3);
+            when(redisCouponIssueManager.heartbeatLease(eq(COUPON_ID), anyString(), eq(2), any())).thenReturn(false);
+            leaseManager.tryIssue(COUPON_ID, 1L);
+
+            // when
+            leaseManager.returnExpiredLeases();
+
+            // then
+            assertThat(leaseManager.getLocalRemaining(COUPON_ID)).isZero();
+            verify(redisCouponIssueManager).sweepExpiredLeases();
+        }
+
+        private void await() {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.hhplus.hhecommerce.infrastructure.coupon;
+
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.coupon.CouponQueueStatus;
+import org.hhplus.hhecommerce.domain.coupon.CouponQueueTicket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "coupon.issue.strategy=redis",
+        "coupon.waiting-room.enabled=true",
+        "coupon.waiting-room.dispatch-interval-ms=600000"
+})
+class CouponWaitingRoomTest extends TestContainersConfig {
+
+    private static final Long COUPON_ID = 9101L;
+
+    @Autowired
+    private CouponWaitingRoom couponWaitingRoom;
+
+    @Autowired
+    private RedisCouponIssueManager redisCouponIssueManager;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = redisTemplate.keys("coupon:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("대기열에 들어온 순서대로 순번을 받고, 다시 들어와도 순번이 유지된다")
+    void 입장_순서대로_순번을_받는다() {
+        // when
+        CouponQueueTicket first = couponWaitingRoom.enter(COUPON_ID, 1L);
+        CouponQueueTicket second = couponWaitingRoom.enter(COUPON_ID, 2L);
+        CouponQueueTicket again = couponWaitingRoom.enter(COUPON_ID, 1L);
+
+        // then
+        assertThat(first).isEqualTo(CouponQueueTicket.waiting(1));
+        assertThat(second).isEqualTo(CouponQueueTicket.waiting(2));
+        assertThat(again).isEqualTo(CouponQueueTicket.waiting(1));
+        assertThat(couponWaitingRoom.status(COUPON_ID, 3L).status()).isEqualTo(CouponQueueStatus.NOT_IN_QUEUE);
+    }
+
+    @Test
+    @DisplayName("남은 재고에서 유효 입장권 수를 뺀 만큼만 입장시키고, 자리가 없으면 나머지를 대기열에서 거절한다")
+    void 재고만큼만_입장시키고_나머지는_거절한다() {
+        // given
+        redisCouponIssueManager.initializeStock(COUPON_ID, 2);
+        for (long userId = 1; userId <= 4; userId++) {
+            couponWaitingRoom.enter(COUPON_ID, userId);
+        }
+
+        // when
+        CouponWaitingRoom.DispatchResult admitted = couponWaitingRoom.dispatch(COUPON_ID, 10);
+
+        // then
+        assertThat(admitted).isEqualTo(new CouponWaitingRoom.DispatchResult(2, 0));
+        assertThat(couponWaitingRoom.hasToken(COUPON_ID, 1L)).isTrue();
+        assertThat(couponWaitingRoom.status(COUPON_ID, 2L).status()).isEqualTo(CouponQueueStatus.ADMITTED);
+        assertThat(couponWaitingRoom.status(COUPON_ID, 3L)).isEqualTo(CouponQueueTicket.waiting(1));
+
+        // when - 입장한 두 명이 재고를 모두 차지하므로 남은 대기자는 거절
+        CouponWaitingRoom.DispatchResult rejected = couponWaitingRoom.dispatch(COUPON_ID, 10);
+
+        // then
+        assertThat(rejected).isEqualTo(new CouponWaitingRoom.DispatchResult(0, 2));
+        assertThat(couponWaitingRoom.status(COUPON_ID, 3L).status()).isEqualTo(CouponQueueStatus.SOLD_OUT);
+        assertThat(couponWaitingRoom.enter(COUPON_ID, 5L).status()).isEqualTo(CouponQueueStatus.SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("한 번의 배분에서는 설정된 수만큼만 입장시킨다")
+    void 배분_속도를_지킨다() {
+        // given
+        redisCouponIssueManager.initializeStock(COUPON_ID, 100);
+        for (long userId = 1; userId <= 5; userId++) {
+            couponWaitingRoom.enter(COUPON_ID, userId);
+        }
+
+        // when
+        CouponWaitingRoom.DispatchResult result = couponWaitingRoom.dispatch(COUPON_ID, 3);
+
+        // then
+        assertThat(result.admitted()).isEqualTo(3);
+        assertThat(couponWaitingRoom.status(COUPON_ID, 4L)).isEqualTo(CouponQueueTicket.waiting(1));
+        assertThat(couponWaitingRoom.findQueuedCouponIds()).containsExactly(COUPON_ID);
+    }
+
+    @Test
+    @DisplayName("반납된 입장권은 재고 자리 계산에서 빠진다")
+    void 반납된_입장권은_자리에서_빠진다() {
+        // given
+        redisCouponIssueManager.initializeStock(COUPON_ID, 1);
+        couponWaitingRoom.enter(COUPON_ID, 1L);
+        couponWaitingRoom.enter(COUPON_ID, 2L);
+        couponWaitingRoom.dispatch(COUPON_ID, 10);
+
+        // when - 첫 사용자가 발급하지 못하고 입장권만 반납 (재고 그대로)
+        couponWaitingRoom.releaseToken(COUPON_ID, 1L);
+        CouponWaitingRoom.DispatchResult result = couponWaitingRoom.dispatch(COUPON_ID, 10);
+
+        // then
+        assertThat(result.admitted()).isEqualTo(1);
+        assertThat(couponWaitingRoom.hasToken(COUPON_ID, 2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재고 키가 0이어도 노드들이 임대해 간 수량이 남아 있으면 그만큼 입장시킨다")
+    void 임대된_재고만큼_입장시킨다() {
+        // given - 재고 3개를 모두 두 노드가 임대해 감
+        redisCouponIssueManager.initializeStock(COUPON_ID, 0);
+        redisTemplate.opsForHash().put("coupon:lease:" + COUPON_ID, "node-a", "2");
+        redisTemplate.opsForHash().put("coupon:lease:" + COUPON_ID, "node-b", "1");
+        for (long userId = 1; userId <= 4; userId++) {
+            couponWaitingRoom.enter(COUPON_ID, userId);
+        }
+
+        // when
+        CouponWaitingRoom.DispatchResult result = couponWaitingRoom.dispatch(COUPON_ID, 10);
+
+        // then
+        assertThat(result).isEqualTo(new CouponWaitingRoom.DispatchResult(3, 0));
+        assertThat(couponWaitingRoom.status(COUPON_ID, 4L)).isEqualTo(CouponQueueTicket.waiting(1));
+    }
+}
@@ -0,0 +1,130 @@
+package org.hhplus.hhecommerce.infrastructure.coupon;
+
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResult;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponType;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "coupon.issue.strategy=db-atomic")
+class DbAtomicCouponIssueManagerTest extends TestContainersConfig {
+
+    @Autowired
+    private DbAtomicCouponIssueManager couponIssueManager;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @BeforeEach
+    void setUp() {
+        userCouponRepository.deleteAll();
+        couponRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("발급하면 발급 수량과 사용자 쿠폰이 한 번에 저장된다")
+    void 발급_수량과_사용자_쿠폰을_함께_저장한다() {
+        // given
+        Coupon coupon = saveCoupon(10, LocalDateTime.now().minusDays(1));
+
+        // when
+        CouponIssueResult result = couponIssueManager.tryIssue(coupon.getId(), 1L);
+
+        // then
+        assertThat(result).isEqualTo(CouponIssueResult.SUCCESS);
+        assertThat(issuedQuantity(coupon)).isEqualTo(1);
+        assertThat(userCouponRepository.findByUserIdAndCouponId(1L, coupon.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 다시 발급하면 유니크 키에 걸려 거절되고 올린 발급 수량도 되돌린다")
+    void 중복_발급은_발급_수량까지_되돌린다() {
+        // given
+        Coupon coupon = saveCoupon(10, LocalDateTime.now().minusDays(1));
+        couponIssueManager.tryIssue(coupon.getId(), 1L);
+
+        // when
+        CouponIssueResult result = couponIssueManager.tryIssue(coupon.getId(), 1L);
+
+        // then
+        assertThat(result).isEqualTo(CouponIssueResult.ALREADY_ISSUED);
+        assertThat(issuedQuantity(coupon)).isEqualTo(1);
+        assertThat(userCouponRepository.findByCouponId(coupon.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("조건 UPDATE에 걸리지 않으면 재고 소진, 기간 외, 미존재를 구분해 돌려준다")
+    void 거절_사유를_구분한다() {
+        // given
+        Coupon soldOut = saveCoupon(1, LocalDateTime.now().minusDays(1));
+        couponIssueManager.tryIssue(soldOut.getId(), 1L);
+        Coupon notStarted = saveCoupon(10, LocalDateTime.now().plusDays(1));
+
+        // when & then
+        assertThat(couponIssueManager.tryIssue(soldOut.getId(), 2L)).isEqualTo(CouponIssueResult.OUT_OF_STOCK);
+        assertThat(couponIssueManager.tryIssue(soldOut.getId(), 1L)).isEqualTo(CouponIssueResult.ALREADY_ISSUED);
+        assertThat(couponIssueManager.tryIssue(notStarted.getId(), 1L)).isEqualTo(CouponIssueResult.NOT_AVAILABLE);
+        assertThat(couponIssueManager.tryIssue(Long.MAX_VALUE, 1L)).isEqualTo(CouponIssueResult.COUPON_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("동시에 몰려도 재고만큼만 발급하고 발급 수량과 사용자 쿠폰 수가 일치한다")
+    void 동시_발급은_재고만큼만_성공한다() throws InterruptedException {
+        // given
+        int totalQuantity = 50;
+        int userCount = 200;
+        Coupon coupon = saveCoupon(totalQuantity, LocalDateTime.now().minusDays(1));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch doneLatch = new CountDownLatch(userCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // when
+        for (long userId = 1; userId <= userCount; userId++) {
+            long requestUserId = userId;
+            executorService.submit(() -> {
+                try {
+                    if (couponIssueManager.tryIssue(coupon.getId(), requestUserId) == CouponIssueResult.SUCCESS) {
+                        successCount.incrementAndGet();
+                    }
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+        doneLatch.await(1, TimeUnit.MINUTES);
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(totalQuantity);
+        assertThat(issuedQuantity(coupon)).isEqualTo(totalQuantity);
+        assertThat(userCouponRepository.findByCouponId(coupon.getId())).hasSize(totalQuantity);
+    }
+
+    private Coupon saveCoupon(int totalQuantity, LocalDateTime startAt) {
+        return couponRepository.save(new Coupon("DB 발급 쿠폰", CouponType.AMOUNT, 5000, null, 10000,
+                totalQuantity, startAt, startAt.plusDays(30)));
+    }
+
+    private int issuedQuantity(Coupon coupon) {
+        return couponRepository.findById(coupon.getId()).orElseThrow().getIssuedQuantity();
+    }
+}
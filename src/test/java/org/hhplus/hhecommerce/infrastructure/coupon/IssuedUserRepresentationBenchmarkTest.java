@@ -0,0 +1,169 @@
+package org.hhplus.hhecommerce.infrastructure.coupon;
+
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponType;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 발급 사용자 집합을 SET과 비트맵으로 재구성할 때의 Redis 메모리(MEMORY USAGE)와 재구성 시간을 같은 조건에서 비교합니다.
+ *
+ * <p>userId 1..N이 발급된 쿠폰을 DB에 만들고 {@link RedisCouponIssueManager#prewarm(List)}로 발급 사용자 집합을
+ * 다시 만듭니다. 재구성 시간에는 DB에서 발급 사용자를 읽는 시간도 포함됩니다. 사용자 수는 환경 변수로 바꿀 수 있습니다.</p>
+ *
+ * <p>기본 {@code test}에서는 제외됩니다. 다음과 같이 실행합니다.</p>
+ *
+ * <pre>
+ * ISSUED_USER_BENCHMARK_USERS=1000000 ./gradlew benchmark --tests '*IssuedUserRepresentationBenchmarkTest'
+ * </pre>
+ */
+@Tag("benchmark")
+class IssuedUserRepresentationBenchmarkTest extends TestContainersConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(IssuedUserRepresentationBenchmarkTest.class);
+
+    private static final int USER_COUNT = intEnv("ISSUED_USER_BENCHMARK_USERS", 1_000_000);
+
+    private static final String INSERT_ISSUED_USERS_SQL =
+            "INSERT INTO user_coupon (user_id, coupon_id, status, expired_at, created_at, updated_at) " +
+            "WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < ?) " +
+            "SELECT n, ?, 'AVAILABLE', ?, ?, ? FROM seq";
+
+    @Nested
+    @TestPropertySource(properties = {
+            "coupon.issue.strategy=redis",
+            "coupon.issue.issued-bitmap.min-total-quantity=2147483647"
+    })
+    class SetRepresentation extends RepresentationBenchmark {
+    }
+
+    @Nested
+    @TestPropertySource(properties = {
+            "coupon.issue.strategy=redis",
+            "coupon.issue.issued-bitmap.min-total-quantity=1"
+    })
+    class BitmapRepresentation extends RepresentationBenchmark {
+    }
+
+    abstract class RepresentationBenchmark {
+
+        @Autowired
+        private RedisCouponIssueManager redisCouponIssueManager;
+
+        @Autowired
+        private CouponRepository couponRepository;
+
+        @Autowired
+        private UserCouponRepository userCouponRepository;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private RedisTemplate<String, String> redisTemplate;
+
+        @Value("${coupon.issue.issued-bitmap.min-total-quantity}")
+        private int bitmapMinTotalQuantity;
+
+        @BeforeEach
+        void setUp() {
+            userCouponRepository.deleteAllInBatch();
+            couponRepository.deleteAll();
+
+            Set<String> keys = redisTemplate.keys("coupon:*");
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys);
+            }
+        }
+
+        @Test
+        @DisplayName("발급 사용자 집합을 재구성하고 Redis 메모리 사용량과 재구성 시간을 기록한다")
+        void benchmark() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            Coupon coupon = couponRepository.save(new Coupon("발급 사용자 표현 벤치마크 쿠폰", CouponType.AMOUNT, 5000, null,
+                    10000, USER_COUNT, now.minusDays(1), now.plusDays(30)));
+            insertIssuedUsers(coupon.getId(), now);
+            boolean bitmap = USER_COUNT >= bitmapMinTotalQuantity;
+            String issuedKey = (bitmap ? "coupon:issued-bitmap:" : "coupon:issued:") + coupon.getId();
+
+            // when
+            long startTime = System.nanoTime();
+            redisCouponIssueManager.prewarm(List.of(coupon));
+            double elapsedMillis = (System.nanoTime() - startTime) / 1_000_000.0;
+            long memoryBytes = memoryUsage(issuedKey);
+
+            log.info(String.format("[IssuedUserRepresentationBenchmark] representation=%s, users=%d: " +
+                            "memory=%d bytes (%.2f MB, %.1f bytes/user), sync=%.1fms",
+                    bitmap ? "bitmap" : "set", USER_COUNT, memoryBytes, memoryBytes / 1024.0 / 1024.0,
+                    (double) memoryBytes / USER_COUNT, elapsedMillis));
+
+            // then
+            assertThat(redisCouponIssueManager.hasAlreadyIssued(coupon.getId(), 1L)).isTrue();
+            assertThat(redisCouponIssueManager.hasAlreadyIssued(coupon.getId(), (long) USER_COUNT)).isTrue();
+            assertThat(redisCouponIssueManager.hasAlreadyIssued(coupon.getId(), USER_COUNT + 1L)).isFalse();
+            if (bitmap) {
+                // 비트맵은 가장 큰 userId / 8 바이트에 Redis 객체 오버헤드만 더해진다
+                assertThat(memoryBytes).isLessThan(USER_COUNT / 8L + 1024 * 1024);
+            }
+        }
+
+        private void insertIssuedUsers(Long couponId, LocalDateTime now) {
+            Timestamp timestamp = Timestamp.valueOf(now);
+            Timestamp expiredAt = Timestamp.valueOf(now.plusDays(30));
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET SESSION cte_max_recursion_depth = " + (USER_COUNT + 1));
+                }
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_ISSUED_USERS_SQL)) {
+                    statement.setInt(1, USER_COUNT);
+                    statement.setLong(2, couponId);
+                    statement.setTimestamp(3, expiredAt);
+                    statement.setTimestamp(4, timestamp);
+                    statement.setTimestamp(5, timestamp);
+                    statement.executeUpdate();
+                }
+                return null;
+            });
+        }
+
+        private long memoryUsage(String key) {
+            Object result = redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("MEMORY",
+                    "USAGE".getBytes(StandardCharsets.UTF_8),
+                    key.getBytes(StandardCharsets.UTF_8),
+                    "SAMPLES".getBytes(StandardCharsets.UTF_8),
+                    "0".getBytes(StandardCharsets.UTF_8)));
+            return result instanceof Number number ? number.longValue() : -1L;
+        }
+    }
+
+    private static int intEnv(String name, int defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
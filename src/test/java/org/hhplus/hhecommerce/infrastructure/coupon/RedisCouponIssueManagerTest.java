@@ -15,6 +15,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -306,4 +307,39 @@ class RedisCouponIssueManagerTest extends TestContainersConfig {
         CouponIssueResult existingUserResult = redisCouponIssueManager.tryIssue(testCoupon.getId(), 999L);
         assertThat(existingUserResult).isEqualTo(CouponIssueResult.ALREADY_ISSUED);
     }
+
+    @Test
+    @DisplayName("배치 발급은 단건 발급과 같은 규칙으로 사용자별 결과를 도착 순서대로 반환한다")
+    void 배치_발급_사용자별_결과() {
+        // Given: 재고 2개, 사용자 1은 이미 발급 완료
+        redisCouponIssueManager.initializeStock(testCoupon.getId(), 3);
+        redisCouponIssueManager.tryIssue(testCoupon.getId(), 1L);
+        redisCouponIssueManager.confirm(testCoupon.getId(), 1L);
+
+        // When: 이미 발급된 사용자, 신규 사용자, 같은 배치 안의 중복 요청, 재고 초과 사용자
+        List<CouponIssueResult> results = redisCouponIssueManager.tryIssueBatch(
+                testCoupon.getId(), List.of(1L, 2L, 2L, 3L, 4L));
+
+        // Then
+        assertThat(results).containsExactly(
+                CouponIssueResult.ALREADY_ISSUED,
+                CouponIssueResult.SUCCESS,
+                CouponIssueResult.PENDING_IN_PROGRESS,
+                CouponIssueResult.SUCCESS,
+                CouponIssueResult.OUT_OF_STOCK);
+        assertThat(redisCouponIssueManager.getRemainingStock(testCoupon.getId())).isEqualTo(0);
+        assertThat(redisCouponIssueManager.getPendingUsers(testCoupon.getId())).containsOnlyKeys("2", "3");
+    }
+
+    @Test
+    @DisplayName("배치 발급 시 Redis에 재고가 없으면 DB에서 동기화한 뒤 처리한다")
+    void 배치_발급_DB_동기화() {
+        // When
+        List<CouponIssueResult> results = redisCouponIssueManager.tryIssueBatch(
+                testCoupon.getId(), List.of(1L, 2L));
+
+        // Then
+        assertThat(results).containsOnly(CouponIssueResult.SUCCESS);
+        assertThat(redisCouponIssueManager.getRemainingStock(testCoupon.getId())).isEqualTo(98);
+    }
 }
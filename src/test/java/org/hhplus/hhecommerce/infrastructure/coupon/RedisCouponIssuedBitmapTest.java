@@ -0,0 +1,165 @@
+package org.hhplus.hhecommerce.infrastructure.coupon;
+
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResult;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponType;
+import org.hhplus.hhecommerce.domain.coupon.UserCoupon;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "coupon.issue.strategy=redis",
+        "coupon.issue.issued-bitmap.min-total-quantity=1000"
+})
+class RedisCouponIssuedBitmapTest extends TestContainersConfig {
+
+    private static final long LARGE_USER_ID = 5_000_000_000L;
+
+    @Autowired
+    private RedisCouponIssueManager redisCouponIssueManager;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        userCouponRepository.deleteAll();
+        couponRepository.deleteAll();
+
+        Set<String> keys = redisTemplate.keys("coupon:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("발급 수량이 기준 이상인 쿠폰은 발급 사용자를 비트맵으로 동기화하고 판정한다")
+    void 대량_쿠폰은_비트맵을_사용한다() {
+        // given
+        Coupon coupon = saveCoupon(1000);
+        LocalDateTime expiredAt = LocalDateTime.now().plusDays(30);
+        userCouponRepository.saveAll(List.of(
+                new UserCoupon(3L, coupon.getId(), expiredAt),
+                new UserCoupon(LARGE_USER_ID, coupon.getId(), expiredAt)));
+
+        // when
+        CouponIssueResult newUser = redisCouponIssueManager.tryIssue(coupon.getId(), 7L);
+        redisCouponIssueManager.confirm(coupon.getId(), 7L);
+
+        // then
+        assertThat(newUser).isEqualTo(CouponIssueResult.SUCCESS);
+        assertThat(redisCouponIssueManager.tryIssue(coupon.getId(), 3L)).isEqualTo(CouponIssueResult.ALREADY_ISSUED);
+        assertThat(redisCouponIssueManager.tryIssue(coupon.getId(), LARGE_USER_ID)).isEqualTo(CouponIssueResult.ALREADY_ISSUED);
+        assertThat(redisCouponIssueManager.hasAlreadyIssued(coupon.getId(), 7L)).isTrue();
+        assertThat(redisCouponIssueManager.getIssuedCount(coupon.getId())).isEqualTo(3);
+
+        assertThat(redisTemplate.opsForValue().getBit("coupon:issued-bitmap:" + coupon.getId(), 7L)).isTrue();
+        assertThat(redisTemplate.opsForSet().members("coupon:issued:" + coupon.getId()))
+                .containsExactly(String.valueOf(LARGE_USER_ID));
+    }
+
+    @Test
+    @DisplayName("발급 수량이 기준 미만인 쿠폰은 기존처럼 SET을 사용한다")
+    void 소량_쿠폰은_SET을_사용한다() {
+        // given
+        Coupon coupon = saveCoupon(10);
+
+        // when
+        redisCouponIssueManager.tryIssue(coupon.getId(), 7L);
+        redisCouponIssueManager.confirm(coupon.getId(), 7L);
+
+        // then
+        assertThat(redisTemplate.hasKey("coupon:issued-bitmap:" + coupon.getId())).isFalse();
+        assertThat(redisTemplate.opsForSet().isMember("coupon:issued:" + coupon.getId(), "7")).isTrue();
+    }
+
+    @Test
+    @DisplayName("비트맵을 구간 단위로 나눠 써도 구간 경계 양쪽의 사용자를 모두 판정하고 임시 키를 남기지 않는다")
+    void 비트맵_구간_경계를_넘어도_판정한다() {
+        // given - 1MB 구간(사용자 8,388,608명) 경계를 넘는 userId
+        Coupon coupon = saveCoupon(1000);
+        LocalDateTime expiredAt = LocalDateTime.now().plusDays(30);
+        userCouponRepository.saveAll(List.of(
+                new UserCoupon(3L, coupon.getId(), expiredAt),
+                new UserCoupon(9_000_000L, coupon.getId(), expiredAt)));
+
+        // when
+        redisCouponIssueManager.prewarm(List.of(coupon));
+
+        // then
+        assertThat(redisCouponIssueManager.hasAlreadyIssued(coupon.getId(), 3L)).isTrue();
+        assertThat(redisCouponIssueManager.hasAlreadyIssued(coupon.getId(), 9_000_000L)).isTrue();
+        assertThat(redisCouponIssueManager.hasAlreadyIssued(coupon.getId(), 8_388_608L)).isFalse();
+        assertThat(redisTemplate.hasKey("coupon:issued-bitmap:" + coupon.getId() + ":building")).isFalse();
+        assertThat(redisTemplate.getExpire("coupon:issued-bitmap:" + coupon.getId())).isPositive();
+    }
+
+    @Test
+    @DisplayName("userId가 커서 비트맵이 최대 크기를 넘으면 발급 수량이 커도 SET을 사용한다")
+    void 비트맵이_너무_크면_SET을_사용한다() {
+        // given - 기본 최대 크기 64MB를 넘는 오프셋
+        Coupon coupon = saveCoupon(1000);
+        userCouponRepository.save(new UserCoupon(1_000_000_000L, coupon.getId(), LocalDateTime.now().plusDays(30)));
+
+        // when
+        redisCouponIssueManager.prewarm(List.of(coupon));
+
+        // then
+        assertThat(redisTemplate.hasKey("coupon:issued-bitmap:" + coupon.getId())).isFalse();
+        assertThat(redisCouponIssueManager.hasAlreadyIssued(coupon.getId(), 1_000_000_000L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 쿠폰을 한 번에 적재해도 쿠폰마다 표현을 골라 쓰고 자기 초기화 잠금만 해제한다")
+    void 여러_쿠폰을_한_번에_적재한다() {
+        // given
+        Coupon bitmapCoupon = saveCoupon(1000);
+        Coupon setCoupon = saveCoupon(10);
+        Coupon lockedCoupon = saveCoupon(10);
+        LocalDateTime expiredAt = LocalDateTime.now().plusDays(30);
+        userCouponRepository.saveAll(List.of(
+                new UserCoupon(3L, bitmapCoupon.getId(), expiredAt),
+                new UserCoupon(5L, setCoupon.getId(), expiredAt),
+                new UserCoupon(7L, lockedCoupon.getId(), expiredAt)));
+        redisTemplate.opsForValue().set("coupon:init:lock:" + lockedCoupon.getId(), "other", Duration.ofMinutes(1));
+
+        // when
+        List<Long> prewarmed = redisCouponIssueManager.prewarm(List.of(bitmapCoupon, setCoupon, lockedCoupon));
+
+        // then
+        assertThat(prewarmed).containsExactly(bitmapCoupon.getId(), setCoupon.getId());
+        assertThat(redisTemplate.opsForValue().getBit("coupon:issued-bitmap:" + bitmapCoupon.getId(), 3L)).isTrue();
+        assertThat(redisTemplate.opsForSet().members("coupon:issued:" + setCoupon.getId())).containsExactly("5");
+        assertThat(redisCouponIssueManager.getRemainingStock(setCoupon.getId())).isEqualTo(10);
+        assertThat(redisCouponIssueManager.hasStockKey(lockedCoupon.getId())).isFalse();
+        assertThat(redisTemplate.hasKey("coupon:init:lock:" + bitmapCoupon.getId())).isFalse();
+        assertThat(redisTemplate.hasKey("coupon:init:lock:" + setCoupon.getId())).isFalse();
+        assertThat(redisTemplate.opsForValue().get("coupon:init:lock:" + lockedCoupon.getId())).isEqualTo("other");
+    }
+
+    private Coupon saveCoupon(int totalQuantity) {
+        LocalDateTime now = LocalDateTime.now();
+        return couponRepository.save(new Coupon("비트맵 테스트 쿠폰", CouponType.AMOUNT, 5000, null, 10000,
+                totalQuantity, now.minusDays(1), now.plusDays(30)));
+    }
+}
@@ -0,0 +1,182 @@
+package org.hhplus.hhecommerce.infrastructure.inventory;
+
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.product.Product;
+import org.hhplus.hhecommerce.domain.product.ProductOption;
+import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
+import org.hhplus.hhecommerce.domain.product.ProductRepository;
+import org.hhplus.hhecommerce.domain.product.StockReservationResult;
+import org.hhplus.hhecommerce.infrastructure.scheduler.InventoryReconciliationScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "inventory.reservation.strategy=redis")
+class RedisInventoryReservationManagerTest extends TestContainersConfig {
+
+    @Autowired
+    private RedisInventoryReservationManager reservationManager;
+
+    @Autowired
+    private InventoryReconciliationScheduler reconciliationScheduler;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductOptionRepository productOptionRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private ProductOption optionA;
+    private ProductOption optionB;
+
+    @BeforeEach
+    void setUp() {
+        productOptionRepository.deleteAll();
+        productRepository.deleteAll();
+
+        Set<String> keys = redisTemplate.keys("inventory:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+
+        Product product = productRepository.save(new Product("재고 예약 상품", "설명", "테스트"));
+        optionA = productOptionRepository.save(new ProductOption(product.getId(), "색상", "빨강", 10000, 10));
+        optionB = productOptionRepository.save(new ProductOption(product.getId(), "색상", "파랑", 10000, 2));
+    }
+
+    @Test
+    @DisplayName("Redis에 재고가 없으면 DB에서 적재한 뒤 예약한다")
+    void DB에서_적재_후_예약() {
+        // When
+        StockReservationResult result = reservationManager.reserve(newReservationId(),
+                Map.of(optionA.getId(), 3, optionB.getId(), 1));
+
+        // Then
+        assertThat(result).isEqualTo(StockReservationResult.SUCCESS);
+        assertThat(reservationManager.getStock(optionA.getId())).isEqualTo(7);
+        assertThat(reservationManager.getStock(optionB.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 라인이라도 재고가 부족하면 어떤 라인도 차감하지 않는다")
+    void 전체_라인_원자적_예약() {
+        // When
+        StockReservationResult result = reservationManager.reserve(newReservationId(),
+                Map.of(optionA.getId(), 3, optionB.getId(), 5));
+
+        // Then
+        assertThat(result).isEqualTo(StockReservationResult.INSUFFICIENT_STOCK);
+        assertThat(reservationManager.getStock(optionA.getId())).isEqualTo(10);
+        assertThat(reservationManager.getStock(optionB.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 옵션은 OPTION_NOT_FOUND를 반환한다")
+    void 존재하지_않는_옵션() {
+        // When
+        StockReservationResult result = reservationManager.reserve(newReservationId(), Map.of(999_999L, 1));
+
+        // Then
+        assertThat(result).isEqualTo(StockReservationResult.OPTION_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("rollback 시 예약 수량이 복구되고 중복 rollback은 무시된다")
+    void 예약_롤백() {
+        // Given
+        String reservationId = newReservationId();
+        reservationManager.reserve(reservationId, Map.of(optionA.getId(), 4, optionB.getId(), 2));
+
+        // When
+        reservationManager.rollback(reservationId);
+        reservationManager.rollback(reservationId);
+
+        // Then
+        assertThat(reservationManager.getStock(optionA.getId())).isEqualTo(10);
+        assertThat(reservationManager.getStock(optionB.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("confirm 후 rollback을 호출해도 재고는 복구되지 않는다")
+    void 확정_후_롤백_무시() {
+        // Given
+        String reservationId = newReservationId();
+        reservationManager.reserve(reservationId, Map.of(optionA.getId(), 4));
+
+        // When
+        reservationManager.confirm(reservationId);
+        reservationManager.rollback(reservationId);
+
+        // Then
+        assertThat(reservationManager.getStock(optionA.getId())).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("동시 예약 시 초과 판매가 발생하지 않는다")
+    void 동시_예약_초과_판매_방지() throws InterruptedException {
+        // Given
+        int threadCount = 30;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    StockReservationResult result = reservationManager.reserve(newReservationId(),
+                            Map.of(optionA.getId(), 1, optionB.getId(), 1));
+                    if (result.isSuccess()) {
+                        successCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertThat(successCount.get()).isEqualTo(2);
+        assertThat(reservationManager.getStock(optionA.getId())).isEqualTo(8);
+        assertThat(reservationManager.getStock(optionB.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("재고 동기화 스케줄러가 Redis 재고를 DB에 반영한다")
+    void 재고_DB_동기화() {
+        // Given
+        String reservationId = newReservationId();
+        reservationManager.reserve(reservationId, Map.of(optionA.getId(), 3, optionB.getId(), 2));
+        reservationManager.confirm(reservationId);
+
+        // When
+        reconciliationScheduler.reconcile();
+
+        // Then
+        assertThat(productOptionRepository.findById(optionA.getId()).orElseThrow().getStock()).isEqualTo(7);
+        assertThat(productOptionRepository.findById(optionB.getId()).orElseThrow().getStock()).isZero();
+        assertThat(redisTemplate.opsForSet().size(RedisInventoryReservationManager.DIRTY_SET_KEY)).isZero();
+    }
+
+    private String newReservationId() {
+        return UUID.randomUUID().toString();
+    }
+}
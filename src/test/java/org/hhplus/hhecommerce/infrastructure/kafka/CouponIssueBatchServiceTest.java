@@ -0,0 +1,209 @@
+package org.hhplus.hhecommerce.infrastructure.kafka;
+
+import org.hhplus.hhecommerce.domain.coupon.*;
+import org.hhplus.hhecommerce.infrastructure.cache.CouponIssueResultCache;
+import org.hhplus.hhecommerce.infrastructure.cache.UserCouponWalletCache;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponIssueQuotaAllocator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueBatchServiceTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private UserCouponRepository userCouponRepository;
+
+    @Mock
+    private CouponIssueResultRepository couponIssueResultRepository;
+
+    @Mock
+    private CouponIssueQuotaAllocator couponIssueQuotaAllocator;
+
+    @Mock
+    private CouponIssueResultCache couponIssueResultCache;
+
+    @Mock
+    private UserCouponWalletCache userCouponWalletCache;
+
+    @InjectMocks
+    private CouponIssueBatchService couponIssueBatchService;
+
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        coupon = spy(new Coupon("배치 테스트 쿠폰", CouponType.AMOUNT, 5000, null, 10000, 3,
+                now.minusDays(1), now.plusDays(30)));
+        lenient().when(coupon.getId()).thenReturn(1L);
+    }
+
+    @Test
+    @DisplayName("재고가 충분하면 조건부 UPDATE 한 번으로 확보하고 모두 발급한다")
+    void 재고가_충분하면_모두_발급한다() {
+        // given
+        List<CouponIssueRequest> requests = List.of(request("r1", 10L), request("r2", 11L));
+        when(couponIssueResultRepository.findRequestIdsIn(anyCollection())).thenReturn(List.of());
+        when(couponRepository.findAllById(anyIterable())).thenReturn(List.of(coupon));
+        when(userCouponRepository.findIssuedUserIds(eq(1L), anyCollection())).thenReturn(List.of());
+        when(couponRepository.increaseIssuedQuantityBy(1L, 2)).thenReturn(1);
+        when(userCouponRepository.insertAllSkippingDuplicates(anyList())).thenReturn(new boolean[]{true, true});
+
+        // when
+        List<CouponIssueResultRecord> results = couponIssueBatchService.process(0, requests);
+
+        // then
+        assertThat(statusByRequestId(results)).containsOnly(
+                Map.entry("r1", CouponIssueStatus.SUCCESS),
+                Map.entry("r2", CouponIssueStatus.SUCCESS));
+        verify(couponRepository, never()).findByIdWithLock(any());
+        verify(couponIssueResultRepository).insertIgnoreAll(results);
+    }
+
+    @Test
+    @DisplayName("이미 처리된 요청, 이미 발급된 사용자, 재고 부족을 도착 순서대로 나눈다")
+    void 중복과_재고_부족을_구분한다() {
+        // given
+        List<CouponIssueRequest> requests = List.of(
+                request("done", 9L),
+                request("r1", 10L),
+                request("r2", 11L),
+                request("r2", 11L),
+                request("r3", 10L),
+                request("r4", 12L),
+                request("r5", 13L));
+        when(couponIssueResultRepository.findRequestIdsIn(anyCollection())).thenReturn(List.of("done"));
+        when(couponRepository.findAllById(anyIterable())).thenReturn(List.of(coupon));
+        when(userCouponRepository.findIssuedUserIds(eq(1L), anyCollection())).thenReturn(List.of(11L));
+        when(couponRepository.increaseIssuedQuantityBy(1L, 3)).thenReturn(0);
+        when(coupon.getIssuedQuantity()).thenReturn(1);
+        when(couponRepository.findByIdWithLock(1L)).thenReturn(Optional.of(coupon));
+        when(couponRepository.increaseIssuedQuantityBy(1L, 2)).thenReturn(1);
+        when(userCouponRepository.insertAllSkippingDuplicates(anyList())).thenReturn(new boolean[]{true, true});
+
+        // when
+        List<CouponIssueResultRecord> results = couponIssueBatchService.process(0, requests);
+
+        // then
+        assertThat(statusByRequestId(results)).containsOnly(
+                Map.entry("r1", CouponIssueStatus.SUCCESS),
+                Map.entry("r2", CouponIssueStatus.ALREADY_ISSUED),
+                Map.entry("r3", CouponIssueStatus.ALREADY_ISSUED),
+                Map.entry("r4", CouponIssueStatus.SUCCESS),
+                Map.entry("r5", CouponIssueStatus.OUT_OF_STOCK));
+    }
+
+    @Test
+    @DisplayName("저장 시점에 다른 경로로 먼저 발급되었으면 중복으로 처리하고 확보한 재고를 반납한다")
+    void 저장이_무시되면_재고를_반납한다() {
+        // given
+        List<CouponIssueRequest> requests = List.of(request("r1", 10L), request("r2", 11L));
+        when(couponIssueResultRepository.findRequestIdsIn(anyCollection())).thenReturn(List.of());
+        when(couponRepository.findAllById(anyIterable())).thenReturn(List.of(coupon));
+        when(userCouponRepository.findIssuedUserIds(eq(1L), anyCollection())).thenReturn(List.of());
+        when(couponRepository.increaseIssuedQuantityBy(1L, 2)).thenReturn(1);
+        when(userCouponRepository.insertAllSkippingDuplicates(anyList())).thenReturn(new boolean[]{true, false});
+
+        // when
+        List<CouponIssueResultRecord> results = couponIssueBatchService.process(0, requests);
+
+        // then
+        assertThat(statusByRequestId(results)).containsOnly(
+                Map.entry("r1", CouponIssueStatus.SUCCESS),
+                Map.entry("r2", CouponIssueStatus.ALREADY_ISSUED));
+        verify(couponRepository).increaseIssuedQuantityBy(1L, -1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 쿠폰의 요청은 재고를 확보하지 않고 COUPON_NOT_FOUND로 기록한다")
+    void 없는_쿠폰은_발급하지_않는다() {
+        // given
+        List<CouponIssueRequest> requests = List.of(new CouponIssueRequest("r1", 99L, 10L, LocalDateTime.now()));
+        when(couponIssueResultRepository.findRequestIdsIn(anyCollection())).thenReturn(List.of());
+        when(couponRepository.findAllById(anyIterable())).thenReturn(List.of());
+        when(userCouponRepository.insertAllSkippingDuplicates(anyList())).thenReturn(new boolean[0]);
+
+        // when
+        List<CouponIssueResultRecord> results = couponIssueBatchService.process(0, requests);
+
+        // then
+        assertThat(statusByRequestId(results)).containsOnly(Map.entry("r1", CouponIssueStatus.COUPON_NOT_FOUND));
+        verify(couponRepository, never()).increaseIssuedQuantityBy(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("파티션 모드 쿠폰은 쿠폰 행 대신 읽은 파티션의 쿼터에서 확보한다")
+    void 파티션_모드_쿠폰은_쿼터에서_확보한다() {
+        // given
+        List<CouponIssueRequest> requests = List.of(request("r1", 10L), request("r2", 11L));
+        when(coupon.isIssuePartitioned()).thenReturn(true);
+        when(couponIssueResultRepository.findRequestIdsIn(anyCollection())).thenReturn(List.of());
+        when(couponRepository.findAllById(anyIterable())).thenReturn(List.of(coupon));
+        when(userCouponRepository.findIssuedUserIds(eq(1L), anyCollection())).thenReturn(List.of());
+        when(couponIssueQuotaAllocator.reserve(1L, 2, 2)).thenReturn(1);
+        when(userCouponRepository.insertAllSkippingDuplicates(anyList())).thenReturn(new boolean[]{true});
+
+        // when
+        List<CouponIssueResultRecord> results = couponIssueBatchService.process(2, requests);
+
+        // then
+        assertThat(statusByRequestId(results)).containsOnly(
+                Map.entry("r1", CouponIssueStatus.SUCCESS),
+                Map.entry("r2", CouponIssueStatus.OUT_OF_STOCK));
+        verify(couponRepository, never()).increaseIssuedQuantityBy(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("여러 쿠폰이 섞인 배치는 도착 순서와 관계없이 쿠폰 id 순으로 재고를 확보한다")
+    void 쿠폰_id_순으로_재고를_확보한다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Coupon otherCoupon = spy(new Coupon("배치 테스트 쿠폰 2", CouponType.AMOUNT, 5000, null, 10000, 3,
+                now.minusDays(1), now.plusDays(30)));
+        when(otherCoupon.getId()).thenReturn(2L);
+        List<CouponIssueRequest> requests = List.of(
+                new CouponIssueRequest("r1", 2L, 10L, now),
+                new CouponIssueRequest("r2", 1L, 11L, now));
+        when(couponIssueResultRepository.findRequestIdsIn(anyCollection())).thenReturn(List.of());
+        when(couponRepository.findAllById(anyIterable())).thenReturn(List.of(otherCoupon, coupon));
+        when(userCouponRepository.findIssuedUserIds(anyLong(), anyCollection())).thenReturn(List.of());
+        when(couponRepository.increaseIssuedQuantityBy(anyLong(), eq(1))).thenReturn(1);
+        when(userCouponRepository.insertAllSkippingDuplicates(anyList())).thenReturn(new boolean[]{true, true});
+
+        // when
+        couponIssueBatchService.process(0, requests);
+
+        // then
+        InOrder inOrder = inOrder(couponRepository);
+        inOrder.verify(couponRepository).increaseIssuedQuantityBy(1L, 1);
+        inOrder.verify(couponRepository).increaseIssuedQuantityBy(2L, 1);
+    }
+
+    private CouponIssueRequest request(String requestId, Long userId) {
+        return new CouponIssueRequest(requestId, 1L, userId, LocalDateTime.now());
+    }
+
+    private Map<String, CouponIssueStatus> statusByRequestId(List<CouponIssueResultRecord> results) {
+        return results.stream().collect(Collectors.toMap(
+                CouponIssueResultRecord::getRequestId, CouponIssueResultRecord::getStatus));
+    }
+}
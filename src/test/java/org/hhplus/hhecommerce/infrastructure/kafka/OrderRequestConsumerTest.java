@@ -0,0 +1,94 @@
+package org.hhplus.hhecommerce.infrastructure.kafka;
+
+import org.hhplus.hhecommerce.api.dto.order.CreateOrderRequest;
+import org.hhplus.hhecommerce.application.order.OrderProcessResult;
+import org.hhplus.hhecommerce.application.order.OrderTransactionService;
+import org.hhplus.hhecommerce.domain.order.AsyncOrderRequest;
+import org.hhplus.hhecommerce.domain.order.Order;
+import org.hhplus.hhecommerce.domain.order.OrderRepository;
+import org.hhplus.hhecommerce.infrastructure.cache.OrderRequestStatusCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderRequestConsumerTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private OrderTransactionService orderTransactionService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderRequestStatusCache orderRequestStatusCache;
+
+    @Mock
+    private RLock lock;
+
+    @InjectMocks
+    private OrderRequestConsumer orderRequestConsumer;
+
+    private final AsyncOrderRequest request = AsyncOrderRequest.of("request-1", 1L, null);
+
+    @BeforeEach
+    void setUp() {
+        when(orderRepository.findIdByRequestId("request-1")).thenReturn(Optional.empty());
+        when(orderRequestStatusCache.find("request-1")).thenReturn(Optional.empty());
+        when(redissonClient.getLock("order:user:1")).thenReturn(lock);
+    }
+
+    @Test
+    @DisplayName("동기 주문과 같은 사용자 락을 잡은 상태에서 주문을 처리하고 락을 푼다")
+    void 사용자_락을_잡고_주문한다() throws InterruptedException {
+        // given
+        Order order = mock(Order.class);
+        when(order.getId()).thenReturn(10L);
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(lock.isHeldByCurrentThread()).thenReturn(true);
+        when(orderTransactionService.executeOrderLogic(eq(1L), any(CreateOrderRequest.class), eq("request-1")))
+                .thenReturn(new OrderProcessResult(order, List.of(), Map.of()));
+
+        // when
+        orderRequestConsumer.consume(request, 0, 0L);
+
+        // then
+        InOrder inOrder = inOrder(lock, orderTransactionService);
+        inOrder.verify(lock).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+        inOrder.verify(orderTransactionService).executeOrderLogic(eq(1L), any(CreateOrderRequest.class), eq("request-1"));
+        inOrder.verify(lock).unlock();
+        verify(orderRequestStatusCache).succeeded("request-1", 10L);
+    }
+
+    @Test
+    @DisplayName("사용자 락을 얻지 못하면 주문하지 않고 예외를 던져 재시도에 맡긴다")
+    void 락을_얻지_못하면_재시도한다() throws InterruptedException {
+        // given
+        when(lock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> orderRequestConsumer.consume(request, 0, 0L))
+                .isInstanceOf(IllegalStateException.class);
+        verify(orderTransactionService, never()).executeOrderLogic(anyLong(), any(), anyString());
+        verify(orderRequestStatusCache, never()).failed(anyString(), anyString(), anyString());
+    }
+}
@@ -0,0 +1,65 @@
+package org.hhplus.hhecommerce.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderPhaseMetrics 테스트")
+class OrderPhaseMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderPhaseMetrics orderPhaseMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderPhaseMetrics = new OrderPhaseMetrics(meterRegistry, 500);
+    }
+
+    @Test
+    @DisplayName("실행된 단계만 장바구니 크기 구간과 결과 태그로 기록한다")
+    void 실행된_단계를_기록한다() {
+        // given
+        OrderPhaseMetrics.Recording phases = orderPhaseMetrics.start();
+
+        // when
+        phases.time(OrderPhase.VALIDATE_USER, () -> "user");
+        phases.time(OrderPhase.LOAD_CART, () -> 3);
+        phases.cartSize(3);
+        phases.run(OrderPhase.CLEAR_CART, () -> { });
+        phases.finish(1L, true);
+
+        // then
+        Timer loadCart = meterRegistry.find("order.phase.duration")
+                .tags("phase", "load_cart", "cart_size", "2-5", "outcome", "success")
+                .timer();
+        assertThat(loadCart).isNotNull();
+        assertThat(loadCart.count()).isEqualTo(1);
+        assertThat(meterRegistry.find("order.phase.duration").tag("phase", "deduct_stock").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("단계에서 예외가 발생해도 소요 시간을 기록하고 예외를 그대로 전파한다")
+    void 실패한_단계도_기록한다() {
+        // given
+        OrderPhaseMetrics.Recording phases = orderPhaseMetrics.start();
+
+        // when
+        assertThatThrownBy(() -> phases.run(OrderPhase.VALIDATE_USER, () -> {
+            throw new IllegalStateException("사용자 없음");
+        })).isInstanceOf(IllegalStateException.class);
+        phases.finish(1L, false);
+
+        // then
+        Timer validateUser = meterRegistry.find("order.phase.duration")
+                .tags("phase", "validate_user", "cart_size", "unknown", "outcome", "failure")
+                .timer();
+        assertThat(validateUser).isNotNull();
+        assertThat(validateUser.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,103 @@
+package org.hhplus.hhecommerce.infrastructure.persistence;
+
+import org.hhplus.hhecommerce.domain.product.Product;
+import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
+import org.hhplus.hhecommerce.domain.product.ProductRepository;
+import org.hhplus.hhecommerce.domain.product.ProductStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EntityBatchLoaderTest {
+
+    @Mock
+    private ProductOptionRepository productOptionRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private EntityBatchLoader entityBatchLoader;
+
+    private final Product laptop = new Product(1L, "노트북", "설명", "전자제품", ProductStatus.ACTIVE);
+    private final Product keyboard = new Product(2L, "키보드", "설명", "전자제품", ProductStatus.ACTIVE);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Nested
+    @DisplayName("요청 컨텍스트 안에서")
+    class WithinRequest {
+
+        @Test
+        @DisplayName("이미 불러온 ID는 다시 조회하지 않고 새 ID만 한 번에 조회한다")
+        void loadsOnlyMissingIds() {
+            // given
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            when(productRepository.findAllById(Set.of(1L))).thenReturn(List.of(laptop));
+            when(productRepository.findAllById(Set.of(2L))).thenReturn(List.of(keyboard));
+
+            // when
+            entityBatchLoader.loadProducts(List.of(1L, 1L));
+            Map<Long, Product> result = entityBatchLoader.loadProducts(List.of(1L, 2L));
+
+            // then
+            assertThat(result).containsOnlyKeys(1L, 2L);
+            verify(productRepository, times(1)).findAllById(Set.of(1L));
+            verify(productRepository, times(1)).findAllById(Set.of(2L));
+        }
+    }
+
+    @Nested
+    @DisplayName("요청 컨텍스트 밖에서")
+    class OutsideRequest {
+
+        @Test
+        @DisplayName("보관하지 않고 호출마다 한 번씩 배치 조회한다")
+        void doesNotMemoize() {
+            // given
+            when(productRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(laptop, keyboard));
+
+            // when
+            entityBatchLoader.loadProducts(List.of(1L, 2L));
+            Map<Long, Product> result = entityBatchLoader.loadProducts(List.of(2L, 1L));
+
+            // then
+            assertThat(result).containsOnlyKeys(1L, 2L);
+            verify(productRepository, times(2)).findAllById(Set.of(1L, 2L));
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 ID는 결과에서 빠진다")
+        void omitsMissingEntities() {
+            // given
+            when(productRepository.findAllById(Set.of(1L, 99L))).thenReturn(List.of(laptop));
+
+            // when
+            Map<Long, Product> result = entityBatchLoader.loadProducts(List.of(1L, 99L));
+
+            // then
+            assertThat(result).containsOnlyKeys(1L);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.hhplus.hhecommerce.infrastructure.scheduler;
+
+import org.hhplus.hhecommerce.api.dto.coupon.IssueCouponResponse;
+import org.hhplus.hhecommerce.application.coupon.IssueCouponUseCase;
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueReservation;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponType;
+import org.hhplus.hhecommerce.domain.coupon.UserCoupon;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
+import org.hhplus.hhecommerce.infrastructure.coupon.CouponIssueStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "coupon.issue.strategy=redis",
+        "coupon.issue.write-behind.enabled=true",
+        "coupon.issue.write-behind.flush-interval-ms=600000"
+})
+class CouponIssueWriteBehindFlusherTest extends TestContainersConfig {
+
+    @Autowired
+    private IssueCouponUseCase issueCouponUseCase;
+
+    @Autowired
+    private CouponIssueWriteBehindFlusher flusher;
+
+    @Autowired
+    private CouponIssueStream couponIssueStream;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    private Coupon testCoupon;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = redisTemplate.keys("coupon:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+        couponIssueStream.ensureGroup();
+
+        LocalDateTime now = LocalDateTime.now();
+        testCoupon = couponRepository.save(new Coupon(
+                "write-behind 테스트 쿠폰", CouponType.AMOUNT, 5000, null, 10000, 100,
+                now.minusDays(1), now.plusDays(30)));
+    }
+
+    @Test
+    @DisplayName("발급 응답은 DB 저장 전에 반환되고, flush 후 user_coupon과 발급 수량이 반영된다")
+    void 응답_후_배치로_저장된다() {
+        // given
+        for (long userId = 1; userId <= 5; userId++) {
+            IssueCouponResponse response = issueCouponUseCase.execute(userId, testCoupon.getId());
+            assertThat(response.id()).isNull();
+        }
+        assertThat(userCouponRepository.findByCouponId(testCoupon.getId())).isEmpty();
+
+        // when
+        flusher.flushPending();
+
+        // then
+        assertThat(userCouponRepository.findByCouponId(testCoupon.getId())).hasSize(5);
+        assertThat(couponRepository.findById(testCoupon.getId()).orElseThrow().getIssuedQuantity()).isEqualTo(5);
+        assertThat(redisTemplate.opsForSet().isMember("coupon:issued:" + testCoupon.getId(), "1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 발급 건이 다시 전달되어도 이미 저장된 사용자는 건너뛰어 한 번만 저장된다")
+    void 재전달된_항목은_한_번만_저장된다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        CouponIssueReservation reservation = new CouponIssueReservation(testCoupon.getId(), 7L, now, now.plusDays(30));
+        couponIssueStream.append(reservation);
+        couponIssueStream.append(reservation);
+
+        // when
+        flusher.flushPending();
+
+        // then
+        assertThat(userCouponRepository.findByCouponId(testCoupon.getId())).hasSize(1);
+        assertThat(couponRepository.findById(testCoupon.getId()).orElseThrow().getIssuedQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처음 전달된 발급 건이 DB에 이미 있는 사용자면 건너뛰고 차감한 Redis 재고를 돌려놓는다")
+    void DB_중복이면_재고를_복구한다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        userCouponRepository.save(new UserCoupon(8L, testCoupon.getId(), now.plusDays(30)));
+        redisTemplate.opsForValue().set("coupon:stock:" + testCoupon.getId(), "10");
+        couponIssueStream.append(new CouponIssueReservation(testCoupon.getId(), 8L, now, now.plusDays(30)));
+
+        // when
+        flusher.flushPending();
+
+        // then
+        assertThat(userCouponRepository.findByCouponId(testCoupon.getId())).hasSize(1);
+        assertThat(redisTemplate.opsForValue().get("coupon:stock:" + testCoupon.getId())).isEqualTo("11");
+    }
+
+    @Test
+    @DisplayName("최대 전달 횟수만큼 저장에 실패한 항목은 dead-letter 스트림으로 옮기고 Redis 발급 표시와 재고를 되돌린다")
+    void 반복_실패한_항목은_dead_letter로_옮긴다() {
+        // given - 없는 쿠폰이라 발급 수량 UPDATE가 거절되어 저장할 수 없는 항목
+        LocalDateTime now = LocalDateTime.now();
+        redisTemplate.opsForValue().set("coupon:stock:" + Long.MAX_VALUE, "0");
+        redisTemplate.opsForSet().add("coupon:issued:" + Long.MAX_VALUE, "9");
+        couponIssueStream.append(new CouponIssueReservation(Long.MAX_VALUE, 9L, now, now.plusDays(30)));
+
+        // when - 기본 최대 전달 횟수(5)만큼 다시 읽힌다
+        for (int i = 0; i < 5; i++) {
+            flusher.flushPending();
+        }
+
+        // then
+        assertThat(redisTemplate.opsForStream().size("coupon:issue:stream")).isZero();
+        assertThat(redisTemplate.opsForStream().size("coupon:issue:stream:dead")).isEqualTo(1);
+        assertThat(userCouponRepository.findByUserIdAndCouponId(9L, Long.MAX_VALUE)).isEmpty();
+        assertThat(redisTemplate.opsForSet().isMember("coupon:issued:" + Long.MAX_VALUE, "9")).isFalse();
+        assertThat(redisTemplate.opsForValue().get("coupon:stock:" + Long.MAX_VALUE)).isEqualTo("1");
+    }
+}
@@ -0,0 +1,95 @@
+package org.hhplus.hhecommerce.infrastructure.scheduler;
+
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.coupon.Coupon;
+import org.hhplus.hhecommerce.domain.coupon.CouponRepository;
+import org.hhplus.hhecommerce.domain.coupon.CouponType;
+import org.hhplus.hhecommerce.domain.coupon.UserCoupon;
+import org.hhplus.hhecommerce.domain.coupon.UserCouponRepository;
+import org.hhplus.hhecommerce.infrastructure.coupon.RedisCouponIssueManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "coupon.issue.strategy=redis",
+        "coupon.prewarm.lookahead-minutes=30",
+        "coupon.prewarm.interval-ms=600000"
+})
+class CouponPrewarmSchedulerTest extends TestContainersConfig {
+
+    @Autowired
+    private CouponPrewarmScheduler couponPrewarmScheduler;
+
+    @Autowired
+    private RedisCouponIssueManager redisCouponIssueManager;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        userCouponRepository.deleteAll();
+        couponRepository.deleteAll();
+
+        Set<String> keys = redisTemplate.keys("coupon:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("곧 시작하는 쿠폰만 재고, 발급 사용자, 초기화 완료 표시를 미리 적재한다")
+    void 곧_시작하는_쿠폰을_미리_적재한다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Coupon upcoming = saveCoupon(now.plusMinutes(10));
+        Coupon later = saveCoupon(now.plusHours(2));
+        userCouponRepository.save(new UserCoupon(7L, upcoming.getId(), now.plusDays(30)));
+
+        // when
+        couponPrewarmScheduler.prewarmUpcomingCoupons();
+
+        // then
+        assertThat(redisCouponIssueManager.getRemainingStock(upcoming.getId())).isEqualTo(50);
+        assertThat(redisCouponIssueManager.hasAlreadyIssued(upcoming.getId(), 7L)).isTrue();
+        assertThat(redisCouponIssueManager.findNotPrewarmed(List.of(upcoming.getId(), later.getId())))
+                .containsExactly(later.getId());
+    }
+
+    @Test
+    @DisplayName("이미 초기화된 쿠폰은 다시 적재하지 않아 남은 재고를 덮어쓰지 않는다")
+    void 이미_초기화된_쿠폰은_건너뛴다() {
+        // given
+        Coupon upcoming = saveCoupon(LocalDateTime.now().plusMinutes(10));
+        assertThat(redisCouponIssueManager.prewarm(List.of(upcoming))).containsExactly(upcoming.getId());
+        redisCouponIssueManager.initializeStock(upcoming.getId(), 3);
+
+        // when
+        List<Long> prewarmed = redisCouponIssueManager.prewarm(List.of(upcoming));
+
+        // then
+        assertThat(prewarmed).isEmpty();
+        assertThat(redisCouponIssueManager.getRemainingStock(upcoming.getId())).isEqualTo(3);
+    }
+
+    private Coupon saveCoupon(LocalDateTime startAt) {
+        return couponRepository.save(new Coupon("오픈 예정 쿠폰", CouponType.AMOUNT, 5000, null, 10000, 50,
+                startAt, startAt.plusDays(7)));
+    }
+}
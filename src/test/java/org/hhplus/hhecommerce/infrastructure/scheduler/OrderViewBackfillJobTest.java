@@ -0,0 +1,109 @@
+package org.hhplus.hhecommerce.infrastructure.scheduler;
+
+import org.hhplus.hhecommerce.api.dto.order.CreateOrderRequest;
+import org.hhplus.hhecommerce.application.order.CreateOrderUseCase;
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.cart.Cart;
+import org.hhplus.hhecommerce.domain.cart.CartRepository;
+import org.hhplus.hhecommerce.domain.order.Order;
+import org.hhplus.hhecommerce.domain.order.OrderRepository;
+import org.hhplus.hhecommerce.domain.order.OrderView;
+import org.hhplus.hhecommerce.domain.order.OrderViewRepository;
+import org.hhplus.hhecommerce.domain.point.Point;
+import org.hhplus.hhecommerce.domain.point.PointRepository;
+import org.hhplus.hhecommerce.domain.product.Product;
+import org.hhplus.hhecommerce.domain.product.ProductOption;
+import org.hhplus.hhecommerce.domain.product.ProductOptionRepository;
+import org.hhplus.hhecommerce.domain.product.ProductRepository;
+import org.hhplus.hhecommerce.domain.user.User;
+import org.hhplus.hhecommerce.domain.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "order.view.backfill.enabled=true",
+        "order.view.backfill.batch-size=2"
+})
+class OrderViewBackfillJobTest extends TestContainersConfig {
+
+    private static final int ORDER_COUNT = 5;
+
+    @Autowired
+    private OrderViewBackfillJob orderViewBackfillJob;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private OrderViewRepository orderViewRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductOptionRepository productOptionRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private PointRepository pointRepository;
+
+    private User user;
+    private ProductOption option;
+
+    @BeforeEach
+    void setUp() {
+        orderViewRepository.deleteAll();
+        cartRepository.deleteAll();
+        productOptionRepository.deleteAll();
+        productRepository.deleteAll();
+        pointRepository.deleteAll();
+        userRepository.deleteAll();
+
+        Product product = productRepository.save(new Product("백필 상품", "설명", "테스트"));
+        option = productOptionRepository.save(new ProductOption(product.getId(), "색상", "블랙", 1000, 100));
+        user = userRepository.save(new User("백필 사용자", "backfill@example.com"));
+        pointRepository.save(new Point(null, user.getId(), 100000));
+    }
+
+    @Test
+    @DisplayName("기존 주문을 배치 단위로 읽어 조회 모델을 작성하고, 다시 실행하면 건너뛴다")
+    void backfillProjectsExistingOrdersOnce() {
+        // given - 릴레이가 조회 모델을 작성하기 전 상태를 만들기 위해 조회 모델을 지운다
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            cartRepository.save(new Cart(user.getId(), option.getId(), 2));
+            createOrderUseCase.execute(user.getId(), new CreateOrderRequest(null));
+        }
+        orderViewRepository.deleteAll();
+
+        // when
+        int projected = orderViewBackfillJob.backfill();
+        int projectedAgain = orderViewBackfillJob.backfill();
+
+        // then
+        List<Long> orderIds = orderRepository.findByUserId(user.getId()).stream()
+                .map(Order::getId)
+                .toList();
+        List<OrderView> views = orderViewRepository.findAllById(orderIds);
+        assertThat(projected).isGreaterThanOrEqualTo(ORDER_COUNT);
+        assertThat(projectedAgain).isZero();
+        assertThat(views).hasSize(ORDER_COUNT);
+        assertThat(views.get(0).getItemCount()).isEqualTo(1);
+        assertThat(views.get(0).getItems().get(0).productName()).isEqualTo("백필 상품");
+        assertThat(views.get(0).getFinalAmount()).isEqualTo(2000);
+    }
+}
@@ -0,0 +1,83 @@
+package org.hhplus.hhecommerce.infrastructure.scheduler;
+
+import org.hhplus.hhecommerce.config.TestContainersConfig;
+import org.hhplus.hhecommerce.domain.coupon.CouponIssueResult;
+import org.hhplus.hhecommerce.infrastructure.coupon.RedisCouponIssueManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = {
+        "coupon.issue.strategy=redis",
+        "coupon.pending.timeout-ms=100",
+        "coupon.pending.cleanup-timeout-ms=100",
+        "coupon.pending.cleanup-interval-ms=600000"
+})
+class PendingCouponCleanupSchedulerTest extends TestContainersConfig {
+
+    private static final Long COUPON_ID = 9001L;
+    private static final String PENDING_INDEX_KEY = "coupon:pending-index:" + COUPON_ID;
+    private static final String PENDING_COUPONS_KEY = "coupon:pending-coupons";
+
+    @Autowired
+    private PendingCouponCleanupScheduler pendingCouponCleanupScheduler;
+
+    @Autowired
+    private RedisCouponIssueManager redisCouponIssueManager;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = redisTemplate.keys("coupon:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+        redisCouponIssueManager.initializeStock(COUPON_ID, 10);
+    }
+
+    @Test
+    @DisplayName("타임아웃된 예약만 색인에서 꺼내 재고를 복구하고, 확정된 예약과 새 예약은 남긴다")
+    void 만료된_예약만_정리한다() throws InterruptedException {
+        // given
+        assertThat(redisCouponIssueManager.tryIssue(COUPON_ID, 1L)).isEqualTo(CouponIssueResult.SUCCESS);
+        assertThat(redisCouponIssueManager.tryIssue(COUPON_ID, 2L)).isEqualTo(CouponIssueResult.SUCCESS);
+        assertThat(redisCouponIssueManager.tryIssue(COUPON_ID, 3L)).isEqualTo(CouponIssueResult.SUCCESS);
+        redisCouponIssueManager.confirm(COUPON_ID, 1L);
+
+        Thread.sleep(200);
+        assertThat(redisCouponIssueManager.tryIssue(COUPON_ID, 4L)).isEqualTo(CouponIssueResult.SUCCESS);
+
+        // when
+        pendingCouponCleanupScheduler.cleanupStalePending();
+
+        // then
+        assertThat(redisCouponIssueManager.getRemainingStock(COUPON_ID)).isEqualTo(8);
+        assertThat(redisCouponIssueManager.getPendingUsers(COUPON_ID)).containsOnlyKeys("4");
+        assertThat(redisTemplate.opsForZSet().range(PENDING_INDEX_KEY, 0, -1)).containsExactly("4");
+        assertThat(redisTemplate.opsForSet().isMember(PENDING_COUPONS_KEY, COUPON_ID.toString())).isTrue();
+    }
+
+    @Test
+    @DisplayName("쿠폰의 예약이 모두 정리되면 pending 쿠폰 목록에서 제외한다")
+    void 예약이_없으면_목록에서_제외한다() throws InterruptedException {
+        // given
+        assertThat(redisCouponIssueManager.tryIssue(COUPON_ID, 1L)).isEqualTo(CouponIssueResult.SUCCESS);
+        Thread.sleep(200);
+
+        // when
+        pendingCouponCleanupScheduler.cleanupStalePending();
+
+        // then
+        assertThat(redisCouponIssueManager.getRemainingStock(COUPON_ID)).isEqualTo(10);
+        assertThat(redisTemplate.opsForSet().isMember(PENDING_COUPONS_KEY, COUPON_ID.toString())).isFalse();
+    }
+}